@@ -148,10 +148,12 @@ module org.openjdk.nashorn {
     requires org.objectweb.asm.commons;
     requires org.objectweb.asm.util;
 
+    requires transitive java.management;
     requires transitive java.scripting;
 
     exports org.openjdk.nashorn.api.scripting;
     exports org.openjdk.nashorn.api.tree;
+    exports org.openjdk.nashorn.api.management;
 
     exports org.openjdk.nashorn.internal.runtime to
         org.openjdk.nashorn.shell;
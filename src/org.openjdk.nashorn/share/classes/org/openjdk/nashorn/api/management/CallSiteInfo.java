@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.management;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Snapshot of the statistics of a single call site, as returned by {@link CallSiteStatisticsMXBean}.
+ */
+public final class CallSiteInfo {
+    private final String operation;
+    private final String location;
+    private final int relinkCount;
+    private final int guardChainDepth;
+    private final boolean unstable;
+    private final long callCount;
+
+    /**
+     * Constructor.
+     *
+     * @param operation       the dynamic operation of the call site
+     * @param location        the script location of the call site
+     * @param relinkCount     number of times the call site has been linked or relinked
+     * @param guardChainDepth number of guarded invocations in the call site's chain
+     * @param unstable        whether the call site is linked as megamorphic
+     * @param callCount       number of times the call site has been invoked
+     */
+    @ConstructorParameters({"operation", "location", "relinkCount", "guardChainDepth", "unstable", "callCount"})
+    public CallSiteInfo(final String operation, final String location, final int relinkCount, final int guardChainDepth,
+            final boolean unstable, final long callCount) {
+        this.operation       = operation;
+        this.location        = location;
+        this.relinkCount     = relinkCount;
+        this.guardChainDepth = guardChainDepth;
+        this.unstable        = unstable;
+        this.callCount       = callCount;
+    }
+
+    /**
+     * Returns the dynamic operation of the call site, for example {@code GET:PROPERTY|ELEMENT|METHOD:foo}.
+     * @return the operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the script location of the call site as {@code file:line}.
+     * @return the location
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Returns the number of times the call site has been linked or relinked.
+     * @return the relink count
+     */
+    public int getRelinkCount() {
+        return relinkCount;
+    }
+
+    /**
+     * Returns the number of guarded invocations currently chained in the call site. This does not
+     * account for invocations dropped from the chain because their switch points were invalidated,
+     * so it is an upper bound.
+     * @return the guard chain depth
+     */
+    public int getGuardChainDepth() {
+        return guardChainDepth;
+    }
+
+    /**
+     * Returns true if the call site has exceeded the unstable relink threshold and is linked as megamorphic.
+     * @return true if the call site is unstable
+     */
+    public boolean isUnstable() {
+        return unstable;
+    }
+
+    /**
+     * Returns the number of times the call site has been invoked.
+     * @return the call count
+     */
+    public long getCallCount() {
+        return callCount;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " @ " + location + " relinks=" + relinkCount + " depth=" + guardChainDepth +
+                (unstable ? " unstable" : "") + " calls=" + callCount;
+    }
+}
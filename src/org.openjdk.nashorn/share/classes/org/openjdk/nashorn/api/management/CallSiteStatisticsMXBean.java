@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.management;
+
+import java.util.List;
+
+/**
+ * Management interface for live call site statistics. An instance is registered with the
+ * platform MBean server under {@value #OBJECT_NAME} when Nashorn is started with
+ * {@code -Dnashorn.callsite.statistics=true}.
+ * <p>
+ * A call site is relinked whenever none of its cached, guarded invocations applies to the
+ * receiver. When it has been relinked more than {@code --unstable-relink-threshold} times it
+ * is considered unstable and is relinked once more as megamorphic. Call sites that keep
+ * relinking are a common cause of poor performance.
+ */
+public interface CallSiteStatisticsMXBean {
+    /** Object name of the call site statistics MXBean. */
+    String OBJECT_NAME = "org.openjdk.nashorn:type=CallSiteStatistics";
+
+    /**
+     * Returns the number of call sites that have been linked since statistics collection started.
+     * @return the number of linked call sites
+     */
+    int getCallSiteCount();
+
+    /**
+     * Returns the total number of times call sites have been linked or relinked.
+     * @return the total relink count
+     */
+    long getRelinkCount();
+
+    /**
+     * Returns the number of call sites that exceeded the unstable relink threshold and are
+     * now linked as megamorphic.
+     * @return the number of megamorphic transitions
+     */
+    long getUnstableCallSiteCount();
+
+    /**
+     * Returns the total number of call site invocations. Invocation counts are not updated
+     * atomically and may under-count invocations made concurrently from several threads.
+     * @return the total invocation count
+     */
+    long getInvocationCount();
+
+    /**
+     * Returns the call sites that have become unstable, in decreasing order of relink count.
+     * @return the unstable call sites
+     */
+    List<CallSiteInfo> getUnstableCallSites();
+
+    /**
+     * Returns the call sites with the highest relink counts.
+     * @param limit maximum number of call sites to return
+     * @return up to {@code limit} call sites in decreasing order of relink count
+     */
+    List<CallSiteInfo> getTopRelinkingCallSites(int limit);
+
+    /**
+     * Returns the call sites with the highest invocation counts.
+     * @param limit maximum number of call sites to return
+     * @return up to {@code limit} call sites in decreasing order of invocation count
+     */
+    List<CallSiteInfo> getTopInvokedCallSites(int limit);
+
+    /**
+     * Resets the relink and invocation counts of all call sites. Call sites that are already
+     * unstable stay unstable, but are no longer counted as new megamorphic transitions.
+     */
+    void reset();
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.management;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.management.ConstructorParameters;
+
+/**
+ * Snapshot of compilation metrics, either the totals of a context or of the JVM, or those of all
+ * sources with the same name. Returned by {@link CompilerMetricsMXBean}. All times are in nanoseconds.
+ */
+public final class CompilationMetrics {
+    private final String source;
+    private final long compilationCount;
+    private final long parseTime;
+    private final Map<String, Long> phaseTimes;
+    private final long bytecodeSize;
+    private final long classesInstalled;
+    private final long recompilationCount;
+    private final long deoptimizationCount;
+    private final long persistentCacheHits;
+
+    /**
+     * Constructor.
+     *
+     * @param source              the source name, or null for totals
+     * @param compilationCount    number of compiler runs
+     * @param parseTime           time spent parsing, in nanoseconds
+     * @param phaseTimes          time spent in each compilation phase, in nanoseconds, by phase name
+     * @param bytecodeSize        total size of generated class files in bytes
+     * @param classesInstalled    number of classes installed from compilations and the persistent code cache
+     * @param recompilationCount  number of deoptimizing recompilations
+     * @param deoptimizationCount number of optimistic assumptions that failed at runtime
+     * @param persistentCacheHits number of scripts and functions loaded from the persistent code cache
+     */
+    @ConstructorParameters({"source", "compilationCount", "parseTime", "phaseTimes", "bytecodeSize", "classesInstalled",
+            "recompilationCount", "deoptimizationCount", "persistentCacheHits"})
+    public CompilationMetrics(final String source, final long compilationCount, final long parseTime,
+            final Map<String, Long> phaseTimes, final long bytecodeSize, final long classesInstalled,
+            final long recompilationCount, final long deoptimizationCount, final long persistentCacheHits) {
+        this.source              = source;
+        this.compilationCount    = compilationCount;
+        this.parseTime           = parseTime;
+        this.phaseTimes          = Collections.unmodifiableMap(phaseTimes);
+        this.bytecodeSize        = bytecodeSize;
+        this.classesInstalled    = classesInstalled;
+        this.recompilationCount  = recompilationCount;
+        this.deoptimizationCount = deoptimizationCount;
+        this.persistentCacheHits = persistentCacheHits;
+    }
+
+    /**
+     * Returns the name of the source these metrics are for.
+     * @return the source name, or null if these are totals
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the number of times the compiler was run, for scripts, lazily compiled functions,
+     * type specializations and recompilations.
+     * @return the compilation count
+     */
+    public long getCompilationCount() {
+        return compilationCount;
+    }
+
+    /**
+     * Returns the time spent parsing scripts and reparsing functions for compilation.
+     * @return the parse time in nanoseconds
+     */
+    public long getParseTime() {
+        return parseTime;
+    }
+
+    /**
+     * Returns the time spent in each compilation phase, keyed by phase name, for example
+     * {@code Bytecode Generation}. Phases that never ran are absent.
+     * @return the phase times in nanoseconds
+     */
+    public Map<String, Long> getPhaseTimes() {
+        return phaseTimes;
+    }
+
+    /**
+     * Returns the total time spent parsing and compiling, the sum of the parse time and all phase times.
+     * @return the compilation time in nanoseconds
+     */
+    public long getTotalTime() {
+        long total = parseTime;
+        for (final long time : phaseTimes.values()) {
+            total += time;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total size of the class files generated by the compiler.
+     * @return the bytecode size in bytes
+     */
+    public long getBytecodeSize() {
+        return bytecodeSize;
+    }
+
+    /**
+     * Returns the number of classes installed, both freshly compiled and loaded from the persistent code cache.
+     * @return the number of installed classes
+     */
+    public long getClassesInstalled() {
+        return classesInstalled;
+    }
+
+    /**
+     * Returns the number of times a function was recompiled with less optimistic types after a
+     * deoptimization. This is at most the deoptimization count, as several deoptimizations of a function
+     * can be handled by one recompilation.
+     * @return the recompilation count
+     */
+    public long getRecompilationCount() {
+        return recompilationCount;
+    }
+
+    /**
+     * Returns the number of times an optimistic type assumption failed at runtime and the executing
+     * function had to continue in deoptimized code.
+     * @return the deoptimization count
+     */
+    public long getDeoptimizationCount() {
+        return deoptimizationCount;
+    }
+
+    /**
+     * Returns the number of scripts and functions whose classes were loaded from the persistent code cache
+     * instead of being compiled.
+     * @return the persistent code cache hit count
+     */
+    public long getPersistentCacheHits() {
+        return persistentCacheHits;
+    }
+
+    @Override
+    public String toString() {
+        return (source == null ? "<total>" : source) +
+                " compilations=" + compilationCount +
+                " time=" + getTotalTime() / 1_000_000L + "ms" +
+                " bytecode=" + bytecodeSize +
+                " classes=" + classesInstalled +
+                " recompilations=" + recompilationCount +
+                " deoptimizations=" + deoptimizationCount +
+                " cacheHits=" + persistentCacheHits;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.management;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface for compiler metrics. Every Nashorn context collects metrics for the code it
+ * compiles. When Nashorn is started with {@code -Dnashorn.compiler.metrics=true}, an instance that
+ * adds up the metrics of all contexts is registered with the platform MBean server under
+ * {@value #OBJECT_NAME}.
+ * <p>
+ * Metrics are kept as totals and for each source name. Sources are identified by name only, so all
+ * sources with the same name, like code passed to {@code eval}, share one set of metrics. Only a
+ * bounded number of source names and functions is tracked individually; once that is reached, further
+ * ones only count towards the totals.
+ */
+public interface CompilerMetricsMXBean {
+    /** Object name of the compiler metrics MXBean. */
+    String OBJECT_NAME = "org.openjdk.nashorn:type=CompilerMetrics";
+
+    /**
+     * Returns the metrics of all compilations.
+     * @return the totals
+     */
+    CompilationMetrics getTotals();
+
+    /**
+     * Returns the metrics of all sources with the given name.
+     * @param source the source name
+     * @return the metrics of the source, or null if none were recorded for it
+     */
+    CompilationMetrics getSourceMetrics(String source);
+
+    /**
+     * Returns the metrics of the sources that took the most time to compile.
+     * @param limit maximum number of sources to return
+     * @return up to {@code limit} source metrics in decreasing order of total compilation time
+     */
+    List<CompilationMetrics> getTopSources(int limit);
+
+    /**
+     * Returns the number of failed optimistic assumptions for each function that had any, keyed by
+     * {@code source:function}.
+     * @return the deoptimization counts by function
+     */
+    Map<String, Long> getDeoptimizationsByFunction();
+
+    /**
+     * Returns the number of regular expressions that were found already compiled in the regexp cache of their
+     * context.
+     * @return the regexp cache hit count
+     */
+    long getRegExpCacheHitCount();
+
+    /**
+     * Returns the number of regular expressions that had to be compiled because they were not in the regexp
+     * cache of their context.
+     * @return the regexp cache miss count
+     */
+    long getRegExpCacheMissCount();
+
+    /**
+     * Returns the fraction of regular expressions that were found in the regexp cache. A low rate in a
+     * long running application suggests raising {@code -Dnashorn.regexp.cache.size}.
+     * @return the hit rate between 0 and 1, or 0 if no regular expressions were created
+     */
+    double getRegExpCacheHitRate();
+
+    /**
+     * Resets all metrics to zero.
+     */
+    void reset();
+}
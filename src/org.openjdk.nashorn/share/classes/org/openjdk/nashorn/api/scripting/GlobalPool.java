@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.scripting;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.runtime.GlobalSnapshot;
+
+/**
+ * A bounded pool of global objects for running scripts of one {@link NashornScriptEngine} from many threads
+ * concurrently. Instances are obtained from {@link NashornScriptEngine#createGlobalPool(javax.script.Bindings, int)}.
+ * <p>
+ * All pooled globals start out as copies of the template bindings the pool was created from, including anything
+ * scripts evaluated against the template defined. A thread {@linkplain #lease() leases} a script context whose
+ * {@link ScriptContext#ENGINE_SCOPE} is backed by one of the pooled globals, evaluates scripts in it, and
+ * {@linkplain #release(ScriptContext) releases} it again. On release the global is replaced with a fresh copy of
+ * the template, so changes a request made to the objects of its global - including built-in objects and the
+ * objects bound into bound functions - are not visible to the next one. Templates referring to Java objects are
+ * rejected, as those can't be copied; Java objects a request creates are dropped with its global. State outside
+ * the global, such as the engine's {@link ScriptContext#GLOBAL_SCOPE} bindings or static fields of Java classes,
+ * is shared by all requests.
+ * <p>
+ * Compiled scripts and the code of functions are shared by all globals, so a {@link CompiledScript} can be
+ * evaluated in leased contexts by any number of threads at once. Leasing never compiles or initializes anything.
+ * Every release still costs a full copy of the template, which takes time proportional to the number of objects
+ * reachable from it, but the copy is made by a background thread rather than the releasing one. Should copying
+ * fail, the replacement is copied again by the next thread to lease it, which gets the failure if it happens
+ * again, so the pool never shrinks.
+ * <p>
+ * A leased context must only be used by one thread at a time, and not at all after it has been released.
+ */
+public final class GlobalPool {
+    // Copies replacements of released globals for all pools
+    private static final ExecutorService REPLENISHER = createReplenisher();
+
+    // Marks a pool slot whose replacement global could not be copied in the background
+    private static final ScriptContext MISSING = new SimpleScriptContext();
+
+    private final NashornScriptEngine engine;
+    private final GlobalSnapshot snapshot;
+    private final int size;
+    private final BlockingQueue<ScriptContext> idle;
+    private final Set<ScriptContext> leased = ConcurrentHashMap.newKeySet();
+
+    GlobalPool(final NashornScriptEngine engine, final Global template, final int size) {
+        this.engine   = engine;
+        this.snapshot = GlobalSnapshot.capture(template);
+        this.size     = size;
+        this.idle     = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            idle.add(newContext());
+        }
+    }
+
+    /**
+     * Returns the number of globals in this pool.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of globals that are not currently leased. Replacements of released globals that are
+     * still being copied are included.
+     *
+     * @return the number of available globals
+     */
+    public int available() {
+        return size - leased.size();
+    }
+
+    /**
+     * Leases a script context backed by a pooled global, waiting for one to be released if all are in use.
+     *
+     * @return the leased script context
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public ScriptContext lease() throws InterruptedException {
+        return leased(idle.take());
+    }
+
+    /**
+     * Leases a script context backed by a pooled global, waiting at most the given time for one to be released
+     * if all are in use.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     * @return the leased script context, or null if none became available in time
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public ScriptContext lease(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final ScriptContext ctxt = idle.poll(timeout, unit);
+        return ctxt == null ? null : leased(ctxt);
+    }
+
+    /**
+     * Returns a leased script context to the pool. Its global is discarded and replaced with a fresh copy of the
+     * template in the background.
+     *
+     * @param ctxt a script context leased from this pool
+     * @throws IllegalArgumentException if {@code ctxt} is not currently leased from this pool
+     */
+    public void release(final ScriptContext ctxt) {
+        Objects.requireNonNull(ctxt);
+        if (!leased.remove(ctxt)) {
+            throw new IllegalArgumentException(NashornScriptEngine.getMessage("context.not.leased.from.pool"));
+        }
+        REPLENISHER.execute(this::replenish);
+    }
+
+    /**
+     * Evaluates a compiled script in a leased context and releases the context afterwards.
+     *
+     * @param script a script compiled by the engine this pool belongs to
+     * @return the value returned by the script
+     * @throws ScriptException if the script throws an error, or if the current thread is interrupted while
+     * waiting for a global
+     */
+    public Object eval(final CompiledScript script) throws ScriptException {
+        if (script.getEngine() != engine) {
+            throw new IllegalArgumentException(NashornScriptEngine.getMessage("script.from.another.engine"));
+        }
+        final ScriptContext ctxt;
+        try {
+            ctxt = lease();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScriptException(e);
+        }
+        try {
+            return script.eval(ctxt);
+        } finally {
+            release(ctxt);
+        }
+    }
+
+    private ScriptContext leased(final ScriptContext ctxt) {
+        if (ctxt != MISSING) {
+            leased.add(ctxt);
+            return ctxt;
+        }
+        final ScriptContext newCtxt;
+        try {
+            newCtxt = newContext();
+        } catch (final RuntimeException | Error e) {
+            // keep the slot for the next thread
+            idle.add(MISSING);
+            throw e;
+        }
+        leased.add(newCtxt);
+        return newCtxt;
+    }
+
+    private void replenish() {
+        ScriptContext ctxt;
+        try {
+            ctxt = newContext();
+        } catch (final RuntimeException | Error e) {
+            ctxt = MISSING;
+        }
+        idle.add(ctxt);
+    }
+
+    private ScriptContext newContext() {
+        final Global global = snapshot.newGlobal();
+        final ScriptContext engineContext = engine.getContext();
+        final ScriptContext ctxt = new SimpleScriptContext();
+        ctxt.setBindings(new ScriptObjectMirror(global, global), ScriptContext.ENGINE_SCOPE);
+        ctxt.setBindings(engineContext.getBindings(ScriptContext.GLOBAL_SCOPE), ScriptContext.GLOBAL_SCOPE);
+        ctxt.setReader(engineContext.getReader());
+        ctxt.setWriter(engineContext.getWriter());
+        ctxt.setErrorWriter(engineContext.getErrorWriter());
+        // invocations through mirrors outside of an eval use this context, see JDK-8150219
+        global.setInitScriptContext(ctxt);
+        return ctxt;
+    }
+
+    private static ExecutorService createReplenisher() {
+        final int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        final ThreadPoolExecutor service = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+            (r) -> {
+                final Thread t = new Thread(r, "Nashorn Global Pool Replenisher");
+                t.setDaemon(true);
+                return t;
+            });
+        service.allowCoreThreadTimeOut(true);
+        return service;
+    }
+}
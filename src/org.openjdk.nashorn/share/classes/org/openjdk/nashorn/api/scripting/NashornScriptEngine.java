@@ -29,6 +29,7 @@ import static org.openjdk.nashorn.internal.runtime.Source.sourceFor;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -49,6 +50,7 @@ import javax.script.SimpleBindings;
 import org.openjdk.nashorn.internal.objects.Global;
 import org.openjdk.nashorn.internal.runtime.Context;
 import org.openjdk.nashorn.internal.runtime.ErrorManager;
+import org.openjdk.nashorn.internal.runtime.JSONFunctions;
 import org.openjdk.nashorn.internal.runtime.ScriptFunction;
 import org.openjdk.nashorn.internal.runtime.ScriptObject;
 import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
@@ -89,7 +91,7 @@ public final class NashornScriptEngine extends AbstractScriptEngine implements C
     }
 
     // helper to get Nashorn script engine error message
-    private static String getMessage(final String msgId, final String... args) {
+    static String getMessage(final String msgId, final String... args) {
         try {
             return new MessageFormat(MESSAGES_BUNDLE.getString(msgId)).format(args);
         } catch (final java.util.MissingResourceException e) {
@@ -149,6 +151,87 @@ public final class NashornScriptEngine extends AbstractScriptEngine implements C
         return createGlobalMirror();
     }
 
+    /**
+     * Creates new bindings backed by a copy of the global object behind the given bindings, as returned by
+     * {@link #createBindings()}. Everything scripts evaluated against the template defined is available in the copy,
+     * but the copy and the template are isolated from each other afterwards. This is much cheaper than initializing
+     * a new global object and evaluating the same scripts again. The template must not be used to evaluate scripts
+     * while copies are being made from it.
+     *
+     * @param template bindings created by this engine's {@link #createBindings()}
+     * @return the new bindings
+     * @throws IllegalArgumentException if {@code template} is not backed by a global object of this engine, or if
+     * its global refers to objects that can not be copied, such as array buffers or Java objects other than
+     * strings, numbers and classes
+     */
+    public Bindings createBindings(final Bindings template) {
+        final Global templateGlobal = template instanceof ScriptObjectMirror ? globalFromMirror((ScriptObjectMirror)template) : null;
+        if (templateGlobal == null) {
+            throw new IllegalArgumentException(getMessage("bindings.not.from.this.engine"));
+        }
+        final Global newGlobal = nashornContext.copyGlobal(templateGlobal);
+        return new ScriptObjectMirror(newGlobal, newGlobal);
+    }
+
+    /**
+     * Creates a pool of globals for running this engine's scripts from many threads concurrently. Each pooled
+     * global starts out as a copy of the global behind the given bindings, as made by
+     * {@link #createBindings(Bindings)}, and is replaced with a fresh copy whenever it is returned to the pool.
+     * The template is captured when the pool is created; later changes to it don't affect the pool.
+     *
+     * @param template bindings created by this engine's {@link #createBindings()}
+     * @param size the number of globals in the pool
+     * @return the new pool
+     * @throws IllegalArgumentException if {@code template} is not backed by a global object of this engine, if
+     * its global refers to objects that can not be copied, or if {@code size} is not positive
+     * @throws IllegalStateException if this engine shares one global between all bindings
+     * ({@code --global-per-engine})
+     */
+    public GlobalPool createGlobalPool(final Bindings template, final int size) {
+        if (_global_per_engine) {
+            throw new IllegalStateException(getMessage("no.global.pool.with.global.per.engine"));
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException(getMessage("invalid.global.pool.size", Integer.toString(size)));
+        }
+        final Global templateGlobal = template instanceof ScriptObjectMirror ? globalFromMirror((ScriptObjectMirror)template) : null;
+        if (templateGlobal == null) {
+            throw new IllegalArgumentException(getMessage("bindings.not.from.this.engine"));
+        }
+        return new GlobalPool(this, templateGlobal, size);
+    }
+
+    /**
+     * Parses JSON text read from the given reader, with the same result as calling {@code JSON.parse} on the
+     * whole text in the engine's current script context. The text is read and parsed incrementally, so it never
+     * needs to be held in memory as a whole. The reader is read to its end but not closed.
+     *
+     * @param reader reader to read JSON text from
+     * @return the parsed value; objects and arrays are returned as {@link ScriptObjectMirror}s
+     * @throws ScriptException if the text is not valid JSON or reading from {@code reader} fails
+     */
+    public Object parseJSON(final Reader reader) throws ScriptException {
+        Objects.requireNonNull(reader);
+        final Global ctxtGlobal = getNashornGlobalFrom(context);
+        final Global oldGlobal = Context.getGlobal();
+        final boolean globalChanged = (oldGlobal != ctxtGlobal);
+        try {
+            if (globalChanged) {
+                Context.setGlobal(ctxtGlobal);
+            }
+            return ScriptObjectMirror.translateUndefined(ScriptObjectMirror.wrap(JSONFunctions.parse(reader, ScriptRuntime.UNDEFINED), ctxtGlobal));
+        } catch (final UncheckedIOException e) {
+            throw new ScriptException(e.getCause());
+        } catch (final Exception e) {
+            throwAsScriptException(e, ctxtGlobal);
+            throw new AssertionError("should not reach here");
+        } finally {
+            if (globalChanged) {
+                Context.setGlobal(oldGlobal);
+            }
+        }
+    }
+
     // Compilable methods
 
     @Override
@@ -25,12 +25,17 @@
 
 package org.openjdk.nashorn.api.scripting;
 
+import static org.openjdk.nashorn.internal.runtime.UnwarrantedOptimismException.INVALID_PROGRAM_POINT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +44,7 @@ import java.util.Set;
 import java.util.function.Supplier;
 import javax.script.Bindings;
 import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.objects.NativeJSON;
 import org.openjdk.nashorn.internal.runtime.ConsString;
 import org.openjdk.nashorn.internal.runtime.Context;
 import org.openjdk.nashorn.internal.runtime.ECMAException;
@@ -486,6 +492,159 @@ public final class ScriptObjectMirror extends AbstractJSObject implements Bindin
         return inGlobal(sobj::isFrozen);
     }
 
+    /**
+     * Writes this object as JSON text to the given appendable, with the same result as calling
+     * {@code JSON.stringify} on it. The text is appended as it is produced rather than built as
+     * a string first. Nothing is written if {@code JSON.stringify} would return undefined.
+     *
+     * @param out appendable to write JSON text to
+     * @throws IOException if appending to {@code out} fails
+     */
+    public void writeJSON(final Appendable out) throws IOException {
+        writeJSON(out, null, null);
+    }
+
+    /**
+     * Writes this object as JSON text to the given appendable, with the same result as calling
+     * {@code JSON.stringify(this, replacer, space)}. The text is appended as it is produced rather
+     * than built as a string first. Nothing is written if {@code JSON.stringify} would return
+     * undefined.
+     *
+     * @param out appendable to write JSON text to
+     * @param replacer either a function or an array of strings and numbers, or null
+     * @param space string or number of spaces to indent nested values with, or null
+     * @throws IOException if appending to {@code out} fails
+     */
+    public void writeJSON(final Appendable out, final Object replacer, final Object space) throws IOException {
+        Objects.requireNonNull(out);
+        try {
+            inGlobal(() -> NativeJSON.stringify(out, sobj, unwrap(replacer, global), unwrap(space, global)));
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Bulk access. Each of these switches to this mirror's global only once.
+
+    /**
+     * Returns the values of the named properties, in the order of the names. This has the same result as calling
+     * {@link #getMember(String)} for each name.
+     *
+     * @param names the property names
+     * @return the property values
+     */
+    public Object[] getMembers(final String... names) {
+        for (final String name : names) {
+            Objects.requireNonNull(name);
+        }
+        return inGlobal(() -> {
+            final Object[] values = new Object[names.length];
+            for (int i = 0; i < names.length; i++) {
+                values[i] = wrapLikeMe(sobj.get(names[i]));
+            }
+            return values;
+        });
+    }
+
+    /**
+     * Copies the own enumerable properties of this object into a new map, in property order. Nested plain objects
+     * and arrays are copied as well, as maps and lists, down to the given depth; other script objects, like
+     * functions or dates, and objects nested deeper are returned as mirrors. Undefined values are copied as null.
+     *
+     * @param depth how many levels of nested objects and arrays to copy; 0 copies only this object's properties
+     * @return the copied properties
+     * @throws IllegalArgumentException if depth is negative
+     */
+    public Map<String, Object> toMap(final int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth can not be negative");
+        }
+        return inGlobal(() -> copyToMap(sobj, depth));
+    }
+
+    /**
+     * Copies the elements of this array-like object into the given array, converting them to numbers as
+     * {@code ToNumber} does. Copies {@code min(dest.length, length)} elements from index 0, where {@code length}
+     * is this object's {@code length} property; missing elements become {@code NaN}.
+     *
+     * @param dest the array to copy into
+     * @return the number of elements copied
+     */
+    public int copySlotsTo(final double[] dest) {
+        Objects.requireNonNull(dest);
+        return inGlobal(() -> {
+            final int count = slotCount(dest.length);
+            for (int i = 0; i < count; i++) {
+                dest[i] = sobj.getDouble(i, INVALID_PROGRAM_POINT);
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Copies the elements of this array-like object into the given array, converting them to ints as
+     * {@code ToInt32} does. Copies {@code min(dest.length, length)} elements from index 0, where {@code length}
+     * is this object's {@code length} property; missing elements become 0.
+     *
+     * @param dest the array to copy into
+     * @return the number of elements copied
+     */
+    public int copySlotsTo(final int[] dest) {
+        Objects.requireNonNull(dest);
+        return inGlobal(() -> {
+            final int count = slotCount(dest.length);
+            for (int i = 0; i < count; i++) {
+                dest[i] = sobj.getInt(i, INVALID_PROGRAM_POINT);
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Copies the elements of this array-like object into the given array, with the same result as calling
+     * {@link #getSlot(int)} for each index. Copies {@code min(dest.length, length)} elements from index 0, where
+     * {@code length} is this object's {@code length} property.
+     *
+     * @param dest the array to copy into
+     * @return the number of elements copied
+     */
+    public int copySlotsTo(final Object[] dest) {
+        Objects.requireNonNull(dest);
+        return inGlobal(() -> {
+            final int count = slotCount(dest.length);
+            for (int i = 0; i < count; i++) {
+                dest[i] = wrapLikeMe(sobj.get(i));
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Runs the given code with this mirror's global as the current global. Operations on mirrors of the same
+     * global inside the block don't need to switch globals, so a block of many of them is cheaper than the same
+     * operations made one by one from outside.
+     *
+     * @param block the code to run
+     */
+    public void withGlobal(final Runnable block) {
+        Objects.requireNonNull(block);
+        inGlobal(block);
+    }
+
+    /**
+     * Runs the given code with this mirror's global as the current global and returns its result. Operations on
+     * mirrors of the same global inside the block don't need to switch globals, so a block of many of them is
+     * cheaper than the same operations made one by one from outside.
+     *
+     * @param <V> the result type
+     * @param block the code to run
+     * @return the result of the block
+     */
+    public <V> V withGlobal(final Supplier<V> block) {
+        Objects.requireNonNull(block);
+        return inGlobal(block);
+    }
+
     /**
      * Utility to check if given object is ECMAScript undefined value
      *
@@ -727,6 +886,39 @@ public final class ScriptObjectMirror extends AbstractJSObject implements Bindin
         }
     }
 
+    private int slotCount(final int max) {
+        return (int)Math.min(max, JSType.toUint32(sobj.getLength()));
+    }
+
+    private Map<String, Object> copyToMap(final ScriptObject obj, final int depth) {
+        final Iterator<String>    iter = obj.propertyIterator();
+        final Map<String, Object> map  = new LinkedHashMap<>();
+
+        while (iter.hasNext()) {
+            final String key = iter.next();
+            map.put(key, copyValue(obj.get(key), depth));
+        }
+
+        return map;
+    }
+
+    private Object copyValue(final Object value, final int depth) {
+        if (depth > 0 && value instanceof ScriptObject) {
+            final ScriptObject obj = (ScriptObject)value;
+            if (obj.isArray()) {
+                final int          length = (int)Math.min(Integer.MAX_VALUE, JSType.toUint32(obj.getLength()));
+                final List<Object> list   = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(copyValue(obj.get(i), depth - 1));
+                }
+                return list;
+            } else if ("Object".equals(obj.getClassName()) && !(obj instanceof ScriptFunction)) {
+                return copyToMap(obj, depth - 1);
+            }
+        }
+        return translateUndefined(wrapLikeMe(value));
+    }
+
     /**
      * Ensures the key is not null, empty string, or a non-String object. The contract of the {@link Bindings}
      * interface requires that these are not accepted as keys.
@@ -31,8 +31,8 @@ final class ArrayAccessTreeImpl extends ExpressionTreeImpl implements ArrayAcces
 
     private final ExpressionTree base, index;
 
-    ArrayAccessTreeImpl(final Expression node, final ExpressionTree base, final ExpressionTree index) {
-        super(node);
+    ArrayAccessTreeImpl(final Expression node, final ExpressionTree base, final ExpressionTree index, final PositionMap positions) {
+        super(node, positions);
         this.base = base;
         this.index = index;
     }
@@ -31,8 +31,8 @@ import org.openjdk.nashorn.internal.ir.LiteralNode;
 final class ArrayLiteralTreeImpl extends ExpressionTreeImpl
     implements ArrayLiteralTree {
     private final List<? extends ExpressionTree> elements;
-    ArrayLiteralTreeImpl(final LiteralNode<?> node, final List<? extends ExpressionTree> elements) {
-        super(node);
+    ArrayLiteralTreeImpl(final LiteralNode<?> node, final List<? extends ExpressionTree> elements, final PositionMap positions) {
+        super(node, positions);
         this.elements = elements;
     }
 
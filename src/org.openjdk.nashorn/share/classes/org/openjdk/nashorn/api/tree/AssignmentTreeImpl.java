@@ -31,8 +31,8 @@ final class AssignmentTreeImpl extends ExpressionTreeImpl implements AssignmentT
     private final Tree.Kind kind;
     private final ExpressionTree var, expr;
 
-    AssignmentTreeImpl(final BinaryNode node, final ExpressionTree left, final ExpressionTree right) {
-        super(node);
+    AssignmentTreeImpl(final BinaryNode node, final ExpressionTree left, final ExpressionTree right, final PositionMap positions) {
+        super(node, positions);
         assert node.isAssignment() : "assignment node expected";
         this.var = left;
         this.expr = right;
@@ -31,8 +31,8 @@ class BinaryTreeImpl extends ExpressionTreeImpl implements BinaryTree {
     private final Tree.Kind kind;
     private final ExpressionTree left, right;
 
-    BinaryTreeImpl(final BinaryNode node, final ExpressionTree left, final ExpressionTree right) {
-        super(node);
+    BinaryTreeImpl(final BinaryNode node, final ExpressionTree left, final ExpressionTree right, final PositionMap positions) {
+        super(node, positions);
         assert !node.isAssignment() : "assignment node";
         this.left = left;
         this.right = right;
@@ -32,13 +32,13 @@ import org.openjdk.nashorn.internal.ir.BlockStatement;
 final class BlockTreeImpl extends StatementTreeImpl implements BlockTree {
     private final List<? extends StatementTree> statements;
 
-    BlockTreeImpl(final BlockStatement node, final List<? extends StatementTree> statements) {
-        super(node);
+    BlockTreeImpl(final BlockStatement node, final List<? extends StatementTree> statements, final PositionMap positions) {
+        super(node, positions);
         this.statements = statements;
     }
 
-    BlockTreeImpl(final Block node, final List<? extends StatementTree> statements) {
-        super(node);
+    BlockTreeImpl(final Block node, final List<? extends StatementTree> statements, final PositionMap positions) {
+        super(node, positions);
         this.statements = statements;
     }
 
@@ -30,8 +30,8 @@ import org.openjdk.nashorn.internal.ir.BreakNode;
 final class BreakTreeImpl extends StatementTreeImpl implements BreakTree {
     private final String label;
 
-    BreakTreeImpl(final BreakNode node) {
-        super(node);
+    BreakTreeImpl(final BreakNode node, final PositionMap positions) {
+        super(node, positions);
         this.label = node.getLabelName();
     }
 
@@ -34,8 +34,9 @@ final class CaseTreeImpl extends TreeImpl implements CaseTree {
 
     public CaseTreeImpl(final CaseNode node,
         final ExpressionTree expression,
-        final List<? extends StatementTree> statements) {
-        super(node);
+        final List<? extends StatementTree> statements,
+        final PositionMap positions) {
+        super(node, positions);
         this.expression = expression;
         this.statements = statements;
     }
@@ -35,8 +35,9 @@ final class CatchTreeImpl extends TreeImpl implements CatchTree {
     CatchTreeImpl(final CatchNode node,
             final ExpressionTree param,
             final BlockTree block,
-            final ExpressionTree condition) {
-        super(node);
+            final ExpressionTree condition,
+            final PositionMap positions) {
+        super(node, positions);
         this.param = param;
         this.block = block;
         this.condition = condition;
@@ -37,8 +37,9 @@ final class ClassDeclarationTreeImpl extends StatementTreeImpl implements ClassD
 
     ClassDeclarationTreeImpl(final VarNode node, final IdentifierTree name,
             final ExpressionTree classHeritage, final PropertyTree constructor,
-            final List<? extends PropertyTree> classElements) {
-        super(node);
+            final List<? extends PropertyTree> classElements,
+            final PositionMap positions) {
+        super(node, positions);
         this.name = name;
         this.classHeritage = classHeritage;
         this.constructor = constructor;
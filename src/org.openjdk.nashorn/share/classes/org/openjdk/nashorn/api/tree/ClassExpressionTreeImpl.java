@@ -36,8 +36,9 @@ final class ClassExpressionTreeImpl extends ExpressionTreeImpl implements ClassE
 
     ClassExpressionTreeImpl(final ClassNode cn, final IdentifierTree name,
             final ExpressionTree classHeritage, final PropertyTree constructor,
-            final List<? extends PropertyTree> classElements) {
-        super(cn);
+            final List<? extends PropertyTree> classElements,
+            final PositionMap positions) {
+        super(cn, positions);
         this.name = name;
         this.classHeritage = classHeritage;
         this.constructor = constructor;
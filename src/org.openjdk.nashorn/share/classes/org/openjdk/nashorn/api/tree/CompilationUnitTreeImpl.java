@@ -26,24 +26,58 @@
 package org.openjdk.nashorn.api.tree;
 
 import java.util.List;
+import java.util.Objects;
 import org.openjdk.nashorn.internal.ir.FunctionNode;
+import org.openjdk.nashorn.internal.runtime.Source;
 
 final class CompilationUnitTreeImpl extends TreeImpl
     implements CompilationUnitTree {
     private final FunctionNode funcNode;
     private final List<? extends Tree> elements;
     private final ModuleTree module;
+    // null if this tree can't be parsed incrementally
+    private final IncrementalParser.History history;
 
     CompilationUnitTreeImpl(final FunctionNode node,
             final List<? extends Tree> elements,
-            final ModuleTree module) {
-        super(node);
+            final ModuleTree module,
+            final IncrementalParser.History history,
+            final PositionMap positions) {
+        super(node, positions);
         this.funcNode = node;
         assert funcNode.getKind() == FunctionNode.Kind.SCRIPT ||
                 funcNode.getKind() == FunctionNode.Kind.MODULE :
                 "script or module function expected";
         this.elements = elements;
         this.module = module;
+        this.history = history;
+    }
+
+    FunctionNode getFunctionNode() {
+        return funcNode;
+    }
+
+    IncrementalParser.History getHistory() {
+        return history;
+    }
+
+    Source getSource() {
+        // the function node of an incrementally parsed tree has the source of the first parse
+        return history != null ? history.source : funcNode.getSource();
+    }
+
+    // returns the source of a compilation unit tree after replacing a range of it, see Parser.parse
+    static Source edit(final CompilationUnitTree unit, final int start, final int end, final String replacement) {
+        if (!(Objects.requireNonNull(unit) instanceof CompilationUnitTreeImpl)) {
+            throw new IllegalArgumentException("compilation unit tree not created by a Parser");
+        }
+        final Source prevSrc = ((CompilationUnitTreeImpl)unit).getSource();
+        final String prevCode = prevSrc.getString();
+        if (start < 0 || start > end || end > prevCode.length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + prevCode.length());
+        }
+        final String code = prevCode.substring(0, start) + Objects.requireNonNull(replacement) + prevCode.substring(end);
+        return Source.sourceFor(prevSrc.getName(), code);
     }
 
     @Override
@@ -68,7 +102,7 @@ final class CompilationUnitTreeImpl extends TreeImpl
 
     @Override
     public LineMap getLineMap() {
-        return new LineMapImpl(funcNode.getSource());
+        return new LineMapImpl(getSource());
     }
 
     @Override
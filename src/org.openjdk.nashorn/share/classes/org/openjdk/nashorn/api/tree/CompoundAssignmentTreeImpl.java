@@ -32,8 +32,8 @@ final class CompoundAssignmentTreeImpl extends ExpressionTreeImpl implements Com
     private final ExpressionTree var, expr;
     private final Kind kind;
 
-    CompoundAssignmentTreeImpl(final BinaryNode node, final ExpressionTree left, final ExpressionTree right) {
-        super(node);
+    CompoundAssignmentTreeImpl(final BinaryNode node, final ExpressionTree left, final ExpressionTree right, final PositionMap positions) {
+        super(node, positions);
         assert node.isAssignment() : "not an assignment node";
         this.var = left;
         this.expr = right;
@@ -32,8 +32,9 @@ final class ConditionalExpressionTreeImpl extends ExpressionTreeImpl implements
 
     ConditionalExpressionTreeImpl(final TernaryNode node,
             final ExpressionTree condExpr, final ExpressionTree trueExpr,
-            final ExpressionTree falseExpr) {
-        super(node);
+            final ExpressionTree falseExpr,
+            final PositionMap positions) {
+        super(node, positions);
         this.condExpr = condExpr;
         this.trueExpr = trueExpr;
         this.falseExpr = falseExpr;
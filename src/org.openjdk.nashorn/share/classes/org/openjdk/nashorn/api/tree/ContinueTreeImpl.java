@@ -30,8 +30,8 @@ import org.openjdk.nashorn.internal.ir.ContinueNode;
 final class ContinueTreeImpl extends StatementTreeImpl implements ContinueTree {
     private final String label;
 
-    ContinueTreeImpl(final ContinueNode node) {
-        super(node);
+    ContinueTreeImpl(final ContinueNode node, final PositionMap positions) {
+        super(node, positions);
         this.label = node.getLabelName();
     }
 
@@ -28,8 +28,8 @@ package org.openjdk.nashorn.api.tree;
 import org.openjdk.nashorn.internal.ir.DebuggerNode;
 
 final class DebuggerTreeImpl extends StatementTreeImpl implements DebuggerTree {
-    DebuggerTreeImpl(final DebuggerNode node) {
-        super(node);
+    DebuggerTreeImpl(final DebuggerNode node, final PositionMap positions) {
+        super(node, positions);
     }
 
     @Override
@@ -36,8 +36,8 @@ final class DestructuringDeclTreeImpl extends StatementTreeImpl
     private final ExpressionTree lhs;
     private final ExpressionTree init;
 
-    DestructuringDeclTreeImpl(final ExpressionStatement exprStat, final ExpressionTree lhs, final ExpressionTree init) {
-        super(exprStat);
+    DestructuringDeclTreeImpl(final ExpressionStatement exprStat, final ExpressionTree lhs, final ExpressionTree init, final PositionMap positions) {
+        super(exprStat, positions);
         assert exprStat.destructuringDeclarationType() != null : "expecting a destructuring decl. statement";
 
         this.declType = exprStat.destructuringDeclarationType();
@@ -31,8 +31,8 @@ final class DoWhileLoopTreeImpl extends StatementTreeImpl implements DoWhileLoop
     private final ExpressionTree cond;
     private final StatementTree stat;
 
-    DoWhileLoopTreeImpl(final WhileNode node, final ExpressionTree cond, final StatementTree stat) {
-        super(node);
+    DoWhileLoopTreeImpl(final WhileNode node, final ExpressionTree cond, final StatementTree stat, final PositionMap positions) {
+        super(node, positions);
         assert node.isDoWhile() : "do while expected";
         this.cond = cond;
         this.stat = stat;
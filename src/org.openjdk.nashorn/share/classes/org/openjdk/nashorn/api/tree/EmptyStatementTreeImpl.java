@@ -28,8 +28,8 @@ package org.openjdk.nashorn.api.tree;
 import org.openjdk.nashorn.internal.ir.EmptyNode;
 
 final class EmptyStatementTreeImpl extends StatementTreeImpl implements EmptyStatementTree {
-    EmptyStatementTreeImpl(final EmptyNode node) {
-        super(node);
+    EmptyStatementTreeImpl(final EmptyNode node, final PositionMap positions) {
+        super(node, positions);
     }
 
     @Override
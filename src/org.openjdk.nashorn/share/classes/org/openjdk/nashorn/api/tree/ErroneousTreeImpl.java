@@ -28,8 +28,8 @@ package org.openjdk.nashorn.api.tree;
 import org.openjdk.nashorn.internal.ir.ErrorNode;
 
 final class ErroneousTreeImpl extends ExpressionTreeImpl implements ErroneousTree {
-    ErroneousTreeImpl(final ErrorNode errorNode) {
-        super(errorNode);
+    ErroneousTreeImpl(final ErrorNode errorNode, final PositionMap positions) {
+        super(errorNode, positions);
     }
 
     @Override
@@ -41,7 +41,7 @@ final class ExportEntryTreeImpl extends TreeImpl implements ExportEntryTree {
             final IdentifierTree moduleRequest,
             final IdentifierTree importName,
             final IdentifierTree localName) {
-        super(null); // no underlying Node!
+        super(null, null); // no underlying Node!
         this.startPos = startPos;
         this.endPos = endPos;
         this.exportName = exportName;
@@ -50,18 +50,18 @@ final class ExportEntryTreeImpl extends TreeImpl implements ExportEntryTree {
         this.localName = localName;
     }
 
-    private static ExportEntryTreeImpl createExportEntry(final Module.ExportEntry entry) {
+    private static ExportEntryTreeImpl createExportEntry(final Module.ExportEntry entry, final PositionMap positions) {
         return new ExportEntryTreeImpl(entry.getStartPosition(),
                 entry.getEndPosition(),
-                identOrNull(entry.getExportName()),
-                identOrNull(entry.getModuleRequest()),
-                identOrNull(entry.getImportName()),
-                identOrNull(entry.getLocalName()));
+                identOrNull(entry.getExportName(), positions),
+                identOrNull(entry.getModuleRequest(), positions),
+                identOrNull(entry.getImportName(), positions),
+                identOrNull(entry.getLocalName(), positions));
     }
 
-    static List<ExportEntryTreeImpl> createExportList(final List<Module.ExportEntry> exportList) {
+    static List<ExportEntryTreeImpl> createExportList(final List<Module.ExportEntry> exportList, final PositionMap positions) {
         return exportList.stream().
-            map(ExportEntryTreeImpl::createExportEntry).
+            map(entry -> createExportEntry(entry, positions)).
             collect(Collectors.toList());
     }
 
@@ -30,8 +30,8 @@ import org.openjdk.nashorn.internal.ir.ExpressionStatement;
 final class ExpressionStatementTreeImpl extends StatementTreeImpl implements ExpressionStatementTree {
     private final ExpressionTree expr;
 
-    ExpressionStatementTreeImpl(final ExpressionStatement es, final ExpressionTree expr) {
-        super(es);
+    ExpressionStatementTreeImpl(final ExpressionStatement es, final ExpressionTree expr, final PositionMap positions) {
+        super(es, positions);
         this.expr = expr;
     }
 
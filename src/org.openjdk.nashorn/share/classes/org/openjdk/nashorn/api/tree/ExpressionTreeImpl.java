@@ -28,7 +28,7 @@ package org.openjdk.nashorn.api.tree;
 import org.openjdk.nashorn.internal.ir.Expression;
 
 abstract class ExpressionTreeImpl extends TreeImpl implements ExpressionTree {
-    ExpressionTreeImpl(final Expression expr) {
-        super(expr);
+    ExpressionTreeImpl(final Expression expr, final PositionMap positions) {
+        super(expr, positions);
     }
 }
@@ -36,8 +36,9 @@ final class ForInLoopTreeImpl extends StatementTreeImpl implements ForInLoopTree
     ForInLoopTreeImpl(final ForNode node,
             final ExpressionTree lhsExpr,
             final ExpressionTree expr,
-            final StatementTree stat) {
-        super(node);
+            final StatementTree stat,
+            final PositionMap positions) {
+        super(node, positions);
         assert node.isForIn() : "for ..in expected";
         this.lhsExpr = lhsExpr;
         this.expr = expr;
@@ -37,8 +37,9 @@ final class ForLoopTreeImpl extends StatementTreeImpl implements ForLoopTree {
         final ExpressionTree init,
         final ExpressionTree cond,
         final ExpressionTree update,
-        final StatementTree  stat) {
-        super(node);
+        final StatementTree  stat,
+        final PositionMap positions) {
+        super(node, positions);
         assert !node.isForIn() : "for statement expected";
         this.init = init;
         this.cond = cond;
@@ -34,8 +34,9 @@ final class ForOfLoopTreeImpl extends StatementTreeImpl implements ForOfLoopTree
     ForOfLoopTreeImpl(final ForNode node,
             final ExpressionTree lhsExpr,
             final ExpressionTree expr,
-            final StatementTree stat) {
-        super(node);
+            final StatementTree stat,
+            final PositionMap positions) {
+        super(node, positions);
         assert node.isForOf() : "for ..of expected";
         this.lhsExpr = lhsExpr;
         this.expr = expr;
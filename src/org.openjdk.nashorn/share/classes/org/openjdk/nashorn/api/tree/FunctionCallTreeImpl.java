@@ -33,8 +33,9 @@ class FunctionCallTreeImpl extends ExpressionTreeImpl implements FunctionCallTre
     private final ExpressionTree function;
     FunctionCallTreeImpl(final CallNode node,
             final ExpressionTree function,
-            final List<? extends ExpressionTree> arguments) {
-        super(node);
+            final List<? extends ExpressionTree> arguments,
+            final PositionMap positions) {
+        super(node, positions);
         this.function = function;
         this.arguments = arguments;
     }
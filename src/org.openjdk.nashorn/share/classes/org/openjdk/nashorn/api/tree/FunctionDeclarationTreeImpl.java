@@ -38,12 +38,13 @@ final class FunctionDeclarationTreeImpl extends StatementTreeImpl
 
     FunctionDeclarationTreeImpl(final VarNode node,
             final List<? extends ExpressionTree> params,
-            final BlockTree body) {
-        super(node);
+            final BlockTree body,
+            final PositionMap positions) {
+        super(node, positions);
         assert node.getInit() instanceof FunctionNode : "function expected";
         funcNode = (FunctionNode)node.getInit();
         assert funcNode.isDeclared() : "function declaration expected";
-        funcName = funcNode.isAnonymous()? null : new IdentifierTreeImpl(node.getName());
+        funcName = funcNode.isAnonymous()? null : new IdentifierTreeImpl(node.getName(), positions);
         this.params = params;
         this.body = body;
     }
@@ -37,8 +37,9 @@ final class FunctionExpressionTreeImpl extends ExpressionTreeImpl
 
     FunctionExpressionTreeImpl(final FunctionNode node,
             final List<? extends ExpressionTree> params,
-            final BlockTree body) {
-        super(node);
+            final BlockTree body,
+            final PositionMap positions) {
+        super(node, positions);
         funcNode = node;
         assert !funcNode.isDeclared() || funcNode.isAnonymous() : "function expression expected";
 
@@ -46,7 +47,7 @@ final class FunctionExpressionTreeImpl extends ExpressionTreeImpl
         if (node.isAnonymous() || kind == FunctionNode.Kind.GETTER || kind == FunctionNode.Kind.SETTER) {
             funcName = null;
         } else {
-            funcName = new IdentifierTreeImpl(node.getIdent());
+            funcName = new IdentifierTreeImpl(node.getIdent(), positions);
         }
 
         this.params = params;
@@ -25,6 +25,7 @@
 package org.openjdk.nashorn.api.tree;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -83,9 +84,18 @@ final class IRTranslator extends SimpleNodeVisitor {
     private StatementTreeImpl curStat;
     // currently translated Expression
     private ExpressionTreeImpl curExpr;
+    // position maps of the functions reparsed by incremental parsing
+    private Map<FunctionNode, PositionMap> positionMaps = Collections.emptyMap();
+    // position map of the currently translated function, passed to the trees created for its nodes
+    private PositionMap positions;
 
     // entry point for translator
     CompilationUnitTree translate(final FunctionNode node) {
+        return translate(node, null);
+    }
+
+    // entry point for translator, history is null if the tree can't be parsed incrementally
+    CompilationUnitTree translate(final FunctionNode node, final IncrementalParser.History history) {
         if (node == null) {
             return null;
         }
@@ -94,15 +104,20 @@ final class IRTranslator extends SimpleNodeVisitor {
                 node.getKind() == FunctionNode.Kind.MODULE :
                 "script or module function expected";
 
+        if (history != null) {
+            positionMaps = history.getPositionMaps();
+            positions = history.getPositionMap(0);
+        }
         final Block body = node.getBody();
         return new CompilationUnitTreeImpl(node,
                 translateStats(body != null? getOrderedStatements(body.getStatements()) : null),
-                translateModule(node));
+                translateModule(node),
+                history, positions);
     }
 
     @Override
     public boolean enterAccessNode(final AccessNode accessNode) {
-        curExpr = new MemberSelectTreeImpl(accessNode, translateExpr(accessNode.getBase()));
+        curExpr = new MemberSelectTreeImpl(accessNode, translateExpr(accessNode.getBase()), positions);
         return false;
     }
 
@@ -118,18 +133,18 @@ final class IRTranslator extends SimpleNodeVisitor {
             final ExpressionTree destTree = translateExpr(binaryNode.getAssignmentDest());
 
             if (binaryNode.isTokenType(TokenType.ASSIGN)) {
-                curExpr = new AssignmentTreeImpl(binaryNode, destTree, srcTree);
+                curExpr = new AssignmentTreeImpl(binaryNode, destTree, srcTree, positions);
             } else {
-                curExpr = new CompoundAssignmentTreeImpl(binaryNode, destTree, srcTree);
+                curExpr = new CompoundAssignmentTreeImpl(binaryNode, destTree, srcTree, positions);
             }
         } else {
             final ExpressionTree leftTree = translateExpr(binaryNode.lhs());
             final ExpressionTree rightTree = translateExpr(binaryNode.rhs());
 
             if (binaryNode.isTokenType(TokenType.INSTANCEOF)) {
-                curExpr = new InstanceOfTreeImpl(binaryNode, leftTree, rightTree);
+                curExpr = new InstanceOfTreeImpl(binaryNode, leftTree, rightTree, positions);
             } else {
-                curExpr = new BinaryTreeImpl(binaryNode, leftTree, rightTree);
+                curExpr = new BinaryTreeImpl(binaryNode, leftTree, rightTree, positions);
             }
         }
 
@@ -138,7 +153,7 @@ final class IRTranslator extends SimpleNodeVisitor {
 
     @Override
     public boolean enterBreakNode(final BreakNode breakNode) {
-        curStat = new BreakTreeImpl(breakNode);
+        curStat = new BreakTreeImpl(breakNode, positions);
         return false;
     }
 
@@ -148,7 +163,7 @@ final class IRTranslator extends SimpleNodeVisitor {
         callNode.getFunction().accept(this);
         final ExpressionTree funcTree = curExpr;
         final List<? extends ExpressionTree> argTrees = translateExprs(callNode.getArgs());
-        curExpr = new FunctionCallTreeImpl(callNode, funcTree, argTrees);
+        curExpr = new FunctionCallTreeImpl(callNode, funcTree, argTrees, positions);
         return false;
     }
 
@@ -166,25 +181,25 @@ final class IRTranslator extends SimpleNodeVisitor {
 
     @Override
     public boolean enterContinueNode(final ContinueNode continueNode) {
-        curStat = new ContinueTreeImpl(continueNode);
+        curStat = new ContinueTreeImpl(continueNode, positions);
         return false;
     }
 
     @Override
     public boolean enterDebuggerNode(final DebuggerNode debuggerNode) {
-        curStat = new DebuggerTreeImpl(debuggerNode);
+        curStat = new DebuggerTreeImpl(debuggerNode, positions);
         return false;
     }
 
     @Override
     public boolean enterEmptyNode(final EmptyNode emptyNode) {
-        curStat = new EmptyStatementTreeImpl(emptyNode);
+        curStat = new EmptyStatementTreeImpl(emptyNode, positions);
         return false;
     }
 
     @Override
     public boolean enterErrorNode(final ErrorNode errorNode) {
-        curExpr = new ErroneousTreeImpl(errorNode);
+        curExpr = new ErroneousTreeImpl(errorNode, positions);
         return false;
     }
 
@@ -194,10 +209,10 @@ final class IRTranslator extends SimpleNodeVisitor {
             final ExpressionTree expr = translateExpr(expressionStatement.getExpression());
             assert expr instanceof AssignmentTree : "destructuring decl. statement does not have assignment";
             final AssignmentTree assign = (AssignmentTree)expr;
-            curStat = new DestructuringDeclTreeImpl(expressionStatement, assign.getVariable(), assign.getExpression());
+            curStat = new DestructuringDeclTreeImpl(expressionStatement, assign.getVariable(), assign.getExpression(), positions);
         } else {
             curStat = new ExpressionStatementTreeImpl(expressionStatement,
-                translateExpr(expressionStatement.getExpression()));
+                translateExpr(expressionStatement.getExpression()), positions);
         }
         return false;
     }
@@ -210,7 +225,7 @@ final class IRTranslator extends SimpleNodeVisitor {
             curStat = translateStat(block.getStatements().get(0));
         } else {
             curStat = new BlockTreeImpl(blockStatement,
-                translateStats(block != null? block.getStatements() : null));
+                translateStats(block != null? block.getStatements() : null), positions);
         }
         return false;
     }
@@ -221,18 +236,18 @@ final class IRTranslator extends SimpleNodeVisitor {
             curStat = new ForInLoopTreeImpl(forNode,
                     translateExpr(forNode.getInit()),
                     translateExpr(forNode.getModify()),
-                    translateBlock(forNode.getBody()));
+                    translateBlock(forNode.getBody()), positions);
         } else if (forNode.isForOf()) {
             curStat = new ForOfLoopTreeImpl(forNode,
                     translateExpr(forNode.getInit()),
                     translateExpr(forNode.getModify()),
-                    translateBlock(forNode.getBody()));
+                    translateBlock(forNode.getBody()), positions);
         } else {
             curStat = new ForLoopTreeImpl(forNode,
                     translateExpr(forNode.getInit()),
                     translateExpr(forNode.getTest()),
                     translateExpr(forNode.getModify()),
-                    translateBlock(forNode.getBody()));
+                    translateBlock(forNode.getBody()), positions);
         }
 
         return false;
@@ -242,16 +257,21 @@ final class IRTranslator extends SimpleNodeVisitor {
     public boolean enterFunctionNode(final FunctionNode functionNode) {
         assert !functionNode.isDeclared() || functionNode.isAnonymous() : "should not reach here for function declaration";
 
-        final List<? extends ExpressionTree> paramTrees = translateParameters(functionNode);
-        final BlockTree blockTree = (BlockTree) translateBlock(functionNode.getBody(), true);
-        curExpr = new FunctionExpressionTreeImpl(functionNode, paramTrees, blockTree);
+        final PositionMap prev = enterPositions(functionNode);
+        try {
+            final List<? extends ExpressionTree> paramTrees = translateParameters(functionNode);
+            final BlockTree blockTree = (BlockTree) translateBlock(functionNode.getBody(), true);
+            curExpr = new FunctionExpressionTreeImpl(functionNode, paramTrees, blockTree, positions);
+        } finally {
+            positions = prev;
+        }
 
         return false;
     }
 
     @Override
     public boolean enterIdentNode(final IdentNode identNode) {
-        curExpr = new IdentifierTreeImpl(identNode);
+        curExpr = new IdentifierTreeImpl(identNode, positions);
         return false;
     }
 
@@ -260,7 +280,7 @@ final class IRTranslator extends SimpleNodeVisitor {
         curStat = new IfTreeImpl(ifNode,
                 translateExpr(ifNode.getTest()),
                 translateBlock(ifNode.getPass()),
-                translateBlock(ifNode.getFail()));
+                translateBlock(ifNode.getFail()), positions);
         return false;
     }
 
@@ -268,14 +288,14 @@ final class IRTranslator extends SimpleNodeVisitor {
     public boolean enterIndexNode(final IndexNode indexNode) {
         curExpr = new ArrayAccessTreeImpl(indexNode,
                 translateExpr(indexNode.getBase()),
-                translateExpr(indexNode.getIndex()));
+                translateExpr(indexNode.getIndex()), positions);
         return false;
     }
 
     @Override
     public boolean enterLabelNode(final LabelNode labelNode) {
         curStat = new LabeledStatementTreeImpl(labelNode,
-                translateBlock(labelNode.getBody()));
+                translateBlock(labelNode.getBody()), positions);
         return false;
     }
 
@@ -283,7 +303,7 @@ final class IRTranslator extends SimpleNodeVisitor {
     public boolean enterLiteralNode(final LiteralNode<?> literalNode) {
         final Object value = literalNode.getValue();
         if (value instanceof Lexer.RegexToken) {
-            curExpr = new RegExpLiteralTreeImpl(literalNode);
+            curExpr = new RegExpLiteralTreeImpl(literalNode, positions);
         } else if (literalNode.isArray()) {
             final List<Expression> exprNodes = literalNode.getElementExpressions();
             final List<ExpressionTreeImpl> exprTrees = new ArrayList<>(exprNodes.size());
@@ -297,9 +317,9 @@ final class IRTranslator extends SimpleNodeVisitor {
                     exprTrees.add(curExpr);
                 }
             }
-            curExpr = new ArrayLiteralTreeImpl(literalNode, exprTrees);
+            curExpr = new ArrayLiteralTreeImpl(literalNode, exprTrees, positions);
         } else {
-            curExpr = new LiteralTreeImpl(literalNode);
+            curExpr = new LiteralTreeImpl(literalNode, positions);
         }
 
         return false;
@@ -309,7 +329,7 @@ final class IRTranslator extends SimpleNodeVisitor {
     public boolean enterObjectNode(final ObjectNode objectNode) {
         final List<PropertyNode> propNodes = objectNode.getElements();
         final List<? extends PropertyTree> propTrees = translateProperties(propNodes);
-        curExpr = new ObjectLiteralTreeImpl(objectNode, propTrees);
+        curExpr = new ObjectLiteralTreeImpl(objectNode, propTrees, positions);
         return false;
     }
 
@@ -322,7 +342,7 @@ final class IRTranslator extends SimpleNodeVisitor {
     @Override
     public boolean enterReturnNode(final ReturnNode returnNode) {
         curStat = new ReturnTreeImpl(returnNode,
-                translateExpr(returnNode.getExpression()));
+                translateExpr(returnNode.getExpression()), positions);
         return false;
     }
 
@@ -347,18 +367,18 @@ final class IRTranslator extends SimpleNodeVisitor {
             caseTrees.add(
                     new CaseTreeImpl(caseNode,
                             translateExpr(caseNode.getTest()),
-                            translateStats(body != null? body.getStatements() : null)));
+                            translateStats(body != null? body.getStatements() : null), positions));
         }
 
         curStat = new SwitchTreeImpl(switchNode,
                 translateExpr(switchNode.getExpression()),
-                caseTrees);
+                caseTrees, positions);
         return false;
     }
 
     @Override
     public boolean enterTemplateLiteral(final TemplateLiteral templateLiteral) {
-        curExpr = new TemplateLiteralTreeImpl(templateLiteral, translateExprs(templateLiteral.getExpressions()));
+        curExpr = new TemplateLiteralTreeImpl(templateLiteral, translateExprs(templateLiteral.getExpressions()), positions);
         return false;
     }
 
@@ -367,14 +387,14 @@ final class IRTranslator extends SimpleNodeVisitor {
         curExpr = new ConditionalExpressionTreeImpl(ternaryNode,
                 translateExpr(ternaryNode.getTest()),
                 translateExpr(ternaryNode.getTrueExpression()),
-                translateExpr(ternaryNode.getFalseExpression()));
+                translateExpr(ternaryNode.getFalseExpression()), positions);
         return false;
     }
 
     @Override
     public boolean enterThrowNode(final ThrowNode throwNode) {
         curStat = new ThrowTreeImpl(throwNode,
-                translateExpr(throwNode.getExpression()));
+                translateExpr(throwNode.getExpression()), positions);
         return false;
     }
 
@@ -386,13 +406,13 @@ final class IRTranslator extends SimpleNodeVisitor {
             catchTrees.add(new CatchTreeImpl(catchNode,
                     translateExpr(catchNode.getException()),
                     (BlockTree) translateBlock(catchNode.getBody()),
-                    translateExpr(catchNode.getExceptionCondition())));
+                    translateExpr(catchNode.getExceptionCondition()), positions));
         }
 
         curStat = new TryTreeImpl(tryNode,
                 (BlockTree) translateBlock(tryNode.getBody()),
                 catchTrees,
-                (BlockTree) translateBlock(tryNode.getFinallyBody()));
+                (BlockTree) translateBlock(tryNode.getFinallyBody()), positions);
 
         return false;
     }
@@ -401,18 +421,18 @@ final class IRTranslator extends SimpleNodeVisitor {
     public boolean enterUnaryNode(final UnaryNode unaryNode) {
         if (unaryNode.isTokenType(TokenType.NEW)) {
             curExpr = new NewTreeImpl(unaryNode,
-                    translateExpr(unaryNode.getExpression()));
+                    translateExpr(unaryNode.getExpression()), positions);
         } else if (unaryNode.isTokenType(TokenType.YIELD) ||
                 unaryNode.isTokenType(TokenType.YIELD_STAR)) {
             curExpr = new YieldTreeImpl(unaryNode,
-                    translateExpr(unaryNode.getExpression()));
+                    translateExpr(unaryNode.getExpression()), positions);
         } else if (unaryNode.isTokenType(TokenType.SPREAD_ARGUMENT) ||
                 unaryNode.isTokenType(TokenType.SPREAD_ARRAY)) {
             curExpr = new SpreadTreeImpl(unaryNode,
-                    translateExpr(unaryNode.getExpression()));
+                    translateExpr(unaryNode.getExpression()), positions);
         } else {
             curExpr = new UnaryTreeImpl(unaryNode,
-                    translateExpr(unaryNode.getExpression()));
+                    translateExpr(unaryNode.getExpression()), positions);
         }
         return false;
     }
@@ -423,9 +443,17 @@ final class IRTranslator extends SimpleNodeVisitor {
         if (initNode instanceof FunctionNode && ((FunctionNode)initNode).isDeclared()) {
             final FunctionNode funcNode = (FunctionNode) initNode;
 
-            final List<? extends ExpressionTree> paramTrees = translateParameters(funcNode);
-            final BlockTree blockTree = (BlockTree) translateBlock(funcNode.getBody(), true);
-            curStat = new FunctionDeclarationTreeImpl(varNode, paramTrees, blockTree);
+            final List<? extends ExpressionTree> paramTrees;
+            final BlockTree blockTree;
+            final PositionMap prev = enterPositions(funcNode);
+            try {
+                paramTrees = translateParameters(funcNode);
+                blockTree = (BlockTree) translateBlock(funcNode.getBody(), true);
+            } finally {
+                positions = prev;
+            }
+            // the declaration itself belongs to the enclosing function
+            curStat = new FunctionDeclarationTreeImpl(varNode, paramTrees, blockTree, positions);
         } else if (initNode instanceof ClassNode && ((ClassNode)initNode).isStatement()) {
             final ClassNode classNode = (ClassNode) initNode;
 
@@ -433,9 +461,9 @@ final class IRTranslator extends SimpleNodeVisitor {
                     translateIdent(classNode.getIdent()),
                     translateExpr(classNode.getClassHeritage()),
                     translateProperty(classNode.getConstructor()),
-                    translateProperties(classNode.getClassElements()));
+                    translateProperties(classNode.getClassElements()), positions);
         } else {
-            curStat = new VariableTreeImpl(varNode, translateIdent(varNode.getName()), translateExpr(initNode));
+            curStat = new VariableTreeImpl(varNode, translateIdent(varNode.getName()), translateExpr(initNode), positions);
         }
 
         return false;
@@ -447,9 +475,9 @@ final class IRTranslator extends SimpleNodeVisitor {
         final StatementTree statTree = translateBlock(whileNode.getBody());
 
         if (whileNode.isDoWhile()) {
-            curStat = new DoWhileLoopTreeImpl(whileNode, condTree, statTree);
+            curStat = new DoWhileLoopTreeImpl(whileNode, condTree, statTree, positions);
         } else {
-            curStat = new WhileLoopTreeImpl(whileNode, condTree, statTree);
+            curStat = new WhileLoopTreeImpl(whileNode, condTree, statTree, positions);
         }
 
         return false;
@@ -459,7 +487,7 @@ final class IRTranslator extends SimpleNodeVisitor {
     public boolean enterWithNode(final WithNode withNode) {
         curStat = new WithTreeImpl(withNode,
                 translateExpr(withNode.getExpression()),
-                translateBlock(withNode.getBody()));
+                translateBlock(withNode.getBody()), positions);
 
         return false;
     }
@@ -478,7 +506,7 @@ final class IRTranslator extends SimpleNodeVisitor {
             className != null? translateIdent(className) : null,
             translateExpr(classNode.getClassHeritage()),
             translateProperty(classNode.getConstructor()),
-            translateProperties(classNode.getClassElements()));
+            translateProperties(classNode.getClassElements()), positions);
 
         return false;
     }
@@ -503,7 +531,7 @@ final class IRTranslator extends SimpleNodeVisitor {
             switch (statCount) {
                 case 0: {
                     final EmptyNode emptyNode = new EmptyNode(-1, block.getToken(), block.getFinish());
-                    curStat = new EmptyStatementTreeImpl(emptyNode);
+                    curStat = new EmptyStatementTreeImpl(emptyNode, positions);
                     return false;
                 }
                 case 1: {
@@ -519,10 +547,19 @@ final class IRTranslator extends SimpleNodeVisitor {
 
         final List<? extends Statement> stats = block.getStatements();
         curStat = new BlockTreeImpl(block,
-            translateStats(sortStats? getOrderedStatements(stats) : stats));
+            translateStats(sortStats? getOrderedStatements(stats) : stats), positions);
         return false;
     }
 
+    // makes the position map of a function current if it was reparsed, returns the previous position map
+    private PositionMap enterPositions(final FunctionNode func) {
+        final PositionMap prev = positions;
+        if (positionMaps.containsKey(func)) {
+            positions = positionMaps.get(func);
+        }
+        return prev;
+    }
+
     private List<? extends Statement> getOrderedStatements(final List<? extends Statement> stats) {
         final List<? extends Statement> statList = new ArrayList<>(stats);
         statList.sort(Comparator.comparingInt(Node::getSourceOrder));
@@ -597,8 +634,8 @@ final class IRTranslator extends SimpleNodeVisitor {
         return curStat;
     }
 
-    private static IdentifierTree translateIdent(final IdentNode ident) {
-        return new IdentifierTreeImpl(ident);
+    private IdentifierTree translateIdent(final IdentNode ident) {
+        return new IdentifierTreeImpl(ident, positions);
     }
 
     private List<? extends PropertyTree> translateProperties(final List<PropertyNode> propNodes) {
@@ -614,11 +651,11 @@ final class IRTranslator extends SimpleNodeVisitor {
                     translateExpr(propNode.getKey()),
                     translateExpr(propNode.getValue()),
                     (FunctionExpressionTree) translateExpr(propNode.getGetter()),
-                    (FunctionExpressionTree) translateExpr(propNode.getSetter()));
+                    (FunctionExpressionTree) translateExpr(propNode.getSetter()), positions);
     }
 
     private ModuleTree translateModule(final FunctionNode func) {
         return func.getKind() == FunctionNode.Kind.MODULE?
-            ModuleTreeImpl.create(func) : null;
+            ModuleTreeImpl.create(func, positions) : null;
     }
 }
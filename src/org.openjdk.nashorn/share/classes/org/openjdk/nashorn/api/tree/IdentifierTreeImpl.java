@@ -32,8 +32,8 @@ import org.openjdk.nashorn.internal.ir.Module;
 final class IdentifierTreeImpl extends ExpressionTreeImpl implements IdentifierTree {
     private final String name;
 
-    IdentifierTreeImpl(final IdentNode node) {
-        super(node);
+    IdentifierTreeImpl(final IdentNode node, final PositionMap positions) {
+        super(node, positions);
         this.name = node.getName();
     }
 
@@ -32,8 +32,9 @@ final class IfTreeImpl extends StatementTreeImpl implements IfTree {
     private final StatementTree thenStat;
     private final StatementTree elseStat;
     IfTreeImpl(final IfNode node, final ExpressionTree cond,
-            final StatementTree thenStat, final StatementTree elseStat) {
-        super(node);
+            final StatementTree thenStat, final StatementTree elseStat,
+            final PositionMap positions) {
+        super(node, positions);
         this.cond = cond;
         this.thenStat = thenStat;
         this.elseStat = elseStat;
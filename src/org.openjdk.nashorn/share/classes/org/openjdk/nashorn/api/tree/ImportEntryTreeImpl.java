@@ -39,7 +39,7 @@ final class ImportEntryTreeImpl extends TreeImpl implements ImportEntryTree {
             final IdentifierTree moduleRequest,
             final IdentifierTree importName,
             final IdentifierTree localName) {
-        super(null); // No underlying Node!
+        super(null, null); // No underlying Node!
         this.startPos = startPos;
         this.endPos = endPos;
         this.moduleRequest = moduleRequest;
@@ -47,17 +47,17 @@ final class ImportEntryTreeImpl extends TreeImpl implements ImportEntryTree {
         this.localName = localName;
     }
 
-    private static ImportEntryTreeImpl createImportEntry(final Module.ImportEntry entry) {
+    private static ImportEntryTreeImpl createImportEntry(final Module.ImportEntry entry, final PositionMap positions) {
         return new ImportEntryTreeImpl(entry.getStartPosition(),
                 entry.getEndPosition(),
-                identOrNull(entry.getModuleRequest()),
-                identOrNull(entry.getImportName()),
-                identOrNull(entry.getLocalName()));
+                identOrNull(entry.getModuleRequest(), positions),
+                identOrNull(entry.getImportName(), positions),
+                identOrNull(entry.getLocalName(), positions));
     }
 
-    static List<ImportEntryTreeImpl> createImportList(final List<Module.ImportEntry> importList) {
+    static List<ImportEntryTreeImpl> createImportList(final List<Module.ImportEntry> importList, final PositionMap positions) {
         return importList.stream().
-            map(ImportEntryTreeImpl::createImportEntry).
+            map(entry -> createImportEntry(entry, positions)).
             collect(Collectors.toList());
     }
 
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.tree;
+
+import static org.openjdk.nashorn.internal.codegen.CompilerConstants.PROGRAM;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openjdk.nashorn.internal.ir.Expression;
+import org.openjdk.nashorn.internal.ir.ExpressionStatement;
+import org.openjdk.nashorn.internal.ir.FunctionNode;
+import org.openjdk.nashorn.internal.ir.Node;
+import org.openjdk.nashorn.internal.ir.Statement;
+import org.openjdk.nashorn.internal.ir.VarNode;
+import org.openjdk.nashorn.internal.ir.visitor.SimpleNodeVisitor;
+import org.openjdk.nashorn.internal.parser.Token;
+import org.openjdk.nashorn.internal.parser.TokenType;
+import org.openjdk.nashorn.internal.runtime.ErrorManager;
+import org.openjdk.nashorn.internal.runtime.ParserException;
+import org.openjdk.nashorn.internal.runtime.ScriptEnvironment;
+import org.openjdk.nashorn.internal.runtime.ScriptFunctionData;
+import org.openjdk.nashorn.internal.runtime.Source;
+
+/**
+ * Parses an edited source incrementally, see {@link Parser#parse(CompilationUnitTree, int, int, String, DiagnosticListener)}.
+ * <p>
+ * A compilation unit tree keeps the IR it was translated from. After an edit, the innermost function whose body
+ * contains the replaced range is parsed again from the edited source, and the new function node replaces the old one
+ * in the IR; all other nodes are shared with the previous IR, and only the functions enclosing the edited function are
+ * rebuilt. Functions in class bodies are not reached by IR visitors, so an edit in a method of a class reparses the
+ * function enclosing the class.
+ * <p>
+ * Token positions in the IR are absolute, so shared nodes still have the positions of the source they were parsed
+ * from. Every edit is a generation: the functions parsed for an edit belong to its generation, every other function
+ * belongs to the generation of its innermost enclosing function that was parsed for an edit, or to generation zero.
+ * The tree of the edited source is translated from the updated IR, with the positions of every node mapped through
+ * the edits after its generation by a {@link PositionMap}.
+ * <p>
+ * Returns {@code null} whenever the edit can't be handled this way, and the caller parses the whole edited source.
+ */
+final class IncrementalParser {
+    // Number of edits after which the whole source is parsed again, as every edit makes position mapping slower
+    private static final int MAX_EDITS = 64;
+
+    private final ScriptEnvironment env;
+
+    IncrementalParser(final ScriptEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * The source of a compilation unit tree, and the edits its IR went through since the whole source was parsed.
+     */
+    static final class History {
+        final Source source;
+        // end of the replaced range of every edit, in the positions of the source before that edit
+        private final int[] ends;
+        // length difference of every edit
+        private final int[] deltas;
+        // generation of every function node that was parsed for an edit
+        private final Map<FunctionNode, Integer> generations;
+
+        History(final Source source) {
+            this(source, new int[0], new int[0], Collections.emptyMap());
+        }
+
+        private History(final Source source, final int[] ends, final int[] deltas, final Map<FunctionNode, Integer> generations) {
+            this.source = source;
+            this.ends = ends;
+            this.deltas = deltas;
+            this.generations = generations;
+        }
+
+        /**
+         * Returns the position maps of the function nodes that don't belong to the same generation as their enclosing
+         * function. A {@code null} map doesn't move positions.
+         */
+        Map<FunctionNode, PositionMap> getPositionMaps() {
+            final Map<FunctionNode, PositionMap> maps = new IdentityHashMap<>();
+            for (final Map.Entry<FunctionNode, Integer> entry : generations.entrySet()) {
+                maps.put(entry.getKey(), getPositionMap(entry.getValue()));
+            }
+            return maps;
+        }
+
+        PositionMap getPositionMap(final int generation) {
+            return generation == ends.length ? null : new PositionMap(ends, deltas, generation);
+        }
+    }
+
+    CompilationUnitTree parse(final CompilationUnitTreeImpl previous, final Source source, final int start, final int end, final int delta) {
+        final History history = previous.getHistory();
+        if (history == null || history.ends.length >= MAX_EDITS) {
+            return null;
+        }
+
+        final FunctionFinder finder = new FunctionFinder(history, start, end);
+        final FunctionNode program = previous.getFunctionNode();
+        program.accept(finder);
+
+        // innermost function first
+        for (int i = finder.candidates.size() - 1; i >= 0; i--) {
+            final Candidate candidate = finder.candidates.get(i);
+            final FunctionNode function = reparse(candidate, history, source, delta);
+            if (function != null) {
+                final int generation = history.ends.length + 1;
+                final Map<FunctionNode, Integer> generations = new IdentityHashMap<>(history.generations);
+                generations.remove(candidate.function);
+                generations.put(function, generation);
+                final FunctionNode newProgram = splice(program, candidate, function, generations);
+
+                final int[] ends = Arrays.copyOf(history.ends, generation);
+                final int[] deltas = Arrays.copyOf(history.deltas, generation);
+                ends[generation - 1] = end;
+                deltas[generation - 1] = delta;
+                return new IRTranslator().translate(newProgram, new History(source, ends, deltas, generations));
+            }
+        }
+        return null;
+    }
+
+    private FunctionNode reparse(final Candidate candidate, final History history, final Source source, final int delta) {
+        final FunctionNode old = candidate.function;
+        final PositionMap positions = history.getPositionMap(candidate.generation);
+        final int from = (int)map(positions, Token.descPosition(old.getFirstToken()));
+        final int to = (int)map(positions, getEnd(old)) + delta;
+
+        final QuietErrorManager errors = new QuietErrorManager();
+        final org.openjdk.nashorn.internal.parser.Parser parser = new org.openjdk.nashorn.internal.parser.Parser(
+                env, source, errors, env._strict || candidate.strict, source.getLine(from) - 1, null);
+        final FunctionNode program = parser.parse(PROGRAM.symbolName(), from, to - from, getReparseFlags(old));
+        if (program == null || errors.failed) {
+            return null;
+        }
+
+        // the function is the only statement, either a function declaration or an expression statement
+        final List<Statement> statements = program.getBody().getStatements();
+        if (statements.size() != 1) {
+            return null;
+        }
+        final Statement statement = statements.get(0);
+        final Expression expression = statement instanceof VarNode ? ((VarNode)statement).getInit() :
+                statement instanceof ExpressionStatement ? ((ExpressionStatement)statement).getExpression() : null;
+        if (!(expression instanceof FunctionNode)) {
+            return null;
+        }
+
+        final FunctionNode function = (FunctionNode)expression;
+        if (function.getKind() != old.getKind() || function.isMethod() != old.isMethod() ||
+                Token.descPosition(function.getFirstToken()) != from || getEnd(function) != to) {
+            return null;
+        }
+        // a named function expression parses as a function declaration on its own
+        if (function.isDeclared() != old.isDeclared()) {
+            return old.isDeclared() ? function.setFlag(null, FunctionNode.IS_DECLARED) : function.clearFlag(null, FunctionNode.IS_DECLARED);
+        }
+        return function;
+    }
+
+    private static int getReparseFlags(final FunctionNode function) {
+        // same as RecompilableScriptFunctionData does for lazily compiled functions
+        int flags = 0;
+        if (function.getKind() == FunctionNode.Kind.GETTER || function.getKind() == FunctionNode.Kind.SETTER) {
+            flags |= ScriptFunctionData.IS_PROPERTY_ACCESSOR;
+        }
+        if (function.isMethod() || function.isClassConstructor()) {
+            flags |= ScriptFunctionData.IS_ES6_METHOD;
+        }
+        return flags;
+    }
+
+    private static FunctionNode splice(final FunctionNode program, final Candidate candidate, final FunctionNode replacement,
+            final Map<FunctionNode, Integer> generations) {
+        final Set<Node> path = Collections.newSetFromMap(new IdentityHashMap<>());
+        path.addAll(candidate.ancestors);
+        path.add(candidate.function);
+
+        return (FunctionNode)program.accept(new SimpleNodeVisitor() {
+            private final Deque<FunctionNode> functions = new ArrayDeque<>();
+
+            @Override
+            protected boolean enterDefault(final Node node) {
+                // only the ancestors of the replaced function need to be rebuilt
+                return path.contains(node);
+            }
+
+            @Override
+            public boolean enterFunctionNode(final FunctionNode functionNode) {
+                if (path.contains(functionNode)) {
+                    functions.push(functionNode);
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public Node leaveFunctionNode(final FunctionNode functionNode) {
+                final FunctionNode old = functions.pop();
+                if (old == candidate.function) {
+                    return (FunctionNode)lc.replace(functionNode, replacement);
+                }
+                final Integer generation = generations.remove(old);
+                if (generation != null) {
+                    generations.put(functionNode, generation);
+                }
+                return functionNode;
+            }
+        });
+    }
+
+    private static long map(final PositionMap positions, final int position) {
+        return positions == null ? position : positions.map(position);
+    }
+
+    // end of the last token of a function, its closing brace unless it has an expression body
+    private static int getEnd(final FunctionNode function) {
+        final long lastToken = Token.withDelimiter(function.getLastToken());
+        return Token.descPosition(lastToken) + Token.descLength(lastToken);
+    }
+
+    private static final class Candidate {
+        final FunctionNode function;
+        final List<Node> ancestors;
+        final int generation;
+        final boolean strict;
+
+        Candidate(final FunctionNode function, final List<Node> ancestors, final int generation, final boolean strict) {
+            this.function = function;
+            this.ancestors = ancestors;
+            this.generation = generation;
+            this.strict = strict;
+        }
+    }
+
+    /**
+     * Collects the functions whose body contains the replaced range, outermost first.
+     */
+    private static final class FunctionFinder extends SimpleNodeVisitor {
+        private final History history;
+        private final int start;
+        private final int end;
+        private final List<Candidate> candidates = new ArrayList<>();
+        private final Deque<Node> path = new ArrayDeque<>();
+        private final Deque<Integer> generations = new ArrayDeque<>();
+
+        FunctionFinder(final History history, final int start, final int end) {
+            this.history = history;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected boolean enterDefault(final Node node) {
+            path.push(node);
+            return true;
+        }
+
+        @Override
+        protected Node leaveDefault(final Node node) {
+            path.pop();
+            return node;
+        }
+
+        @Override
+        public boolean enterFunctionNode(final FunctionNode functionNode) {
+            final Integer tracked = history.generations.get(functionNode);
+            final int generation = tracked != null ? tracked : generations.isEmpty() ? 0 : generations.peek();
+
+            if (!functionNode.isProgram()) {
+                final PositionMap positions = history.getPositionMap(generation);
+                if (start < map(positions, Token.descPosition(functionNode.getFirstToken())) || end > map(positions, getEnd(functionNode))) {
+                    return false;
+                }
+                // only the body between the braces of a function can be parsed again, and the start of a function
+                // node is its opening brace
+                final long lastToken = Token.withDelimiter(functionNode.getLastToken());
+                if (!functionNode.getFlag(FunctionNode.HAS_EXPRESSION_BODY) && Token.descType(lastToken) == TokenType.RBRACE &&
+                        start > map(positions, functionNode.getStart()) && end <= map(positions, Token.descPosition(lastToken))) {
+                    final boolean strict = lc.getParentFunction(functionNode).isStrict();
+                    candidates.add(new Candidate(functionNode, new ArrayList<>(path), generation, strict));
+                }
+            }
+
+            path.push(functionNode);
+            generations.push(generation);
+            return true;
+        }
+
+        @Override
+        public Node leaveFunctionNode(final FunctionNode functionNode) {
+            path.pop();
+            generations.pop();
+            return functionNode;
+        }
+    }
+
+    /**
+     * Doesn't report anything: if the reparsed function has errors or warnings, the whole source is parsed again
+     * to report them.
+     */
+    private static final class QuietErrorManager extends ErrorManager {
+        boolean failed;
+
+        @Override
+        public void error(final ParserException e) {
+            failed = true;
+        }
+
+        @Override
+        public void error(final String message) {
+            failed = true;
+        }
+
+        @Override
+        public void warning(final ParserException e) {
+            failed = true;
+        }
+
+        @Override
+        public void warning(final String message) {
+            failed = true;
+        }
+    }
+}
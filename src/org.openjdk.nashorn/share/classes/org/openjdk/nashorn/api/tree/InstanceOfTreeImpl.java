@@ -31,8 +31,9 @@ import org.openjdk.nashorn.internal.parser.TokenType;
 final class InstanceOfTreeImpl extends BinaryTreeImpl implements InstanceOfTree {
     InstanceOfTreeImpl(final BinaryNode node,
             final ExpressionTree expr,
-            final ExpressionTree type) {
-        super(node, expr, type);
+            final ExpressionTree type,
+            final PositionMap positions) {
+        super(node, expr, type, positions);
         assert node.isTokenType(TokenType.INSTANCEOF) : "instanceof expected";
     }
 
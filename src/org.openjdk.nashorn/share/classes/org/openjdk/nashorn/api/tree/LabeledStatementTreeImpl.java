@@ -32,8 +32,8 @@ final class LabeledStatementTreeImpl extends StatementTreeImpl
     private final String name;
     private final StatementTree stat;
 
-    LabeledStatementTreeImpl(final LabelNode node, final StatementTree stat) {
-        super(node);
+    LabeledStatementTreeImpl(final LabelNode node, final StatementTree stat, final PositionMap positions) {
+        super(node, positions);
         this.name = node.getLabelName();
         this.stat = stat;
     }
@@ -30,8 +30,8 @@ import org.openjdk.nashorn.internal.ir.LiteralNode;
 final class LiteralTreeImpl extends ExpressionTreeImpl implements LiteralTree {
     private final Object value;
     private final Kind kind;
-    LiteralTreeImpl(final LiteralNode<?> node) {
-        super(node);
+    LiteralTreeImpl(final LiteralNode<?> node, final PositionMap positions) {
+        super(node, positions);
         this.kind = literalKind(node);
         this.value = node.getValue();
     }
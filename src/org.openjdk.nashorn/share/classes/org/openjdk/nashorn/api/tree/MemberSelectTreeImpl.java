@@ -31,8 +31,8 @@ final class MemberSelectTreeImpl extends ExpressionTreeImpl
     implements MemberSelectTree {
     private final String ident;
     private final ExpressionTree expr;
-    MemberSelectTreeImpl(final AccessNode node, final ExpressionTree expr) {
-        super(node);
+    MemberSelectTreeImpl(final AccessNode node, final ExpressionTree expr, final PositionMap positions) {
+        super(node, positions);
         this.ident = node.getProperty();
         this.expr = expr;
     }
@@ -42,8 +42,9 @@ final class ModuleTreeImpl extends TreeImpl implements ModuleTree {
             final List<? extends ImportEntryTree> imports,
             final List<? extends ExportEntryTree> localExports,
             final List<? extends ExportEntryTree> indirectExports,
-            final List<? extends ExportEntryTree> starExports) {
-        super(func);
+            final List<? extends ExportEntryTree> starExports,
+            final PositionMap positions) {
+        super(func, positions);
         assert func.getKind() == FunctionNode.Kind.MODULE : "module function node expected";
         this.imports = imports;
         this.localExports = localExports;
@@ -51,13 +52,14 @@ final class ModuleTreeImpl extends TreeImpl implements ModuleTree {
         this.starExports = starExports;
     }
 
-    static ModuleTreeImpl create(final FunctionNode func) {
+    static ModuleTreeImpl create(final FunctionNode func, final PositionMap positions) {
         final Module mod = func.getModule();
         return new ModuleTreeImpl(func,
-            createImportList(mod.getImportEntries()),
-            createExportList(mod.getLocalExportEntries()),
-            createExportList(mod.getIndirectExportEntries()),
-            createExportList(mod.getStarExportEntries()));
+            createImportList(mod.getImportEntries(), positions),
+            createExportList(mod.getLocalExportEntries(), positions),
+            createExportList(mod.getIndirectExportEntries(), positions),
+            createExportList(mod.getStarExportEntries(), positions),
+            positions);
     }
 
     @Override
@@ -90,7 +92,7 @@ final class ModuleTreeImpl extends TreeImpl implements ModuleTree {
         return visitor.visitModule(this, data);
     }
 
-    static IdentifierTree identOrNull(final IdentNode node) {
-        return node != null? new IdentifierTreeImpl(node) : null;
+    static IdentifierTree identOrNull(final IdentNode node, final PositionMap positions) {
+        return node != null? new IdentifierTreeImpl(node, positions) : null;
     }
 }
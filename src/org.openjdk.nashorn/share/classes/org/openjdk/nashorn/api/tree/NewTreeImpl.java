@@ -30,8 +30,8 @@ import org.openjdk.nashorn.internal.parser.TokenType;
 final class NewTreeImpl extends ExpressionTreeImpl implements NewTree {
     private final ExpressionTree constrExpr;
 
-    NewTreeImpl(final UnaryNode node, final ExpressionTree constrExpr) {
-        super(node);
+    NewTreeImpl(final UnaryNode node, final ExpressionTree constrExpr, final PositionMap positions) {
+        super(node, positions);
         assert (node.isTokenType(TokenType.NEW)) : "new expected";
         this.constrExpr = constrExpr;
     }
@@ -31,8 +31,8 @@ import org.openjdk.nashorn.internal.ir.ObjectNode;
 final class ObjectLiteralTreeImpl extends ExpressionTreeImpl
     implements ObjectLiteralTree {
     private final List<? extends PropertyTree> props;
-    ObjectLiteralTreeImpl(final ObjectNode node, final List<? extends PropertyTree> props) {
-        super(node);
+    ObjectLiteralTreeImpl(final ObjectNode node, final List<? extends PropertyTree> props, final PositionMap positions) {
+        super(node, positions);
         this.props = props;
     }
 
@@ -117,6 +117,38 @@ public interface Parser {
      */
     public CompilationUnitTree parse(final ScriptObjectMirror scriptObj, final DiagnosticListener listener) throws NashornException;
 
+    /**
+     * Parses the source of a compilation unit tree after replacing a range of it, and returns the
+     * compilation unit tree of the edited source. The previous compilation unit tree must have been
+     * returned by a parser with the same options.
+     *
+     * <p>If the replaced range is inside the braces of a function body, only the innermost such
+     * function is parsed again; everything else is reused from the previous parse. Otherwise, or if the
+     * previous parse reported diagnostics, or if the function can't be parsed on its own after the
+     * edit, the whole edited source is parsed. The result is the same as parsing the edited source,
+     * and the previous compilation unit tree is not modified.</p>
+     *
+     * <p>The default implementation always parses the whole edited source with
+     * {@link #parse(String, String, DiagnosticListener)}.</p>
+     *
+     * @param previous compilation unit tree of the source before the edit
+     * @param start start position of the replaced range in the source of previous
+     * @param end end position (exclusive) of the replaced range in the source of previous
+     * @param replacement the text that replaces the range
+     * @param listener to receive diagnostic messages from the parser. This can be null.
+     * if null is passed, a NashornException is thrown on the first parse error.
+     * @return compilation unit tree of the edited source
+     * @throws NullPointerException if previous or replacement is null
+     * @throws IllegalArgumentException if previous was not returned by a parser
+     * @throws IndexOutOfBoundsException if the range is not within the source of previous
+     * @throws NashornException is thrown if no listener is supplied and parser encounters error
+     */
+    public default CompilationUnitTree parse(final CompilationUnitTree previous, final int start, final int end, final String replacement,
+            final DiagnosticListener listener) throws NashornException {
+        final String code = CompilationUnitTreeImpl.edit(previous, start, end, replacement).getString();
+        return parse(previous.getSourceName(), code, listener);
+    }
+
     /**
      * Factory method to create a new instance of Parser.
      *
@@ -87,7 +87,7 @@ final class ParserImpl implements Parser {
             return parseModule(file, listener);
         }
         final Source src = Source.sourceFor(Objects.requireNonNull(file).getName(), file);
-        return translate(makeParser(src, listener).parse());
+        return parseScript(src, listener);
     }
 
     @Override
@@ -96,7 +96,7 @@ final class ParserImpl implements Parser {
             return parseModule(path, listener);
         }
         final Source src = Source.sourceFor(Objects.requireNonNull(path).toString(), path);
-        return translate(makeParser(src, listener).parse());
+        return parseScript(src, listener);
     }
 
     @Override
@@ -105,7 +105,7 @@ final class ParserImpl implements Parser {
             return parseModule(url, listener);
         }
         final Source src = Source.sourceFor(url.toString(), url);
-        return translate(makeParser(src, listener).parse());
+        return parseScript(src, listener);
     }
 
     @Override
@@ -114,7 +114,7 @@ final class ParserImpl implements Parser {
             return parseModule(name, reader, listener);
         }
         final Source src = Source.sourceFor(Objects.requireNonNull(name), Objects.requireNonNull(reader));
-        return translate(makeParser(src, listener).parse());
+        return parseScript(src, listener);
     }
 
     @Override
@@ -123,7 +123,7 @@ final class ParserImpl implements Parser {
             return parseModule(name, code, listener);
         }
         final Source src = Source.sourceFor(name, code);
-        return translate(makeParser(src, listener).parse());
+        return parseScript(src, listener);
     }
 
     @Override
@@ -136,12 +136,24 @@ final class ParserImpl implements Parser {
             final String script = JSType.toString(map.get("script"));
             final String name = JSType.toString(map.get("name"));
             final Source src = Source.sourceFor(name, script);
-            return translate(makeParser(src, listener).parse());
+            return parseScript(src, listener);
         } else {
             throw new IllegalArgumentException("can't find 'script' and 'name' properties");
         }
     }
 
+    @Override
+    public CompilationUnitTree parse(final CompilationUnitTree previous, final int start, final int end, final String replacement,
+            final DiagnosticListener listener) throws NashornException {
+        final Source src = CompilationUnitTreeImpl.edit(previous, start, end, replacement);
+        if (moduleMode) {
+            return makeModule(src, listener);
+        }
+        final CompilationUnitTree unit = new IncrementalParser(env).parse((CompilationUnitTreeImpl)previous, src, start, end,
+                replacement.length() - (end - start));
+        return unit != null ? unit : parseScript(src, listener);
+    }
+
     private CompilationUnitTree parseModule(final File file, final DiagnosticListener listener) throws IOException, NashornException {
         final Source src = Source.sourceFor(Objects.requireNonNull(file).getName(), file);
         return makeModule(src, listener);
@@ -184,14 +196,26 @@ final class ParserImpl implements Parser {
         return new IRTranslator().translate(modFunc);
     }
 
+    private CompilationUnitTree parseScript(final Source src, final DiagnosticListener listener) {
+        final ErrorManager errMgr = makeErrorManager(listener);
+        final FunctionNode program = new org.openjdk.nashorn.internal.parser.Parser(env, src, errMgr).parse();
+        // only trees without diagnostics can be parsed incrementally, see IncrementalParser
+        final boolean reported = errMgr instanceof ListenerErrorManager && ((ListenerErrorManager)errMgr).reported;
+        return new IRTranslator().translate(program, reported ? null : new IncrementalParser.History(src));
+    }
+
     private org.openjdk.nashorn.internal.parser.Parser makeParser(final Source source, final DiagnosticListener listener) {
-        final ErrorManager errMgr = listener != null ? new ListenerErrorManager(listener) : new Context.ThrowErrorManager();
-        return new org.openjdk.nashorn.internal.parser.Parser(env, source, errMgr);
+        return new org.openjdk.nashorn.internal.parser.Parser(env, source, makeErrorManager(listener));
+    }
+
+    private static ErrorManager makeErrorManager(final DiagnosticListener listener) {
+        return listener != null ? new ListenerErrorManager(listener) : new Context.ThrowErrorManager();
     }
 
     private static class ListenerErrorManager extends ErrorManager {
 
         private final DiagnosticListener listener;
+        private boolean reported;
 
         ListenerErrorManager(final DiagnosticListener listener) {
             // null check
@@ -206,6 +230,7 @@ final class ParserImpl implements Parser {
 
         @Override
         public void error(final ParserException e) {
+            reported = true;
             listener.report(new DiagnosticImpl(e, Diagnostic.Kind.ERROR));
         }
 
@@ -216,11 +241,8 @@ final class ParserImpl implements Parser {
 
         @Override
         public void warning(final ParserException e) {
+            reported = true;
             listener.report(new DiagnosticImpl(e, Diagnostic.Kind.WARNING));
         }
     }
-
-    private static CompilationUnitTree translate(final FunctionNode node) {
-        return new IRTranslator().translate(node);
-    }
 }
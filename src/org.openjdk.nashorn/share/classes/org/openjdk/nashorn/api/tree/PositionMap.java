@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.tree;
+
+/**
+ * Maps the positions of IR nodes that were parsed before some edits of the source to positions
+ * in the edited source, see {@link IncrementalParser}. Every edit moves the positions at or after
+ * the end of its replaced range by the difference between the length of the replacement and the
+ * length of the replaced range; positions before it stay where they are.
+ * <p>
+ * {@link IRTranslator} passes the position map of the function a node belongs to, if any, to
+ * the tree it creates for the node, which reports the positions of the node through it.
+ */
+final class PositionMap {
+    // end of the replaced range of every edit, in the positions of the source before that edit
+    private final int[] ends;
+    // length difference of every edit
+    private final int[] deltas;
+    // the first edit that is applied
+    private final int from;
+
+    PositionMap(final int[] ends, final int[] deltas, final int from) {
+        assert ends.length == deltas.length && from < ends.length;
+        this.ends = ends;
+        this.deltas = deltas;
+        this.from = from;
+    }
+
+    long map(final int position) {
+        int pos = position;
+        for (int i = from; i < ends.length; i++) {
+            if (pos >= ends[i]) {
+                pos += deltas[i];
+            }
+        }
+        return pos;
+    }
+}
@@ -38,8 +38,9 @@ final class PropertyTreeImpl extends TreeImpl implements PropertyTree  {
             final ExpressionTree key,
             final ExpressionTree value,
             final FunctionExpressionTree getter,
-            final FunctionExpressionTree setter) {
-        super(node);
+            final FunctionExpressionTree setter,
+            final PositionMap positions) {
+        super(node, positions);
         this.key    = key;
         this.value  = value;
         this.getter = getter;
@@ -32,8 +32,8 @@ final class RegExpLiteralTreeImpl extends ExpressionTreeImpl
     implements RegExpLiteralTree {
     private final String pattern;
     private final String options;
-    RegExpLiteralTreeImpl(final LiteralNode<?> node) {
-        super(node);
+    RegExpLiteralTreeImpl(final LiteralNode<?> node, final PositionMap positions) {
+        super(node, positions);
         assert node.getValue() instanceof Lexer.RegexToken : "regexp expected";
         final Lexer.RegexToken regex = (Lexer.RegexToken) node.getValue();
         this.pattern = regex.getExpression();
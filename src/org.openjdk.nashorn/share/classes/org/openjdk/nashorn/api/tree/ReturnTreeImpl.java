@@ -30,8 +30,8 @@ import org.openjdk.nashorn.internal.ir.ReturnNode;
 final class ReturnTreeImpl extends StatementTreeImpl implements ReturnTree {
     private final ExpressionTree expr;
 
-    ReturnTreeImpl(final ReturnNode returnNode, final ExpressionTree expr) {
-        super(returnNode);
+    ReturnTreeImpl(final ReturnNode returnNode, final ExpressionTree expr, final PositionMap positions) {
+        super(returnNode, positions);
         this.expr = expr;
     }
 
@@ -31,8 +31,8 @@ final class SpreadTreeImpl extends ExpressionTreeImpl
 
     private final ExpressionTree expr;
 
-    SpreadTreeImpl(final Expression exprNode, final ExpressionTree expr) {
-        super(exprNode);
+    SpreadTreeImpl(final Expression exprNode, final ExpressionTree expr, final PositionMap positions) {
+        super(exprNode, positions);
         this.expr = expr;
     }
 
@@ -29,11 +29,11 @@ import org.openjdk.nashorn.internal.ir.Block;
 import org.openjdk.nashorn.internal.ir.Statement;
 
 abstract class StatementTreeImpl extends TreeImpl implements StatementTree {
-    StatementTreeImpl(final Statement stat) {
-        super(stat);
+    StatementTreeImpl(final Statement stat, final PositionMap positions) {
+        super(stat, positions);
     }
 
-    StatementTreeImpl(final Block stat) {
-        super(stat);
+    StatementTreeImpl(final Block stat, final PositionMap positions) {
+        super(stat, positions);
     }
 }
@@ -33,8 +33,9 @@ final class SwitchTreeImpl extends StatementTreeImpl implements SwitchTree {
     private final List<? extends CaseTree> cases;
     SwitchTreeImpl(final SwitchNode node,
             final ExpressionTree expr,
-            final List<? extends CaseTree> cases) {
-        super(node);
+            final List<? extends CaseTree> cases,
+            final PositionMap positions) {
+        super(node, positions);
         this.expr = expr;
         this.cases = cases;
     }
@@ -33,8 +33,8 @@ final class TemplateLiteralTreeImpl extends ExpressionTreeImpl
 
     private final List<? extends ExpressionTree> expressions;
 
-    TemplateLiteralTreeImpl(final Expression node, final List<? extends ExpressionTree> expressions) {
-        super(node);
+    TemplateLiteralTreeImpl(final Expression node, final List<? extends ExpressionTree> expressions, final PositionMap positions) {
+        super(node, positions);
         this.expressions = expressions;
     }
 
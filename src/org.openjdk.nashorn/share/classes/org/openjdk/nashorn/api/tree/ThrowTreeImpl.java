@@ -29,8 +29,8 @@ import org.openjdk.nashorn.internal.ir.ThrowNode;
 
 final class ThrowTreeImpl extends StatementTreeImpl implements ThrowTree {
     private final ExpressionTree expr;
-    ThrowTreeImpl(final ThrowNode node, final ExpressionTree expr) {
-        super(node);
+    ThrowTreeImpl(final ThrowNode node, final ExpressionTree expr, final PositionMap positions) {
+        super(node, positions);
         this.expr = expr;
     }
 
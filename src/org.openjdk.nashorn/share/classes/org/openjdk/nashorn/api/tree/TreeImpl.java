@@ -31,19 +31,22 @@ import org.openjdk.nashorn.internal.parser.TokenType;
 
 abstract class TreeImpl implements Tree {
     protected final Node node;
+    // maps the positions of node if it was parsed before some edits of the source
+    private final PositionMap positions;
 
-    TreeImpl(final Node node) {
+    TreeImpl(final Node node, final PositionMap positions) {
         this.node = node;
+        this.positions = positions;
     }
 
     @Override
     public long getStartPosition() {
-        return node.getStart();
+        return positions == null ? node.getStart() : positions.map(node.getStart());
     }
 
     @Override
     public long getEndPosition() {
-        return node.getFinish();
+        return positions == null ? node.getFinish() : positions.map(node.getFinish());
     }
 
     @Override
@@ -35,8 +35,9 @@ final class TryTreeImpl extends StatementTreeImpl implements TryTree {
     TryTreeImpl(final TryNode node,
             final BlockTree block,
             final List<? extends CatchTree> catches,
-            final BlockTree finallyBlock) {
-        super(node);
+            final BlockTree finallyBlock,
+            final PositionMap positions) {
+        super(node, positions);
         this.block = block;
         this.catches = catches;
         this.finallyBlock = finallyBlock;
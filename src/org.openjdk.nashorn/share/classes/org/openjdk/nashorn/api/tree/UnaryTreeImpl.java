@@ -30,8 +30,8 @@ import org.openjdk.nashorn.internal.ir.UnaryNode;
 class UnaryTreeImpl extends ExpressionTreeImpl implements UnaryTree {
     private final ExpressionTree expr;
     private final Kind kind;
-    UnaryTreeImpl(final UnaryNode node, final ExpressionTree expr) {
-        super(node);
+    UnaryTreeImpl(final UnaryNode node, final ExpressionTree expr, final PositionMap positions) {
+        super(node, positions);
         this.expr = expr;
         this.kind = getOperator(node.tokenType());
     }
@@ -31,8 +31,8 @@ final class VariableTreeImpl extends StatementTreeImpl implements VariableTree {
     private final IdentifierTree ident;
     private final ExpressionTree init;
 
-    VariableTreeImpl(final VarNode node, final IdentifierTree ident, final ExpressionTree init) {
-        super(node);
+    VariableTreeImpl(final VarNode node, final IdentifierTree ident, final ExpressionTree init, final PositionMap positions) {
+        super(node, positions);
         this.ident = ident;
         this.init = init;
     }
@@ -31,8 +31,8 @@ final class WhileLoopTreeImpl extends StatementTreeImpl implements WhileLoopTree
     private final ExpressionTree cond;
     private final StatementTree stat;
 
-    WhileLoopTreeImpl(final WhileNode node, final ExpressionTree cond, final StatementTree stat) {
-        super(node);
+    WhileLoopTreeImpl(final WhileNode node, final ExpressionTree cond, final StatementTree stat, final PositionMap positions) {
+        super(node, positions);
         assert !node.isDoWhile() : "while expected";
         this.cond = cond;
         this.stat = stat;
@@ -31,8 +31,9 @@ final class WithTreeImpl extends StatementTreeImpl implements WithTree {
     private final ExpressionTree scope;
     private final StatementTree stat;
     WithTreeImpl(final WithNode node, final ExpressionTree scope,
-            final StatementTree stat) {
-        super(node);
+            final StatementTree stat,
+            final PositionMap positions) {
+        super(node, positions);
         this.scope = scope;
         this.stat = stat;
     }
@@ -33,8 +33,8 @@ final class YieldTreeImpl extends ExpressionTreeImpl
 
     private final ExpressionTree expr;
 
-    YieldTreeImpl(final Expression exprNode, final ExpressionTree expr) {
-        super(exprNode);
+    YieldTreeImpl(final Expression exprNode, final ExpressionTree expr, final PositionMap positions) {
+        super(exprNode, positions);
         this.expr = expr;
     }
 
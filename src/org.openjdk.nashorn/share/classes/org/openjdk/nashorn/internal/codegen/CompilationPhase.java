@@ -28,12 +28,18 @@ package org.openjdk.nashorn.internal.codegen;
 import static org.openjdk.nashorn.internal.runtime.logging.DebugLogger.quote;
 
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 import org.openjdk.nashorn.internal.codegen.Compiler.CompilationPhases;
 import org.openjdk.nashorn.internal.ir.Block;
 import org.openjdk.nashorn.internal.ir.FunctionNode;
@@ -437,30 +443,42 @@ abstract class CompilationPhase {
                 throw new AssertionError("Failed generating bytecode for " + fn.getSourceName() + ":" + codegen.getLastLineNumber(), e);
             }
 
+            final List<CompileUnit> usedUnits = new ArrayList<>();
             for (final CompileUnit compileUnit : compiler.getCompileUnits()) {
-                final ClassEmitter classEmitter = compileUnit.getClassEmitter();
-                classEmitter.end();
+                compileUnit.getClassEmitter().end();
 
                 if (!compileUnit.isUsed()) {
                     compiler.getLogger().fine("Skipping unused compile unit ", compileUnit);
                     continue;
                 }
+                usedUnits.add(compileUnit);
+            }
 
-                final byte[] bytecode = classEmitter.toByteArray();
+            // the compile units are independent of each other from here on, so their classes can be written out
+            // and verified in parallel
+            final List<byte[]> bytecodes = mapCompileUnits(compiler, usedUnits, compileUnit -> {
+                final byte[] bytecode = compileUnit.getClassEmitter().toByteArray();
                 assert bytecode != null;
 
-                final String className = compileUnit.getUnitClassName();
-                compiler.addClass(className, bytecode); //classes are only added to the bytecode map if compile unit is used
-
-                CompileUnit.increaseEmitCount();
-
                 // should we verify the generated code?
                 if (senv._verify_code) {
                     compiler.getCodeInstaller().verify(bytecode);
                 }
+                return bytecode;
+            });
+
+            long bytecodeSize = 0L;
+            for (int i = 0; i < usedUnits.size(); i++) {
+                final byte[] bytecode = bytecodes.get(i);
+                final String className = usedUnits.get(i).getUnitClassName();
+                compiler.addClass(className, bytecode); //classes are only added to the bytecode map if compile unit is used
+                bytecodeSize += bytecode.length;
+
+                CompileUnit.increaseEmitCount();
 
                 DumpBytecode.dumpBytecode(senv, compiler.getLogger(), bytecode, className);
             }
+            compiler.getContext().getCompilerMetrics().bytecodeGenerated(compiler.getSource(), bytecodeSize);
 
             return newFunctionNode;
         }
@@ -493,13 +511,16 @@ abstract class CompilationPhase {
             final Map<String, byte[]> bytecode = compiler.getBytecode();
             final CodeInstaller codeInstaller = bytecode.size() > 1 ? origCodeInstaller.getMultiClassCodeInstaller() : origCodeInstaller;
 
-            for (final Entry<String, byte[]> entry : bytecode.entrySet()) {
-                final String className = entry.getKey();
+            // classes of different compile units only refer to each other by name, so they can be defined in any order
+            final List<Entry<String, byte[]>> entries = new ArrayList<>(bytecode.entrySet());
+            final List<Class<?>> classes = mapCompileUnits(compiler, entries, entry -> codeInstaller.install(entry.getKey(), entry.getValue()));
+
+            for (int i = 0; i < entries.size(); i++) {
+                final String className = entries.get(i).getKey();
                 //assert !first || className.equals(compiler.getFirstCompileUnit().getUnitClassName()) : "first=" + first + " className=" + className + " != " + compiler.getFirstCompileUnit().getUnitClassName();
-                final byte[] code = entry.getValue();
-                length += code.length;
+                length += entries.get(i).getValue().length;
 
-                final Class<?> clazz = codeInstaller.install(className, code);
+                final Class<?> clazz = classes.get(i);
                 if (first) {
                     rootClass = clazz;
                     first = false;
@@ -510,6 +531,7 @@ abstract class CompilationPhase {
             if (rootClass == null) {
                 throw new CompilationException("Internal compiler error: root class not found!");
             }
+            compiler.getContext().getCompilerMetrics().classesInstalled(compiler.getSource(), classes.size());
 
             final Object[] constants = compiler.getConstantData().toArray();
             codeInstaller.initialize(installedClasses.values(), compiler.getSource(), constants);
@@ -530,6 +552,10 @@ abstract class CompilationPhase {
                 unit.initializeFunctionsCode();
             }
 
+            if (!compiler.isOnDemandCompilation()) {
+                compiler.getScriptFunctionData(fn.getId()).warmup();
+            }
+
             if (log.isEnabled()) {
                 log.fine(
                     "Installed class '" + rootClass.getSimpleName() + '\'' + " [" + rootClass
@@ -611,7 +637,58 @@ abstract class CompilationPhase {
     final FunctionNode apply(final Compiler compiler, final CompilationPhases phases, final FunctionNode functionNode) throws CompilationException {
         assert phases.contains(this);
 
-        return end(compiler, transform(compiler, phases, begin(compiler, functionNode)));
+        // timed here rather than with startTime and endTime, as phases of different compilations can run concurrently
+        final long start = System.nanoTime();
+        final FunctionNode newFunctionNode = end(compiler, transform(compiler, phases, begin(compiler, functionNode)));
+        compiler.getContext().getCompilerMetrics().phaseCompleted(compiler.getSource(), getName(), System.nanoTime() - start);
+        return newFunctionNode;
+    }
+
+    /**
+     * Returns the name of this phase for metrics, which is its string representation without the quotes.
+     */
+    private String getName() {
+        final String name = toString();
+        return name.startsWith("'") && name.endsWith("'") ? name.substring(1, name.length() - 1) : name;
+    }
+
+    /**
+     * Applies a function to each element of a list of independent compile unit work items, returning the results in
+     * list order. The work is spread over the context's compile unit pool if {@code --compile-unit-parallelism} is
+     * greater than 1 and there is more than one item, otherwise it runs on the current thread. If more than one item
+     * fails, the failure of the first one in list order is thrown.
+     */
+    private static <T, R> List<R> mapCompileUnits(final Compiler compiler, final List<T> items, final Function<T, R> function) {
+        final ForkJoinPool pool = items.size() > 1 ? compiler.getContext().getCompileUnitPool() : null;
+        final List<R> results = new ArrayList<>(items.size());
+        if (pool == null) {
+            for (final T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+
+        final List<ForkJoinTask<R>> tasks = new ArrayList<>(items.size());
+        for (final T item : items) {
+            tasks.add(pool.submit(() -> function.apply(item)));
+        }
+        for (final ForkJoinTask<R> task : tasks) {
+            try {
+                results.add(task.get());
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                } else if (cause instanceof Error) {
+                    throw (Error)cause;
+                }
+                throw new CompilationException(cause.toString());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompilationException("Interrupted while waiting for compile units");
+            }
+        }
+        return results;
     }
 
     private static FunctionNode transformFunction(final FunctionNode fn, final NodeVisitor<?> visitor) {
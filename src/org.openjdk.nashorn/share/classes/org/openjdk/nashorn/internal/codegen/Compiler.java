@@ -630,6 +630,8 @@ public final class Compiler implements Loggable {
 
         final boolean info = log.isLoggable(Level.INFO);
 
+        context.getCompilerMetrics().compiled(source);
+
         final DebugLogger timeLogger = env.isTimingEnabled() ? env._timing.getLogger() : null;
 
         long time = 0L;
@@ -682,6 +684,19 @@ public final class Compiler implements Loggable {
         return Collections.unmodifiableMap(bytecode);
     }
 
+    /**
+     * Returns the total size of the class files generated by this compiler.
+     *
+     * @return the bytecode size in bytes
+     */
+    public long getBytecodeSize() {
+        long size = 0L;
+        for (final byte[] code : bytecode.values()) {
+            size += code.length;
+        }
+        return size;
+    }
+
     /**
      * Reset bytecode cache for compiler reuse.
      */
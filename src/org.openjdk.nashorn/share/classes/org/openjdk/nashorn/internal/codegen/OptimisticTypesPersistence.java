@@ -45,13 +45,18 @@ import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.openjdk.nashorn.internal.codegen.types.Type;
 import org.openjdk.nashorn.internal.runtime.Context;
@@ -213,6 +218,29 @@ public final class OptimisticTypesPersistence {
         }
     }
 
+    /**
+     * Returns the specializations of the functions of a source that have persisted type information, most
+     * recently stored first. Each one is the part of the persistence location's name that follows the digest
+     * of the source: the function id, followed by a '-' and the short descriptors of the parameter types if
+     * the specialization has parameter types.
+     * @param source the source
+     * @return the persisted specializations; empty if persistence is disabled.
+     */
+    public static List<String> getPersistedSpecializations(final Source source) {
+        if (cacheDir == null) {
+            return Collections.emptyList();
+        }
+        final String prefix = source.getDigest() + '-';
+        final File[] files = cacheDir.listFiles((dir, name) -> name.startsWith(prefix));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(files)
+                .sorted(Comparator.comparingLong(File::lastModified).reversed())
+                .map(file -> file.getName().substring(prefix.length()))
+                .collect(Collectors.toList());
+    }
+
     private static void reportError(final String msg, final File file, final Exception e) {
         final long now = System.currentTimeMillis();
         if(now - lastReportedError > ERROR_REPORT_THRESHOLD) {
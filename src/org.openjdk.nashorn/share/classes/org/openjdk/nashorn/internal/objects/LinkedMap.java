@@ -29,6 +29,7 @@ import org.openjdk.nashorn.internal.runtime.Undefined;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 /**
  * <p>A linked hash map used by the ES6 Map and Set objects. As required by the ECMA specification for these objects,
@@ -220,6 +221,19 @@ public class LinkedMap {
         return data.size();
     }
 
+    /**
+     * Return a copy of this map with the same insertion order, with keys and values passed through a function.
+     * @param mapper the function applied to keys and values
+     * @return the copy
+     */
+    public LinkedMap copy(final UnaryOperator<Object> mapper) {
+        final LinkedMap copy = new LinkedMap();
+        for (Node node = head.next; node != head; node = node.next) {
+            copy.set(mapper.apply(node.key), mapper.apply(node.value));
+        }
+        return copy;
+    }
+
     /**
      * Get an iterator over the key-value pairs in the map.
      * @return an iterator
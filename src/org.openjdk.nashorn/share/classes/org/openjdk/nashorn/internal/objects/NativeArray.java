@@ -59,6 +59,7 @@ import org.openjdk.nashorn.internal.runtime.JSType;
 import org.openjdk.nashorn.internal.runtime.OptimisticBuiltins;
 import org.openjdk.nashorn.internal.runtime.PropertyDescriptor;
 import org.openjdk.nashorn.internal.runtime.PropertyMap;
+import org.openjdk.nashorn.internal.runtime.ScriptFunction;
 import org.openjdk.nashorn.internal.runtime.ScriptObject;
 import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
 import org.openjdk.nashorn.internal.runtime.Undefined;
@@ -67,6 +68,7 @@ import org.openjdk.nashorn.internal.runtime.arrays.ArrayIndex;
 import org.openjdk.nashorn.internal.runtime.arrays.ArrayLikeIterator;
 import org.openjdk.nashorn.internal.runtime.arrays.ContinuousArrayData;
 import org.openjdk.nashorn.internal.runtime.arrays.IteratorAction;
+import org.openjdk.nashorn.internal.runtime.arrays.ParallelIteratorAction;
 import org.openjdk.nashorn.internal.runtime.linker.Bootstrap;
 import org.openjdk.nashorn.internal.runtime.linker.InvokeByName;
 
@@ -106,9 +108,43 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
     }
 
     NativeArray(final long[] array) {
-        this(ArrayData.allocate(array.length));
+        this(toArrayData(array));
+    }
 
-        ArrayData arrayData = this.getArray();
+    NativeArray(final Object[] array) {
+        this(toArrayData(array));
+    }
+
+    private static ArrayData toArrayData(final long[] array) {
+        // Elements are stored as ints until one doesn't fit, then as doubles, then as objects. Convert in bulk if
+        // all of them fit in an int or all in a double.
+        boolean ints = true;
+        boolean doubles = true;
+        for (final long value : array) {
+            if (!JSType.isRepresentableAsInt(value)) {
+                ints = false;
+                if (!JSType.isRepresentableAsDouble(value)) {
+                    doubles = false;
+                    break;
+                }
+            }
+        }
+
+        if (ints) {
+            final int[] iarray = new int[array.length];
+            for (int index = 0; index < array.length; index++) {
+                iarray[index] = (int)array[index];
+            }
+            return ArrayData.allocate(iarray);
+        } else if (doubles) {
+            final double[] darray = new double[array.length];
+            for (int index = 0; index < array.length; index++) {
+                darray[index] = array[index];
+            }
+            return ArrayData.allocate(darray);
+        }
+
+        ArrayData arrayData = ArrayData.allocate(array.length);
         Class<?> widest = int.class;
 
         for (int index = 0; index < array.length; index++) {
@@ -125,13 +161,46 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
             }
         }
 
-        this.setArray(arrayData);
+        return arrayData;
     }
 
-    NativeArray(final Object[] array) {
-        this(ArrayData.allocate(array.length));
+    private static ArrayData toArrayData(final Object[] array) {
+        // Without holes or undefined elements, the array data that setting the elements one by one ends up with
+        // can be created in bulk if all elements are ints, all are numbers, or the first one is neither.
+        boolean plain = true;
+        boolean ints = true;
+        boolean numbers = true;
+        for (final Object value : array) {
+            if (value == ScriptRuntime.EMPTY || value == ScriptRuntime.UNDEFINED) {
+                plain = false;
+                break;
+            }
+            ints = ints && JSType.isRepresentableAsInt(value);
+            numbers = numbers && (value instanceof Integer || value instanceof Double);
+        }
 
-        ArrayData arrayData = this.getArray();
+        if (plain) {
+            if (ints) {
+                final int[] iarray = new int[array.length];
+                for (int index = 0; index < array.length; index++) {
+                    iarray[index] = JSType.toInt32(array[index]);
+                }
+                return ArrayData.allocate(iarray);
+            } else if (numbers) {
+                final double[] darray = new double[array.length];
+                for (int index = 0; index < array.length; index++) {
+                    darray[index] = ((Number)array[index]).doubleValue();
+                }
+                return ArrayData.allocate(darray);
+            }
+            final Object first = array[0];
+            if (!JSType.isRepresentableAsInt(first) && !(first instanceof Double) && !(first instanceof Float)) {
+                // the first element makes the array data an object array, which stores all others as they are
+                return ArrayData.allocate(array.clone());
+            }
+        }
+
+        ArrayData arrayData = ArrayData.allocate(array.length);
 
         for (int index = 0; index < array.length; index++) {
             final Object value = array[index];
@@ -143,7 +212,7 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
             }
         }
 
-        this.setArray(arrayData);
+        return arrayData;
     }
 
     NativeArray(final ArrayData arrayData) {
@@ -1162,11 +1231,36 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
         return comparefn;
     }
 
-    private static Object[] sort(final Object[] array, final Object comparefn) {
-        final Object cmp = compareFunction(comparefn);
+    private static final int NOT_NUMERIC  = 0;
+    private static final int DESCENDING   = -1;
+
+    // Returns 1 or -1 if cmp is a function that just subtracts its arguments, NOT_NUMERIC otherwise
+    private static int numericCompareOrder(final Object cmp) {
+        return cmp instanceof ScriptFunction ? ((ScriptFunction)cmp).getNumericCompareOrder() : NOT_NUMERIC;
+    }
+
+    // Sort dense int and double arrays in place, without boxing elements or calling the comparison function
+    private static boolean fastSort(final ArrayData array, final long len, final Object cmp) {
+        if (!(array instanceof ContinuousArrayData) || array.length() != len) {
+            return false;
+        }
+
+        final ContinuousArrayData data = (ContinuousArrayData)array;
+        if (cmp == null) {
+            return data.fastSort();
+        }
+
+        final int order = numericCompareOrder(cmp);
+        return order != NOT_NUMERIC && data.fastSortNumeric(order == DESCENDING);
+    }
+
+    private static Object[] sort(final Object[] array, final Object cmp) {
+        if (cmp == null) {
+            return sortByString(array);
+        }
 
         final List<Object> list = Arrays.asList(array);
-        final Object cmpThis = cmp == null || Bootstrap.isStrictCallable(cmp) ? ScriptRuntime.UNDEFINED : Global.instance();
+        final Object cmpThis = Bootstrap.isStrictCallable(cmp) ? ScriptRuntime.UNDEFINED : Global.instance();
 
         try {
             list.sort(new Comparator<>() {
@@ -1181,17 +1275,13 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
                         return -1;
                     }
 
-                    if (cmp != null) {
-                        try {
-                            return (int)Math.signum((double)call_cmp.invokeExact(cmp, cmpThis, x, y));
-                        } catch (final RuntimeException | Error e) {
-                            throw e;
-                        } catch (final Throwable t) {
-                            throw new RuntimeException(t);
-                        }
+                    try {
+                        return (int)Math.signum((double)call_cmp.invokeExact(cmp, cmpThis, x, y));
+                    } catch (final RuntimeException | Error e) {
+                        throw e;
+                    } catch (final Throwable t) {
+                        throw new RuntimeException(t);
                     }
-
-                    return JSType.toString(x).compareTo(JSType.toString(y));
                 }
             });
         } catch (final IllegalArgumentException iae) {
@@ -1207,6 +1297,36 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
         return list.toArray(new Object[0]);
     }
 
+    // Sort without a comparison function: by string value, computed once per element rather than once per comparison
+    private static Object[] sortByString(final Object[] array) {
+        final List<SortEntry> entries = new ArrayList<>(array.length);
+        for (final Object x : array) {
+            if (x != ScriptRuntime.UNDEFINED) {
+                entries.add(new SortEntry(JSType.toString(x), x));
+            }
+        }
+        // stable, so elements with equal string values keep their relative order
+        entries.sort((x, y) -> x.key.compareTo(y.key));
+
+        final Object[] sorted = new Object[array.length];
+        for (int i = 0; i < entries.size(); i++) {
+            sorted[i] = entries.get(i).value;
+        }
+        // undefined elements go at the end
+        Arrays.fill(sorted, entries.size(), sorted.length, ScriptRuntime.UNDEFINED);
+        return sorted;
+    }
+
+    private static final class SortEntry {
+        final String key;
+        final Object value;
+
+        SortEntry(final String key, final Object value) {
+            this.key   = key;
+            this.value = value;
+        }
+    }
+
     /**
      * ECMA 15.4.4.11 Array.prototype.sort ( comparefn )
      *
@@ -1220,8 +1340,9 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
             final ScriptObject sobj    = (ScriptObject) self;
             final long         len     = JSType.toUint32(sobj.getLength());
             ArrayData          array   = sobj.getArray();
+            final Object       cmp     = len > 1 ? compareFunction(comparefn) : null;
 
-            if (len > 1) {
+            if (len > 1 && !fastSort(array, len, cmp)) {
                 // Get only non-missing elements. Missing elements go at the end
                 // of the sorted array. So, just don't copy these to sort input.
                 final ArrayList<Object> src = new ArrayList<>();
@@ -1234,7 +1355,7 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
                     src.add(array.getObject((int)index));
                 }
 
-                final Object[] sorted = sort(src.toArray(), comparefn);
+                final Object[] sorted = sort(src.toArray(), cmp);
 
                 for (int i = 0; i < sorted.length; i++) {
                     array = array.set(i, sorted[i], true);
@@ -1603,6 +1724,111 @@ public final class NativeArray extends ScriptObject implements OptimisticBuiltin
         }.apply();
     }
 
+    /**
+     * Parallel version of {@link #forEach(Object, Object, Object)}, see {@link NativeJava#parallelForEach}. Arrays
+     * that are not dense are iterated sequentially.
+     *
+     * @param self        self reference
+     * @param callbackfn  callback function per element
+     * @param thisArg     this argument
+     * @return undefined
+     */
+    static Object parallelForEach(final Object self, final Object callbackfn, final Object thisArg) {
+        final ContinuousArrayData data = denseArrayData(self);
+        if (data == null) {
+            return forEach(self, callbackfn, thisArg);
+        }
+        return new ParallelIteratorAction<Object>("parallelForEach", (ScriptObject)self, data, callbackfn, thisArg) {
+            private final MethodHandle forEachInvoker = getFOREACH_CALLBACK_INVOKER();
+
+            @Override
+            protected void forEach(final Object val, final int i) throws Throwable {
+                forEachInvoker.invokeExact(callbackfn, thisArg, val, (double)i, (Object)self);
+            }
+
+            @Override
+            protected Object result() {
+                return ScriptRuntime.UNDEFINED;
+            }
+        }.apply();
+    }
+
+    /**
+     * Parallel version of {@link #map(Object, Object, Object)}, see {@link NativeJava#parallelMap}. Arrays that are
+     * not dense are mapped sequentially.
+     *
+     * @param self        self reference
+     * @param callbackfn  callback function per element
+     * @param thisArg     this argument
+     * @return array with elements transformed by map function
+     */
+    static NativeArray parallelMap(final Object self, final Object callbackfn, final Object thisArg) {
+        final ContinuousArrayData data = denseArrayData(self);
+        if (data == null) {
+            return map(self, callbackfn, thisArg);
+        }
+        return new ParallelIteratorAction<NativeArray>("parallelMap", (ScriptObject)self, data, callbackfn, thisArg) {
+            private final MethodHandle mapInvoker = getMAP_CALLBACK_INVOKER();
+            private final Object[] values = new Object[length];
+
+            @Override
+            protected void forEach(final Object val, final int i) throws Throwable {
+                values[i] = mapInvoker.invokeExact(callbackfn, thisArg, val, (double)i, (Object)self);
+            }
+
+            @Override
+            protected NativeArray result() {
+                return new NativeArray(values);
+            }
+        }.apply();
+    }
+
+    /**
+     * Parallel version of {@link #filter(Object, Object, Object)}, see {@link NativeJava#parallelFilter}. Arrays that
+     * are not dense are filtered sequentially.
+     *
+     * @param self        self reference
+     * @param callbackfn  callback function per element
+     * @param thisArg     this argument
+     * @return filtered array
+     */
+    static NativeArray parallelFilter(final Object self, final Object callbackfn, final Object thisArg) {
+        final ContinuousArrayData data = denseArrayData(self);
+        if (data == null) {
+            return filter(self, callbackfn, thisArg);
+        }
+        return new ParallelIteratorAction<NativeArray>("parallelFilter", (ScriptObject)self, data, callbackfn, thisArg) {
+            private final MethodHandle filterInvoker = getFILTER_CALLBACK_INVOKER();
+            private final boolean[] selected = new boolean[length];
+
+            @Override
+            protected void forEach(final Object val, final int i) throws Throwable {
+                selected[i] = (boolean)filterInvoker.invokeExact(callbackfn, thisArg, val, (double)i, (Object)self);
+            }
+
+            @Override
+            protected NativeArray result() {
+                final List<Object> values = new ArrayList<>();
+                for (int i = 0; i < length; i++) {
+                    if (selected[i]) {
+                        values.add(getElement(i));
+                    }
+                }
+                return new NativeArray(values.toArray());
+            }
+        }.apply();
+    }
+
+    private static ContinuousArrayData denseArrayData(final Object self) {
+        if (self instanceof NativeArray) {
+            final ArrayData data = ((NativeArray)self).getArray();
+            if (data instanceof ContinuousArrayData) {
+                return (ContinuousArrayData)data;
+            }
+        }
+        return null;
+    }
+
     private static Object reduceInner(final ArrayLikeIterator<Object> iter, final Object self, final Object... args) {
         final Object  callbackfn          = args.length > 0 ? args[0] : ScriptRuntime.UNDEFINED;
         final boolean initialValuePresent = args.length > 1;
@@ -25,9 +25,19 @@
 
 package org.openjdk.nashorn.internal.objects;
 
+import static org.openjdk.nashorn.internal.runtime.ECMAErrors.rangeError;
 import static org.openjdk.nashorn.internal.runtime.ECMAErrors.typeError;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import org.openjdk.nashorn.api.scripting.ClassFilter;
 
 import org.openjdk.nashorn.internal.objects.annotations.Attribute;
 import org.openjdk.nashorn.internal.objects.annotations.Constructor;
@@ -49,6 +59,9 @@ import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
 public final class NativeArrayBuffer extends ScriptObject {
     private final ByteBuffer nb;
 
+    // true if nb is a file mapping (or a slice of one); slices of such buffers share its memory
+    private final boolean mapped;
+
     // initialized by nasgen
     private static PropertyMap $nasgenmap$;
 
@@ -58,8 +71,13 @@ public final class NativeArrayBuffer extends ScriptObject {
      * @param global global instance
      */
     protected NativeArrayBuffer(final ByteBuffer nb, final Global global) {
+        this(nb, false, global);
+    }
+
+    private NativeArrayBuffer(final ByteBuffer nb, final boolean mapped, final Global global) {
         super(global.getArrayBufferPrototype(), $nasgenmap$);
         this.nb = nb;
+        this.mapped = mapped;
     }
 
     /**
@@ -80,13 +98,14 @@ public final class NativeArrayBuffer extends ScriptObject {
 
     /**
      * Clone constructor
-     * Used only for slice
+     * Used only for slice. Slices of file mappings share the memory of the original buffer,
+     * slices of other buffers are copies.
      * @param other original buffer
      * @param begin begin byte index
      * @param end   end byte index
      */
     protected NativeArrayBuffer(final NativeArrayBuffer other, final int begin, final int end) {
-        this(cloneBuffer(other.getNioBuffer(), begin, end));
+        this(other.mapped ? sliceBuffer(other.getNioBuffer(), begin, end) : cloneBuffer(other.getNioBuffer(), begin, end), other.mapped, Global.instance());
     }
 
     /**
@@ -114,15 +133,99 @@ public final class NativeArrayBuffer extends ScriptObject {
         }
     }
 
+    /**
+     * Nashorn extension: ArrayBuffer.mapFile ( file [ , position [ , length [ , mode ] ] ] )
+     *
+     * Creates an ArrayBuffer over a memory-mapped region of a file. Typed arrays, DataViews and
+     * slices of the buffer access the mapped memory directly, without copying. As an ArrayBuffer
+     * is limited to 2 GB, larger files are accessed by mapping successive windows of them,
+     * which is what position, a byte offset into the file, is for.
+     *
+     * The mode is "r" for a read-only mapping (the default), "rw" for a read-write mapping whose
+     * changes are written to the file, extending the file if needed, or "private" for a
+     * copy-on-write mapping whose changes are not written to the file. Writing to a read-only
+     * mapping throws a {@link java.nio.ReadOnlyBufferException}.
+     *
+     * Mapping files is not allowed with --no-java, or if the class filter does not expose
+     * {@link FileChannel}; a TypeError is thrown in that case.
+     *
+     * @param self     self reference
+     * @param file     the file to map, as a string, {@link File} or {@link Path}
+     * @param position byte offset of the mapped region in the file, 0 if undefined
+     * @param length   byte length of the mapped region, the rest of the file if undefined
+     * @param mode     "r", "rw" or "private", "r" if undefined
+     * @return new NativeArrayBuffer over the mapped region
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR)
+    public static NativeArrayBuffer mapFile(final Object self, final Object file, final Object position, final Object length, final Object mode) throws IOException {
+        final Path path;
+        if (file instanceof Path) {
+            path = (Path)file;
+        } else if (file instanceof File) {
+            path = ((File)file).toPath();
+        } else if (JSType.isString(file)) {
+            path = Paths.get(file.toString());
+        } else {
+            throw typeError("not.a.file", ScriptRuntime.safeToString(file));
+        }
+
+        // Mapping a file gives access to it just as FileChannel would, so only allow it if FileChannel is visible
+        final Global global = Global.instance();
+        if (global.getContext().getEnv()._no_java) {
+            throw typeError("no.file.mapping.with.no.java");
+        }
+        final ClassFilter classFilter = global.getClassFilter();
+        if (classFilter != null && !classFilter.exposeToScripts(FileChannel.class.getName())) {
+            throw typeError("no.file.mapping.with.classfilter");
+        }
+
+        final MapMode      mapMode;
+        final OpenOption[] options;
+        final String modeName = mode == ScriptRuntime.UNDEFINED ? "r" : JSType.toString(mode);
+        switch (modeName) {
+        case "r":
+            mapMode = MapMode.READ_ONLY;
+            options = new OpenOption[] { StandardOpenOption.READ };
+            break;
+        case "rw":
+            mapMode = MapMode.READ_WRITE;
+            options = new OpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE };
+            break;
+        case "private":
+            // a private mapping is not written through to the file, but the channel must allow writing nevertheless
+            mapMode = MapMode.PRIVATE;
+            options = new OpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE };
+            break;
+        default:
+            throw typeError("invalid.file.map.mode", modeName);
+        }
+
+        final long pos = position == ScriptRuntime.UNDEFINED ? 0L : JSType.toLong(position);
+        if (pos < 0) {
+            throw rangeError("invalid.file.map.position", ScriptRuntime.safeToString(position));
+        }
+
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            final long len = length == ScriptRuntime.UNDEFINED ? Math.max(channel.size() - pos, 0L) : JSType.toLong(length);
+            if (len < 0 || len > Integer.MAX_VALUE) {
+                throw rangeError("inappropriate.array.buffer.length", JSType.toString(len));
+            }
+            // the mapping stays valid after the channel is closed
+            return new NativeArrayBuffer(channel.map(mapMode, pos, len), true, global);
+        }
+    }
+
     private static ByteBuffer cloneBuffer(final ByteBuffer original, final int begin, final int end) {
-        final ByteBuffer clone = ByteBuffer.allocateDirect(original.capacity());
-        original.rewind();//copy from the beginning
-        clone.put(original);
-        original.rewind();
-        clone.flip();
-        clone.position(begin);
-        clone.limit(end);
-        return clone.slice();
+        // copy only the sliced range
+        final ByteBuffer clone = ByteBuffer.allocateDirect(end - begin);
+        clone.put(original.duplicate().limit(end).position(begin));
+        clone.rewind();
+        return clone;
+    }
+
+    private static ByteBuffer sliceBuffer(final ByteBuffer original, final int begin, final int end) {
+        return original.duplicate().limit(end).position(begin).slice();
     }
 
     ByteBuffer getNioBuffer() {
@@ -184,7 +287,8 @@ public final class NativeArrayBuffer extends ScriptObject {
     public static Object slice(final Object self, final int begin, final int end) {
         final NativeArrayBuffer arrayBuffer = (NativeArrayBuffer)self;
         final int byteLength  = arrayBuffer.getByteLength();
-        return new NativeArrayBuffer(arrayBuffer, adjustIndex(begin, byteLength), Math.max(adjustIndex(end, byteLength), begin));
+        final int adjustedBegin = adjustIndex(begin, byteLength);
+        return new NativeArrayBuffer(arrayBuffer, adjustedBegin, Math.max(adjustIndex(end, byteLength), adjustedBegin));
     }
 
     /**
@@ -231,11 +335,12 @@ public final class NativeArrayBuffer extends ScriptObject {
        return nb;
     }
 
+    // views of the buffer from offset on, indexed from 0 like the DataView using them
     ByteBuffer getBuffer(final int offset) {
-        return nb.duplicate().position(offset);
+        return nb.duplicate().position(offset).slice();
     }
 
     ByteBuffer getBuffer(final int offset, final int length) {
-        return getBuffer(offset).limit(length);
+        return nb.duplicate().limit(offset + length).position(offset).slice();
     }
 }
@@ -89,7 +89,7 @@ public class NativeDataView extends ScriptObject {
     private final ByteBuffer buf;
 
     private NativeDataView(final NativeArrayBuffer arrBuf) {
-        this(arrBuf, arrBuf.getBuffer(), 0);
+        this(arrBuf, arrBuf.getBuffer(0), 0);
     }
 
     private NativeDataView(final NativeArrayBuffer arrBuf, final int offset) {
@@ -101,7 +101,7 @@ public class NativeDataView extends ScriptObject {
     }
 
     private NativeDataView(final NativeArrayBuffer arrBuf, final ByteBuffer buf, final int offset) {
-       this(arrBuf, buf, offset, buf.capacity() - offset);
+       this(arrBuf, buf, offset, buf.capacity());
     }
 
     private NativeDataView(final NativeArrayBuffer arrBuf, final ByteBuffer buf, final int offset, final int length) {
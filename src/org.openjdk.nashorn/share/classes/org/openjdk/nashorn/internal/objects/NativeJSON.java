@@ -28,7 +28,19 @@ package org.openjdk.nashorn.internal.objects;
 import static org.openjdk.nashorn.internal.runtime.ECMAErrors.typeError;
 import static org.openjdk.nashorn.internal.runtime.ScriptRuntime.UNDEFINED;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.invoke.MethodHandle;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.IdentityHashMap;
@@ -42,11 +54,13 @@ import org.openjdk.nashorn.internal.objects.annotations.Attribute;
 import org.openjdk.nashorn.internal.objects.annotations.Function;
 import org.openjdk.nashorn.internal.objects.annotations.ScriptClass;
 import org.openjdk.nashorn.internal.objects.annotations.Where;
+import org.openjdk.nashorn.internal.parser.JSONParser;
 import org.openjdk.nashorn.internal.runtime.ConsString;
 import org.openjdk.nashorn.internal.runtime.JSONFunctions;
 import org.openjdk.nashorn.internal.runtime.JSType;
 import org.openjdk.nashorn.internal.runtime.PropertyMap;
 import org.openjdk.nashorn.internal.runtime.ScriptObject;
+import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
 import org.openjdk.nashorn.internal.runtime.arrays.ArrayLikeIterator;
 import org.openjdk.nashorn.internal.runtime.linker.Bootstrap;
 import org.openjdk.nashorn.internal.runtime.linker.InvokeByName;
@@ -104,6 +118,34 @@ public final class NativeJSON extends ScriptObject {
         return JSONFunctions.parse(text, reviver);
     }
 
+    /**
+     * Nashorn extension: JSON.parseStream ( source [ , reviver ] )
+     *
+     * Parses JSON text that is read incrementally from the source, so the text as a whole never
+     * needs to be held in memory. The source is read to its end but not closed. Byte sources are
+     * decoded as UTF-8.
+     *
+     * @param self     self reference
+     * @param source   a {@link Reader}, {@link InputStream} or {@link ReadableByteChannel}
+     * @param reviver  optional value: function that takes two parameters (key, value)
+     *
+     * @return an ECMA script value
+     */
+    @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR)
+    public static Object parseStream(final Object self, final Object source, final Object reviver) {
+        final Reader reader;
+        if (source instanceof Reader) {
+            reader = (Reader) source;
+        } else if (source instanceof InputStream) {
+            reader = new InputStreamReader((InputStream) source, StandardCharsets.UTF_8);
+        } else if (source instanceof ReadableByteChannel) {
+            reader = Channels.newReader((ReadableByteChannel) source, StandardCharsets.UTF_8);
+        } else {
+            throw typeError("not.a.json.source", ScriptRuntime.safeToString(source));
+        }
+        return JSONFunctions.parse(reader, reviver);
+    }
+
     /**
      * ECMA 15.12.3 stringify ( value [ , replacer [ , space ] ] )
      *
@@ -116,6 +158,64 @@ public final class NativeJSON extends ScriptObject {
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR)
     public static Object stringify(final Object self, final Object value, final Object replacer, final Object space) {
+        final StringBuilder sb = new StringBuilder();
+        return stringify(sb, value, replacer, space) ? sb.toString() : UNDEFINED;
+    }
+
+    /**
+     * Nashorn extension: JSON.stringifyStream ( destination, value [ , replacer [ , space ] ] )
+     *
+     * Writes the same text as JSON.stringify directly to the destination, without building it
+     * as a string first. Nothing is written if JSON.stringify would return undefined. The
+     * destination is not closed. Byte destinations are encoded as UTF-8.
+     *
+     * @param self        self reference
+     * @param destination a {@link Appendable} such as a {@link java.io.Writer}, an {@link OutputStream}
+     *                    or a {@link WritableByteChannel}
+     * @param value       ECMA script value (usually object or array)
+     * @param replacer    either a function or an array of strings and numbers
+     * @param space       optional parameter - allows result to have whitespace injection
+     *
+     * @return undefined
+     */
+    @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR)
+    public static Object stringifyStream(final Object self, final Object destination, final Object value, final Object replacer, final Object space) {
+        if (destination instanceof Appendable) {
+            stringify((Appendable) destination, value, replacer, space);
+            return UNDEFINED;
+        }
+
+        final Writer writer;
+        if (destination instanceof OutputStream) {
+            writer = new OutputStreamWriter((OutputStream) destination, StandardCharsets.UTF_8);
+        } else if (destination instanceof WritableByteChannel) {
+            writer = Channels.newWriter((WritableByteChannel) destination, StandardCharsets.UTF_8);
+        } else {
+            throw typeError("not.a.json.destination", ScriptRuntime.safeToString(destination));
+        }
+        stringify(writer, value, replacer, space);
+        try {
+            writer.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return UNDEFINED;
+    }
+
+    /**
+     * Serializes a value as JSON.stringify does, appending the text to the given appendable
+     * as it is produced. Must be called with the global of the value set as the current global.
+     * If serialization fails part way through, the text appended so far is left in place.
+     *
+     * @param out      appendable to append the JSON text to
+     * @param value    ECMA script value (usually object or array)
+     * @param replacer either a function or an array of strings and numbers
+     * @param space    optional parameter - allows result to have whitespace injection
+     *
+     * @return true if text was appended, false if JSON.stringify would return undefined
+     * @throws UncheckedIOException if appending to {@code out} fails
+     */
+    public static boolean stringify(final Appendable out, final Object value, final Object replacer, final Object space) {
         // The stringify method takes a value and an optional replacer, and an optional
         // space parameter, and returns a JSON text. The replacer can be a function
         // that can replace values, or an array of strings that will select the keys.
@@ -123,7 +223,7 @@ public final class NativeJSON extends ScriptObject {
         // A default replacer method can be provided. Use of the space parameter can
         // produce text that is more easily readable.
 
-        final StringifyState state = new StringifyState();
+        final StringifyState state = new StringifyState(out);
 
         // If there is a replacer, it must be a function or an array.
         if (Bootstrap.isCallable(replacer)) {
@@ -189,7 +289,12 @@ public final class NativeJSON extends ScriptObject {
         final ScriptObject wrapper = Global.newEmptyInstance();
         wrapper.set("", value, 0);
 
-        return str("", wrapper, state);
+        final Object resolved = resolve("", wrapper, state);
+        if (!isSerializable(resolved)) {
+            return false;
+        }
+        write(resolved, state);
+        return true;
     }
 
     // -- Internals only below this point
@@ -198,15 +303,58 @@ public final class NativeJSON extends ScriptObject {
 
     private static class StringifyState {
         final Map<Object, Object> stack = new IdentityHashMap<>();
+        final Appendable out;
 
-        StringBuilder  indent = new StringBuilder();
+        int            depth = 0;
         String         gap = "";
         List<String>   propertyList = null;
         Object         replacerFunction = null;
+
+        StringifyState(final Appendable out) {
+            this.out = out;
+        }
+
+        StringifyState append(final char c) {
+            try {
+                out.append(c);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        StringifyState append(final String str) {
+            try {
+                out.append(str);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        StringifyState quote(final String str) {
+            try {
+                JSONParser.quote(out, str);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        // start a new line at the current indentation level
+        StringifyState newline() {
+            append('\n');
+            for (int i = 0; i < depth; i++) {
+                append(gap);
+            }
+            return this;
+        }
     }
 
-    // Spec: The abstract operation Str(key, holder).
-    private static Object str(final Object key, final Object holder, final StringifyState state) {
+    // Spec: The abstract operation Str(key, holder). Split into resolve, which applies toJSON
+    // and the replacer function, and write, so that the key of an object member is only
+    // written once its value is known not to be skipped.
+    private static Object resolve(final Object key, final Object holder, final StringifyState state) {
         assert holder instanceof ScriptObject || holder instanceof JSObject;
 
         Object value = getProperty(holder, key);
@@ -245,38 +393,42 @@ public final class NativeJSON extends ScriptObject {
             }
         }
 
-        if (value == null) {
-            return "null";
-        } else if (Boolean.TRUE.equals(value)) {
-            return "true";
-        } else if (Boolean.FALSE.equals(value)) {
-            return "false";
-        }
+        return value;
+    }
 
-        if (value instanceof String) {
-            return JSONFunctions.quote((String)value);
-        } else if (value instanceof ConsString) {
-            return JSONFunctions.quote(value.toString());
+    // Whether Str would return undefined for a resolved value
+    private static boolean isSerializable(final Object value) {
+        if (value == null || value instanceof Boolean || value instanceof String ||
+                value instanceof ConsString || value instanceof Number) {
+            return true;
         }
 
-        if (value instanceof Number) {
-            return JSType.isFinite(((Number)value).doubleValue()) ? JSType.toString(value) : "null";
-        }
+        return JSType.of(value) == JSType.OBJECT &&
+                (isArray(value) || isJSObjectArray(value) || value instanceof ScriptObject || value instanceof JSObject);
+    }
 
-        final JSType type = JSType.of(value);
-        if (type == JSType.OBJECT) {
-            if (isArray(value) || isJSObjectArray(value)) {
-                return JA(value, state);
-            } else if (value instanceof ScriptObject || value instanceof JSObject) {
-                return JO(value, state);
-            }
-        }
+    private static void write(final Object value, final StringifyState state) {
+        assert isSerializable(value);
 
-        return UNDEFINED;
+        if (value == null) {
+            state.append("null");
+        } else if (value instanceof Boolean) {
+            state.append((Boolean)value ? "true" : "false");
+        } else if (value instanceof String) {
+            state.quote((String)value);
+        } else if (value instanceof ConsString) {
+            state.quote(value.toString());
+        } else if (value instanceof Number) {
+            state.append(JSType.isFinite(((Number)value).doubleValue()) ? JSType.toString(value) : "null");
+        } else if (isArray(value) || isJSObjectArray(value)) {
+            JA(value, state);
+        } else {
+            JO(value, state);
+        }
     }
 
     // Spec: The abstract operation JO(value) serializes an object.
-    private static String JO(final Object value, final StringifyState state) {
+    private static void JO(final Object value, final StringifyState state) {
         assert value instanceof ScriptObject || value instanceof JSObject;
 
         if (state.stack.containsKey(value)) {
@@ -284,74 +436,47 @@ public final class NativeJSON extends ScriptObject {
         }
 
         state.stack.put(value, value);
-        final StringBuilder stepback = new StringBuilder(state.indent.toString());
-        state.indent.append(state.gap);
+        state.depth++;
 
-        final StringBuilder finalStr = new StringBuilder();
-        final List<Object>  partial  = new ArrayList<>();
-        final List<String>  k        = state.propertyList == null ?
+        final boolean      indent = !state.gap.isEmpty();
+        final List<String> k      = state.propertyList == null ?
                 Arrays.asList(getOwnKeys(value)) : state.propertyList;
 
-        for (final Object p : k) {
-            final Object strP = str(p, value, state);
+        boolean empty = true;
+        for (final String p : k) {
+            final Object strP = resolve(p, value, state);
 
-            if (strP != UNDEFINED) {
-                final StringBuilder member = new StringBuilder();
+            if (isSerializable(strP)) {
+                state.append(empty ? '{' : ',');
+                empty = false;
+                if (indent) {
+                    state.newline();
+                }
 
-                member.append(JSONFunctions.quote(p.toString())).append(':');
-                if (!state.gap.isEmpty()) {
-                    member.append(' ');
+                state.quote(p).append(':');
+                if (indent) {
+                    state.append(' ');
                 }
 
-                member.append(strP);
-                partial.add(member);
+                write(strP, state);
             }
         }
 
-        if (partial.isEmpty()) {
-            finalStr.append("{}");
+        state.depth--;
+        if (empty) {
+            state.append("{}");
         } else {
-            final int size = partial.size();
-            int index = 0;
-            if (state.gap.isEmpty()) {
-
-                finalStr.append('{');
-
-                for (final Object str : partial) {
-                    finalStr.append(str);
-                    if (index < size - 1) {
-                        finalStr.append(',');
-                    }
-                    index++;
-                }
-
-            } else {
-                finalStr.append("{\n");
-                finalStr.append(state.indent);
-
-                for (final Object str : partial) {
-                    finalStr.append(str);
-                    if (index < size - 1) {
-                        finalStr.append(",\n");
-                        finalStr.append(state.indent);
-                    }
-                    index++;
-                }
-
-                finalStr.append('\n');
-                finalStr.append(stepback);
+            if (indent) {
+                state.newline();
             }
-            finalStr.append('}');
+            state.append('}');
         }
 
         state.stack.remove(value);
-        state.indent = stepback;
-
-        return finalStr.toString();
     }
 
     // Spec: The abstract operation JA(value) serializes an array.
-    private static Object JA(final Object value, final StringifyState state) {
+    private static void JA(final Object value, final StringifyState state) {
         assert value instanceof ScriptObject || value instanceof JSObject;
 
         if (state.stack.containsKey(value)) {
@@ -359,60 +484,37 @@ public final class NativeJSON extends ScriptObject {
         }
 
         state.stack.put(value, value);
-        final StringBuilder stepback = new StringBuilder(state.indent.toString());
-        state.indent.append(state.gap);
-        final List<Object> partial = new ArrayList<>();
+        state.depth++;
 
-        final int length = JSType.toInteger(getLength(value));
-        int index = 0;
+        final boolean indent = !state.gap.isEmpty();
+        final int     length = JSType.toInteger(getLength(value));
 
-        while (index < length) {
-            Object strP = str(index, value, state);
-            if (strP == UNDEFINED) {
-                strP = "null";
-            }
-            partial.add(strP);
-            index++;
-        }
+        for (int index = 0; index < length; index++) {
+            final Object strP = resolve(index, value, state);
 
-        final StringBuilder finalStr = new StringBuilder();
-        if (partial.isEmpty()) {
-            finalStr.append("[]");
-        } else {
-            final int size = partial.size();
-            index = 0;
-            if (state.gap.isEmpty()) {
-                finalStr.append('[');
-                for (final Object str : partial) {
-                    finalStr.append(str);
-                    if (index < size - 1) {
-                        finalStr.append(',');
-                    }
-                    index++;
-                }
+            state.append(index == 0 ? '[' : ',');
+            if (indent) {
+                state.newline();
+            }
 
+            if (isSerializable(strP)) {
+                write(strP, state);
             } else {
-                finalStr.append("[\n");
-                finalStr.append(state.indent);
-                for (final Object str : partial) {
-                    finalStr.append(str);
-                    if (index < size - 1) {
-                        finalStr.append(",\n");
-                        finalStr.append(state.indent);
-                    }
-                    index++;
-                }
+                state.append("null");
+            }
+        }
 
-                finalStr.append('\n');
-                finalStr.append(stepback);
+        state.depth--;
+        if (length <= 0) {
+            state.append("[]");
+        } else {
+            if (indent) {
+                state.newline();
             }
-            finalStr.append(']');
+            state.append(']');
         }
 
         state.stack.remove(value);
-        state.indent = stepback;
-
-        return finalStr.toString();
     }
 
     private static String[] getOwnKeys(final Object obj) {
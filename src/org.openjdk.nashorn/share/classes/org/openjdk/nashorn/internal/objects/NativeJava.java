@@ -420,23 +420,35 @@ public final class NativeJava {
      *     .filter(function(val) { return val.getName().endsWith(".jpg") })
      *     .map(function(val) { return val.lastModified() })
      * </pre>
+     * An {@code int[]} or {@code double[]} array can also be shared instead of copied by passing {@code true} as the
+     * second argument. The JavaScript array then uses the Java array as its storage, so that changes made through
+     * either one are visible through the other, until the script stores a value that doesn't fit the Java array's
+     * element type or grows the JavaScript array beyond the Java array's length. From then on the JavaScript array
+     * uses a copy. Arrays of other types are always copied.
+     * <pre>
+     * var samples = Java.from(sampleBuffer, true) // no copy of the double[] sampleBuffer is made
+     * </pre>
      * @param self not used
      * @param objArray the java array or collection. Can be null.
+     * @param share if true, an {@code int[]} or {@code double[]} array is used by the JavaScript array instead of
+     * being copied. Optional.
      * @return a JavaScript array with the copy of Java array's or collection's contents. Returns null if objArray is
      * null.
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR)
-    public static NativeArray from(final Object self, final Object objArray) {
+    public static NativeArray from(final Object self, final Object objArray, final Object share) {
+        final boolean noCopy = JSType.toBoolean(share);
         if (objArray == null) {
             return null;
         } else if (objArray instanceof Collection) {
             return new NativeArray(ScriptUtils.unwrapArray(((Collection<?>)objArray).toArray()));
         } else if (objArray instanceof Object[]) {
-            return new NativeArray(ScriptUtils.unwrapArray(((Object[])objArray).clone()));
+            // unwrapArray returns a copy
+            return new NativeArray(ScriptUtils.unwrapArray((Object[])objArray));
         } else if (objArray instanceof int[]) {
-            return new NativeArray(((int[])objArray).clone());
+            return new NativeArray(noCopy ? (int[])objArray : ((int[])objArray).clone());
         } else if (objArray instanceof double[]) {
-            return new NativeArray(((double[])objArray).clone());
+            return new NativeArray(noCopy ? (double[])objArray : ((double[])objArray).clone());
         } else if (objArray instanceof long[]) {
             return new NativeArray(((long[])objArray).clone());
         } else if (objArray instanceof byte[]) {
@@ -454,6 +466,72 @@ public final class NativeJava {
         throw typeError("cant.convert.to.javascript.array", objArray.getClass().getName());
     }
 
+    /**
+     * Returns a new array with the results of calling a function on every element of an array, like
+     * {@code Array.prototype.map}, except that the function is called for the elements of a dense array concurrently,
+     * by the threads of a fork/join pool that Nashorn keeps for this purpose. This lets CPU-bound transformations of
+     * large arrays use all processors. Example:
+     * <pre>
+     * var scores = Java.parallelMap(records, function(r) { return score(r.features) })
+     * </pre>
+     * Calling this function asserts that the callback is pure: it may read the element it is called with and any
+     * other state, but it must not modify objects, variables or global properties that invocations for other
+     * elements can see, because script objects are not thread safe. Changing the length of the array or replacing its
+     * storage, such as by adding an element of a different type, is detected and fails with a {@code TypeError};
+     * writing elements in place and modifying other shared state are not detected. Array-like objects and arrays with
+     * holes are mapped sequentially.
+     *
+     * @param self not used
+     * @param array the array to map
+     * @param callbackfn the pure callback function, called with the element, its index and the array
+     * @param thisArg this argument for the callback. Optional.
+     * @return array with the elements transformed by the callback, in the order of the source elements
+     */
+    @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR, arity = 2)
+    public static NativeArray parallelMap(final Object self, final Object array, final Object callbackfn, final Object thisArg) {
+        return NativeArray.parallelMap(Global.toObject(array), checkCallable(callbackfn), thisArg);
+    }
+
+    /**
+     * Returns a new array with the elements of an array for which a function returns true, like
+     * {@code Array.prototype.filter}, except that the function is called for the elements of a dense array
+     * concurrently. The callback must be pure, see {@link #parallelMap(Object, Object, Object, Object)}.
+     *
+     * @param self not used
+     * @param array the array to filter
+     * @param callbackfn the pure callback function, called with the element, its index and the array
+     * @param thisArg this argument for the callback. Optional.
+     * @return array with the selected elements, in the order of the source elements
+     */
+    @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR, arity = 2)
+    public static NativeArray parallelFilter(final Object self, final Object array, final Object callbackfn, final Object thisArg) {
+        return NativeArray.parallelFilter(Global.toObject(array), checkCallable(callbackfn), thisArg);
+    }
+
+    /**
+     * Calls a function for every element of an array, like {@code Array.prototype.forEach}, except that the function
+     * is called for the elements of a dense array concurrently and in no particular order. The callback must be pure,
+     * see {@link #parallelMap(Object, Object, Object, Object)}, so this is mostly useful for callbacks that pass the
+     * elements on to thread safe Java objects.
+     *
+     * @param self not used
+     * @param array the array to iterate
+     * @param callbackfn the pure callback function, called with the element, its index and the array
+     * @param thisArg this argument for the callback. Optional.
+     * @return undefined
+     */
+    @Function(attributes = Attribute.NOT_ENUMERABLE, where = Where.CONSTRUCTOR, arity = 2)
+    public static Object parallelForEach(final Object self, final Object array, final Object callbackfn, final Object thisArg) {
+        return NativeArray.parallelForEach(Global.toObject(array), checkCallable(callbackfn), thisArg);
+    }
+
+    private static Object checkCallable(final Object callbackfn) {
+        if (!Bootstrap.isCallable(callbackfn)) {
+            throw typeError("not.a.function", ScriptRuntime.safeToString(callbackfn));
+        }
+        return callbackfn;
+    }
+
     /**
      * Return properties of the given object. Properties also include "method names".
      * This is meant for source code completion in interactive shells or editors.
@@ -64,6 +64,11 @@ public final class NativeRegExp extends ScriptObject {
     /** Compiled regexp */
     private RegExp regexp;
 
+    // Matcher of the last global exec, reused while scripts keep matching the same string. It is dropped when
+    // a search fails or this object resets lastIndex to 0, which ends the usual loops over the matches, so that
+    // it doesn't keep a large input string alive. Non-global exec and split don't cache their matchers.
+    private RegExpMatcher lastMatcher;
+
     // Reference to global object needed to support static RegExp properties
     private final Global globalObject;
 
@@ -555,8 +560,9 @@ public final class NativeRegExp extends ScriptObject {
             return null;
         }
 
-        final RegExpMatcher matcher = regexp.match(string);
+        final RegExpMatcher matcher = isGlobal ? matcherFor(string) : regexp.match(string);
         if (matcher == null || !matcher.search(start)) {
+            lastMatcher = null;
             if (isGlobal) {
                 setLastIndex(0);
             }
@@ -573,12 +579,11 @@ public final class NativeRegExp extends ScriptObject {
     }
 
     // String.prototype.split method ignores the global flag and should not update lastIndex property.
-    private RegExpResult execSplit(final String string, final int start) {
+    private RegExpResult execSplit(final RegExpMatcher matcher, final String string, final int start) {
         if (start < 0 || start > string.length()) {
             return null;
         }
 
-        final RegExpMatcher matcher = regexp.match(string);
         if (matcher == null || !matcher.search(start)) {
             return null;
         }
@@ -588,6 +593,15 @@ public final class NativeRegExp extends ScriptObject {
         return match;
     }
 
+    private RegExpMatcher matcherFor(final String string) {
+        final RegExpMatcher matcher = lastMatcher;
+        if (matcher != null && matcher.getInput() == string) {
+            return matcher;
+        }
+        lastMatcher = regexp.match(string);
+        return lastMatcher;
+    }
+
     /**
      * Convert java.util.regex.Matcher groups to JavaScript groups.
      * That is, replace null and groups that didn't match with undefined.
@@ -833,7 +847,8 @@ public final class NativeRegExp extends ScriptObject {
         int splitLastIndex = 0;
         int splitLastLastIndex = 0;
 
-        while ((match = execSplit(string, splitLastIndex)) != null) {
+        final RegExpMatcher matcher = regexp.match(string);
+        while ((match = execSplit(matcher, string, splitLastIndex)) != null) {
             splitLastIndex = match.getIndex() + match.length();
 
             if (splitLastIndex > splitLastLastIndex) {
@@ -865,7 +880,7 @@ public final class NativeRegExp extends ScriptObject {
             // end of the match
             // if the lastIndex was the entire string
             if (splitLastLastIndex == string.length()) {
-                if (splitLastLength > 0 || execSplit("", 0) == null) {
+                if (splitLastLength > 0 || execSplit(regexp.match(""), "", 0) == null) {
                     matches.add("");
                 }
             } else {
@@ -915,6 +930,9 @@ public final class NativeRegExp extends ScriptObject {
      */
     public void setLastIndex(final int lastIndex) {
         this.lastIndex = JSType.toObject(lastIndex);
+        if (lastIndex == 0) {
+            lastMatcher = null;
+        }
     }
 
     private static NativeRegExp checkRegExp(final Object self) {
@@ -937,6 +955,7 @@ public final class NativeRegExp extends ScriptObject {
 
     private void setRegExp(final RegExp regexp) {
         this.regexp = regexp;
+        this.lastMatcher = null;
     }
 
 }
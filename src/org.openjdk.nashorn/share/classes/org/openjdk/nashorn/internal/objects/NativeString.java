@@ -159,7 +159,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
         final Object primitiveKey = JSType.toPrimitive(key, String.class);
         final int index = ArrayIndex.getArrayIndex(primitiveKey);
         if (index >= 0 && index < cs.length()) {
-            return String.valueOf(cs.charAt(index));
+            return String.valueOf(getChar(cs, index));
         }
         return ((ScriptObject) Global.toObject(self)).get(primitiveKey);
     }
@@ -176,7 +176,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
     private static Object get(final Object self, final long key) {
         final CharSequence cs = JSType.toCharSequence(self);
         if (key >= 0 && key < cs.length()) {
-            return String.valueOf(cs.charAt((int)key));
+            return String.valueOf(getChar(cs, (int)key));
         }
         return ((ScriptObject) Global.toObject(self)).get(key);
     }
@@ -184,7 +184,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
     private static Object get(final Object self, final int key) {
         final CharSequence cs = JSType.toCharSequence(self);
         if (key >= 0 && key < cs.length()) {
-            return String.valueOf(cs.charAt(key));
+            return String.valueOf(getChar(cs, key));
         }
         return ((ScriptObject) Global.toObject(self)).get(key);
     }
@@ -195,7 +195,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
         final Object primitiveKey = JSType.toPrimitive(key, String.class);
         final int index = ArrayIndex.getArrayIndex(primitiveKey);
         if (index >= 0 && index < value.length()) {
-            return String.valueOf(value.charAt(index));
+            return String.valueOf(getChar(value, index));
         }
         return super.get(primitiveKey);
     }
@@ -477,7 +477,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE)
     public static String charAt(final Object self, final Object pos) {
-        return charAtImpl(checkObjectToString(self), JSType.toInteger(pos));
+        return charAtImpl(checkObjectToCharSequence(self), JSType.toInteger(pos));
     }
 
     /**
@@ -499,16 +499,16 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      */
     @SpecializedFunction
     public static String charAt(final Object self, final int pos) {
-        return charAtImpl(checkObjectToString(self), pos);
+        return charAtImpl(checkObjectToCharSequence(self), pos);
     }
 
-    private static String charAtImpl(final String str, final int pos) {
-        return pos < 0 || pos >= str.length() ? "" : String.valueOf(str.charAt(pos));
+    private static String charAtImpl(final CharSequence cs, final int pos) {
+        return pos < 0 || pos >= cs.length() ? "" : String.valueOf(getChar(cs, pos));
     }
 
     private static int getValidChar(final Object self, final int pos) {
         try {
-            return ((CharSequence)self).charAt(pos);
+            return getChar((CharSequence)self, pos);
         } catch (final IndexOutOfBoundsException e) {
             throw new ClassCastException(); //invalid char, out of bounds, force relink
         }
@@ -522,9 +522,9 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE)
     public static double charCodeAt(final Object self, final Object pos) {
-        final String str = checkObjectToString(self);
-        final int    idx = JSType.toInteger(pos);
-        return idx < 0 || idx >= str.length() ? Double.NaN : str.charAt(idx);
+        final CharSequence cs  = checkObjectToCharSequence(self);
+        final int          idx = JSType.toInteger(pos);
+        return idx < 0 || idx >= cs.length() ? Double.NaN : getChar(cs, idx);
     }
 
     /**
@@ -576,8 +576,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE, arity = 1)
     public static int indexOf(final Object self, final Object search, final Object pos) {
-        final String str = checkObjectToString(self);
-        return str.indexOf(JSType.toString(search), JSType.toInteger(pos));
+        return indexOfImpl(checkObjectToCharSequence(self), JSType.toString(search), JSType.toInteger(pos));
     }
 
     /**
@@ -612,7 +611,11 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      */
     @SpecializedFunction
     public static int indexOf(final Object self, final Object search, final int pos) {
-        return checkObjectToString(self).indexOf(JSType.toString(search), pos);
+        return indexOfImpl(checkObjectToCharSequence(self), JSType.toString(search), pos);
+    }
+
+    private static int indexOfImpl(final CharSequence cs, final String search, final int pos) {
+        return cs instanceof ConsString ? ((ConsString)cs).indexOf(search, pos) : ((String)cs).indexOf(search, pos);
     }
 
     /**
@@ -761,13 +764,13 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return sliced out substring
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE)
-    public static String slice(final Object self, final Object start, final Object end) {
+    public static Object slice(final Object self, final Object start, final Object end) {
 
-        final String str      = checkObjectToString(self);
+        final CharSequence cs = checkObjectToCharSequence(self);
         if (end == UNDEFINED) {
-            return slice(str, JSType.toInteger(start));
+            return slice(cs, JSType.toInteger(start));
         }
-        return slice(str, JSType.toInteger(start), JSType.toInteger(end));
+        return slice(cs, JSType.toInteger(start), JSType.toInteger(end));
     }
 
     /**
@@ -778,11 +781,11 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return sliced out substring
      */
     @SpecializedFunction
-    public static String slice(final Object self, final int start) {
-        final String str = checkObjectToString(self);
-        final int from = start < 0 ? Math.max(str.length() + start, 0) : Math.min(start, str.length());
+    public static Object slice(final Object self, final int start) {
+        final CharSequence cs = checkObjectToCharSequence(self);
+        final int from = start < 0 ? Math.max(cs.length() + start, 0) : Math.min(start, cs.length());
 
-        return str.substring(from);
+        return substringImpl(cs, from, cs.length());
     }
 
     /**
@@ -793,7 +796,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return sliced out substring
      */
     @SpecializedFunction
-    public static String slice(final Object self, final double start) {
+    public static Object slice(final Object self, final double start) {
         return slice(self, (int)start);
     }
 
@@ -806,15 +809,15 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return sliced out substring
      */
     @SpecializedFunction
-    public static String slice(final Object self, final int start, final int end) {
+    public static Object slice(final Object self, final int start, final int end) {
 
-        final String str = checkObjectToString(self);
-        final int len    = str.length();
+        final CharSequence cs = checkObjectToCharSequence(self);
+        final int len         = cs.length();
 
         final int from = start < 0 ? Math.max(len + start, 0) : Math.min(start, len);
         final int to   = end < 0   ? Math.max(len + end, 0)   : Math.min(end, len);
 
-        return str.substring(Math.min(from, to), to);
+        return substringImpl(cs, Math.min(from, to), to);
     }
 
     /**
@@ -826,7 +829,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return sliced out substring
      */
     @SpecializedFunction
-    public static String slice(final Object self, final double start, final double end) {
+    public static Object slice(final Object self, final double start, final double end) {
         return slice(self, (int)start, (int)end);
     }
 
@@ -840,48 +843,49 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE)
     public static ScriptObject split(final Object self, final Object separator, final Object limit) {
-        final String str = checkObjectToString(self);
+        final CharSequence cs = checkObjectToCharSequence(self);
         final long lim = limit == UNDEFINED ? JSType.MAX_UINT : JSType.toUint32(limit);
 
         if (separator == UNDEFINED) {
-            return lim == 0 ? new NativeArray() : new NativeArray(new Object[]{str});
+            return lim == 0 ? new NativeArray() : new NativeArray(new Object[]{cs.toString()});
         }
 
         if (separator instanceof NativeRegExp) {
-            return ((NativeRegExp) separator).split(str, lim);
+            return ((NativeRegExp) separator).split(cs.toString(), lim);
         }
 
         // when separator is a string, it is treated as a literal search string to be used for splitting.
-        return splitString(str, JSType.toString(separator), lim);
+        // Without a limit every part of the string is visited, which is cheapest on a flat string.
+        return splitString(limit == UNDEFINED ? cs.toString() : cs, JSType.toString(separator), lim);
     }
 
-    private static ScriptObject splitString(final String str, final String separator, final long limit) {
+    private static ScriptObject splitString(final CharSequence cs, final String separator, final long limit) {
         if (separator.isEmpty()) {
-            final int length = (int) Math.min(str.length(), limit);
+            final int length = (int) Math.min(cs.length(), limit);
             final Object[] array = new Object[length];
             for (int i = 0; i < length; i++) {
-                array[i] = String.valueOf(str.charAt(i));
+                array[i] = String.valueOf(getChar(cs, i));
             }
             return new NativeArray(array);
         }
 
-        final List<String> elements = new LinkedList<>();
-        final int strLength = str.length();
+        final List<Object> elements = new LinkedList<>();
+        final int strLength = cs.length();
         final int sepLength = separator.length();
         int pos = 0;
         int n = 0;
 
         while (pos < strLength && n < limit) {
-            final int found = str.indexOf(separator, pos);
+            final int found = indexOfImpl(cs, separator, pos);
             if (found == -1) {
                 break;
             }
-            elements.add(str.substring(pos, found));
+            elements.add(substringImpl(cs, pos, found));
             n++;
             pos = found + sepLength;
         }
         if (pos <= strLength && n < limit) {
-            elements.add(str.substring(pos));
+            elements.add(substringImpl(cs, pos, strLength));
         }
 
         return new NativeArray(elements.toArray());
@@ -896,9 +900,9 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return substring given start and length of section
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE)
-    public static String substr(final Object self, final Object start, final Object length) {
-        final String str       = JSType.toString(self);
-        final int    strLength = str.length();
+    public static Object substr(final Object self, final Object start, final Object length) {
+        final CharSequence cs        = JSType.toCharSequence(self);
+        final int          strLength = cs.length();
 
         int intStart = JSType.toInteger(start);
         if (intStart < 0) {
@@ -907,7 +911,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
 
         final int intLen = Math.min(Math.max(length == UNDEFINED ? Integer.MAX_VALUE : JSType.toInteger(length), 0), strLength - intStart);
 
-        return intLen <= 0 ? "" : str.substring(intStart, intStart + intLen);
+        return intLen <= 0 ? "" : substringImpl(cs, intStart, intStart + intLen);
     }
 
     /**
@@ -919,13 +923,13 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return substring given start and end indexes
      */
     @Function(attributes = Attribute.NOT_ENUMERABLE)
-    public static String substring(final Object self, final Object start, final Object end) {
+    public static Object substring(final Object self, final Object start, final Object end) {
 
-        final String str = checkObjectToString(self);
+        final CharSequence cs = checkObjectToCharSequence(self);
         if (end == UNDEFINED) {
-            return substring(str, JSType.toInteger(start));
+            return substring(cs, JSType.toInteger(start));
         }
-        return substring(str, JSType.toInteger(start), JSType.toInteger(end));
+        return substring(cs, JSType.toInteger(start), JSType.toInteger(end));
     }
 
     /**
@@ -936,14 +940,14 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return substring given start and end indexes
      */
     @SpecializedFunction
-    public static String substring(final Object self, final int start) {
-        final String str = checkObjectToString(self);
+    public static Object substring(final Object self, final int start) {
+        final CharSequence cs = checkObjectToCharSequence(self);
         if (start < 0) {
-            return str;
-        } else if (start >= str.length()) {
+            return cs;
+        } else if (start >= cs.length()) {
             return "";
         } else {
-            return str.substring(start);
+            return substringImpl(cs, start, cs.length());
         }
     }
 
@@ -955,7 +959,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return substring given start and end indexes
      */
     @SpecializedFunction
-    public static String substring(final Object self, final double start) {
+    public static Object substring(final Object self, final double start) {
         return substring(self, (int)start);
     }
 
@@ -968,16 +972,16 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return substring given start and end indexes
      */
     @SpecializedFunction
-    public static String substring(final Object self, final int start, final int end) {
-        final String str = checkObjectToString(self);
-        final int len = str.length();
+    public static Object substring(final Object self, final int start, final int end) {
+        final CharSequence cs = checkObjectToCharSequence(self);
+        final int len = cs.length();
         final int validStart = start < 0 ? 0 : Math.min(start, len);
         final int validEnd   = end < 0 ? 0 : Math.min(end, len);
 
         if (validStart < validEnd) {
-            return str.substring(validStart, validEnd);
+            return substringImpl(cs, validStart, validEnd);
         }
-        return str.substring(validEnd, validStart);
+        return substringImpl(cs, validEnd, validStart);
     }
 
     /**
@@ -989,7 +993,7 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
      * @return substring given start and end indexes
      */
     @SpecializedFunction
-    public static String substring(final Object self, final double start, final double end) {
+    public static Object substring(final Object self, final double start, final double end) {
         return substring(self, (int)start, (int)end);
     }
 
@@ -1272,6 +1276,29 @@ public final class NativeString extends ScriptObject implements OptimisticBuilti
         }
     }
 
+    /**
+     * Like {@link #checkObjectToString(Object)}, but does not flatten a {@link ConsString}.
+     *
+     * @param self the object
+     * @return the object as a string or cons string
+     */
+    private static CharSequence checkObjectToCharSequence(final Object self) {
+        if (JSType.isString(self)) {
+            return (CharSequence)self;
+        }
+        Global.checkObjectCoercible(self);
+        return JSType.toString(self);
+    }
+
+    // Reads a char of a cons string from its leaves rather than flattening it
+    private static char getChar(final CharSequence cs, final int index) {
+        return cs instanceof ConsString ? ((ConsString)cs).leafCharAt(index) : cs.charAt(index);
+    }
+
+    private static CharSequence substringImpl(final CharSequence cs, final int start, final int end) {
+        return cs instanceof ConsString ? ((ConsString)cs).substring(start, end) : ((String)cs).substring(start, end);
+    }
+
     private boolean isValidStringIndex(final int key) {
         return key >= 0 && key < value.length();
     }
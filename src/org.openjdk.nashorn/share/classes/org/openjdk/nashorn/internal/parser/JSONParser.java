@@ -25,6 +25,7 @@
 
 package org.openjdk.nashorn.internal.parser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import org.openjdk.nashorn.internal.codegen.ObjectClassGenerator;
@@ -60,7 +61,10 @@ public class JSONParser {
     final int length;
     int pos = 0;
 
-    private static final int EOF = -1;
+    /** Start of the string, number or keyword being parsed, or -1. Characters from here on must be retained. */
+    int mark = -1;
+
+    static final int EOF = -1;
 
     private static final String TRUE  = "true";
     private static final String FALSE = "false";
@@ -84,6 +88,20 @@ public class JSONParser {
         this.dualFields = dualFields;
     }
 
+    /**
+     * Constructor for subclasses that provide their own input by overriding {@link #peek()},
+     * {@link #text(int, int)}, {@link #appendText(StringBuilder, int, int)} and {@link #error(String, int, int)}.
+     *
+     * @param global     the global object
+     * @param dualFields whether the parser should regard dual field representation
+     */
+    JSONParser(final Global global, final boolean dualFields) {
+        this.source = null;
+        this.global = global;
+        this.length = 0;
+        this.dualFields = dualFields;
+    }
+
     /**
      * Implementation of the Quote(value) operation as defined in the ECMAscript
      * spec. It wraps a String value in double quotes and escapes characters
@@ -94,49 +112,67 @@ public class JSONParser {
      * @return quoted and escaped string
      */
     public static String quote(final String value) {
+        final StringBuilder product = new StringBuilder(value.length() + 2);
+        try {
+            quote(product, value);
+        } catch (final IOException e) {
+            throw new AssertionError(e); // StringBuilder does not throw
+        }
+        return product.toString();
+    }
 
-        final StringBuilder product = new StringBuilder();
-
-        product.append("\"");
-
-        for (final char ch : value.toCharArray()) {
-            // TODO: should use a table?
+    /**
+     * Implementation of the Quote(value) operation as defined in the ECMAscript
+     * spec that appends its result to the given appendable. Runs of characters
+     * that need no escaping are appended as a whole.
+     *
+     * @param out   appendable to append the quoted string to
+     * @param value string to quote
+     *
+     * @throws IOException if appending to {@code out} fails
+     */
+    public static void quote(final Appendable out, final String value) throws IOException {
+        out.append('"');
+
+        final int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char ch = value.charAt(i);
+            final String escape;
             switch (ch) {
             case '\\':
-                product.append("\\\\");
+                escape = "\\\\";
                 break;
             case '"':
-                product.append("\\\"");
+                escape = "\\\"";
                 break;
             case '\b':
-                product.append("\\b");
+                escape = "\\b";
                 break;
             case '\f':
-                product.append("\\f");
+                escape = "\\f";
                 break;
             case '\n':
-                product.append("\\n");
+                escape = "\\n";
                 break;
             case '\r':
-                product.append("\\r");
+                escape = "\\r";
                 break;
             case '\t':
-                product.append("\\t");
+                escape = "\\t";
                 break;
             default:
-                if (ch < ' ') {
-                    product.append(Lexer.unicodeEscape(ch));
-                    break;
+                if (ch >= ' ') {
+                    continue;
                 }
-
-                product.append(ch);
+                escape = Lexer.unicodeEscape(ch);
                 break;
             }
+            out.append(value, start, i).append(escape);
+            start = i + 1;
         }
 
-        product.append("\"");
-
-        return product.toString();
+        out.append(value, start, length).append('"');
     }
 
     /**
@@ -147,8 +183,9 @@ public class JSONParser {
     public Object parse() {
         final Object value = parseLiteral();
         skipWhiteSpace();
-        if (pos < length) {
-            throw expectedError(pos, "eof", toString(peek()));
+        final int c = peek();
+        if (c != EOF) {
+            throw expectedError(pos, "eof", toString(c));
         }
         return value;
     }
@@ -193,7 +230,7 @@ public class JSONParser {
         assert peek() == '{';
         pos++;
 
-        while (pos < length) {
+        for (;;) {
             skipWhiteSpace();
             final int c = peek();
 
@@ -230,7 +267,6 @@ public class JSONParser {
                 throw expectedError(pos, ", or }", toString(c));
             }
         }
-        throw expectedError(pos, ", or }", "eof");
     }
 
     private static ArrayData addArrayElement(final ArrayData arrayData, final int index, final Object value) {
@@ -315,11 +351,13 @@ public class JSONParser {
         assert peek() == '[';
         pos++;
 
-        while (pos < length) {
+        for (;;) {
             skipWhiteSpace();
             final int c = peek();
 
             switch (c) {
+            case EOF:
+                throw expectedError(pos, ", or ]", "eof");
             case ',':
                 if (state != STATE_ELEMENT_PARSED) {
                     throw error(AbstractParser.message("trailing.comma.in.json"), pos);
@@ -343,17 +381,20 @@ public class JSONParser {
                 break;
             }
         }
-
-        throw expectedError(pos, ", or ]", "eof");
     }
 
     private String parseString() {
         // String buffer is only instantiated if string contains escape sequences.
         int start = ++pos;
         StringBuilder sb = null;
+        mark = start;
 
-        while (pos < length) {
-            final int c = next();
+        for (;;) {
+            final int c = peek();
+            if (c == EOF) {
+                break;
+            }
+            pos++;
             if (c <= 0x1f) {
                 // Characters < 0x1f are not allowed in JSON strings.
                 throw syntaxError(pos, "String contains control character");
@@ -362,16 +403,21 @@ public class JSONParser {
                 if (sb == null) {
                     sb = new StringBuilder(pos - start + 16);
                 }
-                sb.append(source, start, pos - 1);
+                appendText(sb, start, pos - 1);
                 sb.append(parseEscapeSequence());
                 start = pos;
+                mark = start;
 
             } else if (c == '"') {
+                final String str;
                 if (sb != null) {
-                    sb.append(source, start, pos - 1);
-                    return sb.toString();
+                    appendText(sb, start, pos - 1);
+                    str = sb.toString();
+                } else {
+                    str = text(start, pos - 1);
                 }
-                return source.substring(start, pos - 1);
+                mark = -1;
+                return str;
             }
         }
 
@@ -425,17 +471,14 @@ public class JSONParser {
     }
 
     private void skipDigits() {
-        while (pos < length) {
-            final int c = peek();
-            if (!isDigit(c)) {
-                break;
-            }
+        while (isDigit(peek())) {
             pos++;
         }
     }
 
     private Number parseNumber() {
         final int start = pos;
+        mark = start;
         int c = next();
 
         if (c == '-') {
@@ -472,7 +515,8 @@ public class JSONParser {
             skipDigits();
         }
 
-        final double d = Double.parseDouble(source.substring(start, pos));
+        final double d = Double.parseDouble(text(start, pos));
+        mark = -1;
         if (JSType.isRepresentableAsInt(d)) {
             return (int) d;
         }
@@ -480,20 +524,53 @@ public class JSONParser {
     }
 
     private Object parseKeyword(final String keyword, final Object value) {
-        if (!source.regionMatches(pos, keyword, 0, keyword.length())) {
-            throw expectedError(pos, "json literal", "ident");
+        final int start = pos;
+        mark = start;
+        for (int i = 0; i < keyword.length(); i++) {
+            if (peek() != keyword.charAt(i)) {
+                throw expectedError(start, "json literal", "ident");
+            }
+            pos++;
         }
-        pos += keyword.length();
+        mark = -1;
         return value;
     }
 
-    private int peek() {
+    /**
+     * Returns the character at the current position without consuming it.
+     *
+     * @return the current character, or {@code EOF} at the end of the input
+     */
+    int peek() {
         if (pos >= length) {
-            return -1;
+            return EOF;
         }
         return source.charAt(pos);
     }
 
+    /**
+     * Returns the input text between two positions. Only called for text from {@link #mark} on.
+     *
+     * @param start start position, inclusive
+     * @param end   end position, exclusive
+     * @return the text
+     */
+    String text(final int start, final int end) {
+        return source.substring(start, end);
+    }
+
+    /**
+     * Appends the input text between two positions to a string builder. Only called for text from
+     * {@link #mark} on.
+     *
+     * @param sb    the string builder
+     * @param start start position, inclusive
+     * @param end   end position, exclusive
+     */
+    void appendText(final StringBuilder sb, final int start, final int end) {
+        sb.append(source, start, end);
+    }
+
     private int next() {
         final int next = peek();
         pos++;
@@ -501,7 +578,7 @@ public class JSONParser {
     }
 
     private void skipWhiteSpace() {
-        while (pos < length) {
+        for (;;) {
             switch (peek()) {
             case '\t':
             case '\r':
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.nashorn.internal.parser;
+
+import static org.openjdk.nashorn.internal.parser.TokenType.STRING;
+import static org.openjdk.nashorn.internal.runtime.ECMAErrors.rangeError;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.runtime.JSErrorType;
+import org.openjdk.nashorn.internal.runtime.ParserException;
+import org.openjdk.nashorn.internal.runtime.Source;
+
+/**
+ * A {@link JSONParser} that reads its input incrementally from a {@link Reader}.
+ *
+ * Only a window of the input is kept in memory: when the buffer is full, characters before the
+ * current position are discarded, unless they belong to the string, number or keyword being
+ * parsed. The buffer thus grows only to hold the longest such token. Positions are absolute
+ * offsets into the input, which limits the input to {@code Integer.MAX_VALUE} characters.
+ *
+ * Syntax errors report absolute line and column numbers; the quoted source line is limited to
+ * the part that is still in the window.
+ */
+public final class StreamingJSONParser extends JSONParser {
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+
+    // characters from absolute position bufferStart to bufferEnd
+    private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+    private int bufferStart;
+    private int bufferEnd;
+    private boolean eof;
+
+    // line number and column of bufferStart, for error reporting
+    private int discardedLines;
+    private int discardedColumns;
+
+    /**
+     * Constructor.
+     *
+     * @param reader     the reader to parse JSON text from
+     * @param global     the global object
+     * @param dualFields whether the parser should regard dual field representation
+     */
+    public StreamingJSONParser(final Reader reader, final Global global, final boolean dualFields) {
+        super(global, dualFields);
+        this.reader = reader;
+    }
+
+    @Override
+    int peek() {
+        if (pos < bufferEnd || fill()) {
+            return buffer[pos - bufferStart];
+        }
+        return EOF;
+    }
+
+    @Override
+    String text(final int start, final int end) {
+        return new String(buffer, start - bufferStart, end - start);
+    }
+
+    @Override
+    void appendText(final StringBuilder sb, final int start, final int end) {
+        sb.append(buffer, start - bufferStart, end - start);
+    }
+
+    @Override
+    ParserException error(final String message, final int start, final int length) throws ParserException {
+        final long   token     = Token.toDesc(STRING, start, length);
+        final int    relative  = Math.max(0, Math.min(start, bufferEnd) - bufferStart);
+        readRestOfLine(relative);
+        final Source window    = Source.sourceFor("<json>", new String(buffer, 0, bufferEnd - bufferStart));
+        final int    lineNum   = window.getLine(relative);
+        final int    columnNum = window.getColumn(relative);
+        final int    absLine   = discardedLines + lineNum;
+        final int    absColumn = lineNum == 1 ? discardedColumns + columnNum : columnNum;
+
+        // Same layout as ErrorManager.format, but with absolute line and column numbers in the header
+        final String sourceLine = window.getSourceLine(relative);
+        final StringBuilder sb = new StringBuilder();
+        sb.append(window.getName()).append(':').append(absLine).append(':').append(absColumn).append(' ').append(message)
+          .append(System.lineSeparator()).append(sourceLine).append(System.lineSeparator());
+        for (int i = 0; i < columnNum; i++) {
+            sb.append(i < sourceLine.length() && sourceLine.charAt(i) == '\t' ? '\t' : ' ');
+        }
+        sb.append('^');
+
+        return new ParserException(JSErrorType.SYNTAX_ERROR, sb.toString(), window, absLine, absColumn, token);
+    }
+
+    /**
+     * Reads more input into the buffer, discarding characters that are no longer needed.
+     *
+     * @return true if characters were read, false at the end of the input
+     */
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+
+        if (bufferEnd - bufferStart == buffer.length) {
+            final int keep = mark >= 0 ? mark : pos;
+            final int discard = keep - bufferStart;
+            if (discard > 0) {
+                countLines(discard);
+                System.arraycopy(buffer, discard, buffer, 0, bufferEnd - keep);
+                bufferStart = keep;
+            } else if (buffer.length > Integer.MAX_VALUE / 2) {
+                throw rangeError("json.input.too.big");
+            } else {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        final int count = bufferEnd - bufferStart;
+
+        final int read;
+        try {
+            read = reader.read(buffer, count, buffer.length - count);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (read <= 0) {
+            eof = true;
+            return false;
+        }
+        if (bufferEnd > Integer.MAX_VALUE - read) {
+            throw rangeError("json.input.too.big");
+        }
+        bufferEnd += read;
+        return true;
+    }
+
+    // read ahead to the end of the line for the error message, as long as that does not discard input
+    private void readRestOfLine(final int relative) {
+        for (int i = relative; ; i++) {
+            if (i == bufferEnd - bufferStart) {
+                if (i == buffer.length || !fill()) {
+                    return;
+                }
+            }
+            final char c = buffer[i];
+            if (c == '\n' || c == '\r') {
+                return;
+            }
+        }
+    }
+
+    private void countLines(final int discard) {
+        for (int i = 0; i < discard; i++) {
+            final char c = buffer[i];
+            if (c == '\n') {
+                discardedLines++;
+            }
+            if (c == '\n' || c == '\r') {
+                discardedColumns = 0;
+            } else {
+                discardedColumns++;
+            }
+        }
+    }
+}
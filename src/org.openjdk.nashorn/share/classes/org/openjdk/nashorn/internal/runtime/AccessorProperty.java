@@ -140,6 +140,12 @@ public class AccessorProperty extends Property {
     /** Seed getter for the Object version of this field */
     transient MethodHandle objectGetter;
 
+    /** For bound properties, the property before binding */
+    private transient AccessorProperty unboundProperty;
+
+    /** For bound properties, the object the accessors are bound to */
+    private transient Object boundDelegate;
+
     /** Seed setter for the Object version of this field */
     transient MethodHandle objectSetter;
 
@@ -157,6 +163,9 @@ public class AccessorProperty extends Property {
     AccessorProperty(final AccessorProperty property, final Object delegate) {
         super(property, property.getFlags() | IS_BOUND);
 
+        // Binding an already bound property leaves it bound to its original delegate
+        this.unboundProperty = property.isBound() ? property.unboundProperty : property;
+        this.boundDelegate   = property.isBound() ? property.boundDelegate : delegate;
         this.primitiveGetter = bindTo(property.primitiveGetter, delegate);
         this.primitiveSetter = bindTo(property.primitiveSetter, delegate);
         this.objectGetter    = bindTo(property.objectGetter, delegate);
@@ -327,6 +336,8 @@ public class AccessorProperty extends Property {
         this.primitiveSetter = property.primitiveSetter;
         this.objectGetter    = property.objectGetter;
         this.objectSetter    = property.objectSetter;
+        this.unboundProperty = property.unboundProperty;
+        this.boundDelegate   = property.boundDelegate;
 
         setType(newType);
     }
@@ -340,6 +351,32 @@ public class AccessorProperty extends Property {
         this(property, property.getLocalType());
     }
 
+    /**
+     * Get the object a bound property's accessors are bound to.
+     *
+     * @return the delegate, or null if this property is not bound
+     */
+    Object getBoundDelegate() {
+        return boundDelegate;
+    }
+
+    /**
+     * Create a copy of this bound property with its accessors bound to a different delegate, which must be of the
+     * same class as the current one.
+     *
+     * @param delegate the new delegate
+     * @return the rebound property
+     */
+    AccessorProperty rebind(final Object delegate) {
+        assert isBound() && delegate.getClass() == boundDelegate.getClass();
+        // type and flags (e.g. a lexical binding's declaration state) may have changed since the property was bound
+        Property rebound = new AccessorProperty(unboundProperty, delegate);
+        if (rebound.getLocalType() != getLocalType()) {
+            rebound = rebound.copy(getLocalType());
+        }
+        return (AccessorProperty)rebound.removeFlags(rebound.getFlags() & ~getFlags()).addFlags(getFlags());
+    }
+
     /**
      * Set initial value of a script object's property
      * @param owner        owner
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.nashorn.internal.runtime.logging.DebugLogger;
+import org.openjdk.nashorn.internal.runtime.logging.Loggable;
+import org.openjdk.nashorn.internal.runtime.logging.Logger;
+
+/**
+ * Cache for compiled script classes, keyed by {@link Source}.
+ * <p>
+ * Lookups never block: entries live in a {@link ConcurrentHashMap} and a hit only updates the entry
+ * it found. Classes are held through soft references, so the garbage collector can still reclaim them
+ * under memory pressure.
+ * <p>
+ * When the cache grows beyond its size, entries are evicted by the GreedyDual-Size policy: every entry
+ * has a priority equal to the cache's current inflation value plus the cost of recompiling it, refreshed
+ * on each hit. The entry with the lowest priority is evicted and its priority becomes the new inflation
+ * value. Recently used entries and expensive entries therefore survive longer than cheap, stale ones;
+ * with equal costs the policy degenerates to LRU.
+ */
+@Logger(name="classcache")
+public final class ClassCache implements Loggable {
+    private final int size;
+    private final Map<Source, ClassReference> map;
+    private final ReferenceQueue<Class<?>> queue;
+    private final ReentrantLock evictionLock;
+    private final DebugLogger log;
+
+    // Priority of the most recently evicted entry, guarded by evictionLock for writes
+    private volatile long inflation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param context the context
+     * @param size maximum number of classes to keep in the cache
+     */
+    ClassCache(final Context context, final int size) {
+        this.size = size;
+        this.map = new ConcurrentHashMap<>(size * 4 / 3 + 1);
+        this.queue = new ReferenceQueue<>();
+        this.evictionLock = new ReentrantLock();
+        this.log = initLogger(context);
+    }
+
+    /**
+     * Look up the class compiled for a source.
+     *
+     * @param source the source
+     * @return the cached class, or null if it is not cached
+     */
+    Class<?> get(final Source source) {
+        expungeStaleEntries();
+
+        final ClassReference ref = map.get(source);
+        final Class<?> clazz = ref == null ? null : ref.get();
+        if (clazz == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        ref.priority = inflation + ref.cost;
+        if (log.isEnabled()) {
+            log.info("Retrieved class reference for ", ref.source, " from class cache");
+        }
+        return clazz;
+    }
+
+    /**
+     * Look up the class compiled for a source without counting a hit or a miss, and without refreshing the
+     * priority of the entry.
+     *
+     * @param source the source
+     * @return the cached class, or null if it is not cached
+     */
+    Class<?> peek(final Source source) {
+        final ClassReference ref = map.get(source);
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * Add a class to the cache, evicting other classes if the cache is full.
+     *
+     * @param source the source the class was compiled from
+     * @param clazz the class
+     * @param cost the cost of recreating the class; compile time in microseconds plus bytecode size in bytes
+     */
+    void cache(final Source source, final Class<?> clazz, final long cost) {
+        if (log.isEnabled()) {
+            log.info("Caching ", source, " in class cache");
+        }
+        map.put(source, new ClassReference(clazz, queue, source, Math.max(1L, cost), inflation));
+
+        if (map.size() > size && evictionLock.tryLock()) {
+            // If another thread holds the lock it is already evicting, so there is no need to wait for it
+            try {
+                while (map.size() > size) {
+                    evict();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    // Must be called while holding evictionLock
+    private void evict() {
+        ClassReference victim = null;
+        for (final ClassReference ref : map.values()) {
+            if (victim == null || ref.priority < victim.priority) {
+                victim = ref;
+            }
+        }
+        if (victim != null && map.remove(victim.source, victim)) {
+            inflation = victim.priority;
+            evictions.increment();
+            if (log.isEnabled()) {
+                log.info("Evicting ", victim.source, " from class cache.");
+            }
+        }
+    }
+
+    private void expungeStaleEntries() {
+        for (ClassReference ref; (ref = (ClassReference)queue.poll()) != null; ) {
+            if (map.remove(ref.source, ref)) {
+                evictions.increment();
+                if (log.isEnabled()) {
+                    log.info("Evicting ", ref.source, " from class cache.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of classes currently in the cache.
+     * @return the number of cached classes
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a cached class.
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached class.
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of classes removed from the cache, either by the eviction policy
+     * or because the garbage collector cleared them.
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public DebugLogger initLogger(final Context context) {
+        return context.getLogger(getClass());
+    }
+
+    @Override
+    public DebugLogger getLogger() {
+        return log;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassCache[size=" + size() + "/" + size +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() + ']';
+    }
+
+    private static class ClassReference extends SoftReference<Class<?>> {
+        private final Source source;
+        private final long cost;
+        private volatile long priority;
+
+        ClassReference(final Class<?> clazz, final ReferenceQueue<Class<?>> queue, final Source source, final long cost, final long inflation) {
+            super(clazz, queue);
+            this.source = source;
+            this.cost = cost;
+            this.priority = inflation + cost;
+        }
+    }
+}
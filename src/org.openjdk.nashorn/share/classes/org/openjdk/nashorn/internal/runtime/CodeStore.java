@@ -25,8 +25,18 @@
 
 package org.openjdk.nashorn.internal.runtime;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -34,7 +44,17 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 import org.openjdk.nashorn.internal.codegen.OptimisticTypesPersistence;
 import org.openjdk.nashorn.internal.codegen.types.Type;
 import org.openjdk.nashorn.internal.runtime.logging.DebugLogger;
@@ -68,14 +88,17 @@ public abstract class CodeStore implements Loggable {
     }
 
     /**
-     * Returns a new code store instance.
+     * Returns a new code store instance. The {@code nashorn.persistent.code.cache.format} system property
+     * selects the implementation: {@code "mapped"} for a {@link MappedFileCodeStore}, anything else for the
+     * default {@link DirectoryCodeStore}.
      *
      * @param context the current context
      * @return The instance, or null if code store could not be created
      */
     public static CodeStore newCodeStore(final Context context) {
         try {
-            final CodeStore store = new DirectoryCodeStore(context);
+            final String format = Options.getStringProperty("nashorn.persistent.code.cache.format", "directory");
+            final CodeStore store = "mapped".equals(format) ? new MappedFileCodeStore(context) : new DirectoryCodeStore(context);
             store.initLogger(context);
             return store;
         } catch (final IOException e) {
@@ -290,4 +313,458 @@ public abstract class CodeStore implements Loggable {
             return false;
         }
     }
+
+    /**
+     * A store keeping all compiled scripts in a single append-only file inside the versioned cache
+     * directory. The file is memory mapped for reading, so loading a script touches a few pages instead
+     * of opening a file per function. Each record holds the cache key, the length and checksum of its
+     * payload, and the serialized {@link StoredScript}. An in-memory index maps keys to the latest record
+     * for that key; records superseded by a later store are dropped when the file is compacted.
+     *
+     * <p>Readers never take locks. Writers append under an exclusive file lock, so several processes can
+     * share the same cache file. File locks are held on behalf of the whole JVM, so stores for the same
+     * file in one JVM additionally serialize their writes on a shared monitor. Records are verified
+     * against their key and checksum on every load, which makes a stale index entry or a torn record
+     * look like a cache miss rather than an error.</p>
+     */
+    public static class MappedFileCodeStore extends CodeStore {
+
+        // Name of the cache file inside the versioned cache directory
+        private final static String FILE_NAME = "code_cache.nsc";
+
+        // File header: magic number and format version
+        private final static int MAGIC = 0x4e534343;
+        private final static int FORMAT_VERSION = 1;
+        private final static int HEADER_SIZE = 8;
+
+        // Record header: key length, payload length, payload checksum
+        private final static int RECORD_HEADER_SIZE = 12;
+
+        // Compact once superseded records take up more than half of the file and at least this many bytes
+        private final static long COMPACTION_THRESHOLD = 1 << 20;
+
+        private final Path file;
+        private final boolean readOnly;
+        private final int minSize;
+
+        // Monitors guarding the file lock of each cache file within this JVM
+        private final static Map<Path, Object> FILE_MONITORS = new ConcurrentHashMap<>();
+
+        private final Map<String, Entry> index = new ConcurrentHashMap<>();
+        private final Object fileMonitor;
+
+        private volatile FileChannel channel;
+        private volatile MappedByteBuffer mapped;
+        private Object fileKey;
+
+        // End of the last complete record seen by this store, guarded by this
+        private long indexedSize;
+        // Total size of records that have been superseded by newer ones, guarded by this
+        private long wastedSize;
+
+        /**
+         * Location of a record in the cache file.
+         */
+        private static final class Entry {
+            final long offset;
+            final int length;
+
+            Entry(final long offset, final int length) {
+                this.offset = offset;
+                this.length = length;
+            }
+        }
+
+        /**
+         * Constructor
+         *
+         * @param context the current context
+         * @throws IOException if there are read/write problems with the cache file and cache directory
+         */
+        public MappedFileCodeStore(final Context context) throws IOException {
+            this(context, Options.getStringProperty("nashorn.persistent.code.cache", "nashorn_code_cache"), false, DirectoryCodeStore.DEFAULT_MIN_SIZE);
+        }
+
+        /**
+         * Constructor
+         *
+         * @param context the current context
+         * @param path    directory containing the cache file
+         * @param readOnly is this a read only code store
+         * @param minSize minimum file size for caching scripts
+         * @throws IOException if there are read/write problems with the cache file and cache directory
+         */
+        public MappedFileCodeStore(final Context context, final String path, final boolean readOnly, final int minSize) throws IOException {
+            this.file = new File(DirectoryCodeStore.checkDirectory(path, context.getEnv(), readOnly), FILE_NAME).toPath();
+            this.readOnly = readOnly;
+            this.minSize = minSize;
+            this.fileMonitor = FILE_MONITORS.computeIfAbsent(file, k -> new Object());
+            synchronized (this) {
+                open();
+            }
+        }
+
+        @Override
+        public StoredScript load(final Source source, final String functionKey) {
+            if (belowThreshold(source)) {
+                return null;
+            }
+
+            final String key = getCacheKey(source, functionKey);
+            Entry entry = index.get(key);
+            if (entry == null) {
+                // Another process may have stored the script since we last looked
+                entry = refresh(key);
+                if (entry == null) {
+                    return null;
+                }
+            }
+
+            try {
+                final byte[] payload = readRecord(entry, key);
+                if (payload == null) {
+                    getLogger().info("stale record for ", source, "-", functionKey);
+                    return null;
+                }
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+                    final StoredScript storedScript = (StoredScript) in.readObject();
+                    getLogger().info("loaded ", source, "-", functionKey);
+                    return storedScript;
+                }
+            } catch (final IOException | ClassNotFoundException e) {
+                getLogger().warning("failed to load ", source, "-", functionKey, ": ", e);
+                return null;
+            }
+        }
+
+        @Override
+        public StoredScript store(final String functionKey, final Source source, final StoredScript script) {
+            if (readOnly || script == null || belowThreshold(source)) {
+                return null;
+            }
+
+            try {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(script);
+                }
+                append(getCacheKey(source, functionKey), bytes.toByteArray());
+                getLogger().info("stored ", source, "-", functionKey);
+                return script;
+            } catch (final IOException e) {
+                getLogger().warning("failed to store ", script, "-", functionKey, ": ", e);
+                return null;
+            }
+        }
+
+        /**
+         * Rewrites the cache file so that it only contains the latest record for each key. The compacted
+         * file atomically replaces the old one; other processes pick it up the next time they miss or store.
+         *
+         * @throws IOException if the cache file could not be compacted
+         */
+        public synchronized void compact() throws IOException {
+            if (readOnly) {
+                return;
+            }
+
+            final Path tmp = file.resolveSibling(FILE_NAME + ".tmp");
+            synchronized (fileMonitor) {
+                final FileLock lock = lockCurrent();
+                try {
+                    scan();
+                    try (FileChannel out = FileChannel.open(tmp, READ, WRITE, CREATE, TRUNCATE_EXISTING)) {
+                        writeHeader(out);
+                        out.position(HEADER_SIZE);
+                        long position = HEADER_SIZE;
+                        for (final Entry entry : index.values()) {
+                            long transferred = 0;
+                            while (transferred < entry.length) {
+                                transferred += channel.transferTo(entry.offset + transferred, entry.length - transferred, out);
+                            }
+                            position += entry.length;
+                        }
+                        assert out.size() == position;
+                        out.force(false);
+                    }
+                    Files.move(tmp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+                } finally {
+                    try {
+                        lock.release();
+                    } finally {
+                        Files.deleteIfExists(tmp);
+                    }
+                }
+                open();
+            }
+        }
+
+        /**
+         * Returns the number of scripts in this store.
+         *
+         * @return the number of scripts
+         */
+        public int size() {
+            return index.size();
+        }
+
+        private static String getCacheKey(final Source source, final String functionKey) {
+            return source.getDigest() + '-' + functionKey;
+        }
+
+        private boolean belowThreshold(final Source source) {
+            if (source.getLength() < minSize) {
+                getLogger().info("below size threshold ", source);
+                return true;
+            }
+            return false;
+        }
+
+        // Must be called while holding the lock on this store
+        private void open() throws IOException {
+            final FileChannel oldChannel = channel;
+            final FileChannel newChannel = readOnly ? FileChannel.open(file, READ) : FileChannel.open(file, READ, WRITE, CREATE);
+            try {
+                if (newChannel.size() == 0 && !readOnly) {
+                    synchronized (fileMonitor) {
+                        final FileLock lock = newChannel.lock();
+                        try {
+                            if (newChannel.size() == 0) {
+                                writeHeader(newChannel);
+                            }
+                        } finally {
+                            lock.release();
+                        }
+                    }
+                }
+                checkHeader(newChannel);
+            } catch (final IOException e) {
+                newChannel.close();
+                throw e;
+            }
+
+            channel = newChannel;
+            mapped = null;
+            fileKey = getFileKey();
+            index.clear();
+            indexedSize = HEADER_SIZE;
+            wastedSize = 0;
+            scan();
+
+            if (oldChannel != null) {
+                oldChannel.close();
+            }
+        }
+
+        private Object getFileKey() throws IOException {
+            return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        }
+
+        /**
+         * Returns true if the open channel still refers to the cache file at {@link #file}. File systems
+         * without file keys give no way to tell, so the file is then never considered current.
+         * Must be called while holding the lock on this store.
+         */
+        private boolean isCurrent() throws IOException {
+            final Object key = fileKey;
+            return key != null && key.equals(getFileKey());
+        }
+
+        private static void writeHeader(final FileChannel out) throws IOException {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION);
+            header.flip();
+            writeFully(out, header, 0);
+        }
+
+        private void checkHeader(final FileChannel in) throws IOException {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (!readFully(in, header, 0) || header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Not a code cache file: " + file);
+            }
+        }
+
+        /**
+         * Indexes the records appended to the file since the last scan. A trailing incomplete record
+         * is not indexed; it is either still being written or the remains of a crashed writer.
+         * Must be called while holding the lock on this store.
+         */
+        private void scan() throws IOException {
+            final FileChannel in = channel;
+            final long size = in.size();
+            final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            long position = indexedSize;
+
+            while (position + RECORD_HEADER_SIZE <= size) {
+                header.clear();
+                if (!readFully(in, header, position)) {
+                    break;
+                }
+                final int keyLength = header.getInt(0);
+                final int payloadLength = header.getInt(4);
+                final long length = (long) RECORD_HEADER_SIZE + keyLength + payloadLength;
+                if (keyLength < 0 || payloadLength < 0 || length > Integer.MAX_VALUE || position + length > size) {
+                    break;
+                }
+                final ByteBuffer keyBytes = ByteBuffer.allocate(keyLength);
+                if (!readFully(in, keyBytes, position + RECORD_HEADER_SIZE)) {
+                    break;
+                }
+                addToIndex(new String(keyBytes.array(), UTF_8), new Entry(position, (int) length));
+                position += length;
+            }
+
+            indexedSize = position;
+        }
+
+        // Must be called while holding the lock on this store
+        private void addToIndex(final String key, final Entry entry) {
+            final Entry previous = index.put(key, entry);
+            if (previous != null) {
+                wastedSize += previous.length;
+            }
+        }
+
+        private synchronized Entry refresh(final String key) {
+            try {
+                if (!isCurrent()) {
+                    open();
+                } else if (channel.size() > indexedSize) {
+                    scan();
+                }
+            } catch (final IOException e) {
+                getLogger().warning("failed to refresh ", file, ": ", e);
+            }
+            return index.get(key);
+        }
+
+        private synchronized void append(final String key, final byte[] payload) throws IOException {
+            final byte[] keyBytes = key.getBytes(UTF_8);
+            final CRC32 checksum = new CRC32();
+            checksum.update(payload);
+
+            final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + keyBytes.length + payload.length);
+            record.putInt(keyBytes.length).putInt(payload.length).putInt((int) checksum.getValue()).put(keyBytes).put(payload);
+            record.flip();
+
+            synchronized (fileMonitor) {
+                final FileLock lock = lockCurrent();
+                try {
+                    // Pick up records appended by other stores, then drop any torn record at the end
+                    scan();
+                    final long position = indexedSize;
+                    if (channel.size() > position) {
+                        channel.truncate(position);
+                    }
+                    writeFully(channel, record, position);
+                    indexedSize = position + record.limit();
+                    addToIndex(key, new Entry(position, record.limit()));
+                } finally {
+                    lock.release();
+                }
+            }
+
+            if (wastedSize > COMPACTION_THRESHOLD && wastedSize > indexedSize / 2) {
+                try {
+                    compact();
+                } catch (final IOException e) {
+                    getLogger().warning("failed to compact ", file, ": ", e);
+                }
+            }
+        }
+
+        /**
+         * Acquires the exclusive file lock, reopening the cache file first if another store replaced it.
+         * Must be called while holding the lock on this store and its file monitor.
+         */
+        private FileLock lockCurrent() throws IOException {
+            while (true) {
+                final FileLock lock = channel.lock();
+                if (isCurrent()) {
+                    return lock;
+                }
+                lock.release();
+                open();
+                if (fileKey == null) {
+                    // The file we just opened is as current as we can tell
+                    return channel.lock();
+                }
+            }
+        }
+
+        /**
+         * Reads and verifies the record for {@code entry}. Returns the payload, or null if the record at
+         * that location no longer belongs to {@code key} or is damaged.
+         */
+        private byte[] readRecord(final Entry entry, final String key) throws IOException {
+            final ByteBuffer record = getRecordBuffer(entry);
+            if (record == null) {
+                return null;
+            }
+            final int keyLength = record.getInt();
+            final int payloadLength = record.getInt();
+            final int checksum = record.getInt();
+            final byte[] keyBytes = key.getBytes(UTF_8);
+            if (keyLength != keyBytes.length || RECORD_HEADER_SIZE + keyLength + payloadLength != entry.length) {
+                return null;
+            }
+
+            final byte[] recordKey = new byte[keyLength];
+            record.get(recordKey);
+            if (!Arrays.equals(recordKey, keyBytes)) {
+                return null;
+            }
+
+            final byte[] payload = new byte[payloadLength];
+            record.get(payload);
+            final CRC32 crc = new CRC32();
+            crc.update(payload);
+            return (int) crc.getValue() == checksum ? payload : null;
+        }
+
+        private ByteBuffer getRecordBuffer(final Entry entry) throws IOException {
+            final long end = entry.offset + entry.length;
+            if (end <= Integer.MAX_VALUE) {
+                MappedByteBuffer buffer = mapped;
+                if (buffer == null || buffer.capacity() < end) {
+                    buffer = remap(end);
+                }
+                if (buffer.capacity() >= end) {
+                    final ByteBuffer record = buffer.duplicate();
+                    record.limit((int) end).position((int) entry.offset);
+                    return record.slice();
+                }
+            }
+            // Records beyond the first 2GB of the file are read through the channel
+            final ByteBuffer record = ByteBuffer.allocate(entry.length);
+            if (!readFully(channel, record, entry.offset)) {
+                return null;
+            }
+            record.flip();
+            return record;
+        }
+
+        private synchronized MappedByteBuffer remap(final long end) throws IOException {
+            MappedByteBuffer buffer = mapped;
+            if (buffer == null || buffer.capacity() < end) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), Integer.MAX_VALUE));
+                mapped = buffer;
+            }
+            return buffer;
+        }
+
+        private static boolean readFully(final FileChannel in, final ByteBuffer buffer, final long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer, position + buffer.position()) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void writeFully(final FileChannel out, final ByteBuffer buffer, final long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                out.write(buffer, position + buffer.position());
+            }
+        }
+    }
 }
@@ -35,11 +35,15 @@ import java.lang.invoke.MethodType;
 import java.lang.invoke.MutableCallSite;
 import java.lang.invoke.SwitchPoint;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import jdk.dynalink.linker.GuardedInvocation;
@@ -49,6 +53,7 @@ import org.openjdk.nashorn.internal.codegen.TypeMap;
 import org.openjdk.nashorn.internal.codegen.types.ArrayType;
 import org.openjdk.nashorn.internal.codegen.types.Type;
 import org.openjdk.nashorn.internal.ir.FunctionNode;
+import org.openjdk.nashorn.internal.objects.Global;
 import org.openjdk.nashorn.internal.objects.annotations.SpecializedFunction.LinkLogic;
 import org.openjdk.nashorn.internal.runtime.events.RecompilationEvent;
 import org.openjdk.nashorn.internal.runtime.linker.Bootstrap;
@@ -78,6 +83,13 @@ final class CompiledFunction {
     private MethodHandle invoker;
     private MethodHandle constructor;
     private OptimismInfo optimismInfo;
+    // Is a background recompilation queued but not yet started? Guarded by this.
+    private boolean backgroundRecompileQueued;
+    // Rest-of methods compiled while a background recompilation is pending, shared by all callers that deoptimize
+    // at the same program point with the same invalidated program points. Null when nothing is pending. Guarded by this.
+    private Map<RestOfKey, MethodHandle> interimRestOfs;
+    // Number of deoptimizing recompilations installed so far. Guarded by this.
+    private int recompilations;
     private final int flags; // from FunctionNode
     private final MethodType callSiteType;
 
@@ -780,18 +792,33 @@ final class CompiledFunction {
         // Effective optimism info, for subsequent use. We'll normally try to use the current (latest) one, but if it
         // isn't available, we'll use the old one bound into the call site.
         final OptimismInfo effectiveOptInfo = currentOptInfo != null ? currentOptInfo : oldOptInfo;
-        FunctionNode fn = effectiveOptInfo.reparse();
-        final boolean cached = fn.isCached();
-        final Compiler compiler = effectiveOptInfo.getCompiler(fn, ct, re); //set to non rest-of
+        effectiveOptInfo.data.recordDeoptimization();
 
         if (!shouldRecompile) {
             // It didn't necessarily recompile, e.g. for an outer invocation of a recursive function if we already
-            // recompiled a deoptimized version for an inner invocation.
+            // recompiled a deoptimized version for an inner invocation, or because a background recompilation for
+            // this program point is still pending.
             // We still need to do the rest of from the beginning
-            logRecompile("Rest-of compilation [STANDALONE] ", fn, ct, effectiveOptInfo.invalidatedProgramPoints);
-            return restOfHandle(effectiveOptInfo, compiler.compile(fn, cached ? CompilationPhases.COMPILE_CACHED_RESTOF : CompilationPhases.COMPILE_ALL_RESTOF), currentOptInfo != null);
+            return interimRestOf("Rest-of compilation [STANDALONE] ", effectiveOptInfo, ct, re, currentOptInfo != null);
+        }
+
+        if (scheduleBackgroundRecompile(effectiveOptInfo, ct, re.getRuntimeScope())) {
+            // The deoptimized function is compiled and installed by a background thread. This thread only needs the
+            // rest-of method to finish the current invocation. Other callers don't wait for the new version: interim
+            // assumptions let them relink to the current code until the background thread installs its replacement
+            // and invalidates them. Callers that hit an invalidated program point in the meantime finish their
+            // invocations with the same interim rest-of method.
+            if (effectiveOptInfo.optimisticAssumptions.hasBeenInvalidated()) {
+                effectiveOptInfo.newOptimisticAssumptions();
+                notifyAll();
+            }
+            return interimRestOf("Rest-of compilation [BACKGROUND RECOMPILATION] ", effectiveOptInfo, ct, re, true);
         }
 
+        FunctionNode fn = effectiveOptInfo.reparse();
+        final boolean cached = fn.isCached();
+        final Compiler compiler = effectiveOptInfo.getCompiler(fn, ct, re); //set to non rest-of
+
         logRecompile("Deoptimizing recompilation (up to bytecode) ", fn, ct, effectiveOptInfo.invalidatedProgramPoints);
         fn = compiler.compile(fn, cached ? CompilationPhases.RECOMPILE_CACHED_UPTO_BYTECODE : CompilationPhases.COMPILE_UPTO_BYTECODE);
         log.fine("Reusable IR generated");
@@ -823,6 +850,9 @@ final class CompiledFunction {
         final MethodHandle newInvoker = effectiveOptInfo.data.lookup(fn);
         invoker     = newInvoker.asType(type.changeReturnType(newInvoker.type().returnType()));
         constructor = null; // Will be regenerated when needed
+        recompilations++;
+        interimRestOfs = null;
+        effectiveOptInfo.data.recordRecompilation();
 
         log.info("Done: ", invoker);
         final MethodHandle restOf = restOfHandle(effectiveOptInfo, compiler.compile(fn, CompilationPhases.GENERATE_BYTECODE_AND_INSTALL_RESTOF), canBeDeoptimized);
@@ -838,6 +868,154 @@ final class CompiledFunction {
         return restOf;
     }
 
+    /**
+     * Returns a rest-of method that finishes an invocation of the current code of this function from the program
+     * point of a rewrite exception. While a background recompilation is pending, the method is compiled once and
+     * shared by all callers that deoptimize at the same program point with the same invalidated program points.
+     * Must be called while holding the lock on this function.
+     * @param reason the reason to log for a fresh compilation
+     * @param optInfo the effective optimism info
+     * @param callSiteType the call site type to compile for
+     * @param re the rewrite exception that was raised
+     * @param canBeDeoptimized whether the rest-of method must handle its own rewrite exceptions
+     * @return the method handle for the rest-of method
+     */
+    private MethodHandle interimRestOf(final String reason, final OptimismInfo optInfo, final MethodType callSiteType, final RewriteException re, final boolean canBeDeoptimized) {
+        final RestOfKey key = interimRestOfs == null ? null : new RestOfKey(OptimismInfo.getEntryPoints(re), optInfo.invalidatedProgramPoints, canBeDeoptimized);
+        if (key != null) {
+            final MethodHandle restOf = interimRestOfs.get(key);
+            if (restOf != null) {
+                if (log.isEnabled()) {
+                    log.info("Reusing interim rest-of method of ", DebugLogger.quote(optInfo.data.getName()));
+                    log.unindent();
+                }
+                return restOf;
+            }
+        }
+
+        final FunctionNode fn = optInfo.reparse();
+        final Compiler compiler = optInfo.getCompiler(fn, callSiteType, re);
+        logRecompile(reason, fn, callSiteType, optInfo.invalidatedProgramPoints);
+        final MethodHandle restOf = restOfHandle(optInfo, compiler.compile(fn, fn.isCached() ? CompilationPhases.COMPILE_CACHED_RESTOF : CompilationPhases.COMPILE_ALL_RESTOF), canBeDeoptimized);
+        if (key != null) {
+            interimRestOfs.put(key, restOf);
+        }
+        if (log.isEnabled()) {
+            log.unindent();
+        }
+        return restOf;
+    }
+
+    /**
+     * Queues a deoptimizing recompilation of this function on the context's background recompilation executor.
+     * Must be called while holding the lock on this function, after {@link OptimismInfo#requestRecompile} invalidated
+     * the optimistic assumptions.
+     * @param optInfo the optimism info with the newly invalidated program point
+     * @param callSiteType the call site type to compile for
+     * @param runtimeScope the runtime scope of the deoptimized invocation, used for type speculation
+     * @return true if the recompilation will happen in the background, false if background recompilation is disabled
+     * or its queue is full and the caller has to recompile the function itself.
+     */
+    private boolean scheduleBackgroundRecompile(final OptimismInfo optInfo, final MethodType callSiteType, final ScriptObject runtimeScope) {
+        if (backgroundRecompileQueued) {
+            // The queued recompilation hasn't taken its snapshot of invalidated program points yet, so it will
+            // include the one just invalidated.
+            return true;
+        }
+        final Executor executor = optInfo.data.getRecompilationExecutor();
+        if (executor == null) {
+            return false;
+        }
+        final Global global = Context.getGlobal();
+        try {
+            executor.execute(() -> backgroundRecompile(optInfo, callSiteType, runtimeScope, global));
+        } catch (final RejectedExecutionException e) {
+            log.info("Background recompilation queue is full, recompiling ", DebugLogger.quote(optInfo.data.getName()), " inline");
+            return false;
+        }
+        backgroundRecompileQueued = true;
+        if (interimRestOfs == null) {
+            interimRestOfs = new HashMap<>();
+        }
+        return true;
+    }
+
+    private void backgroundRecompile(final OptimismInfo optInfo, final MethodType callSiteType, final ScriptObject runtimeScope, final Global global) {
+        final Map<Integer, Type> invalidatedProgramPoints;
+        final int recompilationsAtStart;
+        synchronized (this) {
+            backgroundRecompileQueued = false;
+            if (optimismInfo != optInfo) {
+                // Fully deoptimized in the meantime; nothing left to do.
+                interimRestOfs = null;
+                notifyAll();
+                return;
+            }
+            // The compiler may add to the map, and other threads may invalidate further program points while we
+            // compile, so compile against a snapshot and merge it back when installing.
+            invalidatedProgramPoints = new TreeMap<>(optInfo.invalidatedProgramPoints);
+            recompilationsAtStart = recompilations;
+        }
+
+        final Global oldGlobal = Context.getGlobal();
+        final boolean globalChanged = oldGlobal != global;
+        FunctionNode fn = null;
+        try {
+            if (globalChanged) {
+                Context.setGlobal(global);
+            }
+            fn = optInfo.reparse();
+            final Compiler compiler = optInfo.data.getCompiler(fn, callSiteType, runtimeScope, invalidatedProgramPoints, null);
+            logRecompile("Deoptimizing recompilation [BACKGROUND] ", fn, callSiteType, invalidatedProgramPoints);
+            fn = compiler.compile(fn, fn.isCached() ? CompilationPhases.COMPILE_ALL_CACHED : CompilationPhases.COMPILE_ALL);
+
+            if (optInfo.data.usePersistentCodeCache()) {
+                final RecompilableScriptFunctionData data = optInfo.data;
+                final int functionNodeId = data.getFunctionNodeId();
+                final TypeMap typeMap = data.typeMap(callSiteType);
+                final Type[] paramTypes = typeMap == null ? null : typeMap.getParameterTypes(functionNodeId);
+                compiler.persistClassInfo(CodeStore.getCacheKey(functionNodeId, paramTypes), fn);
+            }
+        } catch (final RuntimeException | Error e) {
+            log.warning("Background recompilation of ", DebugLogger.quote(optInfo.data.getName()), " failed: ", e);
+            fn = null;
+        } finally {
+            if (globalChanged) {
+                Context.setGlobal(oldGlobal);
+            }
+        }
+
+        synchronized (this) {
+            for (final Map.Entry<Integer, Type> entry : invalidatedProgramPoints.entrySet()) {
+                optInfo.invalidatedProgramPoints.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            if (fn != null && optimismInfo == optInfo && recompilations == recompilationsAtStart) {
+                final MethodHandle newInvoker = optInfo.data.lookup(fn);
+                invoker     = newInvoker.asType(type().changeReturnType(newInvoker.type().returnType()));
+                constructor = null; // Will be regenerated when needed
+                recompilations++;
+                optInfo.data.recordRecompilation();
+                log.info("Installed background recompilation of '", fn.getName(), "' (", Debug.id(this), ")");
+                // Callers are linked to the previous code under the interim assumptions published when the
+                // recompilation was queued; invalidate them so they relink to the new code.
+                final SwitchPoint interimAssumptions = optInfo.optimisticAssumptions;
+                if (fn.canBeDeoptimized()) {
+                    optInfo.newOptimisticAssumptions();
+                } else {
+                    optimismInfo = null;
+                }
+                SwitchPoint.invalidateAll(new SwitchPoint[] { interimAssumptions });
+            } else if (!backgroundRecompileQueued && optimismInfo == optInfo && optInfo.optimisticAssumptions.hasBeenInvalidated()) {
+                // Nothing was installed and nothing else is coming; let waiting callers continue with the current code.
+                optInfo.newOptimisticAssumptions();
+            }
+            if (!backgroundRecompileQueued) {
+                interimRestOfs = null;
+            }
+            notifyAll();
+        }
+    }
+
     private MethodHandle restOfHandle(final OptimismInfo info, final FunctionNode restOfFunction, final boolean canBeDeoptimized) {
         assert info != null;
         assert restOfFunction.getCompileUnit().getUnitClassName().contains("restOf");
@@ -858,6 +1036,36 @@ final class CompiledFunction {
 
     }
 
+    /**
+     * Identifies an interim rest-of method: the program points it continues from, the program points that were
+     * invalidated when it was compiled, and whether it handles its own rewrite exceptions.
+     */
+    private static final class RestOfKey {
+        private final int[] entryPoints;
+        private final Map<Integer, Type> invalidatedProgramPoints;
+        private final boolean canBeDeoptimized;
+
+        RestOfKey(final int[] entryPoints, final Map<Integer, Type> invalidatedProgramPoints, final boolean canBeDeoptimized) {
+            this.entryPoints = entryPoints;
+            this.invalidatedProgramPoints = new TreeMap<>(invalidatedProgramPoints);
+            this.canBeDeoptimized = canBeDeoptimized;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof RestOfKey)) {
+                return false;
+            }
+            final RestOfKey key = (RestOfKey) other;
+            return canBeDeoptimized == key.canBeDeoptimized && Arrays.equals(entryPoints, key.entryPoints) && invalidatedProgramPoints.equals(key.invalidatedProgramPoints);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(entryPoints) * 31 + invalidatedProgramPoints.hashCode() + (canBeDeoptimized ? 1 : 0);
+        }
+    }
+
     private static class OptimismInfo {
         // TODO: this is pointing to its owning ScriptFunctionData. Re-evaluate if that's okay.
         private final RecompilableScriptFunctionData data;
@@ -886,7 +1094,7 @@ final class CompiledFunction {
                         data.getName() :
                         stack[0].getClassName() + "." + stack[0].getMethodName();
 
-                log.info("RewriteException for an already invalidated program point ", e.getProgramPoint(), " in ", functionId, ". This is okay for a recursive function invocation, but a bug otherwise.");
+                log.info("RewriteException for an already invalidated program point ", e.getProgramPoint(), " in ", functionId, ". This is okay for a recursive function invocation or while a background recompilation is pending, but a bug otherwise.");
 
                 return false;
             }
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.openjdk.nashorn.api.management.CompilationMetrics;
+import org.openjdk.nashorn.api.management.CompilerMetricsMXBean;
+import org.openjdk.nashorn.internal.runtime.options.Options;
+
+/**
+ * Collects compilation metrics. Every {@link Context} has its own instance, see
+ * {@link Context#getCompilerMetrics()}. With {@code -Dnashorn.compiler.metrics=true} the metrics of
+ * all contexts are also added up in a JVM wide instance that is published as a platform MXBean.
+ * <p>
+ * Metrics are only updated when code is parsed, compiled, installed or deoptimized, never while
+ * it runs, so collecting them is always on.
+ */
+public final class CompilerMetrics implements CompilerMetricsMXBean {
+    private static final boolean ENABLED = Options.getBooleanProperty("nashorn.compiler.metrics");
+
+    private static final CompilerMetrics INSTANCE = ENABLED ? register(new CompilerMetrics(null)) : null;
+
+    // Bounds on the number of individually tracked source names and deoptimized functions
+    private static final int MAX_SOURCES = 1024;
+    private static final int MAX_FUNCTIONS = 4096;
+
+    private static final Comparator<CompilationMetrics> BY_TOTAL_TIME = Comparator.comparingLong(CompilationMetrics::getTotalTime).reversed();
+
+    private final CompilerMetrics parent;
+    private final Counters totals = new Counters(null);
+    private final Map<String, Counters> sources = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> deoptimizedFunctions = new ConcurrentHashMap<>();
+    private final LongAdder regExpCacheHits = new LongAdder();
+    private final LongAdder regExpCacheMisses = new LongAdder();
+
+    /**
+     * Creates new compiler metrics.
+     * @param parent metrics to which everything recorded is also added, or null
+     */
+    CompilerMetrics(final CompilerMetrics parent) {
+        this.parent = parent;
+    }
+
+    private static CompilerMetrics register(final CompilerMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+        } catch (final JMException | SecurityException e) {
+            // Metrics are still collected and available through getInstance().
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the JVM wide compiler metrics, or null if they are not enabled.
+     * @return the JVM wide compiler metrics or null
+     */
+    public static CompilerMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record the time it took to parse a script or to reparse a function for compilation.
+     * @param source the source
+     * @param nanos  the parse time in nanoseconds
+     */
+    public void parsed(final Source source, final long nanos) {
+        record(source, c -> c.parseTime.add(nanos));
+    }
+
+    /**
+     * Record a run of the compiler.
+     * @param source the source being compiled
+     */
+    public void compiled(final Source source) {
+        record(source, c -> c.compilations.increment());
+    }
+
+    /**
+     * Record the time a compilation phase took.
+     * @param source the source being compiled
+     * @param phase  the name of the phase
+     * @param nanos  the time in nanoseconds
+     */
+    public void phaseCompleted(final Source source, final String phase, final long nanos) {
+        record(source, c -> c.phaseTimes.computeIfAbsent(phase, k -> new LongAdder()).add(nanos));
+    }
+
+    /**
+     * Record generated bytecode.
+     * @param source the source being compiled
+     * @param bytes  the size of the generated class files in bytes
+     */
+    public void bytecodeGenerated(final Source source, final long bytes) {
+        record(source, c -> c.bytecodeSize.add(bytes));
+    }
+
+    /**
+     * Record installed classes.
+     * @param source the source the classes were compiled from
+     * @param count  the number of classes
+     */
+    public void classesInstalled(final Source source, final int count) {
+        record(source, c -> c.classesInstalled.add(count));
+    }
+
+    /**
+     * Record a script or function loaded from the persistent code cache.
+     * @param source the source
+     */
+    public void persistentCacheHit(final Source source) {
+        record(source, c -> c.persistentCacheHits.increment());
+    }
+
+    /**
+     * Record a failed optimistic assumption.
+     * @param source   the source of the function
+     * @param function the name of the function
+     */
+    public void deoptimized(final Source source, final String function) {
+        record(source, c -> c.deoptimizations.increment());
+        countDeoptimization(source.getName() + ':' + function);
+    }
+
+    private void countDeoptimization(final String function) {
+        LongAdder count = deoptimizedFunctions.get(function);
+        if (count == null && deoptimizedFunctions.size() < MAX_FUNCTIONS) {
+            count = deoptimizedFunctions.computeIfAbsent(function, k -> new LongAdder());
+        }
+        if (count != null) {
+            count.increment();
+        }
+        if (parent != null) {
+            parent.countDeoptimization(function);
+        }
+    }
+
+    /**
+     * Record a recompilation of a function after a deoptimization.
+     * @param source the source of the function
+     */
+    public void recompiled(final Source source) {
+        record(source, c -> c.recompilations.increment());
+    }
+
+    /**
+     * Record a regular expression found in the regexp cache.
+     */
+    public void regExpCacheHit() {
+        regExpCacheHits.increment();
+        if (parent != null) {
+            parent.regExpCacheHit();
+        }
+    }
+
+    /**
+     * Record a regular expression that had to be compiled because it was not in the regexp cache.
+     */
+    public void regExpCacheMiss() {
+        regExpCacheMisses.increment();
+        if (parent != null) {
+            parent.regExpCacheMiss();
+        }
+    }
+
+    private void record(final Source source, final Consumer<Counters> update) {
+        update.accept(totals);
+        final Counters counters = getSourceCounters(source.getName());
+        if (counters != null) {
+            update.accept(counters);
+        }
+        if (parent != null) {
+            parent.record(source, update);
+        }
+    }
+
+    private Counters getSourceCounters(final String name) {
+        final Counters counters = sources.get(name);
+        if (counters != null || sources.size() >= MAX_SOURCES) {
+            return counters;
+        }
+        return sources.computeIfAbsent(name, Counters::new);
+    }
+
+    @Override
+    public CompilationMetrics getTotals() {
+        return totals.snapshot();
+    }
+
+    @Override
+    public CompilationMetrics getSourceMetrics(final String source) {
+        final Counters counters = sources.get(source);
+        return counters == null ? null : counters.snapshot();
+    }
+
+    @Override
+    public List<CompilationMetrics> getTopSources(final int limit) {
+        final List<CompilationMetrics> metrics = new ArrayList<>(sources.size());
+        for (final Counters counters : sources.values()) {
+            metrics.add(counters.snapshot());
+        }
+        metrics.sort(BY_TOTAL_TIME);
+        return metrics.size() > limit ? new ArrayList<>(metrics.subList(0, Math.max(0, limit))) : metrics;
+    }
+
+    @Override
+    public Map<String, Long> getDeoptimizationsByFunction() {
+        final Map<String, Long> counts = new TreeMap<>();
+        for (final Map.Entry<String, LongAdder> entry : deoptimizedFunctions.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public long getRegExpCacheHitCount() {
+        return regExpCacheHits.sum();
+    }
+
+    @Override
+    public long getRegExpCacheMissCount() {
+        return regExpCacheMisses.sum();
+    }
+
+    @Override
+    public double getRegExpCacheHitRate() {
+        final long hits = getRegExpCacheHitCount();
+        final long total = hits + getRegExpCacheMissCount();
+        return total == 0 ? 0.0 : (double)hits / total;
+    }
+
+    @Override
+    public void reset() {
+        totals.reset();
+        sources.clear();
+        deoptimizedFunctions.clear();
+        regExpCacheHits.reset();
+        regExpCacheMisses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "CompilerMetrics[" + totals.snapshot() + ']';
+    }
+
+    private static final class Counters {
+        private final String source;
+        private final LongAdder compilations = new LongAdder();
+        private final LongAdder parseTime = new LongAdder();
+        private final Map<String, LongAdder> phaseTimes = new ConcurrentHashMap<>();
+        private final LongAdder bytecodeSize = new LongAdder();
+        private final LongAdder classesInstalled = new LongAdder();
+        private final LongAdder recompilations = new LongAdder();
+        private final LongAdder deoptimizations = new LongAdder();
+        private final LongAdder persistentCacheHits = new LongAdder();
+
+        Counters(final String source) {
+            this.source = source;
+        }
+
+        CompilationMetrics snapshot() {
+            final Map<String, Long> phases = new TreeMap<>();
+            for (final Map.Entry<String, LongAdder> entry : phaseTimes.entrySet()) {
+                phases.put(entry.getKey(), entry.getValue().sum());
+            }
+            return new CompilationMetrics(source, compilations.sum(), parseTime.sum(), phases, bytecodeSize.sum(),
+                    classesInstalled.sum(), recompilations.sum(), deoptimizations.sum(), persistentCacheHits.sum());
+        }
+
+        void reset() {
+            compilations.reset();
+            parseTime.reset();
+            phaseTimes.clear();
+            bytecodeSize.reset();
+            classesInstalled.reset();
+            recompilations.reset();
+            deoptimizations.reset();
+            persistentCacheHits.reset();
+        }
+    }
+}
@@ -28,23 +28,58 @@ package org.openjdk.nashorn.internal.runtime;
 import static org.openjdk.nashorn.internal.runtime.JSType.isString;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 
 /**
  * This class represents a string composed of two parts which may themselves be
  * instances of <code>ConsString</code> or {@link String}. Copying of characters to
  * a proper string is delayed until it becomes necessary.
+ * <p>
+ * The {@link CharSequence} methods flatten the string. Builtins that only need a
+ * few characters or a part of the string can use {@link #leafCharAt(int)},
+ * {@link #indexOf(String, int)} and {@link #substring(int, int)} instead, which
+ * work on the tree of components directly. To keep these cheap the tree is
+ * rebalanced when it gets too deep, as it does when a string is built by
+ * appending to it in a loop. Once walking the tree has cost as much as flattening
+ * the string would, these methods flatten it too.
  */
 public final class ConsString implements CharSequence {
 
     private CharSequence left, right;
     private final int length;
+    private final int depth;
     private volatile int state = STATE_NEW;
 
+    // The last leaf found by leafCharAt, and the total cost of walking the tree without flattening it
+    private volatile Leaf cursor;
+    private int walked;
+
     private final static int STATE_NEW       =  0;
     private final static int STATE_THRESHOLD =  2;
     private final static int STATE_FLATTENED = -1;
 
+    // Trees deeper than this are rebalanced on construction
+    private final static int MAX_DEPTH = 64;
+
+    // Substrings up to this length are copied rather than sharing the components of the tree
+    private final static int MAX_COPIED_SUBSTRING = 256;
+
+    // Fibonacci numbers starting with 1, 2. A tree of depth d is balanced if its length is at least FIB[d].
+    private final static long[] FIB;
+
+    static {
+        final long[] fib = new long[64];
+        fib[0] = 1;
+        fib[1] = 2;
+        int n = 2;
+        while (fib[n - 1] <= Integer.MAX_VALUE) {
+            fib[n] = fib[n - 1] + fib[n - 2];
+            n++;
+        }
+        FIB = Arrays.copyOf(fib, n);
+    }
+
     /**
      * Constructor
      *
@@ -56,12 +91,28 @@ public final class ConsString implements CharSequence {
     public ConsString(final CharSequence left, final CharSequence right) {
         assert isString(left);
         assert isString(right);
-        this.left = left;
-        this.right = right;
         length = left.length() + right.length();
         if (length < 0) {
             throw new IllegalArgumentException("too big concatenated String");
         }
+        final int d = Math.max(depth(left), depth(right)) + 1;
+        if (d > MAX_DEPTH) {
+            final CharSequence balanced = rebalance(left, right);
+            if (balanced instanceof ConsString) {
+                final ConsString cons = (ConsString) balanced;
+                this.left = cons.left;
+                this.right = cons.right;
+                this.depth = cons.depth;
+            } else {
+                this.left = balanced;
+                this.right = "";
+                this.depth = 1;
+            }
+        } else {
+            this.left = left;
+            this.right = right;
+            this.depth = d;
+        }
     }
 
     @Override
@@ -93,6 +144,263 @@ public final class ConsString implements CharSequence {
         return new CharSequence[] { left, right };
     }
 
+    /**
+     * Returns the char at the given index without flattening this string. The leaf
+     * the char was read from is remembered, so reading nearby chars is cheap. If
+     * finding leaves has cost as much as flattening the string would, the string
+     * is flattened.
+     *
+     * @param index the index of the char
+     * @return the char at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public char leafCharAt(final int index) {
+        if (state == STATE_FLATTENED) {
+            return left.charAt(index);
+        }
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        final Leaf leaf = cursor;
+        if (leaf != null && index >= leaf.start && index - leaf.start < leaf.chars.length()) {
+            return leaf.chars.charAt(index - leaf.start);
+        }
+        if (walk(depth)) {
+            cursor = null;
+            return flattened(true).charAt(index);
+        }
+        final Leaves leaves = new Leaves(this, index, false);
+        cursor = new Leaf(leaves.leaf, leaves.start);
+        return leaves.leaf.charAt(index - leaves.start);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code str} at or after
+     * {@code fromIndex}, like {@link String#indexOf(String, int)}, without
+     * flattening this string.
+     *
+     * @param str the string to search for
+     * @param fromIndex the index to start the search from
+     * @return the index of the first occurrence, or -1 if there is none
+     */
+    public int indexOf(final String str, final int fromIndex) {
+        if (state == STATE_FLATTENED || walk(depth)) {
+            return ((String) flattened(true)).indexOf(str, fromIndex);
+        }
+        final int from = Math.max(fromIndex, 0);
+        final int strLength = str.length();
+        if (strLength == 0) {
+            return Math.min(from, length);
+        }
+        final int last = length - strLength;
+        if (from > last) {
+            return -1;
+        }
+        final char first = str.charAt(0);
+        final Leaves leaves = new Leaves(this, from, true);
+        do {
+            final String leaf = leaves.leaf;
+            final int start = leaves.start;
+            final int localFrom = Math.max(from - start, 0);
+            final int found = leaf.indexOf(str, localFrom);
+            if (found >= 0) {
+                return start + found;
+            }
+            // occurrences starting in this leaf that continue into the next ones
+            for (int i = Math.max(localFrom, leaf.length() - strLength + 1); i < leaf.length(); i++) {
+                if (start + i > last) {
+                    return -1;
+                }
+                if (leaf.charAt(i) == first && regionMatches(start + i, str)) {
+                    return start + i;
+                }
+            }
+            if (walk(1)) {
+                // there is no occurrence before the next leaf
+                return ((String) flattened(true)).indexOf(str, start + leaf.length());
+            }
+        } while (leaves.next());
+        return -1;
+    }
+
+    /**
+     * Returns the part of this string between {@code start} and {@code end}
+     * without flattening it. Long substrings share the components of this string.
+     *
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     * @return the substring, a {@code String} or a {@code ConsString}
+     * @throws IndexOutOfBoundsException if the indices are out of bounds
+     */
+    public CharSequence substring(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        }
+        if (state == STATE_FLATTENED || walk(depth)) {
+            return ((String) flattened(true)).substring(start, end);
+        }
+        if (start == end) {
+            return "";
+        }
+        if (end - start <= MAX_COPIED_SUBSTRING) {
+            final char[] chars = new char[end - start];
+            getChars(start, end, chars);
+            return new String(chars);
+        }
+        return substring(this, start, end);
+    }
+
+    /**
+     * Adds the cost of walking the tree and returns true if the total cost exceeds
+     * the cost of flattening this string.
+     */
+    private boolean walk(final int cost) {
+        walked += cost;
+        return walked > length;
+    }
+
+    private static CharSequence substring(final CharSequence cs, final int start, final int end) {
+        if (start == 0 && end == cs.length()) {
+            return cs;
+        }
+        if (cs instanceof ConsString) {
+            final CharSequence[] parts = new CharSequence[2];
+            if (!components((ConsString) cs, parts)) {
+                return ((String) parts[0]).substring(start, end);
+            }
+            final int leftLength = parts[0].length();
+            if (end <= leftLength) {
+                return substring(parts[0], start, end);
+            } else if (start >= leftLength) {
+                return substring(parts[1], start - leftLength, end - leftLength);
+            }
+            return new ConsString(substring(parts[0], start, leftLength), substring(parts[1], 0, end - leftLength));
+        }
+        return ((String) cs).substring(start, end);
+    }
+
+    private void getChars(final int start, final int end, final char[] dst) {
+        final Leaves leaves = new Leaves(this, start, true);
+        int pos = start;
+        do {
+            final String leaf = leaves.leaf;
+            final int leafEnd = Math.min(leaves.start + leaf.length(), end);
+            leaf.getChars(pos - leaves.start, leafEnd - leaves.start, dst, pos - start);
+            pos = leafEnd;
+        } while (pos < end && leaves.next());
+    }
+
+    private boolean regionMatches(final int offset, final String str) {
+        final Leaves leaves = new Leaves(this, offset, true);
+        int matched = 0;
+        do {
+            final String leaf = leaves.leaf;
+            final int from = offset + matched - leaves.start;
+            final int count = Math.min(leaf.length() - from, str.length() - matched);
+            if (!leaf.regionMatches(from, str, matched, count)) {
+                return false;
+            }
+            matched += count;
+        } while (matched < str.length() && leaves.next());
+        return matched == str.length();
+    }
+
+    /**
+     * Reads the components of a cons string into {@code parts}. Returns false if the
+     * cons string has been flattened, or is being flattened by another thread, in which
+     * case {@code parts[0]} is the flattened string.
+     */
+    private static boolean components(final ConsString cons, final CharSequence[] parts) {
+        if (cons.state != STATE_FLATTENED) {
+            final CharSequence l = cons.left;
+            final CharSequence r = cons.right;
+            // flatten() replaces both components, we may have seen only one of them replaced
+            if (l.length() + r.length() == cons.length) {
+                parts[0] = l;
+                parts[1] = r;
+                return true;
+            }
+        }
+        parts[0] = cons.flattened(false);
+        return false;
+    }
+
+    private static int depth(final CharSequence cs) {
+        if (cs instanceof ConsString) {
+            final ConsString cons = (ConsString) cs;
+            // A flattened cons string is a single leaf, whatever its depth was before
+            return cons.state == STATE_FLATTENED ? 0 : cons.depth;
+        }
+        return 0;
+    }
+
+    private static boolean isBalanced(final CharSequence cs) {
+        final int d = depth(cs);
+        return d < FIB.length && cs.length() >= FIB[d];
+    }
+
+    /**
+     * Builds a balanced tree from the concatenation of {@code left} and {@code right},
+     * using the algorithm from Boehm, Atkinson and Plass, "Ropes: an Alternative to Strings".
+     * Balanced subtrees are reused as they are, so only the unbalanced part of the tree is
+     * rebuilt.
+     */
+    private static CharSequence rebalance(final CharSequence left, final CharSequence right) {
+        // forest[i] holds a balanced tree with a length between FIB[i] and FIB[i + 1]
+        final CharSequence[] forest = new CharSequence[FIB.length];
+        final CharSequence[] parts = new CharSequence[2];
+        final Deque<CharSequence> stack = new ArrayDeque<>();
+        stack.addFirst(right);
+        CharSequence cs = left;
+
+        do {
+            if (cs instanceof ConsString && !isBalanced(cs) && components((ConsString) cs, parts)) {
+                stack.addFirst(parts[1]);
+                cs = parts[0];
+            } else {
+                if (cs.length() > 0) {
+                    addToForest(forest, cs);
+                }
+                cs = stack.pollFirst();
+            }
+        } while (cs != null);
+
+        CharSequence result = "";
+        for (final CharSequence tree : forest) {
+            if (tree != null) {
+                result = result.length() == 0 ? tree : new ConsString(tree, result);
+            }
+        }
+        return result;
+    }
+
+    private static void addToForest(final CharSequence[] forest, final CharSequence cs) {
+        final int length = cs.length();
+        // concatenate the trees shorter than cs, which all precede it
+        CharSequence sum = null;
+        int i = 0;
+        while (FIB[i + 1] <= length) {
+            if (forest[i] != null) {
+                sum = sum == null ? forest[i] : new ConsString(forest[i], sum);
+                forest[i] = null;
+            }
+            i++;
+        }
+        sum = sum == null ? cs : new ConsString(sum, cs);
+        // then merge with longer trees until the result fits in an empty slot
+        while (true) {
+            if (forest[i] != null) {
+                sum = new ConsString(forest[i], sum);
+                forest[i] = null;
+            }
+            if (sum.length() < FIB[i + 1]) {
+                break;
+            }
+            i++;
+        }
+        forest[i] = sum;
+    }
+
     private CharSequence flattened(final boolean flattenNested) {
         if (state != STATE_FLATTENED) {
             flatten(flattenNested);
@@ -136,4 +444,61 @@ public final class ConsString implements CharSequence {
         state = STATE_FLATTENED;
     }
 
+    private static final class Leaf {
+        final String chars;
+        final int start;
+
+        Leaf(final String chars, final int start) {
+            this.chars = chars;
+            this.start = start;
+        }
+    }
+
+    /**
+     * Iterates over the leaves of a cons string in order, starting with the leaf
+     * that contains a given index.
+     */
+    private static final class Leaves {
+        private final Deque<CharSequence> stack;
+        private final CharSequence[] parts = new CharSequence[2];
+        String leaf;
+        int start;
+
+        Leaves(final ConsString root, final int index, final boolean iterate) {
+            this.stack = iterate ? new ArrayDeque<>() : null;
+            descend(root, 0, index);
+        }
+
+        boolean next() {
+            final CharSequence cs = stack.pollFirst();
+            if (cs == null) {
+                return false;
+            }
+            descend(cs, start + leaf.length(), 0);
+            return true;
+        }
+
+        private void descend(final CharSequence node, final int nodeStart, final int index) {
+            CharSequence cs = node;
+            int pos = nodeStart;
+            while (cs instanceof ConsString) {
+                if (!components((ConsString) cs, parts)) {
+                    cs = parts[0];
+                    break;
+                }
+                final int leftLength = parts[0].length();
+                if (index < pos + leftLength) {
+                    if (stack != null) {
+                        stack.addFirst(parts[1]);
+                    }
+                    cs = parts[0];
+                } else {
+                    pos += leftLength;
+                    cs = parts[1];
+                }
+            }
+            leaf = (String) cs;
+            start = pos;
+        }
+    }
 }
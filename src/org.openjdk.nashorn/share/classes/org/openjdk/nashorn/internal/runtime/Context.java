@@ -43,8 +43,6 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.invoke.SwitchPoint;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.lang.module.Configuration;
 import java.lang.module.ModuleDescriptor;
 import java.lang.module.ModuleFinder;
@@ -58,12 +56,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
@@ -97,6 +100,7 @@ import org.openjdk.nashorn.internal.runtime.logging.Loggable;
 import org.openjdk.nashorn.internal.runtime.logging.Logger;
 import org.openjdk.nashorn.internal.runtime.options.LoggingOption.LoggerInfo;
 import org.openjdk.nashorn.internal.runtime.options.Options;
+import org.openjdk.nashorn.internal.runtime.regexp.RegExpCache;
 import sun.misc.Unsafe;
 
 /**
@@ -114,6 +118,9 @@ public final class Context {
     private static final LongAdder NAMED_INSTALLED_SCRIPT_COUNT = new LongAdder();
     private static final LongAdder ANONYMOUS_INSTALLED_SCRIPT_COUNT = new LongAdder();
 
+    // Fork-join pools for generating and installing compile unit classes in parallel, by parallelism
+    private static final ConcurrentMap<Integer, ForkJoinPool> COMPILE_UNIT_POOLS = new ConcurrentHashMap<>();
+
     /**
      * Should scripts use only object slots for fields, or dual long/object slots? The default
      * behaviour is to couple this to optimistic types, using dual representation if optimistic types are enabled
@@ -242,14 +249,17 @@ public final class Context {
 
         @Override
         public Class<?> install(final String className, final byte[] bytecode) {
-            usageCount++;
-            bytesDefined += bytecode.length;
+            // Compile units of one script may be installed concurrently, see --compile-unit-parallelism
+            synchronized (this) {
+                usageCount++;
+                bytesDefined += bytecode.length;
+            }
             NAMED_INSTALLED_SCRIPT_COUNT.increment();
             return loader.installClass(Compiler.binaryName(className), bytecode);
         }
 
         @Override
-        public CodeInstaller getOnDemandCompilationInstaller() {
+        public synchronized CodeInstaller getOnDemandCompilationInstaller() {
             // Reuse this installer if we're within our limits.
             if (usageCount < MAX_USAGES && bytesDefined < MAX_BYTES_DEFINED) {
                 return this;
@@ -330,6 +340,8 @@ public final class Context {
     /** Is Context global debug mode enabled ? */
     public static final boolean DEBUG = Options.getBooleanProperty("nashorn.debug");
 
+    private static final int REGEXP_CACHE_SIZE = Options.getIntProperty("nashorn.regexp.cache.size", 512);
+
     private static final ThreadLocal<Global> currentGlobal = new ThreadLocal<>();
 
     // in-memory cache for loaded classes
@@ -338,6 +350,19 @@ public final class Context {
     // persistent code store
     private CodeStore codeStore;
 
+    // metrics of the code compiled in this context
+    private final CompilerMetrics compilerMetrics = new CompilerMetrics(CompilerMetrics.getInstance());
+
+    // compiled regexps shared by the globals of this context, sized by -Dnashorn.regexp.cache.size
+    private final RegExpCache regExpCache = new RegExpCache(REGEXP_CACHE_SIZE, compilerMetrics);
+
+    // recorded and replayed on demand compilations, null unless --warmup-profile is used with lazy compilation
+    private volatile WarmupProfile warmupProfile;
+
+    // executor for background recompilation of deoptimized functions, created on first use
+    private volatile ThreadPoolExecutor recompilationExecutor;
+
+
     // A factory for linking global properties as constant method handles. It is created when the first Global
     // is created, and invalidated forever once the second global is created.
     private final AtomicReference<GlobalConstants> globalConstantsRef = new AtomicReference<>();
@@ -579,6 +604,10 @@ public final class Context {
             codeStore = newCodeStore(this);
         }
 
+        if (env._warmup_profile != null && env._lazy_compilation && !env._parse_only) {
+            warmupProfile = new WarmupProfile(this, env._warmup_profile);
+        }
+
         // print version info if asked.
         if (env._version) {
             getErr().println("nashorn " + Version.version());
@@ -1076,7 +1105,7 @@ public final class Context {
         return new Global(this);
     }
 
-    private void createOrInvalidateGlobalConstants() {
+    void createOrInvalidateGlobalConstants() {
         for (;;) {
             final GlobalConstants currentGlobalConstants = getGlobalConstants();
             if (currentGlobalConstants != null) {
@@ -1098,6 +1127,24 @@ public final class Context {
         }
     }
 
+    /**
+     * Create a new global scope object as a copy of an initialized one, including the state scripts added to it.
+     * Script objects are copied while property maps and compiled code are shared with the original. The original
+     * global must not be modified by other threads while it is being copied.
+     *
+     * @param global the global to copy, must belong to this context
+     * @return the copy
+     * @throws IllegalArgumentException if the global refers to objects that can not be copied
+     * @see GlobalSnapshot
+     */
+    public Global copyGlobal(final Global global) {
+        if (!global.isOfContext(this)) {
+            throw new IllegalArgumentException("Global belongs to a different context");
+        }
+        createOrInvalidateGlobalConstants();
+        return GlobalSnapshot.copy(global);
+    }
+
     /**
      * Initialize given global scope object.
      *
@@ -1282,19 +1329,38 @@ public final class Context {
         return getProgramFunction(compile(source, errMan, this._strict), scope);
     }
 
-    private synchronized Class<?> compile(final Source source, final ErrorManager errMan, final boolean strict) {
+    private Class<?> compile(final Source source, final ErrorManager errMan, final boolean strict) {
         // start with no errors, no warnings.
         errMan.reset();
 
-        Class<?> script = findCachedClass(source);
+        // Class cache lookups don't need the context lock; only compiling on a miss does.
+        final Class<?> script = findCachedClass(source);
         if (script != null) {
-            final DebugLogger log = getLogger(Compiler.class);
-            if (log.isEnabled()) {
-                log.fine(new RuntimeEvent<>(Level.INFO, source), "Code cache hit for ", source, " avoiding recompile.");
-            }
+            logClassCacheHit(source);
             return script;
         }
 
+        return compileAndCache(source, errMan, strict);
+    }
+
+    private void logClassCacheHit(final Source source) {
+        final DebugLogger log = getLogger(Compiler.class);
+        if (log.isEnabled()) {
+            log.fine(new RuntimeEvent<>(Level.INFO, source), "Code cache hit for ", source, " avoiding recompile.");
+        }
+    }
+
+    private synchronized Class<?> compileAndCache(final Source source, final ErrorManager errMan, final boolean strict) {
+        // Another thread may have compiled the same source while we were waiting for the lock. The caller
+        // already counted this lookup as a miss, so don't count it again.
+        Class<?> script = classCache == null ? null : classCache.peek(source);
+        if (script != null) {
+            logClassCacheHit(source);
+            return script;
+        }
+
+        final long startTime = System.nanoTime();
+        final long bytecodeSize;
         StoredScript storedScript = null;
         FunctionNode functionNode = null;
         // Don't use code store if optimistic types is enabled but lazy compilation is not.
@@ -1312,7 +1378,9 @@ public final class Context {
                 source.dump(env._dest_dir);
             }
 
+            final long parseStart = System.nanoTime();
             functionNode = new Parser(env, source, errMan, strict, getLogger(Parser.class)).parse();
+            compilerMetrics.parsed(source, System.nanoTime() - parseStart);
 
             if (errMan.hasErrors()) {
                 return null;
@@ -1362,13 +1430,16 @@ public final class Context {
                 return null;
             }
             script = compiledFunction.getRootClass();
+            bytecodeSize = compiler.getBytecodeSize();
             compiler.persistClassInfo(cacheKey, compiledFunction);
         } else {
             Compiler.updateCompilationId(storedScript.getCompilationId());
             script = storedScript.installScript(source, installer);
+            compilerMetrics.persistentCacheHit(source);
+            bytecodeSize = storedScript.getBytecodeSize();
         }
 
-        cacheClass(source, script);
+        cacheClass(source, script, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + bytecodeSize);
         return script;
     }
 
@@ -1380,83 +1451,131 @@ public final class Context {
         return uniqueScriptId.getAndIncrement();
     }
 
-    /**
-     * Cache for compiled script classes.
-     */
-    @SuppressWarnings("serial")
-    @Logger(name="classcache")
-    private static class ClassCache extends LinkedHashMap<Source, ClassReference> implements Loggable {
-        private final int size;
-        private final ReferenceQueue<Class<?>> queue;
-        private final DebugLogger log;
-
-        ClassCache(final Context context, final int size) {
-            super(size, 0.75f, true);
-            this.size = size;
-            this.queue = new ReferenceQueue<>();
-            this.log   = initLogger(context);
-        }
-
-        void cache(final Source source, final Class<?> clazz) {
-            if (log.isEnabled()) {
-                log.info("Caching ", source, " in class cache");
-            }
-            put(source, new ClassReference(clazz, queue, source));
-        }
+    // Class cache management
+    private Class<?> findCachedClass(final Source source) {
+        return classCache == null ? null : classCache.get(source);
+    }
 
-        @Override
-        protected boolean removeEldestEntry(final Map.Entry<Source, ClassReference> eldest) {
-            return size() > size;
+    private void cacheClass(final Source source, final Class<?> clazz, final long cost) {
+        if (classCache != null) {
+            classCache.cache(source, clazz, cost);
         }
+    }
 
-        @Override
-        public ClassReference get(final Object key) {
-            for (ClassReference ref; (ref = (ClassReference)queue.poll()) != null; ) {
-                final Source source = ref.source;
-                if (log.isEnabled()) {
-                    log.info("Evicting ", source, " from class cache.");
-                }
-                remove(source);
-            }
-
-            final ClassReference ref = super.get(key);
-            if (ref != null && log.isEnabled()) {
-                log.info("Retrieved class reference for ", ref.source, " from class cache");
-            }
-            return ref;
-        }
+    /**
+     * Get the class cache of this context.
+     *
+     * @return the class cache, or null if class caching is disabled with {@code --class-cache-size=0}
+     */
+    public ClassCache getClassCache() {
+        return classCache;
+    }
 
-        @Override
-        public DebugLogger initLogger(final Context context) {
-            return context.getLogger(getClass());
-        }
+    /**
+     * Get the cache of regexps compiled in this context.
+     *
+     * @return the regexp cache
+     */
+    public RegExpCache getRegExpCache() {
+        return regExpCache;
+    }
 
-        @Override
-        public DebugLogger getLogger() {
-            return log;
-        }
+    /**
+     * Get the regexp cache of the current global's context.
+     *
+     * @return the regexp cache, or null if there is no current global
+     */
+    public static RegExpCache getCurrentRegExpCache() {
+        final Context context = getContextTrustedOrNull();
+        return context == null ? null : context.regExpCache;
+    }
 
+    /**
+     * Get the compiler metrics of this context. They cover all code compiled, installed or deoptimized in this
+     * context, and are added to the JVM wide {@link CompilerMetrics#getInstance() compiler metrics} if those are
+     * enabled.
+     *
+     * @return the compiler metrics
+     */
+    public CompilerMetrics getCompilerMetrics() {
+        return compilerMetrics;
     }
 
-    private static class ClassReference extends SoftReference<Class<?>> {
-        private final Source source;
+    /**
+     * Returns the warm-up profile that records the functions compiled on demand in this context and compiles the
+     * ones recorded by a previous run in the background.
+     *
+     * @return the warm-up profile, or null if warm-up is disabled
+     */
+    WarmupProfile getWarmupProfile() {
+        return warmupProfile;
+    }
 
-        ClassReference(final Class<?> clazz, final ReferenceQueue<Class<?>> queue, final Source source) {
-            super(clazz, queue);
-            this.source = source;
+    /**
+     * Writes the warm-up profile of this context to its file now, rather than when the JVM exits, and stops
+     * recording into it. Does nothing if warm-up is disabled.
+     *
+     * @throws IOException if the profile file cannot be written
+     */
+    public void closeWarmupProfile() throws IOException {
+        final WarmupProfile profile = warmupProfile;
+        if (profile != null) {
+            warmupProfile = null;
+            profile.close();
         }
     }
 
-    // Class cache management
-    private Class<?> findCachedClass(final Source source) {
-        final ClassReference ref = classCache == null ? null : classCache.get(source);
-        return ref != null ? ref.get() : null;
+    /**
+     * Returns the executor that recompiles deoptimized functions in the background, creating it on first use. Its
+     * threads are daemons that go away when idle. Its queue is bounded by {@code --background-recompile-queue};
+     * tasks submitted to a full queue are rejected, and the caller is expected to recompile on its own thread.
+     *
+     * @return the executor, or null if background recompilation is disabled
+     */
+    Executor getRecompilationExecutor() {
+        final int threads = env._background_recompile_threads;
+        if (threads <= 0) {
+            return null;
+        }
+        ThreadPoolExecutor executor = recompilationExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = recompilationExecutor;
+                if (executor == null) {
+                    final AtomicLong threadCount = new AtomicLong();
+                    executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+                        new ArrayBlockingQueue<>(Math.max(1, env._background_recompile_queue)),
+                        (r) -> {
+                            final Thread t = new Thread(r, "Nashorn Recompiler " + threadCount.incrementAndGet());
+                            t.setDaemon(true);
+                            return t;
+                        });
+                    executor.allowCoreThreadTimeOut(true);
+                    recompilationExecutor = executor;
+                }
+            }
+        }
+        return executor;
     }
 
-    private void cacheClass(final Source source, final Class<?> clazz) {
-        if (classCache != null) {
-            classCache.cache(source, clazz);
+    /**
+     * Returns the pool used to generate and install the classes of independent compile units in parallel. Contexts
+     * with the same {@code --compile-unit-parallelism} share one pool, whose daemon worker threads go away when idle.
+     * Whether this speeds up compilation depends on the number of available processors.
+     *
+     * @return the pool, or null if compile units are to be processed on the compiling thread
+     */
+    public ForkJoinPool getCompileUnitPool() {
+        final int parallelism = env._compile_unit_parallelism;
+        if (parallelism <= 1) {
+            return null;
         }
+        return COMPILE_UNIT_POOLS.computeIfAbsent(parallelism, p -> new ForkJoinPool(p,
+            (pool) -> {
+                final ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                t.setName("Nashorn Compile Unit " + t.getPoolIndex());
+                return t;
+            }, null, false));
     }
 
     // logging
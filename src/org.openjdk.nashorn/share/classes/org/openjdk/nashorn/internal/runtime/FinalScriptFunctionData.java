@@ -94,7 +94,7 @@ final class FinalScriptFunctionData extends ScriptFunctionData {
 
     @Override
     protected boolean needsCallee() {
-        final boolean needsCallee = code.getFirst().needsCallee();
+        final boolean needsCallee = code.get(0).needsCallee();
         assert allNeedCallee(needsCallee);
         return needsCallee;
     }
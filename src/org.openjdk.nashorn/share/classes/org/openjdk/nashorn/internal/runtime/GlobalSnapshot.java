@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SwitchPoint;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.script.ScriptContext;
+import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.objects.LinkedMap;
+import org.openjdk.nashorn.internal.runtime.arrays.ArrayData;
+import org.openjdk.nashorn.internal.runtime.regexp.RegExpMatcher;
+
+/**
+ * An immutable copy of an initialized {@link Global}, including any state that scripts added to it, from which
+ * new globals can be created without running {@link Global#initBuiltinObjects} or bootstrap scripts again.
+ * <p>
+ * Copying follows all script objects reachable from the global. Property maps, property objects, function data
+ * with its compiled code, switch points and other immutable or runtime objects are shared between the template and
+ * its copies; script objects, their spill and array storage, and the internal state of {@code Map}, {@code Set},
+ * {@code WeakMap} and {@code WeakSet} objects are copied. Objects with bound properties, like the global itself
+ * once scripts have defined variables in it, get maps of their own with the properties bound to the copies. Bound
+ * and synchronized functions are bound again to the copies of their targets, this and arguments. The invoker
+ * caches of the global start out empty in the copies.
+ * <p>
+ * Other Java objects, such as collections or Java adapters created by scripts, cannot be copied, as their state is
+ * not known to the runtime. Neither can array buffers and typed arrays, as their views would lose their shared
+ * backing store, nor mirrors of the template's objects.
+ * <p>
+ * The template is never exposed to scripts, so any number of threads may create globals from it concurrently.
+ */
+public final class GlobalSnapshot {
+    private final Global template;
+
+    private GlobalSnapshot(final Global template) {
+        this.template = template;
+    }
+
+    /**
+     * Captures the current state of a global. Later changes to the global don't affect the snapshot. The global
+     * must not be modified by other threads while it is being captured.
+     *
+     * @param global an initialized global
+     * @return the snapshot
+     * @throws IllegalArgumentException if the global refers to objects that can not be copied
+     */
+    public static GlobalSnapshot capture(final Global global) {
+        return new GlobalSnapshot(copy(global));
+    }
+
+    /**
+     * Creates a new global with the state captured in this snapshot.
+     *
+     * @return the new global, belonging to the same context as the captured one
+     */
+    public Global newGlobal() {
+        ((ScriptObject)template).getContext().createOrInvalidateGlobalConstants();
+        return copy(template);
+    }
+
+    /**
+     * Copies a global and all script objects reachable from it.
+     *
+     * @param global the global to copy
+     * @return the copy
+     */
+    static Global copy(final Global global) {
+        final Copier copier = new Copier(global);
+        final Global copy = (Global)copier.copy(global);
+        copier.rebindFunctions(copy);
+        // The copy starts out without a script context of its own, like any newly created global
+        copy.setInitScriptContext(null);
+        return copy;
+    }
+
+    private static final class Copier {
+        private final Global source;
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+        // Copies of bound and synchronized functions, in need of new invokers once the copy is complete
+        private final List<ScriptFunction> boundFunctions = new ArrayList<>();
+        private final Set<ScriptFunction> rebound = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Copier(final Global source) {
+            this.source = source;
+        }
+
+        Object copy(final Object value) {
+            if (value == null) {
+                return null;
+            }
+            final Object existing = copies.get(value);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (value instanceof ScriptObject) {
+                final ScriptObject original = (ScriptObject)value;
+                final ScriptObject copy = original.copy();
+                copies.put(original, copy);
+                copyFields(original, copy);
+                rebindProperties(copy);
+                if (copy instanceof ScriptFunction && ((ScriptFunction)copy).getBoundFrom() != null) {
+                    boundFunctions.add((ScriptFunction)copy);
+                }
+                return copy;
+            } else if (value instanceof ArrayData) {
+                final ArrayData copy = ((ArrayData)value).copy();
+                copies.put(value, copy);
+                copyFields(value, copy);
+                return copy;
+            } else if (value instanceof Object[]) {
+                final Object[] copy = ((Object[])value).clone();
+                copies.put(value, copy);
+                copyElements(copy);
+                return copy;
+            } else if (value instanceof long[]) {
+                return remember(value, ((long[])value).clone());
+            } else if (value instanceof double[]) {
+                return remember(value, ((double[])value).clone());
+            } else if (value instanceof int[]) {
+                return remember(value, ((int[])value).clone());
+            } else if (value instanceof LinkedMap) {
+                return remember(value, ((LinkedMap)value).copy(this::copy));
+            } else if (value instanceof TreeMap) {
+                final TreeMap<?, ?> copy = new TreeMap<>((TreeMap<?, ?>)value);
+                copies.put(value, copy);
+                copyValues(copy);
+                return copy;
+            } else if (value instanceof WeakHashMap) {
+                final Map<Object, Object> copy = new WeakHashMap<>();
+                copies.put(value, copy);
+                for (final Map.Entry<?, ?> entry : ((WeakHashMap<?, ?>)value).entrySet()) {
+                    copy.put(copy(entry.getKey()), copy(entry.getValue()));
+                }
+                return copy;
+            } else if (value instanceof BitSet) {
+                return remember(value, ((BitSet)value).clone());
+            } else if (value instanceof ConcurrentHashMap) {
+                // caches of the global, like its invokers, are filled again on demand
+                return remember(value, new ConcurrentHashMap<>());
+            } else if (value instanceof ThreadLocal) {
+                // thread-local state, such as the current script context, is not carried over
+                return remember(value, new ThreadLocal<>());
+            } else if (value instanceof RegExpMatcher) {
+                // matchers cached by regexp objects hold per-use state and are recreated on demand
+                return null;
+            } else if (value instanceof Buffer) {
+                throw new IllegalArgumentException("Can not copy a global that refers to array buffers or typed arrays");
+            } else if (value instanceof ScriptObjectMirror && ScriptObjectMirror.unwrap(value, source) != value) {
+                throw new IllegalArgumentException("Can not copy a global that refers to mirrors of its own objects");
+            } else if (!isShared(value)) {
+                throw new IllegalArgumentException("Can not copy a global that refers to Java objects of " + value.getClass().getName());
+            }
+            return value;
+        }
+
+        // Bound and synchronized functions have their targets, this and arguments bound into their invokers. Their
+        // copies are bound again once all objects are copied, each after the function it was made from. Binding
+        // an undefined this of a non-strict function binds the current global, which must be the copy.
+        void rebindFunctions(final Global copy) {
+            final Global oldGlobal = Context.getGlobal();
+            Context.setGlobal(copy);
+            try {
+                for (final ScriptFunction function : boundFunctions) {
+                    rebind(function);
+                }
+            } finally {
+                Context.setGlobal(oldGlobal);
+            }
+        }
+
+        private void rebind(final ScriptFunction function) {
+            final ScriptFunction boundFrom = function.getBoundFrom();
+            if (boundFrom != null && rebound.add(function)) {
+                rebind(boundFrom);
+                function.rebind();
+            }
+        }
+
+        private Object remember(final Object original, final Object copy) {
+            copies.put(original, copy);
+            return copy;
+        }
+
+        // Replaces the references in a shallow copy. Storage that the shallow copy already duplicated, such as
+        // spill arrays and array data, is fixed up in place; anything still shared with the original is copied.
+        private void copyFields(final Object original, final Object copy) {
+            try {
+                for (final Field field : FIELDS.get(original.getClass())) {
+                    final Object originalValue = field.get(original);
+                    if (originalValue == null) {
+                        continue;
+                    }
+                    final Object copyValue = field.get(copy);
+                    if (copyValue == originalValue) {
+                        final Object newValue = copy(originalValue);
+                        if (newValue != originalValue) {
+                            field.set(copy, newValue);
+                        }
+                    } else {
+                        copies.put(originalValue, copyValue);
+                        if (copyValue instanceof Object[]) {
+                            copyElements((Object[])copyValue);
+                        } else if (copyValue instanceof ArrayData) {
+                            copyFields(originalValue, copyValue);
+                        } else if (copyValue instanceof TreeMap) {
+                            copyValues((TreeMap<?, ?>)copyValue);
+                        }
+                    }
+                }
+            } catch (final IllegalAccessException e) {
+                throw new IllegalArgumentException("Can not copy " + original.getClass().getName(), e);
+            }
+        }
+
+        // Properties bound to another object, such as the globals defined by scripts, have their accessors bound to
+        // the original delegate and need to be bound to its copy. This gives the copy a map of its own.
+        private void rebindProperties(final ScriptObject copy) {
+            final PropertyMap map = copy.getMap();
+            PropertyMap newMap = map;
+            for (final Property property : map.getProperties()) {
+                if (property.isBound() && property instanceof AccessorProperty) {
+                    final AccessorProperty bound = (AccessorProperty)property;
+                    final Object delegate = bound.getBoundDelegate();
+                    final Object newDelegate = copy(delegate);
+                    if (newDelegate != delegate) {
+                        newMap = newMap.replaceProperty(bound, bound.rebind(newDelegate));
+                    }
+                }
+            }
+            if (newMap != map) {
+                copy.setMap(newMap);
+            }
+        }
+
+        private void copyElements(final Object[] array) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = copy(array[i]);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void copyValues(final TreeMap<?, ?> map) {
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                ((Map.Entry<Object, Object>)entry).setValue(copy(entry.getValue()));
+            }
+        }
+    }
+
+    // Objects that are immutable or belong to the runtime, and are shared between the template and its copies
+    private static boolean isShared(final Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Integer || value instanceof Long || value instanceof Double
+                || value instanceof Float || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger || value instanceof BigDecimal || value instanceof Enum
+                || value instanceof Class || value instanceof MethodHandle || value instanceof MethodType
+                || value instanceof SwitchPoint) {
+            return true;
+        } else if (value.getClass() == Object.class) {
+            // sentinels have no state
+            return true;
+        } else if (value instanceof ScriptContext) {
+            // the template's script context, which copies don't keep
+            return true;
+        }
+        final String name = value.getClass().getName();
+        return name.startsWith("org.openjdk.nashorn.internal.") || name.startsWith("org.openjdk.nashorn.api.") || name.startsWith("jdk.dynalink.");
+    }
+
+    // Non-static reference fields of a class and its superclasses
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                for (final Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                    } catch (final RuntimeException e) {
+                        // public fields of public classes, like those of generated structure classes, are accessible
+                        // anyway; skipping any other field would leave it shared with the original
+                        if (!(Modifier.isPublic(field.getModifiers()) && Modifier.isPublic(c.getModifiers()))) {
+                            throw new IllegalArgumentException("Can not copy " + type.getName() + ": field "
+                                    + field.getName() + " of " + c.getName() + " is not accessible", e);
+                        }
+                    }
+                    fields.add(field);
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+}
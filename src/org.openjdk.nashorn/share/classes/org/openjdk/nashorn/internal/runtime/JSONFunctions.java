@@ -25,9 +25,11 @@
 
 package org.openjdk.nashorn.internal.runtime;
 
+import java.io.Reader;
 import java.lang.invoke.MethodHandle;
 import org.openjdk.nashorn.internal.objects.Global;
 import org.openjdk.nashorn.internal.parser.JSONParser;
+import org.openjdk.nashorn.internal.parser.StreamingJSONParser;
 import org.openjdk.nashorn.internal.runtime.arrays.ArrayIndex;
 import org.openjdk.nashorn.internal.runtime.linker.Bootstrap;
 
@@ -65,8 +67,30 @@ public final class JSONFunctions {
         final String     str    = JSType.toString(text);
         final Global     global = Context.getGlobal();
         final boolean    dualFields = ((ScriptObject) global).useDualFields();
-        final JSONParser parser = new JSONParser(str, global, dualFields);
-        final Object     value;
+        return parse(new JSONParser(str, global, dualFields), global, reviver);
+    }
+
+    /**
+     * Parses JSON text read incrementally from the given reader and returns object representation.
+     * The reader is read to its end but not closed.
+     *
+     * @param reader   reader to read JSON text from
+     * @param reviver  optional value: function that takes two parameters (key, value)
+     * @return Object representation of JSON text given
+     * @throws java.io.UncheckedIOException if reading fails
+     */
+    public static Object parse(final Reader reader, final Object reviver) {
+        final Global     global = Context.getGlobal();
+        final boolean    dualFields = ((ScriptObject) global).useDualFields();
+        return parse(new StreamingJSONParser(reader, global, dualFields), global, reviver);
+    }
+
+    // -- Internals only below this point
+
+    // parse helpers
+
+    private static Object parse(final JSONParser parser, final Global global, final Object reviver) {
+        final Object value;
 
         try {
             value = parser.parse();
@@ -77,10 +101,6 @@ public final class JSONFunctions {
         return applyReviver(global, value, reviver);
     }
 
-    // -- Internals only below this point
-
-    // parse helpers
-
     // apply 'reviver' function if available
     private static Object applyReviver(final Global global, final Object unfiltered, final Object reviver) {
         if (Bootstrap.isCallable(reviver)) {
@@ -1351,7 +1351,7 @@ public enum JSType {
     /**
      * Java array to java array conversion - but using type conversions implemented by linker.
      *
-     * @param src source array
+     * @param src source array. It may be modified, and returned if the component type is {@code Object}.
      * @param componentType component type of the destination array required
      * @return converted Java array
      */
@@ -1363,21 +1363,52 @@ public enum JSType {
                     src[i] = e.toString();
                 }
             }
+            // everything else converts to Object as it is
+            return src;
         }
 
         final int l = src.length;
-        final Object dst = Array.newInstance(componentType, l);
         final MethodHandle converter = Bootstrap.getLinkerServices().getTypeConverter(Object.class, componentType);
         try {
-            for (int i = 0; i < src.length; i++) {
-                Array.set(dst, i, invoke(converter, src[i]));
+            // fill arrays of the common component types directly rather than through reflection
+            if (componentType == int.class) {
+                final int[] dst = new int[l];
+                for (int i = 0; i < l; i++) {
+                    dst[i] = (int)converter.invokeExact(src[i]);
+                }
+                return dst;
+            } else if (componentType == long.class) {
+                final long[] dst = new long[l];
+                for (int i = 0; i < l; i++) {
+                    dst[i] = (long)converter.invokeExact(src[i]);
+                }
+                return dst;
+            } else if (componentType == double.class) {
+                final double[] dst = new double[l];
+                for (int i = 0; i < l; i++) {
+                    dst[i] = (double)converter.invokeExact(src[i]);
+                }
+                return dst;
+            } else if (!componentType.isPrimitive()) {
+                final Object[] dst = (Object[])Array.newInstance(componentType, l);
+                final MethodHandle objectConverter = converter.asType(converter.type().changeReturnType(Object.class));
+                for (int i = 0; i < l; i++) {
+                    final Object e = src[i];
+                    dst[i] = componentType == String.class && e instanceof String ? e : (Object)objectConverter.invokeExact(e);
+                }
+                return dst;
+            }
+
+            final Object dst = Array.newInstance(componentType, l);
+            for (int i = 0; i < l; i++) {
+                Array.set(dst, i, converter.invoke(src[i]));
             }
+            return dst;
         } catch (final RuntimeException | Error e) {
             throw e;
         } catch (final Throwable t) {
             throw new RuntimeException(t);
         }
-        return dst;
     }
 
     /**
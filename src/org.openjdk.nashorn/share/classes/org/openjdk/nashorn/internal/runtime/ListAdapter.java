@@ -37,6 +37,7 @@ import java.util.function.Supplier;
 import org.openjdk.nashorn.api.scripting.JSObject;
 import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
 import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.objects.NativeArray;
 import org.openjdk.nashorn.internal.runtime.linker.Bootstrap;
 
 /**
@@ -51,6 +52,8 @@ import org.openjdk.nashorn.internal.runtime.linker.Bootstrap;
  * {@link #push(Object)} and {@link #pop()} operations will translate to {@code unshift} and {@code shift} script
  * operations respectively, while {@link #addLast(Object)} and {@link #removeLast()} will translate to {@code push} and
  * {@code pop}.
+ * <p>
+ * Script arrays are wrapped in a {@link NativeArrayListAdapter}, which accesses their elements directly.
  */
 public class ListAdapter extends AbstractList<Object> implements RandomAccess, Deque<Object> {
     // Invoker creator for methods that add to the start or end of the list: PUSH and UNSHIFT. Takes fn, this, and value, returns void.
@@ -99,6 +102,9 @@ public class ListAdapter extends AbstractList<Object> implements RandomAccess, D
      */
     public static ListAdapter create(final Object obj) {
         final Global global = Context.getGlobal();
+        if (obj instanceof NativeArray) {
+            return new NativeArrayListAdapter((NativeArray)obj, global);
+        }
         return new ListAdapter(getJSObject(obj, global), global);
     }
 
@@ -117,7 +123,7 @@ public class ListAdapter extends AbstractList<Object> implements RandomAccess, D
         return getAt(index);
     }
 
-    private Object getAt(final int index) {
+    Object getAt(final int index) {
         return obj.getSlot(index);
     }
 
@@ -48,6 +48,11 @@ abstract class NashornLoader extends ClassLoader {
     private static final String MODULE_MANIPULATOR_NAME = SCRIPTS_PKG + ".ModuleGraphManipulator";
     private static final byte[] MODULE_MANIPULATOR_BYTES = readModuleManipulatorBytes();
 
+    static {
+        // Lets subclasses register as parallel capable
+        ClassLoader.registerAsParallelCapable();
+    }
+
     // addExport Method object on ModuleGraphManipulator
     // class loaded by this loader
     private Method addModuleExport;
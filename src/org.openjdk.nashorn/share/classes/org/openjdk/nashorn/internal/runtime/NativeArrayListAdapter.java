@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.openjdk.nashorn.api.scripting.JSObject;
+import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.objects.NativeArray;
+import org.openjdk.nashorn.internal.runtime.arrays.ArrayData;
+import org.openjdk.nashorn.internal.runtime.arrays.ContinuousArrayData;
+
+/**
+ * A {@link ListAdapter} for script arrays that reads and writes their {@link ArrayData} directly instead of going
+ * through a mirror for every element. This only works while the array data is a {@link ContinuousArrayData} without
+ * holes; for sparse arrays, arrays with deleted elements or frozen and sealed arrays, and for indices that are not in
+ * the array data, the adapter falls back to the generic mirror based access of {@link ListAdapter}, which looks up
+ * accessors and the prototype chain under the array's global.
+ * <p>
+ * The {@link #spliterator() spliterator} of a dense array splits its index range, so Java streams over the list can
+ * run in parallel. Like with other non-concurrent collections, the array must not be modified while it is traversed;
+ * a traversal that notices that the array data was replaced throws a {@link ConcurrentModificationException}.
+ */
+final class NativeArrayListAdapter extends ListAdapter {
+    private final NativeArray array;
+    private final Global global;
+
+    NativeArrayListAdapter(final NativeArray array, final Global global) {
+        super((JSObject)ScriptObjectMirror.wrap(array, global), global);
+        this.array = array;
+        this.global = global;
+    }
+
+    @Override
+    Object getAt(final int index) {
+        final ArrayData data = array.getArray();
+        if (data instanceof ContinuousArrayData && data.has(index)) {
+            return wrap(data.getObject(index));
+        }
+        return super.getAt(index);
+    }
+
+    @Override
+    public Object set(final int index, final Object element) {
+        final ArrayData data = array.getArray();
+        if (data instanceof ContinuousArrayData && data.has(index)) {
+            final Object prevValue = wrap(data.getObject(index));
+            array.setArray(data.set(index, ScriptObjectMirror.unwrap(element, global), false));
+            return prevValue;
+        }
+        return super.set(index, element);
+    }
+
+    @Override
+    public int size() {
+        return JSType.toInt32(array.getArray().length());
+    }
+
+    @Override
+    public Object[] toArray() {
+        final ArrayData data = array.getArray();
+        if (!(data instanceof ContinuousArrayData)) {
+            return super.toArray();
+        }
+        final Object[] result = data.asObjectArray();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = wrap(result[i]);
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(final T[] a) {
+        final Object[] elements = toArray();
+        if (a.length < elements.length) {
+            return (T[])Arrays.copyOf(elements, elements.length, a.getClass());
+        }
+        System.arraycopy(elements, 0, a, 0, elements.length);
+        if (a.length > elements.length) {
+            a[elements.length] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Appends all elements of a collection with a single call to the array's {@code push} function, instead of
+     * calling it once for every element.
+     */
+    @Override
+    public boolean addAll(final Collection<?> c) {
+        final Object[] elements = c.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+        invoke("push", elements);
+        return true;
+    }
+
+    /**
+     * Inserts all elements of a collection with a single call to the array's {@code splice} function, instead of
+     * splicing them in one by one.
+     */
+    @Override
+    public boolean addAll(final int index, final Collection<?> c) {
+        final int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        } else if (index == size) {
+            return addAll(c);
+        }
+        final Object[] elements = c.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+        final Object[] args = new Object[elements.length + 2];
+        args[0] = index;
+        args[1] = 0;
+        System.arraycopy(elements, 0, args, 2, elements.length);
+        invoke("splice", args);
+        return true;
+    }
+
+    @Override
+    public Spliterator<Object> spliterator() {
+        final ArrayData data = array.getArray();
+        if (data instanceof ContinuousArrayData) {
+            return new ArrayDataSpliterator(data, 0, size());
+        }
+        return super.spliterator();
+    }
+
+    private void invoke(final String name, final Object[] args) {
+        final Object fn = obj.getMember(name);
+        if (!(fn instanceof JSObject && ((JSObject)fn).isFunction())) {
+            throw new UnsupportedOperationException("The script object doesn't have a function named " + name);
+        }
+        ((JSObject)fn).call(obj, args);
+    }
+
+    private Object wrap(final Object value) {
+        return ScriptObjectMirror.wrap(value, global);
+    }
+
+    private final class ArrayDataSpliterator implements Spliterator<Object> {
+        private final ArrayData data;
+        private int index;
+        private final int fence;
+
+        ArrayDataSpliterator(final ArrayData data, final int origin, final int fence) {
+            this.data = data;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Object> action) {
+            if (index < fence) {
+                checkData();
+                action.accept(wrap(data.getObject(index++)));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super Object> action) {
+            for (; index < fence; index++) {
+                action.accept(wrap(data.getObject(index)));
+            }
+            checkData();
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            final int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            final Spliterator<Object> prefix = new ArrayDataSpliterator(data, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+
+        private void checkData() {
+            if (array.getArray() != data || data.length() < fence) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
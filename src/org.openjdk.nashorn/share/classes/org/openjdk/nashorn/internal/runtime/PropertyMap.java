@@ -34,16 +34,13 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.invoke.SwitchPoint;
-import java.lang.ref.Reference;
-import java.lang.ref.SoftReference;
-import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.LongAdder;
 import org.openjdk.nashorn.internal.runtime.options.Options;
 import org.openjdk.nashorn.internal.scripts.JO;
@@ -96,10 +93,10 @@ public class PropertyMap implements Iterable<Object>, Serializable {
     private transient SharedPropertyMap sharedProtoMap;
 
     /** History of maps, used to limit map duplication. */
-    private transient WeakHashMap<Property, Reference<PropertyMap>> history;
+    private transient volatile TransitionHistory<Property, PropertyMap> history;
 
     /** History of prototypes, used to limit map duplication. */
-    private transient WeakHashMap<ScriptObject, SoftReference<PropertyMap>> protoHistory;
+    private transient volatile TransitionHistory<ScriptObject, PropertyMap> protoHistory;
 
     /** SwitchPoints for properties inherited form this map */
     private transient PropertySwitchPoints propertySwitchPoints;
@@ -108,6 +105,14 @@ public class PropertyMap implements Iterable<Object>, Serializable {
 
     private static final long serialVersionUID = -7041836752008732533L;
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<PropertyMap, TransitionHistory> HISTORY =
+            AtomicReferenceFieldUpdater.newUpdater(PropertyMap.class, TransitionHistory.class, "history");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<PropertyMap, TransitionHistory> PROTO_HISTORY =
+            AtomicReferenceFieldUpdater.newUpdater(PropertyMap.class, TransitionHistory.class, "protoHistory");
+
     /**
      * Constructs a new property map.
      *
@@ -388,13 +393,12 @@ public class PropertyMap implements Iterable<Object>, Serializable {
      *
      * @return New {@link PropertyMap} with {@link Property} added.
      */
-    public final synchronized PropertyMap addProperty(final Property property) {
+    public final PropertyMap addProperty(final Property property) {
         propertyChanged(property);
-        PropertyMap newMap = checkHistory(property);
+        final PropertyMap newMap = checkHistory(property);
 
         if (newMap == null) {
-            newMap = addPropertyInternal(property);
-            addToHistory(property, newMap);
+            return addToHistory(property, addPropertyInternal(property));
         }
 
         return newMap;
@@ -418,7 +422,7 @@ public class PropertyMap implements Iterable<Object>, Serializable {
      *
      * @return New {@link PropertyMap} with {@link Property} removed or {@code null} if not found.
      */
-    public final synchronized PropertyMap deleteProperty(final Property property) {
+    public final PropertyMap deleteProperty(final Property property) {
         propertyChanged(property);
         PropertyMap newMap = checkHistory(property);
         final Object key = property.getKey();
@@ -439,7 +443,7 @@ public class PropertyMap implements Iterable<Object>, Serializable {
                 newMap = deriveMap(newProperties, flags, fieldCount, spillLength);
                 newMap.updateFreeSlots(property, null);
             }
-            addToHistory(property, newMap);
+            newMap = addToHistory(property, newMap);
         }
 
         return newMap;
@@ -646,13 +650,8 @@ public class PropertyMap implements Iterable<Object>, Serializable {
      * @return Existing {@link PropertyMap} or {@code null} if not found.
      */
     private PropertyMap checkProtoHistory(final ScriptObject proto) {
-        final PropertyMap cachedMap;
-        if (protoHistory != null) {
-            final SoftReference<PropertyMap> weakMap = protoHistory.get(proto);
-            cachedMap = (weakMap != null ? weakMap.get() : null);
-        } else {
-            cachedMap = null;
-        }
+        final TransitionHistory<ScriptObject, PropertyMap> currentHistory = protoHistory;
+        final PropertyMap cachedMap = currentHistory != null ? currentHistory.get(proto) : null;
 
         if (Context.DEBUG && cachedMap != null) {
             protoHistoryHit.increment();
@@ -666,13 +665,16 @@ public class PropertyMap implements Iterable<Object>, Serializable {
      *
      * @param newProto Prototype to add (key.)
      * @param newMap   {@link PropertyMap} associated with prototype.
+     * @return {@code newMap}, or the map added by another thread for the same prototype.
      */
-    private void addToProtoHistory(final ScriptObject newProto, final PropertyMap newMap) {
-        if (protoHistory == null) {
-            protoHistory = new WeakHashMap<>();
+    private PropertyMap addToProtoHistory(final ScriptObject newProto, final PropertyMap newMap) {
+        TransitionHistory<ScriptObject, PropertyMap> currentHistory = protoHistory;
+        if (currentHistory == null) {
+            PROTO_HISTORY.compareAndSet(this, null, new TransitionHistory<>());
+            currentHistory = protoHistory;
         }
 
-        protoHistory.put(newProto, new SoftReference<>(newMap));
+        return currentHistory.putIfAbsent(newProto, newMap, true);
     }
 
     /**
@@ -680,13 +682,16 @@ public class PropertyMap implements Iterable<Object>, Serializable {
      *
      * @param property Mapping property.
      * @param newMap   Modified {@link PropertyMap}.
+     * @return {@code newMap}, or the map added by another thread for the same property.
      */
-    private void addToHistory(final Property property, final PropertyMap newMap) {
-        if (history == null) {
-            history = new WeakHashMap<>();
+    private PropertyMap addToHistory(final Property property, final PropertyMap newMap) {
+        TransitionHistory<Property, PropertyMap> currentHistory = history;
+        if (currentHistory == null) {
+            HISTORY.compareAndSet(this, null, new TransitionHistory<>());
+            currentHistory = history;
         }
 
-        history.put(property, softReferenceDerivationLimit == 0 ? new WeakReference<>(newMap) : new SoftReference<>(newMap));
+        return currentHistory.putIfAbsent(property, newMap, softReferenceDerivationLimit != 0);
     }
 
     /**
@@ -698,9 +703,9 @@ public class PropertyMap implements Iterable<Object>, Serializable {
      */
     private PropertyMap checkHistory(final Property property) {
 
-        if (history != null) {
-            final Reference<PropertyMap> ref = history.get(property);
-            final PropertyMap historicMap = ref == null ? null : ref.get();
+        final TransitionHistory<Property, PropertyMap> currentHistory = history;
+        if (currentHistory != null) {
+            final PropertyMap historicMap = currentHistory.get(property);
 
             if (historicMap != null) {
                 if (Context.DEBUG) {
@@ -838,7 +843,7 @@ public class PropertyMap implements Iterable<Object>, Serializable {
      * @param newProto New prototype object to replace oldProto.
      * @return New {@link PropertyMap} with prototype changed.
      */
-    public synchronized PropertyMap changeProto(final ScriptObject newProto) {
+    public PropertyMap changeProto(final ScriptObject newProto) {
         final PropertyMap nextMap = checkProtoHistory(newProto);
         if (nextMap != null) {
             return nextMap;
@@ -848,10 +853,7 @@ public class PropertyMap implements Iterable<Object>, Serializable {
             setProtoNewMapCount.increment();
         }
 
-        final PropertyMap newMap = makeUnsharedCopy();
-        addToProtoHistory(newProto, newMap);
-
-        return newMap;
+        return addToProtoHistory(newProto, makeUnsharedCopy());
     }
 
     /**
@@ -42,6 +42,7 @@ import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -413,8 +414,10 @@ public final class RecompilableScriptFunctionData extends ScriptFunctionData imp
         }
         parser.setReparsedFunction(this);
 
+        final long parseStart = System.nanoTime();
         final FunctionNode program = parser.parse(CompilerConstants.PROGRAM.symbolName(), descPosition,
                 Token.descLength(token), flags);
+        context.getCompilerMetrics().parsed(source, System.nanoTime() - parseStart);
         // Parser generates a program AST even if we're recompiling a single function, so when we are only
         // recompiling a single function, extract it from the program.
         return (isProgram() ? program : extractFunctionFromScript(program)).setName(null, functionName);
@@ -721,6 +724,7 @@ public final class RecompilableScriptFunctionData extends ScriptFunctionData imp
 
             if (script != null) {
                 Compiler.updateCompilationId(script.getCompilationId());
+                newInstaller.getContext().getCompilerMetrics().persistentCacheHit(source);
                 return script.installFunction(this, newInstaller);
             }
         }
@@ -740,6 +744,51 @@ public final class RecompilableScriptFunctionData extends ScriptFunctionData imp
         return installer != null && installer.getContext().getEnv()._persistent_cache;
     }
 
+    Executor getRecompilationExecutor() {
+        return installer == null ? null : installer.getContext().getRecompilationExecutor();
+    }
+
+    /**
+     * If this is the data of a newly installed program that is not eval code, and its context has a warm-up profile,
+     * start compiling the functions of the program that the profile has recorded in the background.
+     */
+    public void warmup() {
+        final WarmupProfile warmupProfile = installer == null ? null : installer.getContext().getWarmupProfile();
+        if (warmupProfile != null && isProgram()) {
+            warmupProfile.warmup(this);
+        }
+    }
+
+    /**
+     * Record the compilation of a new specialization of this function in its context's warm-up profile, if any.
+     * Programs are not recorded, as they are compiled when they are loaded.
+     * @param callSiteType the call site type the specialization was compiled for
+     */
+    private void recordCompilation(final MethodType callSiteType) {
+        final WarmupProfile warmupProfile = installer == null ? null : installer.getContext().getWarmupProfile();
+        if (warmupProfile != null && !isProgram()) {
+            warmupProfile.record(this, callSiteType);
+        }
+    }
+
+    /**
+     * Record a failed optimistic assumption in this function in its context's compiler metrics.
+     */
+    void recordDeoptimization() {
+        if (installer != null) {
+            installer.getContext().getCompilerMetrics().deoptimized(source, functionName);
+        }
+    }
+
+    /**
+     * Record the installation of a deoptimizing recompilation of this function in its context's compiler metrics.
+     */
+    void recordRecompilation() {
+        if (installer != null) {
+            installer.getContext().getCompilerMetrics().recompiled(source);
+        }
+    }
+
     private MethodType explicitParams(final MethodType callSiteType) {
         if (CompiledFunction.isVarArgsType(callSiteType)) {
             return null;
@@ -899,15 +948,53 @@ public final class RecompilableScriptFunctionData extends ScriptFunctionData imp
     }
 
     @Override
-    synchronized CompiledFunction getBest(final MethodType callSiteType, final ScriptObject runtimeScope, final Collection<CompiledFunction> forbidden, final boolean linkLogicOkay) {
+    CompiledFunction getBest(final MethodType callSiteType, final ScriptObject runtimeScope, final Collection<CompiledFunction> forbidden, final boolean linkLogicOkay) {
         assert isValidCallSite(callSiteType) : callSiteType;
 
+        // Fast path: the code list is copy-on-write, so an already installed version can be found without locking.
+        final CompiledFunction existingBest = pickInstalledFunction(callSiteType);
+        if (existingBest != null) {
+            return existingBest;
+        }
+        return compileBest(callSiteType, runtimeScope);
+    }
+
+    /**
+     * Looks for an installed version of the code fitting the call site type without compiling anything.
+     * @param callSiteType the call site type
+     * @return the best installed version, or null if a new specialization has to be compiled.
+     */
+    private CompiledFunction pickInstalledFunction(final MethodType callSiteType) {
         CompiledFunction existingBest = pickFunction(callSiteType, false);
         if (existingBest == null) {
             existingBest = pickFunction(callSiteType, true); // try vararg last
         }
+        //if the best one is an apply to call, it has to match the callsite exactly
+        if (existingBest != null && existingBest.isApplyToCall()) {
+            return lookupExactApplyToCall(callSiteType);
+        }
+        return existingBest;
+    }
+
+    /**
+     * Slow path of {@link #getBest(MethodType, ScriptObject, Collection, boolean)}, compiling a new specialization.
+     * Compilations of the same function are serialized on this object. Threads that missed the same specialization
+     * concurrently queue up behind the one compiling it and then find its result installed, so each specialization
+     * is only compiled once.
+     */
+    private synchronized CompiledFunction compileBest(final MethodType callSiteType, final ScriptObject runtimeScope) {
+        CompiledFunction existingBest = pickInstalledFunction(callSiteType);
+        if (existingBest != null) {
+            return existingBest;
+        }
+
+        existingBest = pickFunction(callSiteType, false);
+        if (existingBest == null) {
+            existingBest = pickFunction(callSiteType, true); // try vararg last
+        }
         if (existingBest == null) {
             existingBest = addCode(compileTypeSpecialization(callSiteType, runtimeScope, true), callSiteType);
+            recordCompilation(callSiteType);
         }
 
         assert existingBest != null;
@@ -65,12 +65,21 @@ public final class ScriptEnvironment {
     /** Current Options object. */
     private final Options options;
 
+    /** Number of threads for background recompilation of deoptimized functions, 0 if disabled */
+    public final int     _background_recompile_threads;
+
+    /** Maximum number of pending background recompilations */
+    public final int     _background_recompile_queue;
+
     /** Size of the per-global Class cache size */
     public final int     _class_cache_size;
 
     /** -classpath value. */
     public final String  _classpath;
 
+    /** Maximum number of threads generating and installing compile unit classes, 1 if sequential */
+    public final int     _compile_unit_parallelism;
+
     /** Only compile script, do not run it or generate other ScriptObjects */
     public final boolean _compile_only;
 
@@ -215,6 +224,15 @@ public final class ScriptEnvironment {
     /** should code verification be done of generated bytecode */
     public final boolean _verify_code;
 
+    /** File to record and replay the functions compiled on demand, null if warm-up is disabled */
+    public final String  _warmup_profile;
+
+    /** Number of threads compiling the functions of the warm-up profile */
+    public final int     _warmup_threads;
+
+    /** CPU time in milliseconds that warm-up compilation may use, 0 if unlimited */
+    public final int     _warmup_cpu_budget;
+
     /** time zone for this environment */
     public final TimeZone _timezone;
 
@@ -255,9 +273,12 @@ public final class ScriptEnvironment {
         this.namespace = new Namespace();
         this.options = options;
 
+        _background_recompile_threads = options.getInteger("background.recompile.threads");
+        _background_recompile_queue   = options.getInteger("background.recompile.queue");
         _class_cache_size     = options.getInteger("class.cache.size");
         _classpath            = options.getString("classpath");
         _compile_only         = options.getBoolean("compile.only");
+        _compile_unit_parallelism = options.getInteger("compile.unit.parallelism");
         _const_as_var         = options.getBoolean("const.as.var");
         _debug_lines          = options.getBoolean("debug.lines");
         _debug_scopes         = options.getBoolean("debug.scopes");
@@ -308,6 +329,9 @@ public final class ScriptEnvironment {
         _strict               = options.getBoolean("strict");
         _version              = options.getBoolean("version");
         _verify_code          = options.getBoolean("verify.code");
+        _warmup_profile       = options.getString("warmup.profile");
+        _warmup_threads       = options.getInteger("warmup.threads");
+        _warmup_cpu_budget    = options.getInteger("warmup.cpu.budget");
 
         final int configuredUrt = options.getInteger("unstable.relink.threshold");
         // The default for this property is -1, so we can easily detect when
@@ -166,7 +166,8 @@ public class ScriptFunction extends ScriptObject {
      */
     private final ScriptObject scope;
 
-    private final ScriptFunctionData data;
+    // Not final, so that copies of bound and synchronized functions can be rebound, see rebind()
+    private ScriptFunctionData data;
 
     /**
      * The property map used for newly allocated object when function is used as
@@ -367,17 +368,56 @@ public class ScriptFunction extends ScriptObject {
     // Subclass to represent bound functions
     private static class Bound extends ScriptFunction {
         private final ScriptFunction target;
+        // The function, this and arguments this function was bound from
+        private final ScriptFunction boundFrom;
+        private final Object boundThis;
+        private final Object[] boundArgs;
 
-        Bound(final ScriptFunctionData boundData, final ScriptFunction target) {
-            super(boundData, boundfunctionmap$, null, Global.instance());
+        Bound(final ScriptFunction boundFrom, final Object self, final Object[] args) {
+            super(boundFrom.data.makeBoundFunctionData(boundFrom, self, args), boundfunctionmap$, null, Global.instance());
             setPrototype(ScriptRuntime.UNDEFINED);
-            this.target = target;
+            this.target = boundFrom.getTargetFunction();
+            this.boundFrom = boundFrom;
+            this.boundThis = self;
+            this.boundArgs = args;
         }
 
         @Override
         protected ScriptFunction getTargetFunction() {
             return target;
         }
+
+        @Override
+        ScriptFunction getBoundFrom() {
+            return boundFrom;
+        }
+
+        @Override
+        void rebind() {
+            super.setData(boundFrom.data.makeBoundFunctionData(boundFrom, boundThis, boundArgs));
+        }
+    }
+
+    private static class Synchronized extends ScriptFunction {
+        // The function this function synchronizes, and the object it synchronizes on
+        private final ScriptFunction unsynchronized;
+        private final Object sync;
+
+        Synchronized(final ScriptFunction unsynchronized, final Object sync) {
+            super(unsynchronized.getName(), MH.insertArguments(INVOKE_SYNC, 0, unsynchronized, sync), null, null, ScriptFunctionData.IS_BUILTIN);
+            this.unsynchronized = unsynchronized;
+            this.sync = sync;
+        }
+
+        @Override
+        ScriptFunction getBoundFrom() {
+            return unsynchronized;
+        }
+
+        @Override
+        void rebind() {
+            super.setData(new FinalScriptFunctionData(getName(), MH.insertArguments(INVOKE_SYNC, 0, unsynchronized, sync), null, ScriptFunctionData.IS_BUILTIN));
+        }
     }
 
     /**
@@ -392,7 +432,7 @@ public class ScriptFunction extends ScriptObject {
      * @return a function with the specified self and parameters bound.
      */
     public final ScriptFunction createBound(final Object self, final Object[] args) {
-        return new Bound(data.makeBoundFunctionData(this, self, args), getTargetFunction());
+        return new Bound(this, self, args);
     }
 
     /**
@@ -403,8 +443,34 @@ public class ScriptFunction extends ScriptObject {
      * @return synchronized function
      */
     public final ScriptFunction createSynchronized(final Object sync) {
-        final MethodHandle mh = MH.insertArguments(ScriptFunction.INVOKE_SYNC, 0, this, sync);
-        return createBuiltin(getName(), mh);
+        final ScriptFunction func = new Synchronized(this, sync);
+        func.setPrototype(UNDEFINED);
+        // Like other built-in functions, synchronized functions do not have a "prototype" property
+        func.deleteOwnProperty(func.getMap().findProperty("prototype"));
+        return func;
+    }
+
+    /**
+     * Returns the function this function was made from if it has objects bound into its invokers, as bound and
+     * synchronized functions do.
+     *
+     * @return the function this function was made from, or null
+     */
+    ScriptFunction getBoundFrom() {
+        return null;
+    }
+
+    /**
+     * Recreates the invokers of a bound or synchronized function from the objects it was made from. This is used
+     * for the copies made by {@link GlobalSnapshot}, once their fields refer to the copies of those objects and the
+     * function returned by {@link #getBoundFrom()} has been rebound itself.
+     */
+    void rebind() {
+        assert getBoundFrom() == null;
+    }
+
+    private void setData(final ScriptFunctionData data) {
+        this.data = data;
     }
 
     @Override
@@ -590,6 +656,18 @@ public class ScriptFunction extends ScriptObject {
         return data.toSource();
     }
 
+    /**
+     * Checks whether this is a comparison function that just subtracts its arguments, such as
+     * {@code function(a, b) { return a - b; }} or {@code (a, b) => b - a}. Sorting with such a function orders
+     * numbers without having to call it. The result is computed once per function data.
+     *
+     * @return 1 if the function returns its first argument minus its second one, -1 if it returns the second
+     * minus the first, 0 otherwise
+     */
+    public final int getNumericCompareOrder() {
+        return data.getNumericCompareOrder();
+    }
+
     /**
      * Get the prototype object for this function
      *
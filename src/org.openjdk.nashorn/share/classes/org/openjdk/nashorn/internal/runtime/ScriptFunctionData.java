@@ -38,6 +38,9 @@ import java.lang.invoke.MethodType;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.openjdk.nashorn.internal.runtime.linker.LinkerCallSite;
 
 
@@ -58,9 +61,10 @@ public abstract class ScriptFunctionData implements Serializable {
     protected final String name;
 
     /**
-     * A list of code versions of a function sorted in ascending order of generic descriptors.
+     * A list of code versions of a function sorted in ascending order of generic descriptors. It is a copy-on-write
+     * list so that looking up an already installed version never needs to lock; new versions are added rarely.
      */
-    protected transient LinkedList<CompiledFunction> code = new LinkedList<>();
+    protected transient List<CompiledFunction> code = new CopyOnWriteArrayList<>();
 
     /** Function flags */
     protected int flags;
@@ -77,6 +81,18 @@ public abstract class ScriptFunctionData implements Serializable {
      */
     private volatile transient GenericInvokers genericInvokers;
 
+    /**
+     * Cached result of {@link #getNumericCompareOrder()}, or null if it has not been computed yet. Racy
+     * initialization is tolerated as the computed value is always the same.
+     */
+    private volatile transient Integer numericCompareOrder;
+
+    // Comparison functions (a, b) => a - b and (a, b) => b - a, written as function expressions or arrow functions
+    private static final Pattern NUMERIC_COMPARE_FUNCTION = Pattern.compile(
+            "function\\s*[\\w$]*\\s*\\(\\s*([\\w$]+)\\s*,\\s*([\\w$]+)\\s*\\)\\s*\\{\\s*return\\s+([\\w$]+)\\s*-\\s*([\\w$]+)\\s*;?\\s*}");
+    private static final Pattern NUMERIC_COMPARE_ARROW = Pattern.compile(
+            "\\(\\s*([\\w$]+)\\s*,\\s*([\\w$]+)\\s*\\)\\s*=>\\s*(?:\\{\\s*return\\s+)?([\\w$]+)\\s*-\\s*([\\w$]+)\\s*(?:;?\\s*})?");
+
     private static final MethodHandle BIND_VAR_ARGS = findOwnMH("bindVarArgs", Object[].class, Object[].class, Object[].class);
 
     /** Is this a strict mode function? */
@@ -202,6 +218,42 @@ public abstract class ScriptFunctionData implements Serializable {
         return "function " + (name == null ? "" : name) + "() { [native code] }";
     }
 
+    /**
+     * Returns 1 if this function returns its first argument minus its second one, -1 if it returns the second
+     * minus the first, and 0 otherwise. The source is only matched against these patterns the first time.
+     *
+     * @return the order in which this function sorts numbers, or 0
+     */
+    final int getNumericCompareOrder() {
+        Integer order = numericCompareOrder;
+        if (order == null) {
+            order = computeNumericCompareOrder(toSource());
+            numericCompareOrder = order;
+        }
+        return order;
+    }
+
+    private static int computeNumericCompareOrder(final String source) {
+        Matcher m = NUMERIC_COMPARE_FUNCTION.matcher(source);
+        if (!m.matches()) {
+            m = NUMERIC_COMPARE_ARROW.matcher(source);
+            if (!m.matches()) {
+                return 0;
+            }
+        }
+
+        final String first  = m.group(1);
+        final String second = m.group(2);
+        if (first.equals(second)) {
+            return 0;
+        } else if (first.equals(m.group(3)) && second.equals(m.group(4))) {
+            return 1;
+        } else if (second.equals(m.group(3)) && first.equals(m.group(4))) {
+            return -1;
+        }
+        return 0;
+    }
+
     String getName() {
         return name;
     }
@@ -885,6 +937,6 @@ public abstract class ScriptFunctionData implements Serializable {
 
     private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        code = new LinkedList<>();
+        code = new CopyOnWriteArrayList<>();
     }
 }
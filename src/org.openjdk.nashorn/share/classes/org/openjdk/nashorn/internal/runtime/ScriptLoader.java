@@ -39,6 +39,11 @@ final class ScriptLoader extends NashornLoader {
     private static final String RUNTIME_LINKER_PKG = "org.openjdk.nashorn.internal.runtime.linker";
     private static final String NASHORN_PKG_PREFIX = "org.openjdk.nashorn.internal.";
 
+    static {
+        // Compile units of one script may be installed concurrently, see --compile-unit-parallelism
+        ClassLoader.registerAsParallelCapable();
+    }
+
     private volatile boolean structureAccessAdded;
     private final Context context;
     private final Module scriptModule;
@@ -139,14 +144,15 @@ final class ScriptLoader extends NashornLoader {
     // package-private and private stuff below this point
 
     /**
-     * Install a class for use by the Nashorn runtime
+     * Install a class for use by the Nashorn runtime. May be called concurrently for the compile units of a
+     * script; this loader is parallel capable, so concurrent definitions don't lock the whole loader.
      *
      * @param name Binary name of class.
      * @param data Class data bytes.
      *
      * @return Installed class.
      */
-    synchronized Class<?> installClass(final String name, final byte[] data) {
+    Class<?> installClass(final String name, final byte[] data) {
         return defineClass(name, data, 0, data.length);
     }
 }
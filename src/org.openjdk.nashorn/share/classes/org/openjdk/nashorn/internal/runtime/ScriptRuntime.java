@@ -409,7 +409,7 @@ public final class ScriptRuntime {
                 public Object next() {
                     Map.Entry<?,?> next = (Map.Entry)iter.next();
                     Object[] keyvalue = new Object[]{next.getKey(), next.getValue()};
-                    return NativeJava.from(null, keyvalue);
+                    return NativeJava.from(null, keyvalue, UNDEFINED);
                 }
 
                 @Override
@@ -80,6 +80,18 @@ public final class StoredScript implements Serializable {
         return compilationId;
     }
 
+    /**
+     * Returns the total size of the class files in this StoredScript.
+     * @return bytecode size in bytes
+     */
+    long getBytecodeSize() {
+        long size = 0L;
+        for (final byte[] code : classBytes.values()) {
+            size += code.length;
+        }
+        return size;
+    }
+
     private Map<String, Class<?>> installClasses(final Source source, final CodeInstaller installer) {
         final Map<String, Class<?>> installedClasses = new HashMap<>();
         final byte[]   mainClassBytes = classBytes.get(mainClassName);
@@ -96,6 +108,7 @@ public final class StoredScript implements Serializable {
         }
 
         installer.initialize(installedClasses.values(), source, constants);
+        installer.getContext().getCompilerMetrics().classesInstalled(source, installedClasses.size());
         return installedClasses;
     }
 
@@ -143,6 +156,12 @@ public final class StoredScript implements Serializable {
             }
         }
 
+        for (final Object constant : constants) {
+            if (constant instanceof RecompilableScriptFunctionData) {
+                ((RecompilableScriptFunctionData) constant).warmup();
+            }
+        }
+
         return installedClasses.get(mainClassName);
     }
 
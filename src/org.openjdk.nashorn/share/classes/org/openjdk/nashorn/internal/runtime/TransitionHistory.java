@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Concurrent transition table used by {@link PropertyMap} to remember the maps derived from it.
+ *
+ * <p>Keys are held weakly and values softly or weakly, matching the retention of the
+ * {@code WeakHashMap} this class replaces. Lookups never lock. The table starts out as a small
+ * immutable array that is replaced by compare-and-set on each insertion; when it grows beyond
+ * {@link #MAX_ARRAY_ENTRIES} it is promoted to a {@link ConcurrentHashMap} of weak keys.</p>
+ *
+ * <p>If two threads race to add the same key, the first value to be published wins and is
+ * returned to both, so that objects built concurrently still end up sharing a single map.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class TransitionHistory<K, V> {
+
+    /** Maximum number of entries kept in array form before promotion to a hash map. */
+    static final int MAX_ARRAY_ENTRIES = 8;
+
+    private static final Entry<?, ?>[] EMPTY = new Entry<?, ?>[0];
+
+    /** Stands in for the {@code null} key, which is used for maps of objects without a prototype. */
+    private static final Object NULL_KEY = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TransitionHistory, Object> TABLE =
+            AtomicReferenceFieldUpdater.newUpdater(TransitionHistory.class, Object.class, "table");
+
+    /** Either an immutable {@code Entry[]} or, once promoted, a {@link Promoted} table. */
+    private volatile Object table = EMPTY;
+
+    /**
+     * Returns the value associated with {@code key}, or {@code null} if there is no value
+     * or its reference has been cleared.
+     *
+     * @param key the key, may be null
+     * @return the value or null
+     */
+    V get(final K key) {
+        return get0(maskNull(key));
+    }
+
+    /**
+     * Associates {@code value} with {@code key} unless a live value is already present.
+     *
+     * @param key the key, may be null
+     * @param value the value
+     * @param soft true to hold the value with a soft reference, false for a weak reference
+     * @return the value now associated with {@code key}; either {@code value} or the one published by another thread
+     */
+    V putIfAbsent(final K key, final V value, final boolean soft) {
+        return putIfAbsent0(maskNull(key), value, soft);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K maskNull(final K key) {
+        return key == null ? (K)NULL_KEY : key;
+    }
+
+    private V get0(final K key) {
+        final Object t = table;
+        if (t instanceof Promoted) {
+            @SuppressWarnings("unchecked")
+            final Reference<V> ref = ((Promoted<K, V>)t).map.get(new LookupKey(key));
+            return ref == null ? null : ref.get();
+        }
+        final Entry<K, V> entry = find(entries(t), key, key.hashCode());
+        return entry == null ? null : entry.value.get();
+    }
+
+    private V putIfAbsent0(final K key, final V value, final boolean soft) {
+        final int hash = key.hashCode();
+        for (;;) {
+            final Object t = table;
+            if (t instanceof Promoted) {
+                @SuppressWarnings("unchecked")
+                final Promoted<K, V> promoted = (Promoted<K, V>)t;
+                return promoted.putIfAbsent(key, hash, value, soft);
+            }
+
+            final Entry<K, V>[] entries = entries(t);
+            final Entry<K, V> existing = find(entries, key, hash);
+            if (existing != null) {
+                final V existingValue = existing.value.get();
+                if (existingValue != null) {
+                    return existingValue;
+                }
+            }
+
+            final Object newTable = withEntry(entries, key, hash, value, soft);
+            if (TABLE.compareAndSet(this, t, newTable)) {
+                return value;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Entry<K, V>[] entries(final Object table) {
+        return (Entry<K, V>[])table;
+    }
+
+    private static <K, V> Entry<K, V> find(final Entry<K, V>[] entries, final K key, final int hash) {
+        for (final Entry<K, V> entry : entries) {
+            if (entry.hash == hash) {
+                final K entryKey = entry.get();
+                if (entryKey != null && (entryKey == key || key.equals(entryKey))) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Create the table that replaces entries with the new entry added, dropping entries whose key or value
+    // was cleared or whose key matches the new one.
+    private static <K, V> Object withEntry(final Entry<K, V>[] entries, final K key, final int hash, final V value, final boolean soft) {
+        int live = 0;
+        for (final Entry<K, V> entry : entries) {
+            if (isLive(entry, key, hash)) {
+                live++;
+            }
+        }
+
+        if (live >= MAX_ARRAY_ENTRIES) {
+            final Promoted<K, V> promoted = new Promoted<>();
+            for (final Entry<K, V> entry : entries) {
+                if (isLive(entry, key, hash)) {
+                    promoted.add(entry);
+                }
+            }
+            promoted.putIfAbsent(key, hash, value, soft);
+            return promoted;
+        }
+
+        @SuppressWarnings("unchecked")
+        final Entry<K, V>[] newEntries = (Entry<K, V>[])new Entry<?, ?>[live + 1];
+        int i = 0;
+        for (final Entry<K, V> entry : entries) {
+            if (isLive(entry, key, hash)) {
+                newEntries[i++] = entry;
+            }
+        }
+        newEntries[i] = new Entry<>(key, hash, valueReference(value, soft), null);
+        return newEntries;
+    }
+
+    private static <K, V> boolean isLive(final Entry<K, V> entry, final K key, final int hash) {
+        final K entryKey = entry.get();
+        if (entryKey == null || entry.value.get() == null) {
+            return false;
+        }
+        return entry.hash != hash || !(entryKey == key || key.equals(entryKey));
+    }
+
+    private static <V> Reference<V> valueReference(final V value, final boolean soft) {
+        return soft ? new SoftReference<>(value) : new WeakReference<>(value);
+    }
+
+    /**
+     * Weakly referenced key with its value reference. Entries compare equal to each other
+     * if they are the same entry or their keys are equal and still reachable.
+     */
+    private static final class Entry<K, V> extends WeakReference<K> {
+        final int hash;
+        final Reference<V> value;
+
+        Entry(final K key, final int hash, final Reference<V> value, final ReferenceQueue<? super K> queue) {
+            super(key, queue);
+            this.hash = hash;
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other instanceof Entry) {
+                final Entry<?, ?> otherEntry = (Entry<?, ?>)other;
+                final Object key = get();
+                return hash == otherEntry.hash && key != null && key.equals(otherEntry.get());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Strongly referenced key used for lookups in a promoted table. {@link ConcurrentHashMap}
+     * calls {@code equals} on the key passed to {@code get}, so this only needs to compare against entries.
+     */
+    private static final class LookupKey {
+        private final Object key;
+        private final int hash;
+
+        LookupKey(final Object key) {
+            this.key = key;
+            this.hash = key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (other instanceof Entry) {
+                final Entry<?, ?> entry = (Entry<?, ?>)other;
+                final Object entryKey = entry.get();
+                return hash == entry.hash && entryKey != null && (entryKey == key || key.equals(entryKey));
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Hash map form of the table. Entries whose keys have been collected are expunged on insertion.
+     */
+    private static final class Promoted<K, V> {
+        final ConcurrentHashMap<Object, Reference<V>> map = new ConcurrentHashMap<>();
+        private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+        void add(final Entry<K, V> entry) {
+            final K key = entry.get();
+            if (key != null) {
+                final Entry<K, V> newEntry = new Entry<>(key, entry.hash, entry.value, queue);
+                map.put(newEntry, newEntry.value);
+            }
+        }
+
+        V putIfAbsent(final K key, final int hash, final V value, final boolean soft) {
+            expungeStaleEntries();
+
+            final Entry<K, V> newEntry = new Entry<>(key, hash, valueReference(value, soft), queue);
+            for (;;) {
+                final Reference<V> existing = map.putIfAbsent(newEntry, newEntry.value);
+                if (existing == null) {
+                    return value;
+                }
+                final V existingValue = existing.get();
+                if (existingValue != null) {
+                    return existingValue;
+                }
+                if (map.replace(newEntry, existing, newEntry.value)) {
+                    return value;
+                }
+            }
+        }
+
+        private void expungeStaleEntries() {
+            for (Reference<? extends K> ref; (ref = queue.poll()) != null; ) {
+                map.remove(ref);
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime;
+
+import java.io.IOException;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.nashorn.internal.codegen.OptimisticTypesPersistence;
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.runtime.logging.DebugLogger;
+import org.openjdk.nashorn.internal.runtime.logging.Loggable;
+import org.openjdk.nashorn.internal.runtime.logging.Logger;
+
+/**
+ * Warm-up of lazily compiled functions, enabled with {@code --warmup-profile=<file>}. Every function
+ * specialization compiled on demand is recorded, and the recorded specializations are written to the file when
+ * the JVM exits. A specialization is identified by the digest of its source, its function id and the parameter
+ * types of the call site it was compiled for.
+ * <p>
+ * When a later run loads a script with the same source, the specializations recorded for it are compiled on
+ * background threads in the order in which they were first needed, so that most of them are installed before the
+ * script calls them. Specializations that have {@link OptimisticTypesPersistence persisted optimistic type
+ * information} but were not recorded follow, most recently persisted first; their compilation picks up the
+ * persisted types like any other.
+ * <p>
+ * Warm-up threads run at low priority and stop compiling once they have used {@code --warmup-cpu-budget}
+ * milliseconds of CPU time in total. A thread that calls a function while it is being compiled for warm-up waits
+ * for that compilation instead of compiling the function again.
+ * <p>
+ * Only scripts that are loaded are warmed up, not code passed to {@code eval}, and the persisted optimistic type
+ * information of a source is only looked up the first time the source is loaded.
+ */
+@Logger(name="warmup")
+final class WarmupProfile implements Loggable {
+    // Recorded specializations by profile file, shared by all contexts of the JVM that use the same file
+    private static final Map<Path, Entries> PROFILES = new HashMap<>();
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final Context context;
+    private final Entries entries;
+    private final DebugLogger log;
+
+    // CPU time in nanoseconds that warm-up compilation may still use
+    private final AtomicLong remainingCpuTime;
+
+    // Specializations with persisted optimistic type information by source digest, listed when first needed
+    private final Map<String, List<String>> persisted = new ConcurrentHashMap<>();
+
+    // executor for warm-up compilation, created on first use
+    private volatile ThreadPoolExecutor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param context the context
+     * @param file the profile file
+     */
+    WarmupProfile(final Context context, final String file) {
+        this.context = context;
+        this.log = initLogger(context);
+        this.entries = getEntries(Paths.get(file).toAbsolutePath().normalize(), log);
+        final int budget = context.getEnv()._warmup_cpu_budget;
+        this.remainingCpuTime = new AtomicLong(budget > 0 ? TimeUnit.MILLISECONDS.toNanos(budget) : Long.MAX_VALUE);
+    }
+
+    @Override
+    public DebugLogger initLogger(final Context ctxt) {
+        return ctxt.getLogger(getClass());
+    }
+
+    @Override
+    public DebugLogger getLogger() {
+        return log;
+    }
+
+    /**
+     * Record that a specialization of a function was compiled. Functions of eval code are not recorded, as they are
+     * never warmed up.
+     *
+     * @param data the function
+     * @param callSiteType the call site type the specialization was compiled for
+     */
+    void record(final RecompilableScriptFunctionData data, final MethodType callSiteType) {
+        final Source source = data.getSource();
+        if (!source.isEvalCode()) {
+            entries.add(source.getDigest(), getKey(data.getFunctionNodeId(), callSiteType));
+        }
+    }
+
+    /**
+     * Start compiling the recorded specializations of the functions of a newly installed program in the background.
+     * They are compiled with the current global as their global. Programs compiled from eval code are ignored.
+     *
+     * @param program the program
+     */
+    void warmup(final RecompilableScriptFunctionData program) {
+        final Global global = Context.getGlobal();
+        final Source source = program.getSource();
+        if (global == null || source.isEvalCode() || remainingCpuTime.get() <= 0) {
+            return;
+        }
+        final String digest = source.getDigest();
+        final Set<String> keys = new LinkedHashSet<>(entries.get(digest));
+        keys.addAll(persisted.computeIfAbsent(digest, d -> OptimisticTypesPersistence.getPersistedSpecializations(source)));
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        log.info("Warming up ", keys.size(), " function specializations of ", source);
+        final Executor exec = getExecutor();
+        for (final String key : keys) {
+            exec.execute(() -> compile(program, key, global));
+        }
+    }
+
+    /**
+     * Writes the recorded specializations to the profile file now instead of when the JVM exits, and stops
+     * sharing them with contexts created later. Specializations recorded afterwards, by this context or by other
+     * existing contexts using the same file, are not written.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    void close() throws IOException {
+        synchronized (PROFILES) {
+            if (PROFILES.get(entries.file) == entries) {
+                PROFILES.remove(entries.file);
+                Runtime.getRuntime().removeShutdownHook(entries.writer);
+            }
+        }
+        entries.save();
+    }
+
+    private void compile(final RecompilableScriptFunctionData program, final String key, final Global global) {
+        if (remainingCpuTime.get() <= 0) {
+            return;
+        }
+        final int dash = key.indexOf('-');
+        final RecompilableScriptFunctionData data;
+        try {
+            data = program.getScriptFunctionData(Integer.parseInt(dash == -1 ? key : key.substring(0, dash)));
+        } catch (final NumberFormatException e) {
+            return;
+        }
+        if (data == null || data == program) {
+            return;
+        }
+        final MethodType callSiteType = dash == -1 ? data.getGenericType() : getCallSiteType(key.substring(dash + 1));
+        if (callSiteType == null) {
+            return;
+        }
+
+        final Global oldGlobal = Context.getGlobal();
+        final boolean globalChanged = oldGlobal != global;
+        final long start = getCpuTime();
+        try {
+            if (globalChanged) {
+                Context.setGlobal(global);
+            }
+            data.getBest(callSiteType, null, CompiledFunction.NO_FUNCTIONS);
+        } catch (final RuntimeException | Error e) {
+            log.warning("Warm-up compilation of ", DebugLogger.quote(data.getName()), " failed: ", e);
+        } finally {
+            if (globalChanged) {
+                Context.setGlobal(oldGlobal);
+            }
+            final long used = getCpuTime() - start;
+            final long remaining = remainingCpuTime.addAndGet(-used);
+            if (remaining <= 0 && remaining + used > 0) {
+                log.info("Warm-up CPU budget used up, skipping the remaining function specializations");
+            }
+        }
+    }
+
+    /**
+     * Returns the executor that compiles the recorded specializations, creating it on first use. Its queue is
+     * unbounded, so specializations are compiled in the order they were submitted. Its threads are daemons that
+     * go away when idle, and their priority is below normal, as the program itself should keep running first.
+     */
+    private Executor getExecutor() {
+        ThreadPoolExecutor exec = executor;
+        if (exec == null) {
+            synchronized (this) {
+                exec = executor;
+                if (exec == null) {
+                    final int threads = Math.max(1, context.getEnv()._warmup_threads);
+                    final AtomicLong threadCount = new AtomicLong();
+                    exec = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+                        (r) -> {
+                            final Thread t = new Thread(r, "Nashorn Warmup " + threadCount.incrementAndGet());
+                            t.setDaemon(true);
+                            t.setPriority(Thread.MIN_PRIORITY);
+                            return t;
+                        });
+                    exec.allowCoreThreadTimeOut(true);
+                    executor = exec;
+                }
+            }
+        }
+        return exec;
+    }
+
+    private static long getCpuTime() {
+        if (THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+            return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Returns the key of a specialization: the function id alone for the generic one, or the function id, a '-'
+     * and the short descriptors of the explicit parameter types of the call site, like the names of the files of
+     * {@link OptimisticTypesPersistence}.
+     */
+    private static String getKey(final int functionId, final MethodType callSiteType) {
+        if (CompiledFunction.isVarArgsType(callSiteType)) {
+            return Integer.toString(functionId);
+        }
+        final StringBuilder b = new StringBuilder().append(functionId).append('-');
+        // skip (callee, this)
+        for (int i = 2; i < callSiteType.parameterCount(); i++) {
+            final Class<?> type = callSiteType.parameterType(i);
+            b.append(type == int.class ? 'I' : type == long.class ? 'J' : type == double.class ? 'D' : type == boolean.class ? 'Z' : 'A');
+        }
+        return b.toString();
+    }
+
+    private static MethodType getCallSiteType(final String descriptors) {
+        final Class<?>[] types = new Class<?>[descriptors.length() + 2];
+        types[0] = ScriptFunction.class;
+        types[1] = Object.class;
+        for (int i = 0; i < descriptors.length(); i++) {
+            switch (descriptors.charAt(i)) {
+            case 'I': types[i + 2] = int.class; break;
+            case 'J': types[i + 2] = long.class; break;
+            case 'D': types[i + 2] = double.class; break;
+            case 'Z': types[i + 2] = boolean.class; break;
+            case 'A': types[i + 2] = Object.class; break;
+            default: return null;
+            }
+        }
+        return MethodType.methodType(Object.class, types);
+    }
+
+    private static Entries getEntries(final Path file, final DebugLogger log) {
+        synchronized (PROFILES) {
+            Entries entries = PROFILES.get(file);
+            if (entries == null) {
+                entries = new Entries(file);
+                if (Files.isRegularFile(file)) {
+                    try {
+                        entries.load();
+                    } catch (final IOException e) {
+                        log.warning("Failed to read warm-up profile ", file, ": ", e);
+                    }
+                }
+                Runtime.getRuntime().addShutdownHook(entries.writer);
+                PROFILES.put(file, entries);
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * The specializations of a profile file by source digest, in the order they were first recorded. Entries read
+     * from the file are kept, so the file accumulates the specializations of all runs.
+     */
+    private static final class Entries {
+        private static final String HEADER = "# Nashorn warm-up profile: <source digest> TAB <function specialization>";
+
+        private final Path file;
+        private final Map<String, Set<String>> map = new LinkedHashMap<>();
+        private boolean modified;
+        // shutdown hook that writes the file
+        private final Thread writer = new Thread(this::saveOnExit, "Nashorn Warmup Profile Writer");
+
+        Entries(final Path file) {
+            this.file = file;
+        }
+
+        synchronized List<String> get(final String digest) {
+            final Set<String> keys = map.get(digest);
+            return keys == null ? Collections.emptyList() : new ArrayList<>(keys);
+        }
+
+        synchronized void add(final String digest, final String key) {
+            if (map.computeIfAbsent(digest, d -> new LinkedHashSet<>()).add(key)) {
+                modified = true;
+            }
+        }
+
+        synchronized void load() throws IOException {
+            for (final String line : Files.readAllLines(file)) {
+                final int tab = line.indexOf('\t');
+                if (tab > 0 && !line.startsWith("#")) {
+                    add(line.substring(0, tab), line.substring(tab + 1));
+                }
+            }
+            modified = false;
+        }
+
+        synchronized void save() throws IOException {
+            if (!modified) {
+                return;
+            }
+            final List<String> lines = new ArrayList<>();
+            lines.add(HEADER);
+            for (final Map.Entry<String, Set<String>> entry : map.entrySet()) {
+                for (final String key : entry.getValue()) {
+                    lines.add(entry.getKey() + '\t' + key);
+                }
+            }
+            Files.write(file, lines);
+            modified = false;
+        }
+
+        void saveOnExit() {
+            try {
+                save();
+            } catch (final IOException e) {
+                //System.err because the context and the output streams may be gone
+                //when the shutdown hook executes
+                System.err.println("Failed to write warm-up profile " + file + ": " + e);
+            }
+        }
+    }
+}
@@ -350,4 +350,24 @@ public abstract class ContinuousArrayData extends ArrayData {
     public ContinuousArrayData fastConcat(final ContinuousArrayData otherData) {
         throw new ClassCastException(getClass() + " != " + otherData.getClass());
     }
+
+    /**
+     * Specialization - sort the elements in place in the order of Array.prototype.sort
+     * without a comparison function, that is by their string values
+     * @return true if sorted, false if there is no such specialization for this data
+     */
+    public boolean fastSort() {
+        return false;
+    }
+
+    /**
+     * Specialization - sort the elements in place in the order of Array.prototype.sort
+     * with the comparison function {@code (a, b) => a - b}, or {@code (a, b) => b - a}
+     * if descending
+     * @param descending sort in descending rather than ascending order
+     * @return true if sorted, false if there is no such specialization for this data
+     */
+    public boolean fastSortNumeric(final boolean descending) {
+        return false;
+    }
 }
@@ -125,9 +125,30 @@ final class IntArrayData extends ContinuousArrayData implements IntElements {
 
     @Override
     public Object asArrayOfType(final Class<?> componentType) {
+        // Bulk conversions to the common component types, with the same results as converting element by element
+        final int len = (int)length();
         if (componentType == int.class) {
-            final int len = (int)length();
             return array.length == len ? array.clone() : Arrays.copyOf(array, len);
+        } else if (componentType == double.class) {
+            final double[] darray = new double[len];
+            for (int index = 0; index < len; index++) {
+                darray[index] = array[index];
+            }
+            return darray;
+        } else if (componentType == long.class) {
+            final long[] larray = new long[len];
+            for (int index = 0; index < len; index++) {
+                larray[index] = array[index];
+            }
+            return larray;
+        } else if (componentType == Object.class) {
+            return toObjectArray(true);
+        } else if (componentType == String.class) {
+            final String[] sarray = new String[len];
+            for (int index = 0; index < len; index++) {
+                sarray[index] = JSType.toString(array[index]);
+            }
+            return sarray;
         }
         return super.asArrayOfType(componentType);
     }
@@ -201,7 +222,7 @@ final class IntArrayData extends ContinuousArrayData implements IntElements {
 
     @Override
     public ArrayData ensure(final long safeIndex) {
-        if (safeIndex >= SparseArrayData.MAX_DENSE_LENGTH) {
+        if (safeIndex >= SparseArrayData.MAX_DENSE_LENGTH && safeIndex >= array.length) {
             return new SparseArrayData(this, safeIndex + 1);
         }
         final int alen = array.length;
@@ -394,6 +415,70 @@ final class IntArrayData extends ContinuousArrayData implements IntElements {
         return new IntArrayData(newArray, newLength);
     }
 
+    // Sorting by string value: an int is encoded as a long that sorts like its string value.
+    // The first base 11 digit is 0 for negative and 1 for other values, as '-' sorts before
+    // all digits. It is followed by the 10 decimal digits of the magnitude, most significant
+    // first, each plus 1 so that shorter strings padded with 0 sort before longer ones.
+    private static final long SIGN_DIGIT = 25937424601L; // 11^10
+
+    private static long stringOrderKey(final int value) {
+        final long magnitude = Math.abs((long)value);
+        long divisor = 1;
+        while (divisor * 10 <= magnitude) {
+            divisor *= 10;
+        }
+        long key = value < 0 ? 0 : 1;
+        for (int i = 0; i < 10; i++) {
+            key *= 11;
+            if (divisor > 0) {
+                key += magnitude / divisor % 10 + 1;
+                divisor /= 10;
+            }
+        }
+        return key;
+    }
+
+    private static int fromStringOrderKey(final long key) {
+        long rest    = key % SIGN_DIGIT;
+        long digit   = SIGN_DIGIT / 11;
+        long magnitude = 0;
+        while (digit > 0 && rest / digit > 0) {
+            magnitude = magnitude * 10 + rest / digit - 1;
+            rest %= digit;
+            digit /= 11;
+        }
+        return (int)(key < SIGN_DIGIT ? -magnitude : magnitude);
+    }
+
+    @Override
+    public boolean fastSort() {
+        final int    len  = (int)length();
+        final long[] keys = new long[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = stringOrderKey(array[i]);
+        }
+        // equal keys are equal values, so an unstable sort will do
+        Arrays.sort(keys);
+        for (int i = 0; i < len; i++) {
+            array[i] = fromStringOrderKey(keys[i]);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean fastSortNumeric(final boolean descending) {
+        final int len = (int)length();
+        Arrays.sort(array, 0, len);
+        if (descending) {
+            for (int i = 0, j = len - 1; i < j; i++, j--) {
+                final int tmp = array[i];
+                array[i] = array[j];
+                array[j] = tmp;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         assert length() <= array.length : length() + " > " + array.length;
@@ -99,13 +99,40 @@ final class NumberArrayData extends ContinuousArrayData implements NumericElemen
 
     @Override
     public Object asArrayOfType(final Class<?> componentType) {
+        // Bulk conversions to the common component types, with the same results as converting element by element
+        final int len = (int)length();
         if (componentType == double.class) {
-            final int len = (int)length();
             return array.length == len ? array.clone() : Arrays.copyOf(array, len);
+        } else if (componentType == int.class) {
+            final int[] iarray = new int[len];
+            for (int index = 0; index < len; index++) {
+                iarray[index] = (int)toJavaLong(array[index]);
+            }
+            return iarray;
+        } else if (componentType == long.class) {
+            final long[] larray = new long[len];
+            for (int index = 0; index < len; index++) {
+                larray[index] = toJavaLong(array[index]);
+            }
+            return larray;
+        } else if (componentType == Object.class) {
+            return toObjectArray(true);
+        } else if (componentType == String.class) {
+            final String[] sarray = new String[len];
+            for (int index = 0; index < len; index++) {
+                sarray[index] = JSType.toString(array[index]);
+            }
+            return sarray;
         }
         return super.asArrayOfType(componentType);
     }
 
+    // Number to Java long and int conversion as done by the linker when numbers are passed to Java:
+    // truncation, with NaN and infinities converted to 0.
+    private static long toJavaLong(final double value) {
+        return Double.isInfinite(value) ? 0L : (long)value;
+    }
+
     private static boolean canWiden(final Class<?> type) {
         return TypeUtilities.isWrapperType(type) &&
             type != Boolean.class && type != Character.class;
@@ -144,7 +171,7 @@ final class NumberArrayData extends ContinuousArrayData implements NumericElemen
 
     @Override
     public ArrayData ensure(final long safeIndex) {
-        if (safeIndex >= SparseArrayData.MAX_DENSE_LENGTH) {
+        if (safeIndex >= SparseArrayData.MAX_DENSE_LENGTH && safeIndex >= array.length) {
             return new SparseArrayData(this, safeIndex + 1);
         }
         final int alen = array.length;
@@ -361,6 +388,73 @@ final class NumberArrayData extends ContinuousArrayData implements NumericElemen
         return new NumberArrayData(newArray, newLength);
     }
 
+    @Override
+    public boolean fastSort() {
+        // compute each string value once, not once per comparison
+        final int         len     = (int)length();
+        final SortEntry[] entries = new SortEntry[len];
+        for (int i = 0; i < len; i++) {
+            entries[i] = new SortEntry(JSType.toString(array[i]), array[i]);
+        }
+        // stable, so 0 and -0 keep their relative order
+        Arrays.sort(entries, (x, y) -> x.key.compareTo(y.key));
+        for (int i = 0; i < len; i++) {
+            array[i] = entries[i].value;
+        }
+        return true;
+    }
+
+    private static final class SortEntry {
+        final String key;
+        final double value;
+
+        SortEntry(final String key, final double value) {
+            this.key   = key;
+            this.value = value;
+        }
+    }
+
+    @Override
+    public boolean fastSortNumeric(final boolean descending) {
+        final int len = (int)length();
+
+        // Arrays.sort orders NaN and -0 unlike a comparison function subtracting elements,
+        // which finds NaN equal to everything and keeps 0 and -0 in their original order
+        int zeros = 0;
+        for (int i = 0; i < len; i++) {
+            final double d = array[i];
+            if (Double.isNaN(d)) {
+                return false;
+            } else if (d == 0) {
+                zeros++;
+            }
+        }
+        final double[] originalZeros = new double[zeros];
+        for (int i = 0, z = 0; z < zeros; i++) {
+            if (array[i] == 0) {
+                originalZeros[z++] = array[i];
+            }
+        }
+
+        Arrays.sort(array, 0, len);
+        if (descending) {
+            for (int i = 0, j = len - 1; i < j; i++, j--) {
+                final double tmp = array[i];
+                array[i] = array[j];
+                array[j] = tmp;
+            }
+        }
+
+        if (zeros > 0) {
+            int first = 0;
+            while (array[first] != 0) {
+                first++;
+            }
+            System.arraycopy(originalZeros, 0, array, first, zeros);
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         assert length() <= array.length : length() + " > " + array.length;
@@ -121,7 +121,7 @@ final class ObjectArrayData extends ContinuousArrayData implements AnyElements {
 
     @Override
     public ArrayData ensure(final long safeIndex) {
-        if (safeIndex >= SparseArrayData.MAX_DENSE_LENGTH) {
+        if (safeIndex >= SparseArrayData.MAX_DENSE_LENGTH && safeIndex >= array.length) {
             return new SparseArrayData(this, safeIndex + 1);
         }
         final int alen = array.length;
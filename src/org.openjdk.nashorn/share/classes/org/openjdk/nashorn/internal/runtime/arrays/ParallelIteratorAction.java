@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.arrays;
+
+import static org.openjdk.nashorn.internal.runtime.ECMAErrors.typeError;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.runtime.Context;
+import org.openjdk.nashorn.internal.runtime.ScriptObject;
+import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
+import org.openjdk.nashorn.internal.runtime.linker.Bootstrap;
+
+/**
+ * Helper class for the parallel map/filter/forEach functions of {@link org.openjdk.nashorn.internal.objects.NativeJava}.
+ * Unlike {@link IteratorAction}, the callback is invoked for the elements of a dense array in no particular order, by
+ * the threads of a {@link ForkJoinPool} of Nashorn's own. The index range of the array is split into a few chunks per
+ * thread, and every thread runs its chunks with the global of the calling thread as its current global. The pool is
+ * not the common one so that script callbacks, which set the current global of the threads running them and may
+ * block for a long time, neither run on nor hold up threads that other code in the JVM shares.
+ * <p>
+ * Script objects are not thread safe, so the callback must not modify anything that the invocations for other elements
+ * can see, such as the array itself, variables of enclosing functions or global variables. The array data object and
+ * the length of the array must be the same after every chunk, otherwise the action fails with a {@code TypeError}.
+ * This catches changes of the length and of the storage, like those caused by storing an element of a different type,
+ * but not elements written in place. Other shared state is not checked either. If a callback invocation throws, no
+ * further chunks are started, and the first exception is rethrown on the calling thread.
+ *
+ * @param <T> type of the result
+ */
+public abstract class ParallelIteratorAction<T> {
+    /** Self object */
+    protected final ScriptObject self;
+
+    /** This for the callback invocation */
+    protected Object thisArg;
+
+    /** Callback function to be applied to elements */
+    protected final Object callbackfn;
+
+    /** Length of the array at the start of the action */
+    protected final int length;
+
+    private final String name;
+    private final ContinuousArrayData data;
+    private final Global global;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Constructor
+     *
+     * @param name       name of the function running the action, for error messages
+     * @param self       self reference to array object
+     * @param data       the dense array data of {@code self}
+     * @param callbackfn callback function for each element
+     * @param thisArg    the reference
+     */
+    protected ParallelIteratorAction(final String name, final ScriptObject self, final ContinuousArrayData data, final Object callbackfn, final Object thisArg) {
+        assert self.getArray() == data;
+        this.name       = name;
+        this.self       = self;
+        this.data       = data;
+        this.length     = (int)data.length();
+        this.callbackfn = callbackfn;
+        this.thisArg    = thisArg;
+        this.global     = Context.getGlobal();
+    }
+
+    /**
+     * Apply the callback to all elements in parallel.
+     * @return result of apply
+     */
+    public final T apply() {
+        final boolean strict = Bootstrap.isStrictCallable(callbackfn);
+
+        // for non-strict callback, need to translate undefined thisArg to be global object
+        thisArg = (thisArg == ScriptRuntime.UNDEFINED && !strict)? global : thisArg;
+
+        final ForkJoinPool pool = PoolHolder.POOL;
+        final int chunk = Math.max(1, length / (pool.getParallelism() * 4));
+        pool.invoke(new Range(0, length, chunk));
+
+        final Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException)t;
+        } else if (t instanceof Error) {
+            throw (Error)t;
+        } else if (t != null) {
+            throw new RuntimeException(t);
+        }
+        checkArray();
+        return result();
+    }
+
+    /**
+     * For each callback. Invoked concurrently for different elements.
+     *
+     * @param val value
+     * @param i   position of value
+     *
+     * @throws Throwable if invocation throws an exception/error
+     */
+    protected abstract void forEach(final Object val, final int i) throws Throwable;
+
+    /**
+     * Returns the result once the callback has been applied to all elements.
+     * @return result of apply
+     */
+    protected abstract T result();
+
+    /**
+     * Returns the element at an index. Only valid for indices below {@link #length}.
+     *
+     * @param i index
+     * @return the element
+     */
+    protected final Object getElement(final int i) {
+        return data.getObject(i);
+    }
+
+    private void checkArray() {
+        if (self.getArray() != data || data.length() != length) {
+            throw typeError("array.modified.in.parallel", name);
+        }
+    }
+
+    private void run(final int from, final int to) {
+        final Global oldGlobal = Context.getGlobal();
+        final boolean globalChanged = oldGlobal != global;
+        if (globalChanged) {
+            Context.setGlobal(global);
+        }
+        try {
+            for (int i = from; i < to && failure.get() == null; i++) {
+                forEach(data.getObject(i), i);
+            }
+            checkArray();
+        } catch (final Throwable t) {
+            failure.compareAndSet(null, t);
+        } finally {
+            if (globalChanged) {
+                Context.setGlobal(oldGlobal);
+            }
+        }
+    }
+
+    // Initialized on the first parallel action
+    private static final class PoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            (pool) -> {
+                final ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                t.setName("Nashorn Parallel Iterator " + t.getPoolIndex());
+                return t;
+            }, null, false);
+    }
+
+    private final class Range extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        Range(final int from, final int to, final int chunk) {
+            this.from  = from;
+            this.to    = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (failure.get() != null) {
+                return;
+            }
+            if (to - from <= chunk) {
+                run(from, to);
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new Range(from, mid, chunk), new Range(mid, to, chunk));
+            }
+        }
+    }
+}
@@ -26,14 +26,16 @@
 package org.openjdk.nashorn.internal.runtime.arrays;
 
 import java.util.Arrays;
-import java.util.Map;
-import java.util.TreeMap;
 import org.openjdk.nashorn.internal.codegen.types.Type;
 import org.openjdk.nashorn.internal.runtime.JSType;
 import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
+import org.openjdk.nashorn.internal.runtime.UnwarrantedOptimismException;
 
 /**
- * Handle arrays where the index is very large.
+ * Handle arrays where the index is very large. Elements below the length of the dense array this
+ * was created from stay in that array; all others are kept in a {@link SparseElements} map.
+ * Once the sparse part has filled up all indices up to the length and is at least as large as
+ * the dense part, the whole array is converted back to dense {@link ContinuousArrayData}.
  */
 class SparseArrayData extends ArrayData {
     /** Maximum size for dense arrays */
@@ -46,13 +48,13 @@ class SparseArrayData extends ArrayData {
     private final long maxDenseLength;
 
     /** Sparse elements. */
-    private TreeMap<Long, Object> sparseMap;
+    private SparseElements sparseMap;
 
     SparseArrayData(final ArrayData underlying, final long length) {
-        this(underlying, length, new TreeMap<>());
+        this(underlying, length, new SparseElements());
     }
 
-    private SparseArrayData(final ArrayData underlying, final long length, final TreeMap<Long, Object> sparseMap) {
+    private SparseArrayData(final ArrayData underlying, final long length, final SparseElements sparseMap) {
         super(length);
         assert underlying.length() <= length;
         this.underlying = underlying;
@@ -62,7 +64,7 @@ class SparseArrayData extends ArrayData {
 
     @Override
     public ArrayData copy() {
-        return new SparseArrayData(underlying.copy(), length(), new TreeMap<>(sparseMap));
+        return new SparseArrayData(underlying.copy(), length(), sparseMap.copy());
     }
 
     @Override
@@ -77,13 +79,14 @@ class SparseArrayData extends ArrayData {
 
         Arrays.fill(objArray, underlyingLength, len, ScriptRuntime.UNDEFINED);
 
-        for (final Map.Entry<Long, Object> entry : sparseMap.entrySet()) {
-            final long key = entry.getKey();
-            if (key < Integer.MAX_VALUE) {
-                objArray[(int)key] = entry.getValue();
-            } else {
-                break; // ascending key order
-            }
+        if (len < length()) {
+            sparseMap.forEach((key, value) -> {
+                if (key < len) {
+                    objArray[(int)key] = value;
+                }
+            });
+        } else {
+            sparseMap.copyTo(objArray, 0);
         }
 
         return objArray;
@@ -93,23 +96,18 @@ class SparseArrayData extends ArrayData {
     public ArrayData shiftLeft(final int by) {
         underlying = underlying.shiftLeft(by);
 
-        final TreeMap<Long, Object> newSparseMap = new TreeMap<>();
-
-        for (final Map.Entry<Long, Object> entry : sparseMap.entrySet()) {
-            final long newIndex = entry.getKey() - by;
-            if (newIndex >= 0) {
-                if (newIndex < maxDenseLength) {
-                    final long oldLength = underlying.length();
-                    underlying = underlying.ensure(newIndex)
-                            .set((int) newIndex, entry.getValue(), false)
-                            .safeDelete(oldLength, newIndex - 1, false);
-                } else {
-                    newSparseMap.put(newIndex, entry.getValue());
-                }
-            }
+        sparseMap.removeRange(0, by - 1);
+        sparseMap.shiftKeys(-by);
+
+        // Move elements that now fall into the dense range to the underlying array
+        for (long newIndex = sparseMap.higherKey(-1); newIndex >= 0 && newIndex < maxDenseLength; newIndex = sparseMap.higherKey(-1)) {
+            final Object value = sparseMap.remove(newIndex);
+            final long oldLength = underlying.length();
+            underlying = underlying.ensure(newIndex)
+                    .set((int) newIndex, value, false)
+                    .safeDelete(oldLength, newIndex - 1, false);
         }
 
-        sparseMap = newSparseMap;
         setLength(Math.max(length() - by, 0));
 
         return sparseMap.isEmpty() ? underlying : this;
@@ -117,7 +115,7 @@ class SparseArrayData extends ArrayData {
 
     @Override
     public ArrayData shiftRight(final int by) {
-        final TreeMap<Long, Object> newSparseMap = new TreeMap<>();
+        sparseMap.shiftKeys(by);
         // Move elements from underlying to sparse map if necessary
         final long len = underlying.length();
         if (len + by > maxDenseLength) {
@@ -125,7 +123,7 @@ class SparseArrayData extends ArrayData {
             final long tempLength = Math.max(0, maxDenseLength - by);
             for (long i = tempLength; i < len; i++) {
                 if (underlying.has((int) i)) {
-                    newSparseMap.put(i + by, underlying.getObject((int) i));
+                    sparseMap.put(i + by, underlying.getObject((int) i));
                 }
             }
             underlying = underlying.shrink((int) tempLength);
@@ -134,12 +132,6 @@ class SparseArrayData extends ArrayData {
 
         underlying = underlying.shiftRight(by);
 
-        for (final Map.Entry<Long, Object> entry : sparseMap.entrySet()) {
-            final long newIndex = entry.getKey() + by;
-            newSparseMap.put(newIndex, entry.getValue());
-        }
-
-        sparseMap = newSparseMap;
         setLength(length() + by);
 
         return this;
@@ -162,7 +154,7 @@ class SparseArrayData extends ArrayData {
             setLength(newLength);
         }
 
-        sparseMap.subMap(newLength, Long.MAX_VALUE).clear();
+        sparseMap.removeRange(newLength, Long.MAX_VALUE);
         setLength(newLength);
         return this;
     }
@@ -174,9 +166,10 @@ class SparseArrayData extends ArrayData {
             underlying = underlying.ensure(index).set(index, value, strict).safeDelete(oldLength, index - 1, strict);
             setLength(Math.max(underlying.length(), length()));
         } else {
-            final Long longIndex = indexToKey(index);
+            final long longIndex = indexToKey(index);
             sparseMap.put(longIndex, value);
             setLength(Math.max(longIndex + 1, length()));
+            return maybeDensify();
         }
 
         return this;
@@ -189,9 +182,10 @@ class SparseArrayData extends ArrayData {
             underlying = underlying.ensure(index).set(index, value, strict).safeDelete(oldLength, index - 1, strict);
             setLength(Math.max(underlying.length(), length()));
         } else {
-            final Long longIndex = indexToKey(index);
+            final long longIndex = indexToKey(index);
             sparseMap.put(longIndex, value);
             setLength(Math.max(longIndex + 1, length()));
+            return maybeDensify();
         }
         return this;
     }
@@ -203,9 +197,10 @@ class SparseArrayData extends ArrayData {
             underlying = underlying.ensure(index).set(index, value, strict).safeDelete(oldLength, index - 1, strict);
             setLength(Math.max(underlying.length(), length()));
         } else {
-            final Long longIndex = indexToKey(index);
+            final long longIndex = indexToKey(index);
             sparseMap.put(longIndex, value);
             setLength(Math.max(longIndex + 1, length()));
+            return maybeDensify();
         }
         return this;
     }
@@ -232,7 +227,7 @@ class SparseArrayData extends ArrayData {
         if (index >= 0 && index < maxDenseLength) {
             return underlying.getInt(index);
         }
-        return JSType.toInt32(sparseMap.get(indexToKey(index)));
+        return JSType.toInt32(sparseMap.getDouble(indexToKey(index), 0));
     }
 
     @Override
@@ -240,7 +235,11 @@ class SparseArrayData extends ArrayData {
         if (index >= 0 && index < maxDenseLength) {
             return underlying.getIntOptimistic(index, programPoint);
         }
-        return JSType.toInt32Optimistic(sparseMap.get(indexToKey(index)), programPoint);
+        final Object value = sparseMap.get(indexToKey(index));
+        if (value instanceof Integer) {
+            return (Integer)value;
+        }
+        throw new UnwarrantedOptimismException(value, programPoint);
     }
 
     @Override
@@ -248,7 +247,7 @@ class SparseArrayData extends ArrayData {
         if (index >= 0 && index < maxDenseLength) {
             return underlying.getDouble(index);
         }
-        return JSType.toNumber(sparseMap.get(indexToKey(index)));
+        return sparseMap.getDouble(indexToKey(index), 0);
     }
 
     @Override
@@ -265,12 +264,8 @@ class SparseArrayData extends ArrayData {
             return underlying.getObject(index);
         }
 
-        final Long key = indexToKey(index);
-        if (sparseMap.containsKey(key)) {
-            return sparseMap.get(key);
-        }
-
-        return ScriptRuntime.UNDEFINED;
+        final Object value = sparseMap.get(indexToKey(index));
+        return value != null || has(index) ? value : ScriptRuntime.UNDEFINED;
     }
 
     @Override
@@ -301,12 +296,50 @@ class SparseArrayData extends ArrayData {
             underlying = underlying.delete(fromIndex, Math.min(toIndex, underlying.length() - 1));
         }
         if (toIndex >= maxDenseLength) {
-            sparseMap.subMap(fromIndex, true, toIndex, true).clear();
+            sparseMap.removeRange(fromIndex, toIndex);
         }
         return this;
     }
 
-    private static Long indexToKey(final int index) {
+    /**
+     * Convert back to a dense array if the sparse elements fill all indices from the end of the
+     * underlying array up to the length. To keep the copying amortized this is only done once
+     * the sparse part is at least as large as the dense part.
+     */
+    private ArrayData maybeDensify() {
+        final int sparseSize = sparseMap.size();
+        final long len = length();
+        if (sparseSize < maxDenseLength || sparseSize != len - maxDenseLength || len > Integer.MAX_VALUE - 8
+                || !(underlying instanceof ContinuousArrayData) || underlying.length() != maxDenseLength) {
+            return this;
+        }
+
+        final int denseLength = (int)maxDenseLength;
+        final Class<?> elementType = ((ContinuousArrayData)underlying).getElementType();
+        if (elementType == int.class && sparseMap.isNumeric(true)) {
+            final int[] array = new int[(int)len];
+            for (int i = 0; i < denseLength; i++) {
+                array[i] = underlying.getInt(i);
+            }
+            sparseMap.copyTo(array, 0);
+            return new IntArrayData(array, (int)len);
+        } else if (elementType != Object.class && sparseMap.isNumeric(false)) {
+            final double[] array = new double[(int)len];
+            for (int i = 0; i < denseLength; i++) {
+                array[i] = underlying.getDouble(i);
+            }
+            sparseMap.copyTo(array, 0);
+            return new NumberArrayData(array, (int)len);
+        }
+        final Object[] array = new Object[(int)len];
+        for (int i = 0; i < denseLength; i++) {
+            array[i] = underlying.getObject(i);
+        }
+        sparseMap.copyTo(array, 0);
+        return new ObjectArrayData(array, (int)len);
+    }
+
+    private static long indexToKey(final int index) {
         return ArrayIndex.toLongIndex(index);
     }
 
@@ -329,7 +362,7 @@ class SparseArrayData extends ArrayData {
             return result;
         }
         setLength(len - 1);
-        final Long key = len - 1;
+        final long key = len - 1;
         return sparseMap.containsKey(key) ? sparseMap.remove(key) : ScriptRuntime.UNDEFINED;
     }
 
@@ -365,8 +398,8 @@ class SparseArrayData extends ArrayData {
             return underlying.nextIndex(index);
         }
 
-        final Long nextKey = sparseMap.higherKey(index);
-        if (nextKey != null) {
+        final long nextKey = sparseMap.higherKey(index);
+        if (nextKey != -1) {
             return nextKey;
         }
 
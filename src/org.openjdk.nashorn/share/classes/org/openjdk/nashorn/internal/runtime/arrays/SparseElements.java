@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.arrays;
+
+import java.util.Arrays;
+import org.openjdk.nashorn.internal.runtime.JSType;
+
+/**
+ * Sorted map from long array indices to element values, used by {@link SparseArrayData}.
+ * <p>
+ * Keys are kept in ascending order in a list of chunks holding at most {@link #CHUNK_SIZE}
+ * entries each, so lookups are two binary searches and insertions only move the tail of a
+ * single chunk. As long as all values in a chunk are numbers they are stored unboxed in a
+ * {@code double[]}; the chunk switches to an {@code Object[]} on the first non-numeric value.
+ * Numbers read back as objects are returned as {@link Integer} if they are strictly representable
+ * as int and as {@link Double} otherwise.
+ */
+final class SparseElements {
+    /** Maximum number of entries per chunk. */
+    static final int CHUNK_SIZE = 256;
+
+    /** Callback for {@link #forEach(EntryConsumer)}. */
+    interface EntryConsumer {
+        /**
+         * Accept an entry.
+         * @param key the element index
+         * @param value the element value
+         */
+        void accept(long key, Object value);
+    }
+
+    private static final class Chunk {
+        final long[] keys;
+        double[] numbers;
+        Object[] objects;
+        int size;
+
+        Chunk() {
+            this.keys    = new long[CHUNK_SIZE];
+            this.numbers = new double[CHUNK_SIZE];
+        }
+
+        Chunk(final Chunk other) {
+            this.keys    = other.keys.clone();
+            this.numbers = other.numbers == null ? null : other.numbers.clone();
+            this.objects = other.objects == null ? null : other.objects.clone();
+            this.size    = other.size;
+        }
+
+        long lastKey() {
+            return keys[size - 1];
+        }
+
+        int find(final long key) {
+            return Arrays.binarySearch(keys, 0, size, key);
+        }
+
+        /** Index of the first key greater than {@code key}. */
+        int higher(final long key) {
+            final int i = find(key);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        Object get(final int i) {
+            return objects != null ? objects[i] : box(numbers[i]);
+        }
+
+        void set(final int i, final double value) {
+            if (objects != null) {
+                objects[i] = box(value);
+            } else {
+                numbers[i] = value;
+            }
+        }
+
+        void set(final int i, final Object value) {
+            if (value instanceof Integer || value instanceof Double) {
+                set(i, ((Number)value).doubleValue());
+                return;
+            }
+            if (objects == null) {
+                objects = new Object[CHUNK_SIZE];
+                for (int j = 0; j < size; j++) {
+                    objects[j] = box(numbers[j]);
+                }
+                numbers = null;
+            }
+            objects[i] = value;
+        }
+
+        /** Open a slot at {@code i}; the caller must set its value. */
+        void insert(final int i, final long key) {
+            System.arraycopy(keys, i, keys, i + 1, size - i);
+            if (objects != null) {
+                System.arraycopy(objects, i, objects, i + 1, size - i);
+            } else {
+                System.arraycopy(numbers, i, numbers, i + 1, size - i);
+            }
+            keys[i] = key;
+            size++;
+        }
+
+        void remove(final int from, final int to) {
+            System.arraycopy(keys, to, keys, from, size - to);
+            if (objects != null) {
+                System.arraycopy(objects, to, objects, from, size - to);
+                Arrays.fill(objects, size - (to - from), size, null);
+            } else {
+                System.arraycopy(numbers, to, numbers, from, size - to);
+            }
+            size -= to - from;
+        }
+
+        /** Move the upper half of this chunk into a new chunk. */
+        Chunk split() {
+            final Chunk upper = new Chunk();
+            final int half = size >>> 1;
+            final int moved = size - half;
+            System.arraycopy(keys, half, upper.keys, 0, moved);
+            if (objects != null) {
+                upper.objects = new Object[CHUNK_SIZE];
+                upper.numbers = null;
+                System.arraycopy(objects, half, upper.objects, 0, moved);
+                Arrays.fill(objects, half, size, null);
+            } else {
+                System.arraycopy(numbers, half, upper.numbers, 0, moved);
+            }
+            upper.size = moved;
+            size = half;
+            return upper;
+        }
+    }
+
+    private Chunk[] chunks;
+    private int chunkCount;
+    private int size;
+
+    /** Slot index within the chunk returned by the last call to {@link #slotFor(long)}. */
+    private int lastSlot;
+
+    SparseElements() {
+        this.chunks = new Chunk[4];
+    }
+
+    private SparseElements(final SparseElements other) {
+        this.chunks = new Chunk[Math.max(4, other.chunkCount)];
+        for (int i = 0; i < other.chunkCount; i++) {
+            this.chunks[i] = new Chunk(other.chunks[i]);
+        }
+        this.chunkCount = other.chunkCount;
+        this.size = other.size;
+    }
+
+    SparseElements copy() {
+        return new SparseElements(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check whether all values are numbers.
+     * @param intsOnly whether the numbers must also be strictly representable as int
+     * @return true if all values are numbers (or ints)
+     */
+    boolean isNumeric(final boolean intsOnly) {
+        for (int c = 0; c < chunkCount; c++) {
+            final Chunk chunk = chunks[c];
+            if (chunk.objects != null) {
+                return false;
+            }
+            if (intsOnly) {
+                for (int i = 0; i < chunk.size; i++) {
+                    if (!JSType.isStrictlyRepresentableAsInt(chunk.numbers[i])) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /** Index of the first chunk whose last key is not less than {@code key}, or chunkCount. */
+    private int chunkFor(final long key) {
+        int lo = 0;
+        int hi = chunkCount;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (chunks[mid].lastKey() < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    boolean containsKey(final long key) {
+        final int c = chunkFor(key);
+        return c < chunkCount && chunks[c].find(key) >= 0;
+    }
+
+    /**
+     * Get the value for a key.
+     * @param key the key
+     * @return the value, or null if there is no entry for key
+     */
+    Object get(final long key) {
+        final int c = chunkFor(key);
+        if (c < chunkCount) {
+            final Chunk chunk = chunks[c];
+            final int i = chunk.find(key);
+            if (i >= 0) {
+                return chunk.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the numeric value for a key without boxing.
+     * @param key the key
+     * @param absent the value to return if there is no entry for key
+     * @return the value converted to number
+     */
+    double getDouble(final long key, final double absent) {
+        final int c = chunkFor(key);
+        if (c < chunkCount) {
+            final Chunk chunk = chunks[c];
+            final int i = chunk.find(key);
+            if (i >= 0) {
+                return chunk.objects != null ? JSType.toNumber(chunk.objects[i]) : chunk.numbers[i];
+            }
+        }
+        return absent;
+    }
+
+    void put(final long key, final double value) {
+        final Chunk chunk = slotFor(key);
+        chunk.set(lastSlot, value);
+    }
+
+    void put(final long key, final Object value) {
+        final Chunk chunk = slotFor(key);
+        chunk.set(lastSlot, value);
+    }
+
+    /** Find or create the slot for key, splitting a full chunk if needed. */
+    private Chunk slotFor(final long key) {
+        int c;
+        if (chunkCount == 0) {
+            insertChunk(0, new Chunk());
+            c = 0;
+        } else {
+            c = chunkFor(key);
+            if (c == chunkCount) {
+                c--; // append to last chunk
+            }
+        }
+        Chunk chunk = chunks[c];
+        int i = chunk.find(key);
+        if (i >= 0) {
+            lastSlot = i;
+            return chunk;
+        }
+        i = -i - 1;
+        if (chunk.size == CHUNK_SIZE) {
+            final Chunk upper = chunk.split();
+            insertChunk(c + 1, upper);
+            if (i > chunk.size) {
+                i -= chunk.size;
+                chunk = upper;
+            }
+        }
+        chunk.insert(i, key);
+        size++;
+        lastSlot = i;
+        return chunk;
+    }
+
+    private void insertChunk(final int c, final Chunk chunk) {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        System.arraycopy(chunks, c, chunks, c + 1, chunkCount - c);
+        chunks[c] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunks(final int from, final int to) {
+        System.arraycopy(chunks, to, chunks, from, chunkCount - to);
+        Arrays.fill(chunks, chunkCount - (to - from), chunkCount, null);
+        chunkCount -= to - from;
+    }
+
+    /**
+     * Remove the entry for a key.
+     * @param key the key
+     * @return the removed value, or null if there was no entry for key
+     */
+    Object remove(final long key) {
+        final int c = chunkFor(key);
+        if (c < chunkCount) {
+            final Chunk chunk = chunks[c];
+            final int i = chunk.find(key);
+            if (i >= 0) {
+                final Object value = chunk.get(i);
+                chunk.remove(i, i + 1);
+                size--;
+                if (chunk.size == 0) {
+                    removeChunks(c, c + 1);
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove all entries with keys in the given range.
+     * @param from lowest key to remove, inclusive
+     * @param to highest key to remove, inclusive
+     */
+    void removeRange(final long from, final long to) {
+        if (from > to) {
+            return;
+        }
+        int c = chunkFor(from);
+        int emptyFrom = -1;
+        while (c < chunkCount) {
+            final Chunk chunk = chunks[c];
+            final int lo = from == Long.MIN_VALUE ? 0 : chunk.higher(from - 1);
+            final int hi = chunk.higher(to);
+            final int oldSize = chunk.size;
+            chunk.remove(lo, hi);
+            size -= hi - lo;
+            if (chunk.size == 0 && emptyFrom == -1) {
+                emptyFrom = c;
+            }
+            if (hi < oldSize) {
+                break; // range ends in this chunk
+            }
+            c++;
+        }
+        if (emptyFrom != -1) {
+            // only chunks entirely covered by the range can be empty, and they are contiguous
+            int emptyTo = emptyFrom;
+            while (emptyTo < chunkCount && chunks[emptyTo].size == 0) {
+                emptyTo++;
+            }
+            removeChunks(emptyFrom, emptyTo);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Get the smallest key greater than the given key.
+     * @param key the key
+     * @return the next key, or -1 if there is none
+     */
+    long higherKey(final long key) {
+        if (key == Long.MAX_VALUE) {
+            return -1;
+        }
+        final int c = chunkFor(key + 1);
+        if (c < chunkCount) {
+            final Chunk chunk = chunks[c];
+            return chunk.keys[chunk.higher(key)];
+        }
+        return -1;
+    }
+
+    /**
+     * Add a constant to all keys. The caller must make sure no key overflows or becomes negative.
+     * @param by the amount to add
+     */
+    void shiftKeys(final long by) {
+        for (int c = 0; c < chunkCount; c++) {
+            final Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                chunk.keys[i] += by;
+            }
+        }
+    }
+
+    /**
+     * Visit all entries in ascending key order.
+     * @param consumer the consumer
+     */
+    void forEach(final EntryConsumer consumer) {
+        for (int c = 0; c < chunkCount; c++) {
+            final Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                consumer.accept(chunk.keys[i], chunk.get(i));
+            }
+        }
+    }
+
+    /**
+     * Copy all values into an int array. Only valid if {@link #isNumeric(boolean)} returns true for ints.
+     * @param array the destination array
+     * @param offset the amount to subtract from each key to get the array index
+     */
+    void copyTo(final int[] array, final long offset) {
+        for (int c = 0; c < chunkCount; c++) {
+            final Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                array[(int)(chunk.keys[i] - offset)] = (int)chunk.numbers[i];
+            }
+        }
+    }
+
+    /**
+     * Copy all values into a double array. Only valid if {@link #isNumeric(boolean)} returns true.
+     * @param array the destination array
+     * @param offset the amount to subtract from each key to get the array index
+     */
+    void copyTo(final double[] array, final long offset) {
+        for (int c = 0; c < chunkCount; c++) {
+            final Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                array[(int)(chunk.keys[i] - offset)] = chunk.numbers[i];
+            }
+        }
+    }
+
+    /**
+     * Copy all values into an object array.
+     * @param array the destination array
+     * @param offset the amount to subtract from each key to get the array index
+     */
+    void copyTo(final Object[] array, final long offset) {
+        for (int c = 0; c < chunkCount; c++) {
+            final Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                array[(int)(chunk.keys[i] - offset)] = chunk.get(i);
+            }
+        }
+    }
+
+    private static Object box(final double value) {
+        if (JSType.isStrictlyRepresentableAsInt(value)) {
+            return (int)value;
+        }
+        return value;
+    }
+}
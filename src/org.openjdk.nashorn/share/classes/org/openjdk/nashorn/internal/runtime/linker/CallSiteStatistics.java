@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.linker;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.openjdk.nashorn.api.management.CallSiteInfo;
+import org.openjdk.nashorn.api.management.CallSiteStatisticsMXBean;
+import org.openjdk.nashorn.internal.runtime.options.Options;
+
+/**
+ * Collects relink, guard chain and invocation statistics for {@link LinkerCallSite}s and publishes
+ * them as a platform MXBean. Collection is enabled with {@code -Dnashorn.callsite.statistics=true}.
+ * <p>
+ * Unlike call site profiling ({@code --profile-callsites}) this does not time invocations and
+ * can be left on in production. Relink statistics are only updated when a call site is relinked,
+ * and each invocation costs a single unsynchronized counter increment.
+ */
+public final class CallSiteStatistics implements CallSiteStatisticsMXBean {
+    private static final boolean ENABLED = Options.getBooleanProperty("nashorn.callsite.statistics");
+
+    private static final CallSiteStatistics INSTANCE = ENABLED ? register(new CallSiteStatistics()) : null;
+
+    private static final Comparator<CallSiteInfo> BY_RELINK_COUNT = Comparator.comparingInt(CallSiteInfo::getRelinkCount).reversed();
+    private static final Comparator<CallSiteInfo> BY_INVOCATION_COUNT = Comparator.comparingLong(CallSiteInfo::getCallCount).reversed();
+
+    /** Counters of all linked call sites, weakly held so that they go away with their call sites. */
+    private final Set<Counters> callSites = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final LongAdder relinkCount = new LongAdder();
+    private final LongAdder unstableCount = new LongAdder();
+
+    private CallSiteStatistics() {
+    }
+
+    private static CallSiteStatistics register(final CallSiteStatistics statistics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, new ObjectName(OBJECT_NAME));
+        } catch (final JMException | SecurityException e) {
+            // Statistics are still collected and available through getInstance().
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the call site statistics, or null if statistics collection is not enabled.
+     * @return the call site statistics or null
+     */
+    public static CallSiteStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns new counters for a call site, or null if statistics collection is not enabled.
+     * @param descriptor the call site's descriptor
+     * @return new counters or null
+     */
+    static Counters newCounters(final NashornCallSiteDescriptor descriptor) {
+        return INSTANCE == null ? null : INSTANCE.new Counters(descriptor.getOperation().toString());
+    }
+
+    @Override
+    public int getCallSiteCount() {
+        return callSites.size();
+    }
+
+    @Override
+    public long getRelinkCount() {
+        return relinkCount.sum();
+    }
+
+    @Override
+    public long getUnstableCallSiteCount() {
+        return unstableCount.sum();
+    }
+
+    @Override
+    public long getInvocationCount() {
+        long total = 0L;
+        synchronized (callSites) {
+            for (final Counters counters : callSites) {
+                total += counters.invocationCount.sum();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public List<CallSiteInfo> getUnstableCallSites() {
+        return snapshot(CallSiteInfo::isUnstable, BY_RELINK_COUNT, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<CallSiteInfo> getTopRelinkingCallSites(final int limit) {
+        return snapshot(info -> true, BY_RELINK_COUNT, limit);
+    }
+
+    @Override
+    public List<CallSiteInfo> getTopInvokedCallSites(final int limit) {
+        return snapshot(info -> true, BY_INVOCATION_COUNT, limit);
+    }
+
+    @Override
+    public void reset() {
+        final List<Counters> counters;
+        synchronized (callSites) {
+            counters = new ArrayList<>(callSites);
+        }
+        for (final Counters c : counters) {
+            c.reset();
+        }
+        relinkCount.reset();
+        unstableCount.reset();
+    }
+
+    private List<CallSiteInfo> snapshot(final Predicate<CallSiteInfo> filter, final Comparator<CallSiteInfo> order, final int limit) {
+        final List<Counters> counters;
+        synchronized (callSites) {
+            counters = new ArrayList<>(callSites);
+        }
+        final List<CallSiteInfo> infos = new ArrayList<>(counters.size());
+        for (final Counters c : counters) {
+            final CallSiteInfo info = c.toInfo();
+            if (filter.test(info)) {
+                infos.add(info);
+            }
+        }
+        infos.sort(order);
+        return infos.size() > limit ? new ArrayList<>(infos.subList(0, Math.max(0, limit))) : infos;
+    }
+
+    /**
+     * Statistics of a single call site.
+     */
+    final class Counters {
+        private final String operation;
+        private String location;
+        private int relinks;
+        private int guardChainDepth;
+        private boolean unstable;
+
+        // Striped, as call sites may be invoked from many threads at once
+        final LongAdder invocationCount = new LongAdder();
+
+        Counters(final String operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * Record a relink of the call site.
+         *
+         * @param reset true if the call site's guard chain was reset, which the dynamic linker does
+         *              when the call site exceeds the unstable relink threshold
+         * @param maxChainLength maximum length of the call site's guard chain
+         */
+        void relinked(final boolean reset, final int maxChainLength) {
+            final boolean firstLink;
+            final boolean becameUnstable;
+            synchronized (this) {
+                firstLink = location == null;
+                if (firstLink) {
+                    location = LinkerCallSite.getScriptLocation();
+                }
+                relinks++;
+                guardChainDepth = reset ? 1 : Math.min(guardChainDepth + 1, maxChainLength);
+                becameUnstable = reset && !unstable;
+                unstable |= reset;
+            }
+            if (firstLink) {
+                callSites.add(this);
+            }
+            relinkCount.increment();
+            if (becameUnstable) {
+                unstableCount.increment();
+            }
+        }
+
+        void invoked() {
+            invocationCount.increment();
+        }
+
+        synchronized void reset() {
+            relinks = 0;
+            invocationCount.reset();
+        }
+
+        synchronized CallSiteInfo toInfo() {
+            return new CallSiteInfo(operation, location, relinks, guardChainDepth, unstable, invocationCount.sum());
+        }
+    }
+}
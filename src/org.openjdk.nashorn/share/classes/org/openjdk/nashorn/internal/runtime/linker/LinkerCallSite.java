@@ -63,9 +63,14 @@ public class LinkerCallSite extends ChainedCallSite {
 
     private static final MethodHandle INCREASE_MISS_COUNTER = MH.findStatic(MethodHandles.lookup(), LinkerCallSite.class, "increaseMissCount", MH.type(Object.class, String.class, Object.class));
     private static final Comparator<Entry<String, AtomicInteger>> MISS_COUNT_COMPARATOR = Comparator.comparingInt(e -> e.getValue().get());
+    private static final MethodHandle INVOKED = MH.findVirtual(MethodHandles.lookup(), CallSiteStatistics.Counters.class, "invoked", MH.type(void.class));
+
+    /** Statistics for this call site, null unless call site statistics are enabled. */
+    private final CallSiteStatistics.Counters statistics;
 
     LinkerCallSite(final NashornCallSiteDescriptor descriptor) {
         super(descriptor);
+        this.statistics = CallSiteStatistics.newCounters(descriptor);
         if (Context.DEBUG) {
             LinkerCallSite.count.increment();
         }
@@ -107,14 +112,25 @@ public class LinkerCallSite extends ChainedCallSite {
 
     @Override
     public void relink(final GuardedInvocation invocation, final MethodHandle relink) {
+        if (statistics != null) {
+            statistics.relinked(false, getMaxChainLength());
+        }
         super.relink(invocation, getDebuggingRelink(relink));
     }
 
     @Override
     public void resetAndRelink(final GuardedInvocation invocation, final MethodHandle relink) {
+        if (statistics != null) {
+            statistics.relinked(true, getMaxChainLength());
+        }
         super.resetAndRelink(invocation, getDebuggingRelink(relink));
     }
 
+    @Override
+    public void setTarget(final MethodHandle newTarget) {
+        super.setTarget(statistics == null ? newTarget : MH.foldArguments(newTarget, MH.bindTo(INVOKED, statistics)));
+    }
+
     private MethodHandle getDebuggingRelink(final MethodHandle relink) {
         if (Context.DEBUG) {
             return MH.filterArguments(relink, 0, getIncreaseMissCounter(relink.type().parameterType(0)));
@@ -130,7 +146,7 @@ public class LinkerCallSite extends ChainedCallSite {
         return MH.asType(missCounterWithDesc, missCounterWithDesc.type().changeParameterType(0, type).changeReturnType(type));
     }
 
-    private static String getScriptLocation() {
+    static String getScriptLocation() {
         final StackTraceElement caller = DynamicLinker.getLinkedCallSiteLocation();
         return caller == null ? "unknown location" : (caller.getFileName() + ":" + caller.getLineNumber());
     }
@@ -114,7 +114,7 @@ public class JoniRegExp extends RegExp {
 
         JoniMatcher(final String input) {
             this.input = input;
-            this.joniMatcher = regex.matcher(input.toCharArray());
+            this.joniMatcher = regex.matcher(input);
         }
 
         @Override
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.regexp;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.nashorn.internal.runtime.CompilerMetrics;
+
+/**
+ * Bounded cache of compiled regular expressions, keyed by pattern and flags. Every
+ * {@link org.openjdk.nashorn.internal.runtime.Context} has its own cache, see
+ * {@link org.openjdk.nashorn.internal.runtime.Context#getRegExpCache()}.
+ * <p>
+ * {@link RegExp} instances are immutable once compiled - all per-use state lives in the
+ * {@link RegExpMatcher}s they create - so a single instance is shared by every global of the context
+ * and every thread that uses the same pattern and flags. Lookups never block. When the cache grows beyond its
+ * size, entries are evicted by the GreedyDual-Size policy, like in the class cache, with the time
+ * it took to compile the pattern as the cost.
+ */
+public final class RegExpCache {
+    private final int size;
+    private final Map<Key, Entry> map;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // Priority of the most recently evicted entry, guarded by evictionLock for writes
+    private volatile long inflation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final CompilerMetrics metrics;
+
+    /**
+     * Creates a new regexp cache.
+     *
+     * @param size    maximum number of cached regexps, 0 to disable caching
+     * @param metrics compiler metrics to record hits and misses in
+     */
+    public RegExpCache(final int size, final CompilerMetrics metrics) {
+        this.size = size;
+        this.map = new ConcurrentHashMap<>(size * 4 / 3 + 1);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Look up a compiled regexp, compiling and caching it if it is not cached.
+     *
+     * @param pattern RegExp pattern string
+     * @param flags   RegExp flags string
+     * @param factory the factory to compile with on a miss
+     * @return the compiled regexp
+     */
+    RegExp get(final String pattern, final String flags, final RegExpFactory factory) {
+        final Key key = new Key(pattern, flags);
+        final Entry entry = map.get(key);
+        if (entry != null) {
+            hits.increment();
+            metrics.regExpCacheHit();
+            entry.priority = inflation + entry.cost;
+            return entry.regexp;
+        }
+
+        misses.increment();
+        metrics.regExpCacheMiss();
+        final long start = System.nanoTime();
+        final RegExp regexp = factory.compile(pattern, flags);
+        final long cost = Math.max(1L, (System.nanoTime() - start) / 1000L);
+        if (size > 0) {
+            map.put(key, new Entry(key, regexp, cost, inflation));
+            if (map.size() > size && evictionLock.tryLock()) {
+                // If another thread holds the lock it is already evicting, so there is no need to wait for it
+                try {
+                    while (map.size() > size) {
+                        evict();
+                    }
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+        }
+        return regexp;
+    }
+
+    // Must be called while holding evictionLock
+    private void evict() {
+        Entry victim = null;
+        for (final Entry entry : map.values()) {
+            if (victim == null || entry.priority < victim.priority) {
+                victim = entry;
+            }
+        }
+        if (victim != null && map.remove(victim.key, victim)) {
+            inflation = victim.priority;
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Returns the number of regexps currently in the cache.
+     * @return the number of cached regexps
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a compiled regexp.
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to compile the regexp.
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of regexps removed from the cache by the eviction policy.
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that found a compiled regexp.
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double getHitRate() {
+        final long hitCount = getHitCount();
+        final long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double)hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "RegExpCache[size=" + size() + "/" + size +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() + ']';
+    }
+
+    private static final class Key {
+        private final String pattern;
+        private final String flags;
+
+        Key(final String pattern, final String flags) {
+            this.pattern = pattern;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key)other;
+            return pattern.equals(key.pattern) && flags.equals(key.flags);
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode() * 31 + flags.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final RegExp regexp;
+        private final long cost;
+        private volatile long priority;
+
+        Entry(final Key key, final RegExp regexp, final long cost, final long inflation) {
+            this.key = key;
+            this.regexp = regexp;
+            this.cost = cost;
+            this.priority = inflation + cost;
+        }
+    }
+}
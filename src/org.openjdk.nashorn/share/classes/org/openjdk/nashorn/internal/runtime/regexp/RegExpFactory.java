@@ -25,9 +25,7 @@
 
 package org.openjdk.nashorn.internal.runtime.regexp;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
+import org.openjdk.nashorn.internal.runtime.Context;
 import org.openjdk.nashorn.internal.runtime.ParserException;
 import org.openjdk.nashorn.internal.runtime.options.Options;
 
@@ -42,14 +40,6 @@ public class RegExpFactory {
     private final static String JDK  = "jdk";
     private final static String JONI = "joni";
 
-    /** Weak cache of already validated regexps - when reparsing, we don't, for example
-     *  need to recompile (reverify) all regexps that have previously been parsed by this
-     *  RegExpFactory in a previous compilation. This saves significant time in e.g. avatar
-     *  startup
-     */
-    private static final Map<String, RegExp> REGEXP_CACHE =
-            Collections.synchronizedMap(new WeakHashMap<String, RegExp>());
-
     static {
         final String impl = Options.getStringProperty("nashorn.regexp.impl", JONI);
         switch (impl) {
@@ -78,7 +68,9 @@ public class RegExpFactory {
     }
 
     /**
-     * Compile a regexp with the given {@code source} and {@code flags}.
+     * Compile a regexp with the given {@code source} and {@code flags}. Regexps are looked up in the
+     * {@linkplain Context#getRegExpCache() cache} of the current global's context, so when reparsing,
+     * or evaluating the same regexp literal in another global, they are not recompiled (reverified).
      *
      * @param pattern RegExp pattern string
      * @param flags   flag string
@@ -86,13 +78,8 @@ public class RegExpFactory {
      * @throws ParserException if invalid source or flags
      */
     public static RegExp create(final String pattern, final String flags) {
-        final String key = pattern + "/" + flags;
-        RegExp regexp = REGEXP_CACHE.get(key);
-        if (regexp == null) {
-            regexp = instance.compile(pattern,  flags);
-            REGEXP_CACHE.put(key, regexp);
-        }
-        return regexp;
+        final RegExpCache cache = Context.getCurrentRegExpCache();
+        return cache == null ? instance.compile(pattern, flags) : cache.get(pattern, flags, instance);
     }
 
     /**
@@ -45,7 +45,7 @@ class ByteCodeMachine extends StackMachine {
     private final int[] code;       // byte code
     private int ip;                 // instruction pointer
 
-    ByteCodeMachine(final Regex regex, final char[] chars, final int p, final int end) {
+    ByteCodeMachine(final Regex regex, final String chars, final int p, final int end) {
         super(regex, chars, p, end);
         this.code = regex.code;
     }
@@ -56,8 +56,8 @@ class ByteCodeMachine extends StackMachine {
         final int end1 = s1 + mbLen;
 
         while (s1 < end1) {
-            final char c1 = EncodingHelper.toLowerCase(chars[s1++]);
-            final char c2 = EncodingHelper.toLowerCase(chars[s2++]);
+            final char c1 = EncodingHelper.toLowerCase(chars.charAt(s1++));
+            final char c2 = EncodingHelper.toLowerCase(chars.charAt(s2++));
 
             if (c1 != c2) {
                 return false;
@@ -82,7 +82,7 @@ class ByteCodeMachine extends StackMachine {
             int q, i;
             for (i=0, q=s; i<7 && q<end && s>=0; i++) {
                 if (q < end) {
-                    Config.log.print(new String(new char[]{chars[q++]}));
+                    Config.log.print(new String(new char[]{chars.charAt(q++)}));
                 }
             }
             final String string = q < end ? "...\"" : "\"";
@@ -303,7 +303,7 @@ class ByteCodeMachine extends StackMachine {
     }
 
     private void opExact1() {
-        if (s >= range || code[ip] != chars[s++]) {opFail(); return;}
+        if (s >= range || code[ip] != chars.charAt(s++)) {opFail(); return;}
         //if (s > range) {opFail(); return;}
         ip++;
         sprev = sbegin; // break;
@@ -311,48 +311,48 @@ class ByteCodeMachine extends StackMachine {
 
     private void opExact2() {
         if (s + 2 > range) {opFail(); return;}
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         sprev = s;
         ip++; s++;
     }
 
     private void opExact3() {
         if (s + 3 > range) {opFail(); return;}
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         sprev = s;
         ip++; s++;
     }
 
     private void opExact4() {
         if (s + 4 > range) {opFail(); return;}
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         sprev = s;
         ip++; s++;
     }
 
     private void opExact5() {
         if (s + 5 > range) {opFail(); return;}
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         ip++; s++;
-        if (code[ip] != chars[s]) {opFail(); return;}
+        if (code[ip] != chars.charAt(s)) {opFail(); return;}
         sprev = s;
         ip++; s++;
     }
@@ -366,19 +366,19 @@ class ByteCodeMachine extends StackMachine {
             int ps = code[ip++];
 
             while (tlen-- > 0) {
-                if (bs[ps++] != chars[s++]) {opFail(); return;}
+                if (bs[ps++] != chars.charAt(s++)) {opFail(); return;}
             }
 
         } else {
             while (tlen-- > 0) {
-                if (code[ip++] != chars[s++]) {opFail(); return;}
+                if (code[ip++] != chars.charAt(s++)) {opFail(); return;}
             }
         }
         sprev = s - 1;
     }
 
     private void opExact1IC() {
-        if (s >= range || code[ip] != EncodingHelper.toLowerCase(chars[s++])) {opFail(); return;}
+        if (s >= range || code[ip] != EncodingHelper.toLowerCase(chars.charAt(s++))) {opFail(); return;}
         ip++;
         sprev = sbegin; // break;
     }
@@ -392,19 +392,19 @@ class ByteCodeMachine extends StackMachine {
             int ps = code[ip++];
 
             while (tlen-- > 0) {
-                if (bs[ps++] != EncodingHelper.toLowerCase(chars[s++])) {opFail(); return;}
+                if (bs[ps++] != EncodingHelper.toLowerCase(chars.charAt(s++))) {opFail(); return;}
             }
         } else {
 
             while (tlen-- > 0) {
-                if (code[ip++] != EncodingHelper.toLowerCase(chars[s++])) {opFail(); return;}
+                if (code[ip++] != EncodingHelper.toLowerCase(chars.charAt(s++))) {opFail(); return;}
             }
         }
         sprev = s - 1;
     }
 
     private boolean isInBitSet() {
-        final int c = chars[s];
+        final int c = chars.charAt(s);
         return (c <= 0xff && (code[ip + (c >>> BitSet.ROOM_SHIFT)] & (1 << c)) != 0);
     }
 
@@ -422,7 +422,7 @@ class ByteCodeMachine extends StackMachine {
         }
         final int ss = s;
         s++;
-        final int c = chars[ss];
+        final int c = chars.charAt(ss);
         if (!EncodingHelper.isInCodeRange(code, ip, c)) {
             return false;
         }
@@ -432,14 +432,14 @@ class ByteCodeMachine extends StackMachine {
 
     private void opCClassMB() {
         // beyond string check
-        if (s >= range || chars[s] <= 0xff) {opFail(); return;}
+        if (s >= range || chars.charAt(s) <= 0xff) {opFail(); return;}
         if (!isInClassMB()) {opFail(); return;} // not!!!
         sprev = sbegin; // break;
     }
 
     private void opCClassMIX() {
         if (s >= range) {opFail(); return;}
-        if (chars[s] > 0xff) {
+        if (chars.charAt(s) > 0xff) {
             ip += BitSet.BITSET_SIZE;
             if (!isInClassMB()) {opFail(); return;}
         } else {
@@ -473,7 +473,7 @@ class ByteCodeMachine extends StackMachine {
 
         final int ss = s;
         s++;
-        final int c = chars[ss];
+        final int c = chars.charAt(ss);
 
         if (EncodingHelper.isInCodeRange(code, ip, c)) {
             return false;
@@ -484,7 +484,7 @@ class ByteCodeMachine extends StackMachine {
 
     private void opCClassMBNot() {
         if (s >= range) {opFail(); return;}
-        if (chars[s] <= 0xff) {
+        if (chars.charAt(s) <= 0xff) {
             s++;
             final int tlen = code[ip++];
             ip += tlen;
@@ -497,7 +497,7 @@ class ByteCodeMachine extends StackMachine {
 
     private void opCClassMIXNot() {
         if (s >= range) {opFail(); return;}
-        if (chars[s] > 0xff) {
+        if (chars.charAt(s) > 0xff) {
             ip += BitSet.BITSET_SIZE;
             if (!isNotInClassMB()) {opFail(); return;}
         } else {
@@ -515,14 +515,14 @@ class ByteCodeMachine extends StackMachine {
         final CClassNode cc = (CClassNode)regex.operands[code[ip++]];
         final int ss = s;
         s++;
-        final int c = chars[ss];
+        final int c = chars.charAt(ss);
         if (!cc.isCodeInCCLength(c)) {opFail(); return;}
         sprev = sbegin; // break;
     }
 
     private void opAnyChar() {
         if (s >= range) {opFail(); return;}
-        if (isNewLine(chars[s])) {opFail(); return;}
+        if (isNewLine(chars.charAt(s))) {opFail(); return;}
         s++;
         sprev = sbegin; // break;
     }
@@ -534,7 +534,7 @@ class ByteCodeMachine extends StackMachine {
     }
 
     private void opAnyCharStar() {
-        final char[] ch = this.chars;
+        final String ch = this.chars;
         while (s < range) {
             pushAlt(ip, s, sprev);
             if (isNewLine(ch, s, end)) {opFail(); return;}
@@ -553,10 +553,10 @@ class ByteCodeMachine extends StackMachine {
 
     private void opAnyCharStarPeekNext() {
         final char c = (char)code[ip];
-        final char[] ch = this.chars;
+        final String ch = this.chars;
 
         while (s < range) {
-            final char b = ch[s];
+            final char b = ch.charAt(s);
             if (c == b) {
                 pushAlt(ip + 1, s, sprev);
             }
@@ -570,10 +570,10 @@ class ByteCodeMachine extends StackMachine {
 
     private void opAnyCharMLStarPeekNext() {
         final char c = (char)code[ip];
-        final char[] ch = this.chars;
+        final String ch = this.chars;
 
         while (s < range) {
-            if (c == ch[s]) {
+            if (c == ch.charAt(s)) {
                 pushAlt(ip + 1, s, sprev);
             }
             sprev = s;
@@ -584,40 +584,40 @@ class ByteCodeMachine extends StackMachine {
     }
 
     private void opWord() {
-        if (s >= range || !EncodingHelper.isWord(chars[s])) {opFail(); return;}
+        if (s >= range || !EncodingHelper.isWord(chars.charAt(s))) {opFail(); return;}
         s++;
         sprev = sbegin; // break;
     }
 
     private void opNotWord() {
-        if (s >= range || EncodingHelper.isWord(chars[s])) {opFail(); return;}
+        if (s >= range || EncodingHelper.isWord(chars.charAt(s))) {opFail(); return;}
         s++;
         sprev = sbegin; // break;
     }
 
     private void opWordBound() {
         if (s == str) {
-            if (s >= range || !EncodingHelper.isWord(chars[s])) {opFail(); return;}
+            if (s >= range || !EncodingHelper.isWord(chars.charAt(s))) {opFail(); return;}
         } else if (s == end) {
-            if (sprev >= end || !EncodingHelper.isWord(chars[sprev])) {opFail(); return;}
+            if (sprev >= end || !EncodingHelper.isWord(chars.charAt(sprev))) {opFail(); return;}
         } else {
-            if (EncodingHelper.isWord(chars[s]) == EncodingHelper.isWord(chars[sprev])) {opFail(); return;}
+            if (EncodingHelper.isWord(chars.charAt(s)) == EncodingHelper.isWord(chars.charAt(sprev))) {opFail(); return;}
         }
     }
 
     private void opNotWordBound() {
         if (s == str) {
-            if (s < range && EncodingHelper.isWord(chars[s])) {opFail(); return;}
+            if (s < range && EncodingHelper.isWord(chars.charAt(s))) {opFail(); return;}
         } else if (s == end) {
-            if (sprev < end && EncodingHelper.isWord(chars[sprev])) {opFail(); return;}
+            if (sprev < end && EncodingHelper.isWord(chars.charAt(sprev))) {opFail(); return;}
         } else {
-            if (EncodingHelper.isWord(chars[s]) != EncodingHelper.isWord(chars[sprev])) {opFail(); return;}
+            if (EncodingHelper.isWord(chars.charAt(s)) != EncodingHelper.isWord(chars.charAt(sprev))) {opFail(); return;}
         }
     }
 
     private void opWordBegin() {
-        if (s < range && EncodingHelper.isWord(chars[s])) {
-            if (s == str || !EncodingHelper.isWord(chars[sprev])) {
+        if (s < range && EncodingHelper.isWord(chars.charAt(s))) {
+            if (s == str || !EncodingHelper.isWord(chars.charAt(sprev))) {
                 return;
             }
         }
@@ -625,8 +625,8 @@ class ByteCodeMachine extends StackMachine {
     }
 
     private void opWordEnd() {
-        if (s != str && EncodingHelper.isWord(chars[sprev])) {
-            if (s == end || !EncodingHelper.isWord(chars[s])) {
+        if (s != str && EncodingHelper.isWord(chars.charAt(sprev))) {
+            if (s == end || !EncodingHelper.isWord(chars.charAt(s))) {
                 return;
             }
         }
@@ -770,7 +770,7 @@ class ByteCodeMachine extends StackMachine {
 
         // STRING_CMP
         while(n-- > 0) {
-            if (chars[pstart++] != chars[s++]) {opFail(); return;}
+            if (chars.charAt(pstart++) != chars.charAt(s++)) {opFail(); return;}
         }
 
         // beyond string check
@@ -836,7 +836,7 @@ class ByteCodeMachine extends StackMachine {
             int swork = s;
 
             while (n-- > 0) {
-                if (chars[pstart++] != chars[swork++]) {
+                if (chars.charAt(pstart++) != chars.charAt(swork++)) {
                     continue loop;
                 }
             }
@@ -933,7 +933,7 @@ class ByteCodeMachine extends StackMachine {
                                 }
                             } else {
                                 while (p < pend) {
-                                    if (chars[p++] != chars[value++]) {
+                                    if (chars.charAt(p++) != chars.charAt(value++)) {
                                         return false; /* or goto next_mem; */
                                     }
                                 }
@@ -1038,7 +1038,7 @@ class ByteCodeMachine extends StackMachine {
     private void opPushOrJumpExact1() {
         final int addr = code[ip++];
         // beyond string check
-        if (s < range && code[ip] == chars[s]) {
+        if (s < range && code[ip] == chars.charAt(s)) {
             ip++;
             pushAlt(ip + addr, s, sprev);
             return;
@@ -1049,7 +1049,7 @@ class ByteCodeMachine extends StackMachine {
     private void opPushIfPeekNext() {
         final int addr = code[ip++];
         // beyond string check
-        if (s < range && code[ip] == chars[s]) {
+        if (s < range && code[ip] == chars.charAt(s)) {
             ip++;
             pushAlt(ip + addr, s, sprev);
             return;
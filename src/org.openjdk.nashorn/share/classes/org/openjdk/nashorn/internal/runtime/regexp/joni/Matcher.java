@@ -28,7 +28,7 @@ import org.openjdk.nashorn.internal.runtime.regexp.joni.encoding.IntHolder;
 public abstract class Matcher extends IntHolder {
     protected final Regex regex;
 
-    protected final char[] chars;
+    protected final String chars;
     protected final int str;
     protected final int end;
 
@@ -41,11 +41,11 @@ public abstract class Matcher extends IntHolder {
     protected int msaBegin;
     protected int msaEnd;
 
-    public Matcher(final Regex regex, final char[] chars) {
-        this(regex, chars, 0, chars.length);
+    public Matcher(final Regex regex, final String chars) {
+        this(regex, chars, 0, chars.length());
     }
 
-    public Matcher(final Regex regex, final char[] chars, final int p, final int end) {
+    public Matcher(final Regex regex, final String chars, final int p, final int end) {
         this.regex = regex;
 
         this.chars = chars;
@@ -90,7 +90,7 @@ public abstract class Matcher extends IntHolder {
     }
 
     int low, high; // these are the return values
-    private boolean forwardSearchRange(final char[] ch, final int string, final int e, final int s, final int range, final IntHolder lowPrev) {
+    private boolean forwardSearchRange(final String ch, final int string, final int e, final int s, final int range, final IntHolder lowPrev) {
         int pprev = -1;
         int p = s;
 
@@ -200,7 +200,7 @@ public abstract class Matcher extends IntHolder {
     }
 
     // low, high
-    private boolean backwardSearchRange(final char[] ch, final int string, final int e, final int s, final int range, final int adjrange) {
+    private boolean backwardSearchRange(final String ch, final int string, final int e, final int s, final int range, final int adjrange) {
         int r = range;
         r += regex.dMin;
         int p = s;
@@ -132,11 +132,11 @@ public final class Regex implements RegexState {
         this.warnings = null;
     }
 
-    public Matcher matcher(final char[] chars) {
-        return matcher(chars, 0, chars.length);
+    public Matcher matcher(final String chars) {
+        return matcher(chars, 0, chars.length());
     }
 
-    public Matcher matcher(final char[] chars, final int p, final int end) {
+    public Matcher matcher(final String chars, final int p, final int end) {
         return factory.create(this, chars, p, end);
     }
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.scripting.jmh;
+
+import java.util.concurrent.TimeUnit;
+import javax.script.Invocable;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
+
+/**
+ * Calls from Java into scripts through {@link ScriptObjectMirror}: member get and set, calling a
+ * method and a function, array element access, and {@link Invocable#invokeFunction}. Engine
+ * arguments can be given in the {@code nashorn.args} system property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class ScriptObjectMirrorBenchmark {
+
+    private ScriptEngine engine;
+    private ScriptObjectMirror object;
+    private ScriptObjectMirror function;
+    private ScriptObjectMirror array;
+    private int counter;
+
+    @Setup
+    public void setup() throws ScriptException {
+        engine = new NashornScriptEngineFactory().getScriptEngine();
+        engine.eval("var object = { x: 1, name: 'object', add: function(a, b) { return this.x + a + b; } };" +
+                    "var array = [1, 2, 3, 4, 5, 6, 7, 8];" +
+                    "function square(v) { return v * v; }");
+        object = (ScriptObjectMirror)engine.get("object");
+        function = (ScriptObjectMirror)engine.get("square");
+        array = (ScriptObjectMirror)engine.get("array");
+    }
+
+    @Benchmark
+    public Object getMember() {
+        return object.getMember("name");
+    }
+
+    @Benchmark
+    public ScriptObjectMirror setMember() {
+        object.setMember("x", counter++ & 0xff);
+        return object;
+    }
+
+    @Benchmark
+    public Object callMember() {
+        return object.callMember("add", 1, 2);
+    }
+
+    @Benchmark
+    public Object callFunction() {
+        return function.call(null, 7);
+    }
+
+    @Benchmark
+    public Object getSlot() {
+        return array.getSlot(counter++ & 7);
+    }
+
+    @Benchmark
+    public Object invokeFunction() throws ScriptException, NoSuchMethodException {
+        return ((Invocable)engine).invokeFunction("square", 7);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.nashorn.internal.objects.NativeArray;
+import org.openjdk.nashorn.internal.runtime.ScriptFunction;
+import org.openjdk.nashorn.internal.runtime.ScriptObject;
+import org.openjdk.nashorn.internal.runtime.arrays.ArrayData;
+
+/**
+ * {@link NativeArray} operations for each kind of {@link ArrayData}. Every benchmark works on a
+ * fresh copy of an array of the given kind, made with {@code slice}, so the operations that modify
+ * the array don't change its kind for the next invocation; {@code copy} measures the copy alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class ArrayDataBenchmark {
+
+    @Param({"int", "number", "object", "sparse"})
+    public String kind;
+
+    @Param({"1000"})
+    public int length;
+
+    private Scripts scripts;
+    private ScriptObject array;
+    private int stride;
+    private ScriptFunction copy;
+    private ScriptFunction readAll;
+    private ScriptFunction writeAll;
+    private ScriptFunction pushPop;
+    private ScriptFunction indexOf;
+    private ScriptFunction sort;
+    private ScriptFunction map;
+
+    @Setup
+    public void setup() {
+        scripts = new Scripts();
+        final String value;
+        final String arrayDataClass;
+        switch (kind) {
+        case "int":
+            value = "(i * 7919) % 1000";
+            arrayDataClass = "IntArrayData";
+            break;
+        case "number":
+            value = "(i * 7919) % 1000 + 0.5";
+            arrayDataClass = "NumberArrayData";
+            break;
+        case "object":
+            value = "'v' + (i * 7919) % 1000";
+            arrayDataClass = "ObjectArrayData";
+            break;
+        case "sparse":
+            value = null;
+            arrayDataClass = "SparseArrayData";
+            break;
+        default:
+            throw new IllegalArgumentException(kind);
+        }
+        if (value != null) {
+            stride = 1;
+            array = (ScriptObject)scripts.eval("array",
+                    "var a = []; for (var i = 0; i < " + length + "; i++) { a[i] = " + value + "; } a");
+        } else {
+            // elements so far apart that the array is too long to be dense
+            stride = 1000;
+            array = (ScriptObject)scripts.eval("array",
+                    "var a = []; for (var i = 0; i < " + length + "; i++) { a[i * " + stride + "] = i; } a");
+        }
+        final ArrayData arrayData = array.getArray();
+        if (!arrayData.getClass().getSimpleName().equals(arrayDataClass)) {
+            throw new IllegalStateException("Expected " + arrayDataClass + " but got " + arrayData.getClass().getSimpleName());
+        }
+
+        copy = scripts.function("copy", "(function(a) { return a.slice(); })");
+        readAll = scripts.function("readAll",
+                "(function(a, stride) { var s = 0; for (var i = 0; i < a.length; i += stride) { if (a[i] !== undefined) s++; } return s; })");
+        writeAll = scripts.function("writeAll",
+                "(function(a, stride) { a = a.slice(); for (var i = 0; i < a.length; i += stride) { a[i] = a[a.length - 1 - i]; } return a; })");
+        pushPop = scripts.function("pushPop",
+                "(function(a) { a = a.slice(); for (var i = 0; i < 100; i++) { a.push(a[0]); } for (var i = 0; i < 100; i++) { a.pop(); } return a; })");
+        indexOf = scripts.function("indexOf", "(function(a) { return a.indexOf(a[a.length - 1]); })");
+        sort = scripts.function("sort", "(function(a) { return a.slice().sort(); })");
+        map = scripts.function("map", "(function(a) { return a.map(function(x) { return x; }); })");
+    }
+
+    @Benchmark
+    public Object copy() {
+        return scripts.call(copy, array);
+    }
+
+    @Benchmark
+    public Object readAll() {
+        return scripts.call(readAll, array, stride);
+    }
+
+    @Benchmark
+    public Object writeAll() {
+        return scripts.call(writeAll, array, stride);
+    }
+
+    @Benchmark
+    public Object pushPop() {
+        return scripts.call(pushPop, array);
+    }
+
+    @Benchmark
+    public Object indexOf() {
+        return scripts.call(indexOf, array);
+    }
+
+    @Benchmark
+    public Object sort() {
+        return scripts.call(sort, array);
+    }
+
+    @Benchmark
+    public Object map() {
+        return scripts.call(map, array);
+    }
+}
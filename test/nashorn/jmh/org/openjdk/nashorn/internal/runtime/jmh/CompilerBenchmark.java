@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import static org.openjdk.nashorn.internal.runtime.Source.sourceFor;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.nashorn.internal.codegen.Compiler;
+import org.openjdk.nashorn.internal.codegen.Compiler.CompilationPhases;
+import org.openjdk.nashorn.internal.ir.FunctionNode;
+import org.openjdk.nashorn.internal.parser.Parser;
+import org.openjdk.nashorn.internal.runtime.Context;
+import org.openjdk.nashorn.internal.runtime.ErrorManager;
+import org.openjdk.nashorn.internal.runtime.ScriptFunction;
+import org.openjdk.nashorn.internal.runtime.Source;
+
+/**
+ * Compiler throughput for a generated script of about two thousand lines, for each group of
+ * {@link CompilationPhases}: parsing alone, the phases up to bytecode generation, bytecode
+ * generation, and installation of the classes. Each benchmark runs the phases of the previous
+ * one too, so the cost of a group is the difference between the time per operation of two
+ * benchmarks. {@code compileUpToBytecode} and {@code compileWithoutInstall} compile the same
+ * parsed function node, which is immutable; {@code compileAndInstall} goes through
+ * {@link Context#compileScript(Source, org.openjdk.nashorn.internal.runtime.ScriptObject)}, which
+ * parses the source again.
+ * <p>
+ * With lazy compilation only the program itself is compiled; its functions are compiled when
+ * they are first called. Optimistic types require lazy compilation, so there are three
+ * configurations rather than four.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class CompilerBenchmark {
+
+    @Param({"optimistic", "lazy", "eager"})
+    public String config;
+
+    private Scripts scripts;
+    private Context context;
+    private Source source;
+    private FunctionNode program;
+
+    @Setup
+    public void setup() {
+        // without the class cache every compilation of the same source compiles it again
+        final boolean lazy = !"eager".equals(config);
+        final boolean optimistic = "optimistic".equals(config);
+        scripts = new Scripts("--lazy-compilation=" + lazy, "--optimistic-types=" + optimistic, "--class-cache-size=0");
+        context = scripts.getContext();
+        source = sourceFor("generated", generate(100));
+        program = parse();
+    }
+
+    private static String generate(final int functions) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < functions; i++) {
+            sb.append("function f").append(i).append("(a, b) {\n")
+              .append("    var o = { x: a, y: b, name: 'f").append(i).append("' };\n")
+              .append("    var sum = 0;\n")
+              .append("    for (var i = 0; i < a; i++) {\n")
+              .append("        sum += (o.x * i + o.y) % 7;\n")
+              .append("        if (sum > 1000) {\n")
+              .append("            sum = sum / 2 | 0;\n")
+              .append("        }\n")
+              .append("    }\n")
+              .append("    var list = [a, b, sum].map(function(v) { return v + 1; });\n")
+              .append("    try {\n")
+              .append("        return list.join(',') + o.name.toUpperCase();\n")
+              .append("    } catch (e) {\n")
+              .append("        return String(e);\n")
+              .append("    }\n")
+              .append("}\n")
+              .append("var r").append(i).append(" = f").append(i).append(";\n\n");
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public FunctionNode parse() {
+        return new Parser(context.getEnv(), source, new ErrorManager(), false, context.getLogger(Parser.class)).parse();
+    }
+
+    @Benchmark
+    public FunctionNode compileUpToBytecode() {
+        return compile(CompilationPhases.COMPILE_UPTO_BYTECODE);
+    }
+
+    @Benchmark
+    public FunctionNode compileWithoutInstall() {
+        return compile(CompilationPhases.COMPILE_ALL_NO_INSTALL);
+    }
+
+    @Benchmark
+    public ScriptFunction compileAndInstall() {
+        return context.compileScript(source, scripts.getGlobal());
+    }
+
+    private FunctionNode compile(final CompilationPhases phases) {
+        return Compiler.forNoInstallerCompilation(context, source, false).compile(program, phases);
+    }
+}
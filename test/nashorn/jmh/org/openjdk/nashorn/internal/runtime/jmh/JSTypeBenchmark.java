@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.nashorn.internal.runtime.ConsString;
+import org.openjdk.nashorn.internal.runtime.JSType;
+
+/**
+ * {@link JSType} conversions between strings, numbers and booleans. Each benchmark converts a
+ * small set of values covering the common cases and the slower special cases.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class JSTypeBenchmark {
+
+    private static final int VALUES = 8;
+
+    private String[] numericStrings;
+    private double[] doubles;
+    private Object[] objects;
+
+    @Setup
+    public void setup() {
+        numericStrings = new String[] { "0", "42", "-17", "3.14159", "1e21", "0x1F", "  12  ", "NaN" };
+        doubles = new double[] { 0, -0.0, 42, -17.5, 3.141592653589793, 1e21, 1.0 / 3, Double.NaN };
+        objects = new Object[] { 42, 0.5, "", "text", true, new ConsString("cons", "string"), null, 1L << 40 };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void stringToNumber(final Blackhole bh) {
+        for (final String s : numericStrings) {
+            bh.consume(JSType.toNumber(s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void numberToString(final Blackhole bh) {
+        for (final double d : doubles) {
+            bh.consume(JSType.toString(d));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void numberToInt32(final Blackhole bh) {
+        for (final double d : doubles) {
+            bh.consume(JSType.toInt32(d));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void objectToNumber(final Blackhole bh) {
+        for (final Object o : objects) {
+            bh.consume(JSType.toNumber(o));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void objectToString(final Blackhole bh) {
+        for (final Object o : objects) {
+            bh.consume(JSType.toString(o));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void objectToBoolean(final Blackhole bh) {
+        for (final Object o : objects) {
+            bh.consume(JSType.toBoolean(o));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void objectToInt32(final Blackhole bh) {
+        for (final Object o : objects) {
+            bh.consume(JSType.toInt32(o));
+        }
+    }
+}
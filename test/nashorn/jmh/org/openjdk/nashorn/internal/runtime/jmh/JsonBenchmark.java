@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.nashorn.internal.runtime.ScriptFunction;
+
+/**
+ * {@code JSON.parse} and {@code JSON.stringify} of a document with the given number of records,
+ * each an object with numbers, strings, a boolean and a nested array.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class JsonBenchmark {
+
+    @Param({"10", "1000"})
+    public int records;
+
+    private Scripts scripts;
+    private Object text;
+    private Object value;
+    private ScriptFunction parse;
+    private ScriptFunction stringify;
+    private ScriptFunction stringifyIndented;
+
+    @Setup
+    public void setup() {
+        scripts = new Scripts();
+        value = scripts.eval("document",
+                "var records = [];" +
+                "for (var i = 0; i < " + records + "; i++) {" +
+                "    records.push({ id: i, name: 'record \"' + i + '\"', price: i * 1.25, active: i % 2 == 0," +
+                "                   tags: ['a', 'b', i], location: { lat: 47.5 + i / 1000, lon: -122.25 } });" +
+                "}" +
+                "({ count: records.length, records: records })");
+        parse = scripts.function("parse", "(function(text) { return JSON.parse(text); })");
+        stringify = scripts.function("stringify", "(function(value) { return JSON.stringify(value); })");
+        stringifyIndented = scripts.function("stringifyIndented", "(function(value) { return JSON.stringify(value, null, 2); })");
+        text = scripts.call(stringify, value).toString();
+    }
+
+    @Benchmark
+    public Object parse() {
+        return scripts.call(parse, text);
+    }
+
+    @Benchmark
+    public Object stringify() {
+        return scripts.call(stringify, value);
+    }
+
+    @Benchmark
+    public Object stringifyIndented() {
+        return scripts.call(stringifyIndented, value);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.nashorn.internal.runtime.AccessorProperty;
+import org.openjdk.nashorn.internal.runtime.Property;
+import org.openjdk.nashorn.internal.runtime.ScriptFunction;
+import org.openjdk.nashorn.internal.runtime.ScriptObject;
+import org.openjdk.nashorn.internal.runtime.SpillProperty;
+
+/**
+ * Property get and set on a {@link ScriptObject}, for a property stored in a field of the object
+ * ({@link AccessorProperty}) and one stored in its spill array ({@link SpillProperty}). The
+ * {@code runtime} benchmarks go through {@link ScriptObject#get(Object)} and
+ * {@link ScriptObject#set(Object, Object, int)} as Java code and the slow paths of the linker do;
+ * the {@code linked} benchmarks access the property from a script, through a linked call site.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class PropertyAccessBenchmark {
+
+    private static final int LOOP = 1000;
+
+    @Param({"field", "spill"})
+    public String storage;
+
+    private Scripts scripts;
+    private ScriptObject object;
+    private String key;
+    private ScriptFunction getLoop;
+    private ScriptFunction setLoop;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        scripts = new Scripts();
+        // properties added to an empty object literal go into its fields first, then into the spill array
+        object = (ScriptObject)scripts.eval("properties",
+                "var o = {}; for (var i = 0; i < 32; i++) { o['p' + i] = i; } o");
+        key = "field".equals(storage) ? "p0" : "p31";
+        final Property property = object.getMap().findProperty(key);
+        if ("field".equals(storage) == property instanceof SpillProperty) {
+            throw new IllegalStateException(key + " is a " + property.getClass().getSimpleName());
+        }
+        getLoop = scripts.function("getLoop",
+                "(function(o, n) { var s = 0; for (var i = 0; i < n; i++) { s += o." + key + "; } return s; })");
+        setLoop = scripts.function("setLoop",
+                "(function(o, n) { for (var i = 0; i < n; i++) { o." + key + " = i; } return o; })");
+    }
+
+    @Benchmark
+    public Object getRuntime() {
+        return object.get(key);
+    }
+
+    @Benchmark
+    public ScriptObject setRuntime() {
+        object.set(key, counter++, 0);
+        return object;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP)
+    public Object getLinked() {
+        return scripts.call(getLoop, object, LOOP);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP)
+    public Object setLinked() {
+        return scripts.call(setLoop, object, LOOP);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.nashorn.internal.runtime.Property;
+import org.openjdk.nashorn.internal.runtime.PropertyMap;
+import org.openjdk.nashorn.internal.runtime.ScriptObject;
+import org.openjdk.nashorn.internal.runtime.SpillProperty;
+
+/**
+ * Shape transitions on a {@link PropertyMap} shared by all benchmark threads, as happens when
+ * several threads construct objects of the same shape on a shared global. Every transition is
+ * found in the transition history after warmup, so this measures history lookups under
+ * contention. Compare the score of the contended benchmarks with their single-threaded
+ * counterparts; with a scalable history the per-thread throughput should stay roughly the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class PropertyMapTransitionBenchmark {
+
+    @Param({"4", "16"})
+    public int propertyCount;
+
+    private PropertyMap root;
+    private Property[] properties;
+    private ScriptObject[] prototypes;
+
+    @Setup
+    public void setup() {
+        root = PropertyMap.newMap();
+        properties = new Property[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            properties[i] = new SpillProperty("p" + i, 0, i);
+        }
+        prototypes = new ScriptObject[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            prototypes[i] = new ScriptObject(PropertyMap.newMap()) {};
+        }
+    }
+
+    private PropertyMap addProperties() {
+        PropertyMap map = root;
+        for (final Property property : properties) {
+            map = map.addProperty(property);
+        }
+        return map;
+    }
+
+    private PropertyMap changeProto() {
+        PropertyMap map = null;
+        for (final ScriptObject proto : prototypes) {
+            map = root.changeProto(proto);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PropertyMap addPropertiesUncontended() {
+        return addProperties();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public PropertyMap addPropertiesContended() {
+        return addProperties();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PropertyMap changeProtoUncontended() {
+        return changeProto();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public PropertyMap changeProtoContended() {
+        return changeProto();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.nashorn.internal.runtime.ScriptFunction;
+
+/**
+ * Regular expression matching from scripts: a global {@code exec} loop over a log-like text,
+ * {@code test}, {@code replace} with a function and with a pattern, and {@code split}. The regexp
+ * implementation can be chosen with {@code -Dnashorn.regexp.impl=jdk} or {@code joni}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class RegExpBenchmark {
+
+    private Scripts scripts;
+    private Object text;
+    private ScriptFunction execLoop;
+    private ScriptFunction test;
+    private ScriptFunction replaceFunction;
+    private ScriptFunction replacePattern;
+    private ScriptFunction split;
+
+    @Setup
+    public void setup() {
+        scripts = new Scripts();
+        text = scripts.eval("text",
+                "var lines = [];" +
+                "for (var i = 0; i < 1000; i++) {" +
+                "    lines.push('2024-01-' + (10 + i % 20) + 'T12:' + (10 + i % 50) + ':00 host' + (i % 7) +" +
+                "               (i % 13 == 0 ? ' ERROR ' : ' INFO ') + 'request id=' + i + ' took ' + (i * 31 % 997) + 'ms');" +
+                "}" +
+                "lines.join('\\n')").toString();
+        execLoop = scripts.function("execLoop",
+                "(function(s) { var re = /id=(\\d+) took (\\d+)ms/g, m, sum = 0; while ((m = re.exec(s)) !== null) { sum += +m[2]; } return sum; })");
+        test = scripts.function("test",
+                "(function(s) { return /ERROR.*id=9\\d\\d/.test(s); })");
+        replaceFunction = scripts.function("replaceFunction",
+                "(function(s) { return s.replace(/host(\\d)/g, function(m, n) { return 'node' + n; }); })");
+        replacePattern = scripts.function("replacePattern",
+                "(function(s) { return s.replace(/(\\d+)ms/g, '$1 ms'); })");
+        split = scripts.function("split",
+                "(function(s) { return s.split(/\\s+/); })");
+    }
+
+    @Benchmark
+    public Object execLoop() {
+        return scripts.call(execLoop, text);
+    }
+
+    @Benchmark
+    public Object test() {
+        return scripts.call(test, text);
+    }
+
+    @Benchmark
+    public Object replaceFunction() {
+        return scripts.call(replaceFunction, text);
+    }
+
+    @Benchmark
+    public Object replacePattern() {
+        return scripts.call(replacePattern, text);
+    }
+
+    @Benchmark
+    public Object split() {
+        return scripts.call(split, text);
+    }
+}
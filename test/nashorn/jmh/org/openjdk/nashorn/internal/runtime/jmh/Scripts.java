@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.jmh;
+
+import static org.openjdk.nashorn.internal.runtime.Source.sourceFor;
+
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.runtime.Context;
+import org.openjdk.nashorn.internal.runtime.ErrorManager;
+import org.openjdk.nashorn.internal.runtime.ScriptFunction;
+import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
+import org.openjdk.nashorn.internal.runtime.options.Options;
+
+/**
+ * Sets up contexts and globals for the benchmarks in this package. Arguments in the
+ * {@code nashorn.args} system property are applied to every context, so all benchmarks can be
+ * run with a different configuration, for example with
+ * {@code ant jmh -Dnashorn.args=--optimistic-types=false}.
+ * <p>
+ * The global is only set for the calling thread, so benchmarks that use it keep their state in
+ * {@code Scope.Thread} and set it up in the thread that runs them.
+ */
+final class Scripts {
+    private final Context context;
+    private final Global global;
+
+    Scripts(final String... args) {
+        final Options options = new Options("nashorn");
+        options.process(args);
+        this.context = new Context(options, new ErrorManager(), Scripts.class.getClassLoader());
+        this.global = context.createGlobal();
+        Context.setGlobal(global);
+    }
+
+    Context getContext() {
+        return context;
+    }
+
+    Global getGlobal() {
+        return global;
+    }
+
+    /**
+     * Compiles and runs a script in the global.
+     *
+     * @param name the name of the script
+     * @param code the script
+     * @return the completion value of the script
+     */
+    Object eval(final String name, final String code) {
+        final ScriptFunction script = context.compileScript(sourceFor(name, code), global);
+        if (script == null) {
+            throw new IllegalStateException("Compilation of " + name + " failed");
+        }
+        return ScriptRuntime.apply(script, global);
+    }
+
+    /**
+     * Evaluates a function expression.
+     *
+     * @param name the name of the script
+     * @param code a script that evaluates to a function
+     * @return the function
+     */
+    ScriptFunction function(final String name, final String code) {
+        return (ScriptFunction)eval(name, code);
+    }
+
+    /**
+     * Calls a function with the global as {@code this}.
+     *
+     * @param function the function
+     * @param args the arguments
+     * @return the value returned by the function
+     */
+    Object call(final ScriptFunction function, final Object... args) {
+        return ScriptRuntime.apply(function, global, args);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Array.prototype.sort on int and double arrays, with and without numeric comparison
+ * functions, sorts like it does with equivalent general comparison functions.
+ *
+ * @test
+ * @run
+ */
+
+function byString(a, b) {
+    var x = String(a), y = String(b);
+    return x < y ? -1 : x > y ? 1 : 0;
+}
+
+// not recognized as numeric comparison functions
+function ascending(a, b) { var d = a - b; return d; }
+function descending(a, b) { var d = b - a; return d; }
+
+// like Object.is: NaN is identical to NaN, but 0 is not identical to -0
+function identical(x, y) {
+    return x === y ? x !== 0 || 1 / x === 1 / y : x !== x && y !== y;
+}
+
+function same(x, y) {
+    if (x.length !== y.length) {
+        return false;
+    }
+    for (var i = 0; i < x.length; i++) {
+        if (!identical(x[i], y[i])) {
+            return false;
+        }
+    }
+    return true;
+}
+
+function check(name, array, cmp, reference) {
+    var actual = array.slice().sort(cmp);
+    var expected = array.slice().sort(reference);
+    if (!same(actual, expected)) {
+        fail(name + ": " + actual + " instead of " + expected);
+    }
+}
+
+var seed = 42;
+function random() {
+    seed = (seed * 1103515245 + 12345) % 2147483648;
+    return seed / 2147483648;
+}
+
+var ints = [[], [1], [10, 9, 1, 100, -1, -10, 0, -2147483648, 2147483647, 2, 21, 3]];
+var doubles = [[0.5, -0, 0, -0.5, 0, -0, 1e21, 1e-7, -Infinity, Infinity, 2, 10, 1.5]];
+for (var n = 0; n < 20; n++) {
+    var len = Math.floor(random() * 200) + 2;
+    var a = [], d = [];
+    for (var i = 0; i < len; i++) {
+        a.push(Math.floor((random() - 0.5) * 2000));
+        d.push(i % 7 === 0 ? (i % 2 ? 0 : -0) : (random() - 0.5) * 1000);
+    }
+    ints.push(a);
+    doubles.push(d);
+}
+
+ints.concat(doubles).forEach(function(array, i) {
+    check("default " + i, array, undefined, byString);
+    check("ascending " + i, array, function(a, b) { return a - b; }, ascending);
+    check("descending " + i, array, function(x, y) { return y - x }, descending);
+});
+
+// NaN is not sorted by the specialization
+var withNaN = [3, NaN, 1, 2, NaN, 0];
+check("NaN default", withNaN, undefined, byString);
+check("NaN ascending", withNaN, function(a, b) { return a - b; }, ascending);
+
+// comparison functions that only look numeric
+var calls = 0;
+print([3, 1, 2].sort(function(a, b) { calls++; return a - b; }));
+print(calls);
+print([3, 1, 2].sort(function(a, b) { calls++; return a - a; }));
+print([3, 1, 2].sort(function(a, a) { return a - a; }));
+print(calls > 0);
+
+// mixed and sparse arrays keep going through the general sort
+var mixed = [3, "b", undefined, 1, "a", , 2];
+print(mixed.sort());
+print(mixed.length + " " + (5 in mixed) + " " + (6 in mixed));
+print([3, 20, 100].sort());
+print([0.5, 10, 9.5].sort());
+print(1 / [0, -0].sort(function(a, b) { return a - b; })[0]);
+print(1 / [-0, 0].sort(function(a, b) { return a - b; })[0]);
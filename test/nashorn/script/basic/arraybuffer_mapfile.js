@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * ArrayBuffer.mapFile creates array buffers over memory-mapped file regions.
+ *
+ * @test
+ * @run
+ */
+
+var Files = Java.type("java.nio.file.Files");
+var ByteArray = Java.type("byte[]");
+
+var path = Files.createTempFile("arraybuffer_mapfile", ".bin");
+try {
+    var bytes = new ByteArray(64);
+    for (var i = 0; i < bytes.length; i++) {
+        bytes[i] = i;
+    }
+    Files.write(path, bytes);
+
+    // read-only mapping of the whole file
+    var buf = ArrayBuffer.mapFile(path);
+    print(buf.byteLength);
+    var u8 = new Uint8Array(buf);
+    print(u8[0] + " " + u8[10] + " " + u8[63]);
+    var dv = new DataView(buf, 8);
+    print(dv.getUint8(0) + " " + dv.getUint16(0).toString(16));
+    try {
+        u8[0] = 1;
+    } catch (e) {
+        print(e.class.simpleName);
+    }
+
+    // window at an offset, given as a string path
+    var window = ArrayBuffer.mapFile(String(path), 16, 16);
+    print(window.byteLength + " " + new Uint8Array(window)[0]);
+
+    // read-write mapping; slices and typed arrays share the mapped memory
+    var rw = ArrayBuffer.mapFile(path.toFile(), 0, 64, "rw");
+    var slice = rw.slice(32, 48);
+    print(slice.byteLength);
+    var i32 = new Int32Array(slice);
+    i32[0] = -1;
+    print(new Uint8Array(rw)[32] + " " + Files.readAllBytes(path)[33]);
+
+    // private mapping: changes are not written to the file
+    var priv = ArrayBuffer.mapFile(path, 0, 8, "private");
+    new Uint8Array(priv)[0] = 99;
+    print(new Uint8Array(priv)[0] + " " + Files.readAllBytes(path)[0]);
+
+    // slices of ordinary buffers are still copies
+    var plain = new ArrayBuffer(8);
+    var plainSlice = plain.slice(2, 6);
+    new Uint8Array(plainSlice)[0] = 5;
+    print(plainSlice.byteLength + " " + new Uint8Array(plain)[2]);
+
+    function error(f) {
+        try {
+            f();
+        } catch (e) {
+            return String(e);
+        }
+        return "no error";
+    }
+    print(error(function() { ArrayBuffer.mapFile(path, 0, 8, "x"); }));
+    print(error(function() { ArrayBuffer.mapFile(path, -1); }));
+    print(error(function() { ArrayBuffer.mapFile(path, 0, 4294967296); }));
+    print(error(function() { ArrayBuffer.mapFile({}); }));
+} finally {
+    Files.delete(path);
+}
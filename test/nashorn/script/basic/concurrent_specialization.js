@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Many threads calling the same function with different argument types must all
+ * get a working specialization, whether they find it installed or compile it.
+ *
+ * @test
+ * @run
+ */
+
+var Thread = java.lang.Thread;
+var CountDownLatch = java.util.concurrent.CountDownLatch;
+var AtomicInteger = java.util.concurrent.atomic.AtomicInteger;
+
+function add(a, b) {
+    return a + b;
+}
+
+var args = [[1, 2], [1.5, 2.5], ["a", "b"], [1, "b"], [true, 1]];
+var expected = ["3", "4", "ab", "1b", "2"];
+
+var nThreads = 16;
+var start = new CountDownLatch(1);
+var failures = new AtomicInteger();
+var threads = [];
+
+for (var t = 0; t < nThreads; t++) {
+    threads.push(new Thread(function() {
+        start.await();
+        for (var i = 0; i < 1000; i++) {
+            var k = i % args.length;
+            if (String(add(args[k][0], args[k][1])) !== expected[k]) {
+                failures.incrementAndGet();
+            }
+        }
+    }));
+}
+
+threads.forEach(function(thread) { thread.start(); });
+start.countDown();
+threads.forEach(function(thread) { thread.join(); });
+
+print("failures: " + failures.get());
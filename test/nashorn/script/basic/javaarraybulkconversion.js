@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Conversion of whole int, double and object arrays between JavaScript
+ * and Java, and sharing of primitive Java arrays with Java.from.
+ *
+ * @test
+ * @run
+ */
+
+function show(a) {
+    var s = [];
+    for (var i = 0; i < a.length; i++) {
+        s.push(typeof a[i] + ":" + a[i]);
+    }
+    print(s.join(","));
+}
+
+var ints = [1, 2, -3];
+var doubles = [1.5, -2.25, 1e21, Infinity, NaN];
+
+show(Java.to(ints, "int[]"));
+show(Java.to(ints, "long[]"));
+show(Java.to(ints, "double[]"));
+show(Java.to(ints, "java.lang.String[]"));
+show(Java.to(ints));
+
+show(Java.to(doubles, "int[]"));
+show(Java.to(doubles, "long[]"));
+show(Java.to(doubles, "double[]"));
+show(Java.to(doubles, "java.lang.String[]"));
+show(Java.to(doubles));
+
+show(Java.to(["a", 1, null, true], "java.lang.String[]"));
+show(Java.to(["a" + String(1), "b"], "java.lang.CharSequence[]"));
+
+var LongArray = Java.type("long[]");
+var la = new LongArray(3);
+la[0] = 1; la[1] = -2; la[2] = 9007199254740993;
+show(Java.from(la));
+
+var ObjectArray = Java.type("java.lang.Object[]");
+var oa = new ObjectArray(3);
+oa[0] = "x"; oa[1] = 2; oa[2] = 3.5;
+show(Java.from(oa));
+var copy = Java.from(oa);
+copy[0] = "y";
+print(oa[0]);
+
+var IntArray = Java.type("int[]");
+var ia = Java.to([7, 8, 9], IntArray);
+var copied = Java.from(ia);
+copied[0] = 0;
+print(ia[0]);
+var shared = Java.from(ia, true);
+shared[0] = 0;
+ia[1] = 0;
+show(shared);
+show(ia);
+
+var DoubleArray = Java.type("double[]");
+var da = Java.to([0.5, 1.5], DoubleArray);
+var shared2 = Java.from(da, true);
+shared2[1] = 2.5;
+print(da[1]);
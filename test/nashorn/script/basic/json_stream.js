@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * JSON.parseStream parses JSON text read incrementally from a Reader, InputStream or channel.
+ *
+ * @test
+ * @run
+ */
+
+var StringReader = Java.type("java.io.StringReader");
+var ByteArrayInputStream = Java.type("java.io.ByteArrayInputStream");
+var Channels = Java.type("java.nio.channels.Channels");
+
+// A reader that returns a single character per read, so every token straddles a buffer refill
+var TrickleReader = Java.extend(Java.type("java.io.Reader"));
+function trickle(str) {
+    var pos = 0;
+    return new TrickleReader({
+        read: function(buf, off, len) {
+            if (pos >= str.length) {
+                return -1;
+            }
+            buf[off] = str.charAt(pos++);
+            return 1;
+        },
+        close: function() {}
+    });
+}
+
+function bytes(str) {
+    return new java.lang.String(str).getBytes("UTF-8");
+}
+
+function parseError(f) {
+    try {
+        f();
+    } catch (e) {
+        return String(e);
+    }
+    return "no error";
+}
+
+var longString = new Array(20000).join("x") + "\\u0041" + new Array(10000).join("y");
+
+var inputs = [
+    '0', '-1.5e3', '123456789012', 'true', 'false', 'null', '"text"', '"esc\\"aped\\n\\u00e9"',
+    '[]', '{}', '  [ 1 , 2 ,\n 3 ]  ', '{"a":1,"b":[true,false,null],"c":{"d":"e","f":1.5}}',
+    '{"x":1,"y":2.5,"z":"s","1":"indexed"}', '[' + new Array(3000).join('{"k":[1,2.5,"v"]},') + '0]',
+    '"' + longString + '"', '{"' + longString + '":"' + longString + '"}'
+];
+
+inputs.forEach(function(input) {
+    var expected = JSON.stringify(JSON.parse(input));
+    [new StringReader(input), trickle(input), new ByteArrayInputStream(bytes(input)),
+     Channels.newChannel(new ByteArrayInputStream(bytes(input)))].forEach(function(source) {
+        var actual = JSON.stringify(JSON.parseStream(source));
+        if (actual !== expected) {
+            fail("parseStream(" + source + ") of " + input.substring(0, 40) + " gave " + actual.substring(0, 40));
+        }
+    });
+});
+
+// non-ASCII input decoded as UTF-8 from byte sources
+print(JSON.parseStream(new ByteArrayInputStream(bytes('"é中😀"'))) === "é中😀");
+
+// reviver
+var revived = JSON.parseStream(new StringReader('{"a":1,"b":[2,3],"c":{"d":4}}'), function(k, v) {
+    return typeof v === "number" ? v * 10 : v;
+});
+print(JSON.stringify(revived));
+print(JSON.stringify(JSON.parseStream(trickle('[1,2,3]'), function(k, v) { return v === 2 ? undefined : v; })));
+
+// errors are reported like JSON.parse does
+var invalid = ['', '[1,2', '{"a":1,}', '[1,]', 'tru', '"abc', '"\\x"', '-', '1 2', '{"a" 1}', '[\n1,\n  x]'];
+invalid.forEach(function(input) {
+    var expected = parseError(function() { JSON.parse(input); });
+    [new StringReader(input), trickle(input)].forEach(function(source) {
+        var actual = parseError(function() { JSON.parseStream(source); });
+        if (actual !== expected) {
+            fail("error for " + input + ": " + actual + " instead of " + expected);
+        }
+    });
+});
+
+// input that has been discarded from the buffer is not quoted, but line and column are absolute
+var longInput = '[\n' + new Array(5000).join('"abc",\n') + '  1, 2,\t{"a":nul}]';
+var expected = parseError(function() { JSON.parse(longInput); }).split("\n");
+var actual = parseError(function() { JSON.parseStream(trickle(longInput)); }).split("\n");
+print(actual[0] === expected[0]);
+print(actual[0]);
+print(actual[1]);
+print(actual[2]);
+print(parseError(function() { JSON.parseStream(new StringReader('[\n1,\n  x]')); }));
+
+print(parseError(function() { JSON.parseStream("[1]"); }));
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * JSON.stringifyStream writes the same text as JSON.stringify to an Appendable, OutputStream or channel.
+ *
+ * @test
+ * @run
+ */
+
+var StringWriter = Java.type("java.io.StringWriter");
+var StringBuilder = Java.type("java.lang.StringBuilder");
+var ByteArrayOutputStream = Java.type("java.io.ByteArrayOutputStream");
+var Channels = Java.type("java.nio.channels.Channels");
+
+function utf8(bytes) {
+    return String(new java.lang.String(bytes.toByteArray(), "UTF-8"));
+}
+
+function stringifyAll(args) {
+    var results = [];
+
+    var sw = new StringWriter();
+    JSON.stringifyStream.apply(JSON, [sw].concat(args));
+    results.push(String(sw.toString()));
+
+    var sb = new StringBuilder();
+    JSON.stringifyStream.apply(JSON, [sb].concat(args));
+    results.push(String(sb.toString()));
+
+    var os = new ByteArrayOutputStream();
+    JSON.stringifyStream.apply(JSON, [os].concat(args));
+    results.push(utf8(os));
+
+    var cos = new ByteArrayOutputStream();
+    JSON.stringifyStream.apply(JSON, [Channels.newChannel(cos)].concat(args));
+    results.push(utf8(cos));
+
+    return results;
+}
+
+var cyclic = { a: 1 };
+cyclic.self = [cyclic];
+
+var values = [
+    0, -1.5, NaN, Infinity, true, false, null, "text", 'esc"aped\n\u0001é中😀', undefined, function() {},
+    [], {}, [1, undefined, function() {}, "x", null], { a: 1, b: undefined, c: function() {}, d: [true, { e: "f" }] },
+    { toJSON: function(key) { return "toJSON:" + key; } }, { nested: { toJSON: function() { return undefined; } }, x: 2 },
+    new Number(3), new String("s"), new Boolean(false), { "1": "indexed", "k": [[], {}, [[1]]] }
+];
+var replacers = [undefined, ["a", "d", 1, "k"], function(k, v) { return typeof v === "number" ? v * 10 : v; }];
+var spaces = [undefined, 2, "\t", "--", 20, new Number(1), new String("ab")];
+
+values.forEach(function(value) {
+    replacers.forEach(function(replacer) {
+        spaces.forEach(function(space) {
+            var expected = JSON.stringify(value, replacer, space);
+            if (expected === undefined) {
+                expected = "";
+            }
+            stringifyAll([value, replacer, space]).forEach(function(actual) {
+                if (actual !== expected) {
+                    fail("stringifyStream of " + expected + " gave " + actual);
+                }
+            });
+        });
+    });
+});
+
+// large output
+var big = [];
+for (var i = 0; i < 5000; i++) {
+    big.push({ id: i, name: "item" + i, tags: ["a", "b"], nested: { value: i / 3 } });
+}
+stringifyAll([big, null, 1]).forEach(function(actual) {
+    print(actual === JSON.stringify(big, null, 1));
+});
+
+// mirrors of objects from another global
+var other = loadWithNewGlobal({ script: "({ a: [1, 2, { b: 'c' }] })", name: "other" });
+var sw = new StringWriter();
+JSON.stringifyStream(sw, other, null, " ");
+print(sw);
+
+// errors
+try {
+    JSON.stringifyStream(new StringWriter(), cyclic);
+} catch (e) {
+    print(e);
+}
+try {
+    JSON.stringifyStream("not a destination", {});
+} catch (e) {
+    print(e);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * RegExp matching over string input, with the matcher reused across exec
+ * calls on the same string.
+ *
+ * @test
+ * @run
+ */
+
+var s = "a1 b22 c333 d4444";
+var re = /([a-z])(\d+)/g, m;
+while ((m = re.exec(s)) != null) {
+    print(m.index, m[0], m[1], m[2], re.lastIndex);
+}
+
+// switching strings and rewinding lastIndex between calls
+re.lastIndex = 0;
+print(re.exec(s)[0], re.exec("x9 y8")[0], re.exec(s)[0]);
+re.lastIndex = 3;
+print(re.exec(s)[0], re.lastIndex);
+
+// compile() replaces the pattern of a regexp that has matched before
+re.compile("(\\d)(\\d)", "g");
+re.lastIndex = 0;
+print(re.exec(s), re.lastIndex);
+
+// strings built by concatenation
+var cons = "";
+for (var i = 0; i < 1000; i++) {
+    cons += "x" + i + ",";
+}
+print(/x999,$/.test(cons), cons.match(/x\d+,/g).length, cons.split(/,/).length);
+print(cons.replace(/x(\d)(\d*)/g, "$1").length);
+
+// anchors, word boundaries, back references and case folding
+print(/^b/m.exec("a\nb")[0], /\bc\w+/.exec(s)[0], /(\w)\1/.exec("abccd")[0], /D4+/i.exec(s)[0]);
+print("aaa".replace(/a*?/g, "-"), "abc".split(/(?:)/));
+
+// non-global exec and split don't disturb a global regexp's position
+var g = /\d+/g, n = /\d+/;
+print(g.exec(s)[0], n.exec(s)[0], s.split(g).length, g.exec(s)[0], g.lastIndex);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Sparse array storage: primitive keyed elements, mixed value kinds,
+ * ordered iteration and conversion back to dense storage.
+ *
+ * @test
+ * @run
+ */
+
+// values above the dense limit keep their kind
+var a = [];
+a[1000000] = 1;
+a[2000000] = 1.5;
+a[3000000] = -0;
+a[4000000] = "x";
+a[5000000] = null;
+print(a.length, typeof a[1000000], a[2000000], 1 / a[3000000], a[4000000], a[5000000], a[6000000]);
+print(4000000 in a, 5000000 in a, 5000001 in a);
+
+// ordered iteration over keys inserted out of order
+var b = [];
+var keys = [700000, 300000, 900000, 150000, 500000, 4294967294];
+keys.forEach(function(k, i) { b[k] = i; });
+var seen = [];
+for (var k in b) {
+    seen.push(k + "=" + b[k]);
+}
+print(seen.join(","));
+// only the stored keys, the length is too large to iterate
+print(Object.keys(b).join(","));
+print(b.length);
+
+// many inserts in descending order split chunks and stay sorted
+var c = [];
+for (var i = 1999; i >= 0; i--) {
+    c[200000 + i * 7] = i;
+}
+var ok = true, prev = -1, count = 0;
+c.forEach(function(v, k) {
+    if (k <= prev || v !== (k - 200000) / 7) {
+        ok = false;
+    }
+    prev = k;
+    count++;
+});
+print(ok, count);
+
+// delete, pop and length truncation
+delete c[200000 + 7 * 10];
+print(c[200070], 200070 in c);
+c.length = 200000 + 7 * 1000;
+print(c.length, c[200000 + 7 * 999], c[200000 + 7 * 1000]);
+var d = [];
+d[300000] = "last";
+print(d.pop(), d.length, d.pop(), d.length);
+
+// shift and unshift move elements between dense and sparse parts
+var e = [];
+for (i = 0; i < 10; i++) {
+    e[i] = i;
+}
+e[200000] = "far";
+e.shift();
+print(e.length, e[0], e[8], e[199999]);
+e.unshift("a", "b");
+print(e.length, e[0], e[2], e[200001]);
+print(e.slice(199999, 200002));
+
+// a sequentially filled array ends up dense again
+var f = [];
+for (i = 0; i < 600000; i++) {
+    f[i] = i;
+}
+var sum = 0;
+for (i = 0; i < f.length; i++) {
+    sum += f[i];
+}
+print(f.length, sum, f[131072], f[599999]);
+var g = [];
+for (i = 0; i < 300000; i++) {
+    g[i] = i & 1 ? i + 0.5 : "s" + i;
+}
+print(g.length, g[131073], g[131074], g[299999]);
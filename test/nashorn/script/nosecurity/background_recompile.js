@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Deoptimizing recompilations done by background threads must produce the same
+ * results as inline ones, both for the deoptimized invocation and later calls,
+ * and the recompiled versions must eventually be installed.
+ *
+ * @test
+ * @option -Dnashorn.compiler.metrics=true
+ * @option --optimistic-types=true
+ * @option --background-recompile-threads=2
+ * @fork
+ */
+
+function sum(arr) {
+    var s = 0;
+    for (var i = 0; i < arr.length; i++) {
+        s += arr[i];
+    }
+    return s;
+}
+
+function mul(a, b) {
+    return a * b;
+}
+
+var ints = [1, 2, 3, 4];
+var mixed = [1, 2.5, "x"];
+
+for (var i = 0; i < 1000; i++) {
+    if (sum(ints) !== 10) {
+        throw "sum(ints) = " + sum(ints);
+    }
+    if (sum(mixed) !== "3.5x") {
+        throw "sum(mixed) = " + sum(mixed);
+    }
+    if (mul(65536, 65536) !== 4294967296) {
+        throw "mul = " + mul(65536, 65536);
+    }
+    if (mul(0.5, 3) !== 1.5) {
+        throw "mul = " + mul(0.5, 3);
+    }
+}
+
+print(sum(ints), sum(mixed), mul(65536, 65536), mul(0.5, 3));
+
+var ManagementFactory = Java.type("java.lang.management.ManagementFactory");
+var ObjectName = Java.type("javax.management.ObjectName");
+var Thread = Java.type("java.lang.Thread");
+
+var server = ManagementFactory.getPlatformMBeanServer();
+var name = new ObjectName("org.openjdk.nashorn:type=CompilerMetrics");
+
+function metric(key) {
+    return server.invoke(name, "getSourceMetrics", [__FILE__], ["java.lang.String"]).get(key);
+}
+
+// Once the background versions are installed, calls no longer deoptimize
+var deadline = Date.now() + 30000;
+var deoptimizations;
+do {
+    Thread.sleep(100);
+    deoptimizations = metric("deoptimizationCount");
+    for (var i = 0; i < 100; i++) {
+        sum(ints); sum(mixed); mul(65536, 65536); mul(0.5, 3);
+    }
+} while (metric("deoptimizationCount") != deoptimizations && Date.now() < deadline);
+
+print(metric("deoptimizationCount") == deoptimizations);
+print(metric("recompilationCount") > 0);
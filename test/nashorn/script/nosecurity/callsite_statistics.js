@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Live call site statistics through the CallSiteStatistics MXBean.
+ *
+ * @test
+ * @option -Dnashorn.callsite.statistics=true
+ * @fork
+ */
+
+var ManagementFactory = Java.type("java.lang.management.ManagementFactory");
+var ObjectName = Java.type("javax.management.ObjectName");
+
+function getX(o) {
+    return o.x;
+}
+
+// Objects of many different shapes make the property getter go megamorphic
+var objects = [];
+for (var i = 0; i < 20; i++) {
+    var o = {};
+    o["p" + i] = i;
+    o.x = i;
+    objects.push(o);
+}
+for (var j = 0; j < 1000; j++) {
+    getX(objects[j % objects.length]);
+}
+
+var server = ManagementFactory.getPlatformMBeanServer();
+var name = new ObjectName("org.openjdk.nashorn:type=CallSiteStatistics");
+
+print(server.getAttribute(name, "CallSiteCount") > 0);
+print(server.getAttribute(name, "UnstableCallSiteCount") > 0);
+print(server.getAttribute(name, "InvocationCount") >= 1000);
+
+var getter = null;
+for each (var site in server.getAttribute(name, "UnstableCallSites")) {
+    if (site.get("operation").endsWith(":x") && site.get("location").endsWith("callsite_statistics.js:38")) {
+        getter = site;
+    }
+}
+print(getter.get("operation"));
+print(getter.get("unstable"));
+print(getter.get("relinkCount") > 1);
+print(getter.get("callCount"));
+
+var top = server.invoke(name, "getTopRelinkingCallSites", [1], ["int"]);
+print(top.length);
+
+var relinks = server.getAttribute(name, "RelinkCount");
+server.invoke(name, "reset", [], []);
+print(server.getAttribute(name, "RelinkCount") < relinks);
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Compiler metrics through the CompilerMetrics MXBean.
+ *
+ * @test
+ * @option -Dnashorn.compiler.metrics=true
+ * @option --optimistic-types=true
+ * @option --lazy-compilation=true
+ * @fork
+ */
+
+var ManagementFactory = Java.type("java.lang.management.ManagementFactory");
+var ObjectName = Java.type("javax.management.ObjectName");
+
+var server = ManagementFactory.getPlatformMBeanServer();
+var name = new ObjectName("org.openjdk.nashorn:type=CompilerMetrics");
+
+// int arithmetic that overflows deoptimizes the function
+function square(x) {
+    return x * x;
+}
+for (var i = 0; i < 10; i++) {
+    square(i);
+}
+square(100000);
+
+var totals = server.getAttribute(name, "Totals");
+print(totals.get("compilationCount") > 0);
+print(totals.get("parseTime") > 0);
+print(totals.get("bytecodeSize") > 0);
+print(totals.get("classesInstalled") > 0);
+print(totals.get("deoptimizationCount") > 0);
+print(totals.get("recompilationCount") > 0);
+print(totals.get("phaseTimes").get(["Bytecode Generation"]).get("value") > 0);
+
+var metrics = server.invoke(name, "getSourceMetrics", [__FILE__], ["java.lang.String"]);
+print(metrics.get("source") == __FILE__);
+print(metrics.get("compilationCount") > 1);
+
+var deoptimizations = server.getAttribute(name, "DeoptimizationsByFunction");
+print(deoptimizations.get([__FILE__ + ":square"]).get("value"));
+
+var top = server.invoke(name, "getTopSources", [1], ["int"]);
+print(top.length);
+
+// regexps created again are found in the regexp cache
+for (var i = 0; i < 3; i++) {
+    new RegExp("metric+s");
+}
+print(server.getAttribute(name, "RegExpCacheHitCount") >= 2);
+print(server.getAttribute(name, "RegExpCacheHitRate") > 0);
+
+server.invoke(name, "reset", [], []);
+print(server.getAttribute(name, "Totals").get("compilationCount"));
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * Java.parallelMap, Java.parallelFilter and Java.parallelForEach.
+ *
+ * @test
+ * @option -Djava.util.concurrent.ForkJoinPool.common.parallelism=4
+ * @fork
+ */
+
+var a = [];
+for (var i = 0; i < 100000; i++) {
+    a[i] = i;
+}
+
+function square(x) {
+    return x * x;
+}
+
+var squares = Java.parallelMap(a, square);
+var expected = a.map(square);
+var same = squares.length === expected.length;
+for (var i = 0; i < expected.length; i++) {
+    same = same && squares[i] === expected[i];
+}
+print(same);
+
+print(Java.parallelFilter(a, function(x) { return x % 25000 == 0 }));
+print(Java.parallelMap([1.5, "a", null], function(x, i, arr) { return this.k + x + i + arr.length }, { k: 10 }));
+print(Java.parallelMap(["a", "b"], function() { "use strict"; return typeof this }));
+print(Java.parallelMap([], square).length);
+
+// array-like objects and arrays with holes are iterated sequentially
+print(Java.parallelMap([1, , 3], square));
+print(Java.parallelMap({ length: 2, 0: 2, 1: 3 }, square));
+
+var sum = new java.util.concurrent.atomic.LongAdder();
+print(Java.parallelForEach(a, function(x) { sum.add(x) }));
+print(sum.sum());
+
+try {
+    Java.parallelMap(a, function(x, i, arr) { arr[0] = 0.5; return x });
+} catch (e) {
+    print(e);
+}
+
+try {
+    Java.parallelForEach(a, function(x) { if (x == 777) throw new Error("boom") });
+} catch (e) {
+    print(e);
+}
+
+try {
+    Java.parallelFilter(a, 1);
+} catch (e) {
+    print(e);
+}
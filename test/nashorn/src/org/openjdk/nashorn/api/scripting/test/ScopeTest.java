@@ -30,6 +30,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
+import java.util.concurrent.TimeUnit;
 import javax.script.Bindings;
 import javax.script.Compilable;
 import javax.script.CompiledScript;
@@ -41,6 +42,8 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 import javax.script.SimpleScriptContext;
+import org.openjdk.nashorn.api.scripting.GlobalPool;
+import org.openjdk.nashorn.api.scripting.NashornScriptEngine;
 import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
 import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
 import org.openjdk.nashorn.api.scripting.URLReader;
@@ -937,4 +940,155 @@ public class ScopeTest {
         final Object result = ((Invocable) engine).invokeMethod(func, "call", func, "o", null);
         assertEquals(((Number) result).intValue(), 1);
     }
+
+    @Test
+    public void createBindingsFromTemplateTest() throws ScriptException {
+        final NashornScriptEngine e = (NashornScriptEngine)new NashornScriptEngineFactory().getScriptEngine("--language=es6");
+        final Bindings template = e.createBindings();
+        e.eval("var counter = 0; function inc() { return ++counter; }" +
+               "var obj = { list: [1, 2, { x: 3 }], map: new Map([[1, 'one']]) };" +
+               "Object.prototype.hello = function() { return 'hello ' + counter; };", template);
+
+        final Bindings first = e.createBindings(template);
+        assertEquals(e.eval("inc(); inc(); obj.list[2].x = 42; obj.map.set(2, 'two'); Array.prototype.extra = 1;" +
+                            "[counter, obj.list[2].x, obj.map.size, ({}).hello()].join()", first), "2,42,2,hello 2");
+
+        // neither the template nor other copies see the changes
+        final Bindings second = e.createBindings(template);
+        assertEquals(e.eval("[inc(), obj.list[2].x, obj.map.size, typeof Array.prototype.extra].join()", second), "1,3,1,undefined");
+        assertEquals(e.eval("[counter, obj.list[2].x, obj.map.size, typeof Array.prototype.extra].join()", template), "0,3,1,undefined");
+    }
+
+    @Test
+    public void createBindingsFromInvalidTemplateTest() throws ScriptException {
+        final NashornScriptEngine e = (NashornScriptEngine)new NashornScriptEngineFactory().getScriptEngine();
+        try {
+            e.createBindings(new SimpleBindings());
+            fail("should have thrown IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+
+        final Bindings template = e.createBindings();
+        e.eval("var buffer = new ArrayBuffer(8);", template);
+        try {
+            e.createBindings(template);
+            fail("should have thrown IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void globalPoolTest() throws Exception {
+        final NashornScriptEngine e = (NashornScriptEngine)new NashornScriptEngineFactory().getScriptEngine();
+        final Bindings template = e.createBindings();
+        e.eval("var counter = 0; function inc() { return ++counter; }", template);
+        final GlobalPool pool = e.createGlobalPool(template, 4);
+        assertEquals(pool.size(), 4);
+        assertEquals(pool.available(), 4);
+
+        // every evaluation starts from the template state, whatever the previous one did
+        final CompiledScript script = e.compile("Array.prototype.extra = counter; inc(); inc(); inc()");
+        final Throwable[] failure = new Throwable[1];
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 50; j++) {
+                        assertEquals(((Number)pool.eval(script)).intValue(), 3);
+                    }
+                } catch (final Throwable t) {
+                    failure[0] = t;
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        if (failure[0] != null) {
+            throw new AssertionError(failure[0]);
+        }
+        assertEquals(pool.available(), 4);
+
+        final ScriptContext ctxt = pool.lease();
+        assertEquals(pool.available(), 3);
+        assertEquals(e.eval("inc(); typeof Array.prototype.extra", ctxt), "undefined");
+        assertEquals(((Number)e.eval("counter", ctxt)).intValue(), 1);
+        pool.release(ctxt);
+        assertEquals(pool.available(), 4);
+        try {
+            pool.release(ctxt);
+            fail("should have thrown IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+        // the template itself is not affected by the pool
+        assertEquals(((Number)e.eval("counter", template)).intValue(), 0);
+    }
+
+    @Test
+    public void globalPoolIsolationTest() throws Exception {
+        final NashornScriptEngine e = (NashornScriptEngine)new NashornScriptEngineFactory().getScriptEngine();
+        final Bindings template = e.createBindings();
+        e.eval("var inc = function() { return ++this.n; }.bind({ n: 0 }); var ArrayList = Java.type('java.util.ArrayList');", template);
+        final GlobalPool pool = e.createGlobalPool(template, 2);
+
+        // bound function state and Java objects a request leaves behind are gone in the next lease
+        final CompiledScript script = e.compile("if (typeof list === 'undefined') { list = new ArrayList(); } list.add(1); inc() + ' ' + list.size()");
+        for (int i = 0; i < 4; i++) {
+            final ScriptContext ctxt = pool.lease();
+            try {
+                assertEquals(script.eval(ctxt), "1 1");
+            } finally {
+                pool.release(ctxt);
+            }
+        }
+
+        // Java objects in the template can't be copied
+        e.eval("var list = new ArrayList()", template);
+        try {
+            e.createGlobalPool(template, 2);
+            fail("should have thrown IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void globalPoolLeaseTimeoutTest() throws Exception {
+        final NashornScriptEngine e = (NashornScriptEngine)new NashornScriptEngineFactory().getScriptEngine();
+        final GlobalPool pool = e.createGlobalPool(e.createBindings(), 1);
+        final ScriptContext ctxt = pool.lease(1, TimeUnit.SECONDS);
+        assertNotNull(ctxt);
+        assertNull(pool.lease(10, TimeUnit.MILLISECONDS));
+        pool.release(ctxt);
+        assertNotNull(pool.lease(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void globalPoolInvalidTest() {
+        final NashornScriptEngine e = (NashornScriptEngine)new NashornScriptEngineFactory().getScriptEngine();
+        try {
+            e.createGlobalPool(new SimpleBindings(), 2);
+            fail("should have thrown IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+        try {
+            e.createGlobalPool(e.createBindings(), 0);
+            fail("should have thrown IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+
+        final NashornScriptEngine shared = (NashornScriptEngine)new NashornScriptEngineFactory().getScriptEngine("--global-per-engine");
+        try {
+            shared.createGlobalPool(shared.getBindings(ScriptContext.ENGINE_SCOPE), 2);
+            fail("should have thrown IllegalStateException");
+        } catch (final IllegalStateException expected) {
+            // expected
+        }
+    }
 }
@@ -31,6 +31,8 @@ import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.lang.reflect.InvocationHandler;
@@ -51,6 +53,7 @@ import javax.script.ScriptEngineFactory;
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 import javax.script.SimpleScriptContext;
+import org.openjdk.nashorn.api.scripting.NashornScriptEngine;
 import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
 import org.testng.annotations.Test;
 
@@ -858,6 +861,59 @@ public class ScriptEngineTest {
         assertNull(ctx.removeAttribute("undefinedname", ScriptContext.ENGINE_SCOPE));
     }
 
+    @Test
+    public void parseJSONTest() throws ScriptException {
+        final ScriptEngineManager manager = new ScriptEngineManager();
+        final NashornScriptEngine e = (NashornScriptEngine) manager.getEngineByName("nashorn");
+
+        final Object obj = e.parseJSON(new StringReader("{\"a\": [1, 2.5, \"x\"], \"b\": {\"c\": null}}"));
+        assertTrue(obj instanceof ScriptObjectMirror);
+        final ScriptObjectMirror mirror = (ScriptObjectMirror) obj;
+        final ScriptObjectMirror a = (ScriptObjectMirror) mirror.getMember("a");
+        assertTrue(a.isArray());
+        assertEquals(((Number) a.getSlot(0)).doubleValue(), 1.0);
+        assertEquals(((Number) a.getSlot(1)).doubleValue(), 2.5);
+        assertEquals(a.getSlot(2), "x");
+        assertTrue(((ScriptObjectMirror) mirror.getMember("b")).hasMember("c"));
+
+        // the result belongs to the engine's global, like the result of eval
+        e.put("parsed", obj);
+        assertEquals(e.eval("parsed.a instanceof Array"), Boolean.TRUE);
+
+        assertEquals(e.parseJSON(new StringReader("\"text\"")), "text");
+        assertNull(e.parseJSON(new StringReader("null")));
+    }
+
+    @Test
+    public void parseJSONErrorTest() {
+        final ScriptEngineManager manager = new ScriptEngineManager();
+        final NashornScriptEngine e = (NashornScriptEngine) manager.getEngineByName("nashorn");
+
+        try {
+            e.parseJSON(new StringReader("{\"a\":\n  [1,}"));
+            fail("should have thrown ScriptException");
+        } catch (final ScriptException se) {
+            assertTrue(se.getMessage().startsWith("SyntaxError: Invalid JSON: <json>:2:5"), se.getMessage());
+        }
+
+        final IOException ioe = new IOException("read failed");
+        try {
+            e.parseJSON(new Reader() {
+                @Override
+                public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                    throw ioe;
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+            fail("should have thrown ScriptException");
+        } catch (final ScriptException se) {
+            assertEquals(se.getCause(), ioe);
+        }
+    }
+
     private static void checkProperty(final ScriptEngine e, final String name)
         throws ScriptException {
         final String value = System.getProperty(name);
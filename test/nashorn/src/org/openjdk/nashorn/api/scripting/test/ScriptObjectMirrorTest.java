@@ -30,6 +30,8 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
@@ -427,4 +429,96 @@ public class ScriptObjectMirrorTest {
 
         assertTrue((boolean)e.eval("typeof sfunc() == 'undefined'"));
     }
+
+    @Test
+    public void writeJSONTest() throws Exception {
+        final ScriptEngineManager engineManager = new ScriptEngineManager();
+        final ScriptEngine e = engineManager.getEngineByName("nashorn");
+        final ScriptObjectMirror obj = (ScriptObjectMirror)e.eval("({ a: [1, 'x', null], b: { c: true }, d: function() {} })");
+
+        final StringWriter sw = new StringWriter();
+        obj.writeJSON(sw);
+        assertEquals(sw.toString(), "{\"a\":[1,\"x\",null],\"b\":{\"c\":true}}");
+
+        final StringBuilder sb = new StringBuilder();
+        obj.writeJSON(sb, e.eval("['b', 'c']"), 2);
+        assertEquals(sb.toString(), "{\n  \"b\": {\n    \"c\": true\n  }\n}");
+
+        final IOException ioe = new IOException("write failed");
+        try {
+            obj.writeJSON(new Appendable() {
+                @Override
+                public Appendable append(final CharSequence csq) throws IOException {
+                    throw ioe;
+                }
+
+                @Override
+                public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+                    throw ioe;
+                }
+
+                @Override
+                public Appendable append(final char c) throws IOException {
+                    throw ioe;
+                }
+            });
+            fail("should have thrown IOException");
+        } catch (final IOException exp) {
+            assertEquals(exp, ioe);
+        }
+    }
+
+    @Test
+    public void bulkAccessTest() throws Exception {
+        final ScriptEngineManager engineManager = new ScriptEngineManager();
+        final ScriptEngine e = engineManager.getEngineByName("nashorn");
+        final ScriptObjectMirror obj = (ScriptObjectMirror)e.eval(
+                "({ a: 1, b: 'two', c: [1.5, 'x', { d: 4 }], e: { f: { g: 5 } }, h: undefined, i: function() {} })");
+
+        final Object[] members = obj.getMembers("b", "a", "missing");
+        assertEquals(members[0], "two");
+        assertEquals(((Number)members[1]).intValue(), 1);
+        assertTrue(ScriptObjectMirror.isUndefined(members[2]));
+
+        final Map<String, Object> shallow = obj.toMap(0);
+        assertEquals(shallow.keySet().toString(), "[a, b, c, e, h, i]");
+        assertTrue(shallow.get("c") instanceof ScriptObjectMirror);
+        assertTrue(shallow.containsKey("h"));
+        assertEquals(shallow.get("h"), null);
+
+        final Map<String, Object> deep = obj.toMap(2);
+        final List<?> c = (List<?>)deep.get("c");
+        assertEquals(c.size(), 3);
+        assertEquals(((Number)c.get(0)).doubleValue(), 1.5);
+        assertEquals(c.get(1), "x");
+        assertEquals(((Number)((Map<?, ?>)c.get(2)).get("d")).intValue(), 4);
+        final Map<?, ?> f = (Map<?, ?>)((Map<?, ?>)deep.get("e")).get("f");
+        assertFalse(f instanceof ScriptObjectMirror);
+        assertEquals(((Number)f.get("g")).intValue(), 5);
+        assertTrue(((Map<?, ?>)obj.toMap(1).get("e")).get("f") instanceof ScriptObjectMirror);
+        assertTrue(((ScriptObjectMirror)deep.get("i")).isFunction());
+
+        final ScriptObjectMirror arr = (ScriptObjectMirror)e.eval("var arr = [1, 2.5, '3', , true]; arr");
+        final double[] doubles = new double[8];
+        assertEquals(arr.copySlotsTo(doubles), 5);
+        assertEquals(doubles[1], 2.5);
+        assertEquals(doubles[2], 3.0);
+        assertTrue(Double.isNaN(doubles[3]));
+        assertEquals(doubles[4], 1.0);
+        final int[] ints = new int[3];
+        assertEquals(arr.copySlotsTo(ints), 3);
+        assertEquals(ints[0], 1);
+        assertEquals(ints[1], 2);
+        assertEquals(ints[2], 3);
+        final Object[] objects = new Object[5];
+        assertEquals(arr.copySlotsTo(objects), 5);
+        assertEquals(objects[2], "3");
+        assertTrue(ScriptObjectMirror.isUndefined(objects[3]));
+        assertEquals(objects[4], true);
+
+        final Object sum = obj.withGlobal(() -> ((Number)obj.getMember("a")).intValue() + ((Number)arr.getSlot(1)).doubleValue());
+        assertEquals(sum, 3.5);
+        obj.withGlobal(() -> obj.setMember("a", 42));
+        assertEquals(((Number)obj.getMember("a")).intValue(), 42);
+    }
 }
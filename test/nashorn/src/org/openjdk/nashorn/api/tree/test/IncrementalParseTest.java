@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.api.tree.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
+import org.openjdk.nashorn.api.tree.CompilationUnitTree;
+import org.openjdk.nashorn.api.tree.Diagnostic;
+import org.openjdk.nashorn.api.tree.DiagnosticListener;
+import org.openjdk.nashorn.api.tree.LineMap;
+import org.openjdk.nashorn.api.tree.Parser;
+import org.openjdk.nashorn.api.tree.Tree;
+import org.openjdk.nashorn.internal.ir.FunctionNode;
+import org.openjdk.nashorn.internal.ir.Statement;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for incremental parsing of edited sources with the nashorn Parser API.
+ *
+ * @test
+ * @modules org.openjdk.nashorn/org.openjdk.nashorn.api.tree:open
+ *          org.openjdk.nashorn/org.openjdk.nashorn.internal.ir
+ * @run testng org.openjdk.nashorn.api.tree.test.IncrementalParseTest
+ */
+@SuppressWarnings("javadoc")
+public class IncrementalParseTest {
+    // CompilationUnitTreeImpl.getFunctionNode(), the IR a compilation unit tree was translated from
+    private static final Method GET_FUNCTION_NODE;
+
+    static {
+        try {
+            GET_FUNCTION_NODE = Class.forName("org.openjdk.nashorn.api.tree.CompilationUnitTreeImpl").getDeclaredMethod("getFunctionNode");
+            GET_FUNCTION_NODE.setAccessible(true);
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final String CODE =
+            "var x = 1;\n" +
+            "function outer(a, b) {\n" +
+            "    function inner(c) {\n" +
+            "        return c * 2;\n" +
+            "    }\n" +
+            "    var g = function(d) { return d + 1; };\n" +
+            "    var h = function named(e) { return e - 1; };\n" +
+            "    return inner(a) + g(b) + h(x);\n" +
+            "}\n" +
+            "var o = {\n" +
+            "    get p() { return this._p; },\n" +
+            "    set p(v) { this._p = v; },\n" +
+            "    m() { return 42; }\n" +
+            "};\n" +
+            "var arrow = (y) => { return y * y; };\n" +
+            "function* gen() { yield 1; }\n" +
+            "class C { method() { return 1; } }\n" +
+            "print(outer(1, 2));\n";
+
+    // state of an edited source, with its incrementally parsed tree
+    private static final class Edited {
+        final Parser parser;
+        String code;
+        CompilationUnitTree tree;
+
+        Edited(final Parser parser, final String code) {
+            this.parser = parser;
+            this.code = code;
+            this.tree = parser.parse("test.js", code, null);
+        }
+
+        // replace the first occurrence of target after anchor
+        Edited edit(final String anchor, final String target, final String replacement) {
+            final int start = code.indexOf(target, code.indexOf(anchor));
+            assertTrue(start >= 0, target);
+            return edit(start, start + target.length(), replacement);
+        }
+
+        // replace the first occurrence of target after anchor, inside the body of a function nested in a top level
+        // statement, and check that only that statement was parsed again
+        Edited editBody(final String anchor, final String target, final String replacement) {
+            final List<Statement> before = statements(tree);
+            edit(anchor, target, replacement);
+            final List<Statement> after = statements(tree);
+            assertEquals(after.size(), before.size());
+            int shared = 0;
+            for (int i = 0; i < before.size(); i++) {
+                if (after.get(i) == before.get(i)) {
+                    shared++;
+                }
+            }
+            assertEquals(shared, before.size() - 1, "top level statements shared with the previous tree");
+            return this;
+        }
+
+        Edited edit(final int start, final int end, final String replacement) {
+            tree = parser.parse(tree, start, end, replacement, null);
+            code = code.substring(0, start) + replacement + code.substring(end);
+            assertEquals(dump(tree), dump(parser.parse("test.js", code, null)), code);
+            return this;
+        }
+    }
+
+    @Test
+    public void testEditsInFunctionBodies() {
+        final Edited e = new Edited(Parser.create("--language=es6"), CODE);
+        e.editBody("inner", "c * 2", "c * 2 + outer(c, c)");
+        e.editBody("outer", "return inner(a)", "var z = [a, b];\n    return inner(a)");
+        e.editBody("function(d)", "d + 1", "d + 10000");
+        e.editBody("named", "e - 1", "(function() { return e; })()");
+        e.editBody("get p", "this._p", "this._q");
+        e.editBody("set p", "this._p = v;", "");
+        e.editBody("m()", "42", "function() {}");
+        e.editBody("arrow", "y * y", "y");
+        e.editBody("gen", "yield 1;", "yield 1; yield 2;");
+        // methods of a top level class are reparsed with the whole source
+        e.edit("method", "1", "2");
+        e.editBody("inner", "c * 2", "c");
+        // edits that are not inside a function body
+        e.edit("var x", "1", "100");
+        e.edit("outer", "(a, b)", "(a, b, c)");
+        e.editBody("inner", "return c", "return 3 * c");
+        e.edit(e.code.length(), e.code.length(), "\nfunction last() { return x; }\n");
+        e.editBody("last", "x", "x + 1");
+    }
+
+    @Test
+    public void testManyEdits() {
+        final Edited e = new Edited(Parser.create("--language=es6"), CODE);
+        for (int i = 0; i < 100; i++) {
+            e.edit("inner", "return c", "c++;\n        return c");
+            e.edit("function(d)", "return d", "d--; return d");
+        }
+    }
+
+    @Test
+    public void testStrictMode() {
+        final Parser parser = Parser.create("--language=es6");
+        final Edited e = new Edited(parser, "'use strict';\nfunction f() { return 1; }\n");
+        e.edit("f", "return 1;", "return 2;");
+        assertTrue(e.tree.isStrict());
+
+        // with is not allowed in strict code
+        final List<Diagnostic> diagnostics = new ArrayList<>();
+        parser.parse(e.tree, e.code.indexOf("return"), e.code.indexOf("return"), "with (this) {}", diagnostics::add);
+        assertEquals(diagnostics.size(), 1);
+        assertEquals(diagnostics.get(0).getKind(), Diagnostic.Kind.ERROR);
+    }
+
+    @Test
+    public void testSyntaxErrors() {
+        final Parser parser = Parser.create("--language=es6");
+        final Edited e = new Edited(parser, CODE);
+        final int start = e.code.indexOf("c * 2");
+        final List<Diagnostic> diagnostics = new ArrayList<>();
+        final CompilationUnitTree broken = parser.parse(e.tree, start, start, ")", diagnostics::add);
+        assertEquals(diagnostics.size(), 1);
+        assertEquals(diagnostics.get(0).getKind(), Diagnostic.Kind.ERROR);
+
+        // an edit of a tree with errors parses the whole source again
+        diagnostics.clear();
+        parser.parse(broken, start + 2, start + 3, "+", diagnostics::add);
+        assertEquals(diagnostics.size(), 1);
+        diagnostics.clear();
+        parser.parse(broken, start, start + 1, "", diagnostics::add);
+        assertEquals(diagnostics.size(), 0);
+
+        try {
+            parser.parse(e.tree, start, start, "}", null);
+            fail("syntax error expected");
+        } catch (final RuntimeException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLineMap() {
+        final Edited e = new Edited(Parser.create("--language=es6"), CODE);
+        e.edit("inner", "return c * 2;", "\n\n        return c * 2;");
+        final LineMap lineMap = e.tree.getLineMap();
+        assertEquals(lineMap.getLineNumber(e.code.indexOf("return c * 2")), 6L);
+        assertEquals(lineMap.getLineNumber(e.code.indexOf("print")), 20L);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        final Parser parser = Parser.create("--language=es6");
+        final CompilationUnitTree tree = parser.parse("test.js", CODE, null);
+        for (final int[] range : new int[][] { { -1, 0 }, { 2, 1 }, { 0, CODE.length() + 1 } }) {
+            try {
+                parser.parse(tree, range[0], range[1], "", null);
+                fail("IndexOutOfBoundsException expected");
+            } catch (final IndexOutOfBoundsException ex) {
+                // expected
+            }
+        }
+        try {
+            parser.parse(tree, 0, 0, null, null);
+            fail("NullPointerException expected");
+        } catch (final NullPointerException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDefaultImplementation() {
+        // a parser that doesn't implement incremental parsing itself
+        final Parser full = Parser.create("--language=es6");
+        final Parser parser = new Parser() {
+            @Override
+            public CompilationUnitTree parse(final File file, final DiagnosticListener listener) throws IOException {
+                return full.parse(file, listener);
+            }
+
+            @Override
+            public CompilationUnitTree parse(final Path path, final DiagnosticListener listener) throws IOException {
+                return full.parse(path, listener);
+            }
+
+            @Override
+            public CompilationUnitTree parse(final URL url, final DiagnosticListener listener) throws IOException {
+                return full.parse(url, listener);
+            }
+
+            @Override
+            public CompilationUnitTree parse(final String name, final Reader reader, final DiagnosticListener listener) throws IOException {
+                return full.parse(name, reader, listener);
+            }
+
+            @Override
+            public CompilationUnitTree parse(final String name, final String code, final DiagnosticListener listener) {
+                return full.parse(name, code, listener);
+            }
+
+            @Override
+            public CompilationUnitTree parse(final ScriptObjectMirror scriptObj, final DiagnosticListener listener) {
+                return full.parse(scriptObj, listener);
+            }
+        };
+        final Edited e = new Edited(parser, CODE);
+        e.edit("inner", "c * 2", "c * 2 + outer(c, c)");
+        e.edit("var x", "1", "100");
+        e.edit("method", "1", "2");
+    }
+
+    private static List<Statement> statements(final CompilationUnitTree tree) {
+        try {
+            return ((FunctionNode)GET_FUNCTION_NODE.invoke(tree)).getBody().getStatements();
+        } catch (final ReflectiveOperationException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    // kind and positions of a tree and all its subtrees, as returned by the getters of its tree interfaces
+    private static String dump(final Tree tree) {
+        final StringBuilder sb = new StringBuilder();
+        dump(tree, sb, 0);
+        return sb.toString();
+    }
+
+    private static void dump(final Object obj, final StringBuilder sb, final int indent) {
+        if (obj instanceof List) {
+            for (final Object element : (List<?>)obj) {
+                dump(element, sb, indent);
+            }
+            return;
+        } else if (!(obj instanceof Tree)) {
+            return;
+        }
+
+        final Tree tree = (Tree)obj;
+        sb.append(" ".repeat(indent)).append(tree.getKind()).append(' ')
+          .append(tree.getStartPosition()).append('-').append(tree.getEndPosition()).append('\n');
+        final List<Method> getters = new ArrayList<>();
+        for (final Class<?> iface : tree.getClass().getInterfaces()) {
+            getters.addAll(Arrays.asList(iface.getMethods()));
+        }
+        getters.sort(Comparator.comparing(Method::getName));
+        for (final Method getter : getters) {
+            if (getter.getParameterCount() == 0 && getter.getName().startsWith("get") && !getter.getName().equals("getKind")) {
+                try {
+                    dump(getter.invoke(tree), sb, indent + 2);
+                } catch (final ReflectiveOperationException ex) {
+                    throw new AssertionError(ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.nashorn.internal.runtime.regexp.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.runtime.CompilerMetrics;
+import org.openjdk.nashorn.internal.runtime.Context;
+import org.openjdk.nashorn.internal.runtime.ErrorManager;
+import org.openjdk.nashorn.internal.runtime.options.Options;
+import org.openjdk.nashorn.internal.runtime.regexp.RegExp;
+import org.openjdk.nashorn.internal.runtime.regexp.RegExpCache;
+import org.openjdk.nashorn.internal.runtime.regexp.RegExpFactory;
+import org.openjdk.nashorn.internal.runtime.regexp.RegExpMatcher;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the cache of compiled regexps shared by the globals of a context.
+ *
+ * @test
+ * @modules org.openjdk.nashorn/org.openjdk.nashorn.internal.objects
+ *          org.openjdk.nashorn/org.openjdk.nashorn.internal.runtime
+ *          org.openjdk.nashorn/org.openjdk.nashorn.internal.runtime.options
+ *          org.openjdk.nashorn/org.openjdk.nashorn.internal.runtime.regexp
+ * @run testng org.openjdk.nashorn.internal.runtime.regexp.test.RegExpCacheTest
+ */
+public class RegExpCacheTest {
+
+    private static Context newContext() {
+        return new Context(new Options(""), new ErrorManager(), Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Regexps with the same pattern and flags are compiled once and shared by the globals of
+     * a context, while matchers keep their own state.
+     */
+    @Test
+    public void testSharedRegExp() {
+        final Context cx = newContext();
+        final RegExpCache cache = cx.getRegExpCache();
+        final CompilerMetrics metrics = cx.getCompilerMetrics();
+        final Global oldGlobal = Context.getGlobal();
+        try {
+            Context.setGlobal(cx.createGlobal());
+            final RegExp first = RegExpFactory.create("cache(d|s)Test", "g");
+            Context.setGlobal(cx.createGlobal());
+            final RegExp second = RegExpFactory.create(new String("cache(d|s)Test"), "g");
+            assertSame(first, second);
+            assertNotSame(first, RegExpFactory.create("cache(d|s)Test", "gi"));
+            assertEquals(cache.getHitCount(), 1);
+            assertEquals(cache.getMissCount(), 2);
+            assertEquals(metrics.getRegExpCacheHitCount(), 1);
+            assertEquals(metrics.getRegExpCacheMissCount(), 2);
+            assertEquals(metrics.getRegExpCacheHitRate(), 1.0 / 3);
+
+            final RegExpMatcher m1 = first.match("cachedTest");
+            final RegExpMatcher m2 = second.match("xx cachesTest");
+            assertTrue(m1.search(0));
+            assertTrue(m2.search(0));
+            assertEquals(m1.group(1), "d");
+            assertEquals(m2.group(1), "s");
+            assertEquals(m2.start(), 3);
+        } finally {
+            Context.setGlobal(oldGlobal);
+        }
+    }
+
+    /**
+     * Contexts don't share compiled regexps.
+     */
+    @Test
+    public void testPerContext() {
+        final Context cx1 = newContext();
+        final Context cx2 = newContext();
+        final Global oldGlobal = Context.getGlobal();
+        try {
+            Context.setGlobal(cx1.createGlobal());
+            final RegExp first = RegExpFactory.create("perContext", "");
+            Context.setGlobal(cx2.createGlobal());
+            assertNotSame(RegExpFactory.create("perContext", ""), first);
+            assertEquals(cx1.getRegExpCache().size(), 1);
+            assertEquals(cx2.getRegExpCache().size(), 1);
+        } finally {
+            Context.setGlobal(oldGlobal);
+        }
+    }
+
+    /**
+     * The cache does not grow beyond its bound.
+     */
+    @Test
+    public void testBounded() {
+        final Context cx = newContext();
+        final RegExpCache cache = cx.getRegExpCache();
+        final Global oldGlobal = Context.getGlobal();
+        try {
+            Context.setGlobal(cx.createGlobal());
+            for (int i = 0; i < 1000; i++) {
+                RegExpFactory.create("bounded" + i, "");
+            }
+            assertTrue(cache.size() <= 512, cache.toString());
+            assertTrue(cache.getEvictionCount() > 0, cache.toString());
+        } finally {
+            Context.setGlobal(oldGlobal);
+        }
+    }
+}
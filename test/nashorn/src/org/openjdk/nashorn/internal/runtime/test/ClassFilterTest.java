@@ -26,6 +26,7 @@
 package org.openjdk.nashorn.internal.runtime.test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 import java.io.File;
 import javax.script.ScriptEngine;
@@ -132,6 +133,12 @@ public class ClassFilterTest {
         } catch (final ScriptException e) {
             //emtpy
         }
+        try {
+            engine.eval("ArrayBuffer.mapFile(__FILE__)");
+            fail("TypeError should have been thrown");
+        } catch (final ScriptException e) {
+            assertTrue(e.getMessage().contains("--no-java"), e.getMessage());
+        }
         try {
             assertEquals(engine.eval("Java = this[\"__LINE__\"]; Java === this[\"__LINE__\"]"), Boolean.TRUE);
         } catch (final ScriptException e) {
@@ -26,16 +26,33 @@ package org.openjdk.nashorn.internal.runtime.test;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.openjdk.nashorn.internal.runtime.CodeStore.MappedFileCodeStore;
+import org.openjdk.nashorn.internal.runtime.Context;
+import org.openjdk.nashorn.internal.runtime.ErrorManager;
+import org.openjdk.nashorn.internal.runtime.Source;
+import org.openjdk.nashorn.internal.runtime.StoredScript;
+import org.openjdk.nashorn.internal.runtime.options.Options;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -494,6 +511,145 @@ public class CodeStoreAndPathTest {
         System.getProperties().remove("nashorn.compiler.splitter.threshold");
     }
 
+    @Test
+    public void mappedCodeCacheTest() throws ScriptException, IOException {
+        System.setProperty("nashorn.persistent.code.cache", codeCache);
+        System.setProperty("nashorn.persistent.code.cache.format", "mapped");
+        try {
+            final NashornScriptEngineFactory fac = new NashornScriptEngineFactory();
+            final ScriptEngine e = fac.getScriptEngine(ENGINE_OPTIONS_NOOPT);
+            final Path codeCachePath = getCodeCachePath(false);
+            e.eval(code1);
+            e.eval(code2);
+            e.eval(code3);// less than minimum size for storing
+            // all scripts go into a single cache file
+            final DirectoryStream<Path> stream = Files.newDirectoryStream(codeCachePath);
+            checkCompiledScripts(stream, 1);
+            final long size = Files.size(codeCachePath.resolve("code_cache.nsc"));
+            // a new engine loads code1 and code2 from the cache without storing them again
+            final ScriptEngine e2 = fac.getScriptEngine(ENGINE_OPTIONS_NOOPT);
+            e2.eval(code1);
+            e2.eval(code2);
+            assertEquals(Files.size(codeCachePath.resolve("code_cache.nsc")), size);
+        } finally {
+            System.getProperties().remove("nashorn.persistent.code.cache.format");
+        }
+    }
+
+    @Test
+    public void mappedCodeStoreCompactionTest() throws IOException {
+        final Context context = newContext();
+        final Source source = Source.sourceFor("compaction", code1);
+        final MappedFileCodeStore store = newMappedStore(context);
+        for (int i = 0; i < 4; i++) {
+            store.store("f", source, newStoredScript(i, 100_000));
+        }
+        store.store("g", source, newStoredScript(10, 100_000));
+        final Path file = getCodeCachePath(context.getEnv()._optimistic_types).resolve("code_cache.nsc");
+        final long size = Files.size(file);
+
+        store.compact();
+        // only the latest record for each key is kept
+        assertTrue(Files.size(file) < size / 2, "Cache file was not compacted");
+        assertEquals(store.size(), 2);
+        assertEquals(store.load(source, "f").getCompilationId(), 3);
+        assertEquals(store.load(source, "g").getCompilationId(), 10);
+
+        // superseded records beyond the threshold trigger compaction on store
+        for (int i = 0; i < 4; i++) {
+            store.store("f", source, newStoredScript(20 + i, 1 << 19));
+        }
+        assertTrue(Files.size(file) < 3 << 19, "Cache file was not compacted on store");
+        assertEquals(store.load(source, "f").getCompilationId(), 23);
+
+        // a store that still has the old file open picks up the compacted one
+        final MappedFileCodeStore other = newMappedStore(context);
+        store.store("h", source, newStoredScript(30, 1000));
+        store.compact();
+        other.store("i", source, newStoredScript(40, 1000));
+        assertEquals(other.size(), 4);
+        assertEquals(other.load(source, "h").getCompilationId(), 30);
+        assertEquals(newMappedStore(context).load(source, "i").getCompilationId(), 40);
+    }
+
+    @Test
+    public void mappedCodeStoreStaleRecordTest() throws IOException {
+        final Context context = newContext();
+        final Source source = Source.sourceFor("stale", code1);
+        final MappedFileCodeStore store = newMappedStore(context);
+        store.store("f", source, newStoredScript(1, 1000));
+        store.store("g", source, newStoredScript(2, 1000));
+        final Path file = getCodeCachePath(context.getEnv()._optimistic_types).resolve("code_cache.nsc");
+
+        // damage the payload of the last record, then leave a torn record at the end
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            final long size = channel.size();
+            channel.write(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 }), size - 100);
+            channel.write(ByteBuffer.allocate(13).putInt(0, 1).putInt(4, 1000), size);
+        }
+
+        // a damaged record is a cache miss, not an error
+        final MappedFileCodeStore other = newMappedStore(context);
+        assertEquals(other.size(), 2);
+        assertNull(other.load(source, "g"));
+        assertEquals(other.load(source, "f").getCompilationId(), 1);
+
+        // the next store replaces the torn record
+        other.store("g", source, newStoredScript(3, 1000));
+        final MappedFileCodeStore reopened = newMappedStore(context);
+        assertEquals(reopened.size(), 2);
+        assertEquals(reopened.load(source, "g").getCompilationId(), 3);
+        assertNull(reopened.load(source, "h"));
+    }
+
+    @Test
+    public void mappedCodeStoreConcurrentWritersTest() throws Exception {
+        final Context context = newContext();
+        final Source source = Source.sourceFor("concurrent", code1);
+        final MappedFileCodeStore[] stores = { newMappedStore(context), newMappedStore(context) };
+        final int writers = 4;
+        final int scripts = 50;
+        final ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                final MappedFileCodeStore store = stores[w % stores.length];
+                final int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < scripts; i++) {
+                        final int id = writer * scripts + i;
+                        assertNotNull(store.store("f" + id, source, newStoredScript(id, 1000 + id)));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final MappedFileCodeStore reopened = newMappedStore(context);
+        assertEquals(reopened.size(), writers * scripts);
+        for (int id = 0; id < writers * scripts; id++) {
+            assertEquals(reopened.load(source, "f" + id).getCompilationId(), id);
+        }
+    }
+
+    private static Context newContext() {
+        return new Context(new Options(""), new ErrorManager(), Thread.currentThread().getContextClassLoader());
+    }
+
+    private static MappedFileCodeStore newMappedStore(final Context context) throws IOException {
+        final MappedFileCodeStore store = new MappedFileCodeStore(context, codeCache, false, 0);
+        store.initLogger(context);
+        return store;
+    }
+
+    private static StoredScript newStoredScript(final int compilationId, final int classSize) {
+        return new StoredScript(compilationId, "Script", Collections.singletonMap("Script", new byte[classSize]), Collections.emptyMap(), new Object[0]);
+    }
+
     private static Path getCodeCachePath(final boolean optimistic) {
         final String codeCache = System.getProperty("nashorn.persistent.code.cache");
         final Path codeCachePath = FileSystems.getDefault().getPath(codeCache).toAbsolutePath();
@@ -27,6 +27,11 @@ package org.openjdk.nashorn.internal.runtime.test;
 
 import org.openjdk.nashorn.internal.runtime.ConsString;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import org.testng.annotations.Test;
 
@@ -130,4 +135,133 @@ public class ConsStringTest {
         assertEquals(cs4.getComponents()[0], "bcdef");
         assertEquals(cs4.getComponents()[1], "");
     }
+
+    /**
+     * Test that rope-aware access does not flatten
+     */
+    @Test
+    public void testConsStringLeafAccess() {
+        final ConsString cs1 = new ConsString("abc", "def");
+        final ConsString cs2 = new ConsString(cs1, "ghi");
+        // long enough for all of this to be cheaper than flattening
+        final String tail = "abcx" + "y".repeat(1000);
+        final ConsString cs3 = new ConsString(cs2, tail);
+        assertEquals(cs3.leafCharAt(0), 'a');
+        assertEquals(cs3.leafCharAt(4), 'e');
+        assertEquals(cs3.leafCharAt(8), 'i');
+        assertEquals(cs3.leafCharAt(12), 'x');
+        assertEquals(cs3.indexOf("abc", 0), 0);
+        assertEquals(cs3.indexOf("abc", 1), 9);
+        assertEquals(cs3.indexOf("cdefg", 0), 2);
+        assertEquals(cs3.indexOf("iab", 0), 8);
+        assertEquals(cs3.indexOf("abcy", 0), -1);
+        assertEquals(cs3.indexOf("", 2000), 1013);
+        assertEquals(cs3.substring(2, 11).toString(), "cdefghiab");
+        // top-level ConsString should not be flattened
+        assertSame(cs3.getComponents()[0], cs2);
+        assertSame(cs3.getComponents()[1], tail);
+        assertSame(cs2.getComponents()[0], cs1);
+    }
+
+    /**
+     * Test that long substrings share the components of a ConsString
+     */
+    @Test
+    public void testConsStringSubstring() {
+        final StringBuilder expected = new StringBuilder();
+        CharSequence cs = "";
+        for (int i = 0; i < 1000; i++) {
+            final String s = "line " + i + "\n";
+            expected.append(s);
+            cs = new ConsString(cs, s);
+        }
+        final ConsString rope = (ConsString) cs;
+        final CharSequence sub = rope.substring(1000, 7000);
+        assertTrue(sub instanceof ConsString);
+        assertEquals(sub.toString(), expected.substring(1000, 7000));
+        assertEquals(rope.substring(3, 20), expected.substring(3, 20));
+        assertEquals(rope.indexOf("line 999", 0), expected.indexOf("line 999"));
+        assertEquals(rope.toString(), expected.toString());
+    }
+
+    /**
+     * Test that deep ConsStrings are rebalanced
+     */
+    @Test
+    public void testConsStringBalancing() {
+        final StringBuilder expected = new StringBuilder();
+        CharSequence cs = "";
+        for (int i = 0; i < 100000; i++) {
+            final String s = Integer.toString(i % 10);
+            if (i % 3 == 0) {
+                expected.insert(0, s);
+                cs = new ConsString(s, cs);
+            } else {
+                expected.append(s);
+                cs = new ConsString(cs, s);
+            }
+        }
+        assertTrue(depth(cs) <= 64, "depth " + depth(cs));
+        final ConsString rope = (ConsString) cs;
+        final String flat = flatten(rope);
+        assertEquals(flat, expected.toString());
+        for (int i = 0; i < flat.length(); i += 997) {
+            assertEquals(rope.leafCharAt(i), flat.charAt(i));
+        }
+        assertEquals(rope.toString(), flat);
+    }
+
+    /**
+     * Test appending to a deep ConsString after it has been flattened
+     */
+    @Test
+    public void testConsStringAppendAfterFlatten() {
+        for (int n = 60; n < 70; n++) {
+            CharSequence cs = "a";
+            for (int i = 0; i < n; i++) {
+                cs = new ConsString(cs, "b");
+            }
+            final String flat = cs.toString();
+            final ConsString appended = new ConsString(cs, "c");
+            assertEquals(appended.toString(), flat + "c");
+            assertTrue(depth(appended) <= 2, "depth " + depth(appended));
+        }
+    }
+
+    private static int depth(final CharSequence cs) {
+        int max = 0;
+        final Deque<CharSequence> nodes = new ArrayDeque<>();
+        final Deque<Integer> depths = new ArrayDeque<>();
+        nodes.push(cs);
+        depths.push(0);
+        while (!nodes.isEmpty()) {
+            final CharSequence node = nodes.pop();
+            final int d = depths.pop();
+            max = Math.max(max, d);
+            if (node instanceof ConsString) {
+                for (final CharSequence c : ((ConsString) node).getComponents()) {
+                    nodes.push(c);
+                    depths.push(d + 1);
+                }
+            }
+        }
+        return max;
+    }
+
+    private static String flatten(final CharSequence cs) {
+        final StringBuilder sb = new StringBuilder();
+        final Deque<CharSequence> nodes = new ArrayDeque<>();
+        nodes.push(cs);
+        while (!nodes.isEmpty()) {
+            final CharSequence node = nodes.pop();
+            if (node instanceof ConsString) {
+                final CharSequence[] components = ((ConsString) node).getComponents();
+                nodes.push(components[1]);
+                nodes.push(components[0]);
+            } else {
+                sb.append(node);
+            }
+        }
+        return sb.toString();
+    }
 }
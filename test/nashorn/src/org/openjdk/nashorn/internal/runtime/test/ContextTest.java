@@ -29,10 +29,15 @@ import static org.openjdk.nashorn.internal.runtime.Source.sourceFor;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import org.openjdk.nashorn.api.management.CompilationMetrics;
 import org.openjdk.nashorn.internal.objects.Global;
+import org.openjdk.nashorn.internal.runtime.ClassCache;
 import org.openjdk.nashorn.internal.runtime.Context;
 import org.openjdk.nashorn.internal.runtime.ErrorManager;
+import org.openjdk.nashorn.internal.runtime.GlobalSnapshot;
 import org.openjdk.nashorn.internal.runtime.ScriptFunction;
 import org.openjdk.nashorn.internal.runtime.ScriptObject;
 import org.openjdk.nashorn.internal.runtime.ScriptRuntime;
@@ -138,6 +143,148 @@ public class ContextTest {
         }
     }
 
+    // class cache hits, misses and evictions
+    @Test
+    public void classCacheTest() {
+        final Options options = new Options("nashorn");
+        options.process(new String[] { "--class-cache-size=2" });
+        final ErrorManager errors = new ErrorManager();
+        final Context cx = new Context(options, errors, Thread.currentThread().getContextClassLoader());
+        final Global oldGlobal = Context.getGlobal();
+        Context.setGlobal(cx.createGlobal());
+        try {
+            final ClassCache cache = cx.getClassCache();
+            assertEquals(eval(cx, "<classCacheTest1>", "'a'"), "a");
+            assertEquals(eval(cx, "<classCacheTest1>", "'a'"), "a");
+            assertEquals(cache.getHitCount(), 1L);
+            assertEquals(cache.getMissCount(), 1L);
+
+            eval(cx, "<classCacheTest2>", "'b'");
+            eval(cx, "<classCacheTest3>", "'c'");
+            assertEquals(cache.getMissCount(), 3L);
+            assertEquals(cache.size(), 2);
+            assertEquals(cache.getEvictionCount(), 1L);
+        } finally {
+            Context.setGlobal(oldGlobal);
+        }
+    }
+
+    @Test
+    public void globalSnapshotTest() {
+        final Options options = new Options("");
+        final ErrorManager errors = new ErrorManager();
+        final Context cx = new Context(options, errors, Thread.currentThread().getContextClassLoader());
+        final Global oldGlobal = Context.getGlobal();
+        final Global global = cx.createGlobal();
+        Context.setGlobal(global);
+        try {
+            eval(cx, "<globalSnapshotTest1>", "var config = { name: 'tenant' }; function greet() { return 'hi ' + config.name; }");
+            final GlobalSnapshot snapshot = GlobalSnapshot.capture(global);
+            // changes after the capture don't affect the snapshot
+            eval(cx, "<globalSnapshotTest2>", "config.name = 'changed'");
+
+            final Global copy = snapshot.newGlobal();
+            Context.setGlobal(copy);
+            assertEquals(eval(cx, "<globalSnapshotTest3>", "greet()").toString(), "hi tenant");
+            eval(cx, "<globalSnapshotTest4>", "config.name = 'copy'");
+
+            Context.setGlobal(snapshot.newGlobal());
+            assertEquals(eval(cx, "<globalSnapshotTest3>", "greet()").toString(), "hi tenant");
+
+            Context.setGlobal(global);
+            assertEquals(eval(cx, "<globalSnapshotTest3>", "greet()").toString(), "hi changed");
+        } finally {
+            Context.setGlobal(oldGlobal);
+        }
+    }
+
+    @Test
+    public void globalSnapshotBoundFunctionTest() {
+        final Options options = new Options("");
+        final ErrorManager errors = new ErrorManager();
+        final Context cx = new Context(options, errors, Thread.currentThread().getContextClassLoader());
+        final Global oldGlobal = Context.getGlobal();
+        final Global global = cx.createGlobal();
+        Context.setGlobal(global);
+        try {
+            eval(cx, "<globalSnapshotBoundFunctionTest1>", "var counter = { n: 0 };"
+                    + "var inc = function() { return ++this.n; }.bind(counter);"
+                    + "var incAgain = inc.bind(null);"
+                    + "var add = function(o, k) { o.n += k; return o.n; }.bind(null, counter);"
+                    + "var incSync = Java.synchronized(function() { return ++counter.n; }, counter);"
+                    + "var self = function() { return this; }.bind(undefined);"
+                    + "var ArrayList = Java.type('java.util.ArrayList');");
+            final GlobalSnapshot snapshot = GlobalSnapshot.capture(global);
+
+            // bound and synchronized functions of a copy work on the copy's objects
+            for (int i = 0; i < 2; i++) {
+                Context.setGlobal(snapshot.newGlobal());
+                assertEquals(((Number)eval(cx, "<globalSnapshotBoundFunctionTest2>", "inc(); incAgain(); add(10); incSync()")).intValue(), 13);
+                assertEquals(((Number)eval(cx, "<globalSnapshotBoundFunctionTest3>", "counter.n")).intValue(), 13);
+                assertEquals(eval(cx, "<globalSnapshotBoundFunctionTest4>", "self() === this && new ArrayList().size() === 0"), true);
+            }
+            Context.setGlobal(global);
+            assertEquals(((Number)eval(cx, "<globalSnapshotBoundFunctionTest3>", "counter.n")).intValue(), 0);
+
+            // Java objects created by the template can't be copied
+            eval(cx, "<globalSnapshotBoundFunctionTest5>", "var list = new ArrayList()");
+            try {
+                GlobalSnapshot.capture(global);
+                fail("should have thrown IllegalArgumentException");
+            } catch (final IllegalArgumentException expected) {
+                assertTrue(expected.getMessage().contains("java.util.ArrayList"), expected.getMessage());
+            }
+        } finally {
+            Context.setGlobal(oldGlobal);
+        }
+    }
+
+    // functions compiled on demand in one context are compiled in the background when another context loads them
+    @Test
+    public void warmupProfileTest() throws Exception {
+        final Path profile = Files.createTempFile("warmup", ".txt");
+        final String code = "function square(x) { return x * x; } function cube(x) { return x * x * x; }";
+        final Global oldGlobal = Context.getGlobal();
+        final Context recording = newWarmupContext(profile);
+        final Context warm = newWarmupContext(profile);
+        try {
+            Context.setGlobal(recording.createGlobal());
+            eval(recording, "<warmupProfileTest>", code);
+            assertEquals(eval(recording, "<warmupProfileTest2>", "String(square(3))"), "9");
+
+            Context.setGlobal(warm.createGlobal());
+            eval(warm, "<warmupProfileTest>", code);
+            // the program itself, and square in the background; cube was never called
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (getCompilationCount(warm, "<warmupProfileTest>") < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(getCompilationCount(warm, "<warmupProfileTest>"), 2L);
+            assertEquals(eval(warm, "<warmupProfileTest2>", "String(square(4))"), "16");
+            assertEquals(getCompilationCount(warm, "<warmupProfileTest>"), 2L);
+
+            // closing writes the profile now, so that nothing is written to the deleted file at exit
+            warm.closeWarmupProfile();
+            assertEquals(Files.readAllLines(profile).stream().filter(line -> line.contains("\t")).count(), 1L);
+        } finally {
+            Context.setGlobal(oldGlobal);
+            recording.closeWarmupProfile();
+            warm.closeWarmupProfile();
+            Files.deleteIfExists(profile);
+        }
+    }
+
+    private static Context newWarmupContext(final Path profile) {
+        final Options options = new Options("nashorn");
+        options.process(new String[] { "--warmup-profile=" + profile, "--lazy-compilation=true" });
+        return new Context(options, new ErrorManager(), Thread.currentThread().getContextClassLoader());
+    }
+
+    private static long getCompilationCount(final Context cx, final String name) {
+        final CompilationMetrics metrics = cx.getCompilerMetrics().getSourceMetrics(name);
+        return metrics == null ? 0 : metrics.getCompilationCount();
+    }
+
     private static Object eval(final Context cx, final String name, final String code) {
         final Source source = sourceFor(name, code);
         final ScriptObject global = Context.getGlobal();
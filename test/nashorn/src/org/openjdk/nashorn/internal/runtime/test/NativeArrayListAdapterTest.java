@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package org.openjdk.nashorn.internal.runtime.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the list adapter of script arrays that accesses their array data directly.
+ */
+@SuppressWarnings("javadoc")
+public class NativeArrayListAdapterTest {
+    private ScriptEngine engine;
+
+    @BeforeMethod
+    public void setUp() {
+        engine = new NashornScriptEngineFactory().getScriptEngine();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> list(final String script) throws ScriptException {
+        engine.eval(script);
+        return (List<Object>)engine.eval("Java.to(a, 'java.util.List')");
+    }
+
+    @Test
+    public void testGetAndSet() throws ScriptException {
+        final List<Object> l = list("var a = [1, 2, 3]");
+        assertEquals(l.size(), 3);
+        assertEquals(l.get(1), 2);
+        assertEquals(l.set(1, 2.5), 2);
+        // storing a double converted the array to doubles
+        assertEquals(l.set(2, "x"), 3.0);
+        assertEquals(engine.eval("a.join()"), "1,2.5,x");
+    }
+
+    @Test
+    public void testHolesAndPrototype() throws ScriptException {
+        final List<Object> l = list("var a = [1, , 3]");
+        engine.eval("Array.prototype[1] = 'proto'");
+        try {
+            assertEquals(l.get(1), "proto");
+            l.set(1, 2);
+            assertEquals(l.get(1), 2);
+            assertEquals(engine.eval("a.hasOwnProperty(1)"), true);
+        } finally {
+            engine.eval("delete Array.prototype[1]");
+        }
+    }
+
+    @Test
+    public void testAccessor() throws ScriptException {
+        final List<Object> l = list("var a = [1, 2]; Object.defineProperty(a, 0, { get: function() { return 'getter' } })");
+        assertEquals(l.get(0), "getter");
+        assertEquals(l.get(1), 2);
+    }
+
+    @Test
+    public void testMirrors() throws ScriptException {
+        final List<Object> l = list("var a = [{ x: 1 }, 'a' + 'b']");
+        assertTrue(l.get(0) instanceof Map);
+        assertEquals(l.get(1), "ab");
+        l.set(1, l.get(0));
+        assertEquals(engine.eval("a[0] === a[1]"), true);
+    }
+
+    @Test
+    public void testToArray() throws ScriptException {
+        assertEquals(list("var a = [1, 2.5, 'x', null]").toArray(), new Object[] { 1, 2.5, "x", null });
+        assertEquals(list("var a = [1, , 3]").toArray().length, 3);
+        assertEquals(list("var a = ['a', 'b']").toArray(new String[0]), new String[] { "a", "b" });
+        final String[] big = list("var a = ['a', 'b']").toArray(new String[] { "x", "x", "x", "x" });
+        assertEquals(big, new String[] { "a", "b", null, "x" });
+    }
+
+    @Test
+    public void testAddAll() throws ScriptException {
+        final List<Object> l = list("var a = [1, 2]");
+        l.addAll(Arrays.asList(3, 4));
+        l.addAll(1, Arrays.asList("x", "y"));
+        l.addAll(0, Arrays.asList(0));
+        l.addAll(l.size(), Arrays.asList(5));
+        assertEquals(engine.eval("a.join()"), "0,1,x,y,2,3,4,5");
+        assertEquals(l.addAll(Arrays.asList()), false);
+    }
+
+    @Test
+    public void testParallelStream() throws ScriptException {
+        final List<Object> l = list("var a = []; for (var i = 0; i < 100000; i++) a[i] = i");
+        final long sum = l.parallelStream().mapToLong(e -> ((Integer)e).longValue()).sum();
+        assertEquals(sum, 99999L * 100000L / 2);
+        assertEquals(list("var a = [1, , 3]").stream().count(), 3L);
+    }
+
+    @Test
+    public void testConcurrentModification() throws ScriptException {
+        final List<Object> l = list("var a = [1, 2, 3]");
+        try {
+            l.stream().forEach(e -> l.set(0, 0.5));
+            fail("ConcurrentModificationException expected");
+        } catch (final ConcurrentModificationException e) {
+            // expected
+        }
+    }
+}
@@ -25,7 +25,14 @@
 
 package org.openjdk.nashorn.internal.runtime.test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.openjdk.nashorn.internal.runtime.PropertyMap;
 import org.openjdk.nashorn.internal.runtime.ScriptObject;
 import org.testng.Assert;
@@ -62,4 +69,47 @@ public class PropertyMapTest {
         Assert.assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void propertyMapHistoryTest() {
+        final PropertyMap root = PropertyMap.newMap();
+        final List<PropertyMap> maps = new ArrayList<>();
+        // Use enough distinct transitions from the same map to exercise both forms of the history table
+        for (int i = 0; i < 20; i++) {
+            final ScriptObject obj = new ScriptObject(root) {};
+            obj.set("p" + i, i, 0);
+            maps.add(obj.getMap());
+        }
+        for (int i = 0; i < 20; i++) {
+            final ScriptObject obj = new ScriptObject(root) {};
+            obj.set("p" + i, i, 0);
+            Assert.assertSame(obj.getMap(), maps.get(i));
+        }
+    }
+
+    @Test
+    public void concurrentPropertyMapHistoryTest() throws Exception {
+        final int threads = 8;
+        final PropertyMap root = PropertyMap.newMap();
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<PropertyMap>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit((Callable<PropertyMap>) () -> {
+                    barrier.await();
+                    final ScriptObject obj = new ScriptObject(root) {};
+                    obj.set("x", 1, 0);
+                    obj.set("y", 2, 0);
+                    obj.set("z", 3, 0);
+                    return obj.getMap();
+                }));
+            }
+            final PropertyMap first = results.get(0).get();
+            for (final Future<PropertyMap> result : results) {
+                Assert.assertSame(result.get(), first);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }